@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.threeten.extra.scale.CoarseTimeSource;
+import org.threeten.extra.scale.UtcInstant;
+
+/**
+ * Benchmark of {@link CoarseClock} and {@link CoarseTimeSource} against the system clock.
+ * <p>
+ * Run using {@code mvn -Pbenchmark test-compile exec:exec -Djmh.include=CoarseClockBenchmark}.
+ * The GC profiler is enabled so that the allocation per operation is reported.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CoarseClockBenchmark {
+
+    private Clock system;
+    private CoarseClock coarse;
+    private CoarseTimeSource coarseSource;
+
+    @Setup
+    public void setup() {
+        system = Clock.systemUTC();
+        coarse = CoarseClock.systemUTC(Duration.ofMillis(1));
+        coarseSource = CoarseTimeSource.system(Duration.ofMillis(1));
+    }
+
+    @TearDown
+    public void tearDown() {
+        coarse.close();
+        coarseSource.close();
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public Instant systemInstant() {
+        return system.instant();
+    }
+
+    @Benchmark
+    public long systemMillis() {
+        return system.millis();
+    }
+
+    @Benchmark
+    public Instant coarseInstant() {
+        return coarse.instant();
+    }
+
+    @Benchmark
+    public long coarseMillis() {
+        return coarse.millis();
+    }
+
+    @Benchmark
+    public UtcInstant systemUtcInstant() {
+        return UtcInstant.of(system.instant());
+    }
+
+    @Benchmark
+    public UtcInstant coarseUtcInstant() {
+        return coarseSource.utcInstant();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Runs the benchmark from an IDE.
+     *
+     * @param args  the arguments, ignored
+     * @throws RunnerException if an error occurs
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(CoarseClockBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of {@code toString()} for each class in this package that can be parsed.
+ * <p>
+ * Run using {@code mvn -Pbenchmark test-compile exec:exec -Djmh.include=FormatBenchmark}.
+ * The GC profiler is enabled so that the allocation per operation is reported.
+ * Baseline results are held in {@code src/jmh/baseline}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatBenchmark {
+
+    private final Days days = Days.parse("P12D");
+    private final Weeks weeks = Weeks.parse("P6W");
+    private final Months months = Months.parse("P18M");
+    private final Years years = Years.parse("P12Y");
+    private final Hours hours = Hours.parse("PT12H");
+    private final Minutes minutes = Minutes.parse("PT90M");
+    private final Seconds seconds = Seconds.parse("PT3600S");
+    private final PeriodDuration periodDuration = PeriodDuration.parse("P1Y2M3DT4H5M6.789S");
+    private final Interval interval = Interval.parse("2007-12-03T10:15:30Z/2007-12-04T10:15:30Z");
+    private final LocalDateRange localDateRange = LocalDateRange.parse("2012-12-31/2013-01-01");
+    private final YearWeek yearWeek = YearWeek.parse("2015-W37");
+    private final YearQuarter yearQuarter = YearQuarter.parse("2012-Q3");
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public String days() {
+        return days.toString();
+    }
+
+    @Benchmark
+    public String weeks() {
+        return weeks.toString();
+    }
+
+    @Benchmark
+    public String months() {
+        return months.toString();
+    }
+
+    @Benchmark
+    public String years() {
+        return years.toString();
+    }
+
+    @Benchmark
+    public String hours() {
+        return hours.toString();
+    }
+
+    @Benchmark
+    public String minutes() {
+        return minutes.toString();
+    }
+
+    @Benchmark
+    public String seconds() {
+        return seconds.toString();
+    }
+
+    @Benchmark
+    public String periodDuration() {
+        return periodDuration.toString();
+    }
+
+    @Benchmark
+    public String interval() {
+        return interval.toString();
+    }
+
+    @Benchmark
+    public String localDateRange() {
+        return localDateRange.toString();
+    }
+
+    @Benchmark
+    public String yearWeek() {
+        return yearWeek.toString();
+    }
+
+    @Benchmark
+    public String yearQuarter() {
+        return yearQuarter.toString();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Runs the benchmark from an IDE.
+     *
+     * @param args  the arguments, ignored
+     * @throws RunnerException if an error occurs
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(FormatBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of {@link IntervalIndex} queries compared to a linear scan of the intervals.
+ * <p>
+ * Run using {@code mvn -Pbenchmark test-compile exec:exec -Djmh.include=IntervalIndexBenchmark}.
+ * The GC profiler is enabled so that the allocation per operation is reported.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntervalIndexBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    private List<Interval> intervals;
+    private IntervalIndex<Integer> index;
+    private Instant[] probes;
+    private Interval[] queries;
+    private int probeIndex;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        Instant base = Instant.parse("2017-01-01T00:00:00Z");
+        long range = size * 60L;
+        intervals = new ArrayList<>(size);
+        IntervalIndex.Builder<Integer> builder = IntervalIndex.builder();
+        for (int i = 0; i < size; i++) {
+            Instant start = base.plusSeconds((long) (random.nextDouble() * range));
+            Interval interval = Interval.of(start, start.plusSeconds(random.nextInt(3600)));
+            intervals.add(interval);
+            builder.add(interval, i);
+        }
+        index = builder.build();
+        probes = new Instant[1024];
+        queries = new Interval[1024];
+        for (int i = 0; i < probes.length; i++) {
+            probes[i] = base.plusSeconds((long) (random.nextDouble() * range));
+            queries[i] = Interval.of(probes[i], probes[i].plusSeconds(600));
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public List<Integer> indexContaining() {
+        probeIndex = (probeIndex + 1) & (probes.length - 1);
+        return index.findContaining(probes[probeIndex]);
+    }
+
+    @Benchmark
+    public List<Integer> indexOverlapping() {
+        probeIndex = (probeIndex + 1) & (queries.length - 1);
+        return index.findOverlapping(queries[probeIndex]);
+    }
+
+    @Benchmark
+    public List<Integer> scanContaining() {
+        probeIndex = (probeIndex + 1) & (probes.length - 1);
+        Instant probe = probes[probeIndex];
+        List<Integer> result = new ArrayList<>();
+        for (int i = 0; i < intervals.size(); i++) {
+            if (intervals.get(i).contains(probe)) {
+                result.add(i);
+            }
+        }
+        return result;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Runs the benchmark from an IDE.
+     *
+     * @param args  the arguments, ignored
+     * @throws RunnerException if an error occurs
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(IntervalIndexBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+
+}
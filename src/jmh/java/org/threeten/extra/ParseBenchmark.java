@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of each {@code parse(CharSequence)} method in this package.
+ * <p>
+ * Each parser is measured against three kinds of input.
+ * The 'valid' inputs are typical ISO-8601 text, covering each format accepted.
+ * The 'edge' inputs are valid but at the limit of the range of the type.
+ * The 'invalid' inputs are close to valid but fail, measuring the cost of the exception.
+ * Where there are several inputs of a kind, each invocation uses the next one.
+ * <p>
+ * Run using {@code mvn -Pbenchmark test-compile exec:exec -Djmh.include=ParseBenchmark}.
+ * The GC profiler is enabled so that the allocation per operation is reported.
+ * Baseline results are held in {@code src/jmh/baseline}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParseBenchmark {
+
+    /**
+     * The kind of input to parse.
+     */
+    @Param({"valid", "edge", "invalid"})
+    private String kind;
+
+    private String[] days;
+    private String[] weeks;
+    private String[] months;
+    private String[] years;
+    private String[] hours;
+    private String[] minutes;
+    private String[] seconds;
+    private String[] periodDuration;
+    private String[] interval;
+    private String[] localDateRange;
+    private String[] yearWeek;
+    private String[] yearQuarter;
+    /**
+     * The current index into the inputs.
+     */
+    private int index;
+
+    /**
+     * Sets up the inputs.
+     */
+    @Setup
+    public void setup() {
+        switch (kind) {
+            case "valid":
+                days = new String[] {"P12D", "P3W2D", "-P6D"};
+                weeks = new String[] {"P6W", "-P2W"};
+                months = new String[] {"P6M", "P1Y6M", "-P2Y"};
+                years = new String[] {"P12Y", "-P3Y"};
+                hours = new String[] {"PT12H", "P2DT3H", "-PT6H"};
+                minutes = new String[] {"PT90M", "PT2H30M", "P1DT2H3M"};
+                seconds = new String[] {"PT3600S", "PT2M30S", "P1DT2H3M4S"};
+                periodDuration = new String[] {"P1Y2M3D", "PT4H5M6.789S", "P1Y2M3DT4H5M6.789S"};
+                interval = new String[] {
+                    "2007-12-03T10:15:30Z/2007-12-04T10:15:30Z",
+                    "2007-12-03T10:15:30Z/PT36H",
+                    "P1DT12H/2007-12-04T10:15:30Z",
+                    "2007-12-03T10:15:30+01:00/2007-12-04T10:15:30"};
+                localDateRange = new String[] {"2012-12-31/2013-01-01", "2012-12-31/P1D", "P1D/2013-01-01"};
+                yearWeek = new String[] {"2015-W37", "2015-w01"};
+                yearQuarter = new String[] {"2012-Q3", "2012-q1"};
+                break;
+            case "edge":
+                days = new String[] {"P2147483647D", "P-2147483648D"};
+                weeks = new String[] {"P2147483647W", "P-2147483648W"};
+                months = new String[] {"P178956970Y7M", "P-2147483648M"};
+                years = new String[] {"P2147483647Y", "P-2147483648Y"};
+                hours = new String[] {"PT2147483647H", "P89478485DT7H"};
+                minutes = new String[] {"PT2147483647M", "P1491308DT2H7M"};
+                seconds = new String[] {"PT2147483647S", "P24855DT3H14M7S"};
+                periodDuration = new String[] {"P2147483647Y2147483647M2147483647DT2562047788015215H30M7.999999999S"};
+                interval = new String[] {
+                    "-1000000000-01-01T00:00:00Z/+1000000000-12-31T23:59:59.999999999Z",
+                    "+1000000000-12-30T00:00:00Z/P1D"};
+                localDateRange = new String[] {"-999999999-01-01/+999999999-12-31"};
+                yearWeek = new String[] {"+999999999-W52", "-999999999-W01"};
+                yearQuarter = new String[] {"+999999999-Q4", "-999999999-Q1"};
+                break;
+            case "invalid":
+                days = new String[] {"P12", "P2147483648D"};
+                weeks = new String[] {"P6D", "P2147483648W"};
+                months = new String[] {"P1Y6", "P2147483648M"};
+                years = new String[] {"PY", "P2147483648Y"};
+                hours = new String[] {"PT12M", "PT2147483648H"};
+                minutes = new String[] {"PT1H2", "PT2147483648M"};
+                seconds = new String[] {"PT1.5S", "PT2147483648S"};
+                periodDuration = new String[] {"P1Y2M3DT", "P1Y2M3DT4H5M6.7890123456S"};
+                interval = new String[] {
+                    "2007-12-03T10:15:30Z-2007-12-04T10:15:30Z",
+                    "2007-12-03T10:15:30Z/2007-12-04T10:15:30X",
+                    "2007-12-04T10:15:30Z/2007-12-03T10:15:30Z"};
+                localDateRange = new String[] {"2012-12-31/2013-02-30", "2013-01-01/2012-12-31"};
+                yearWeek = new String[] {"2015-W54", "2015-37"};
+                yearQuarter = new String[] {"2012-Q5", "2012-3"};
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown kind: " + kind);
+        }
+    }
+
+    private String next(String[] inputs) {
+        return inputs[index++ % inputs.length];
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public Object days() {
+        try {
+            return Days.parse(next(days));
+        } catch (RuntimeException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public Object weeks() {
+        try {
+            return Weeks.parse(next(weeks));
+        } catch (RuntimeException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public Object months() {
+        try {
+            return Months.parse(next(months));
+        } catch (RuntimeException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public Object years() {
+        try {
+            return Years.parse(next(years));
+        } catch (RuntimeException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public Object hours() {
+        try {
+            return Hours.parse(next(hours));
+        } catch (RuntimeException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public Object minutes() {
+        try {
+            return Minutes.parse(next(minutes));
+        } catch (RuntimeException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public Object seconds() {
+        try {
+            return Seconds.parse(next(seconds));
+        } catch (RuntimeException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public Object periodDuration() {
+        try {
+            return PeriodDuration.parse(next(periodDuration));
+        } catch (RuntimeException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public Object interval() {
+        try {
+            return Interval.parse(next(interval));
+        } catch (RuntimeException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public Object localDateRange() {
+        try {
+            return LocalDateRange.parse(next(localDateRange));
+        } catch (RuntimeException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public Object yearWeek() {
+        try {
+            return YearWeek.parse(next(yearWeek));
+        } catch (RuntimeException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public Object yearQuarter() {
+        try {
+            return YearQuarter.parse(next(yearQuarter));
+        } catch (RuntimeException ex) {
+            return ex;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Runs the benchmark from an IDE.
+     *
+     * @param args  the arguments, ignored
+     * @throws RunnerException if an error occurs
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ParseBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+
+}
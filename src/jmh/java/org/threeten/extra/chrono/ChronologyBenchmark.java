@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.chrono;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.time.temporal.ChronoUnit.MONTHS;
+
+import java.time.DayOfWeek;
+import java.time.Month;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.Chronology;
+import java.time.chrono.IsoChronology;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of the epoch-day round trip of each chronology.
+ * <p>
+ * Each chronology in this package is measured against {@code IsoChronology}
+ * converting from an epoch-day, converting back to an epoch-day,
+ * adding months and calculating the amount of time until another date.
+ * The batch benchmarks measure {@link BatchDateConverter} over the whole data set.
+ * <p>
+ * Run using {@code mvn -Pbenchmark test-compile exec:exec -Djmh.include=ChronologyBenchmark}.
+ * The GC profiler is enabled so that the allocation per operation is reported.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChronologyBenchmark {
+
+    /**
+     * The number of dates in the data set, a power of two.
+     */
+    private static final int SIZE = 1024;
+    /**
+     * The mask used to cycle around the data set.
+     */
+    private static final int MASK = SIZE - 1;
+
+    /**
+     * The chronology to test.
+     */
+    @Param({
+        "ISO",
+        "Accounting",
+        "BritishCutover",
+        "Coptic",
+        "Discordian",
+        "Ethiopic",
+        "InternationalFixed",
+        "Julian",
+        "Pax",
+        "Symmetry010",
+        "Symmetry454"})
+    private String chronology;
+
+    /**
+     * The epoch-days to convert.
+     */
+    private long[] epochDays;
+    /**
+     * The dates to query.
+     */
+    private ChronoLocalDate[] dates;
+    /**
+     * The end dates for until.
+     */
+    private ChronoLocalDate[] ends;
+    /**
+     * The chronology being tested.
+     */
+    private Chronology chrono;
+    /**
+     * The batch converter for the chronology.
+     */
+    private BatchDateConverter converter;
+    /**
+     * The output years of the batch conversion.
+     */
+    private int[] years;
+    /**
+     * The output months of the batch conversion.
+     */
+    private int[] months;
+    /**
+     * The output days of the batch conversion.
+     */
+    private int[] days;
+    /**
+     * The output epoch-days of the batch conversion.
+     */
+    private long[] results;
+    /**
+     * The current index into the data set.
+     */
+    private int index;
+
+    /**
+     * Sets up the data set, which is a fixed random set of dates between 1800 and 2200.
+     */
+    @Setup
+    public void setup() {
+        chrono = chronology(chronology);
+        converter = BatchDateConverter.of(chrono);
+        years = new int[SIZE];
+        months = new int[SIZE];
+        days = new int[SIZE];
+        results = new long[SIZE];
+        Random random = new Random(1234);
+        long min = IsoChronology.INSTANCE.date(1800, 1, 1).toEpochDay();
+        long max = IsoChronology.INSTANCE.date(2200, 1, 1).toEpochDay();
+        epochDays = new long[SIZE];
+        dates = new ChronoLocalDate[SIZE];
+        ends = new ChronoLocalDate[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            epochDays[i] = min + (long) (random.nextDouble() * (max - min));
+            dates[i] = chrono.dateEpochDay(epochDays[i]);
+            ends[i] = chrono.dateEpochDay(epochDays[i] + random.nextInt(2000));
+        }
+    }
+
+    /**
+     * Obtains the chronology from the parameter.
+     *
+     * @param name  the name of the chronology
+     * @return the chronology, not null
+     */
+    static Chronology chronology(String name) {
+        switch (name) {
+            case "ISO":
+                return IsoChronology.INSTANCE;
+            case "Accounting":
+                return new AccountingChronologyBuilder()
+                        .endsOn(DayOfWeek.SATURDAY)
+                        .inLastWeekOf(Month.AUGUST)
+                        .withDivision(AccountingYearDivision.QUARTERS_OF_PATTERN_4_4_5_WEEKS)
+                        .leapWeekInMonth(12)
+                        .toChronology();
+            case "BritishCutover":
+                return BritishCutoverChronology.INSTANCE;
+            case "Coptic":
+                return CopticChronology.INSTANCE;
+            case "Discordian":
+                return DiscordianChronology.INSTANCE;
+            case "Ethiopic":
+                return EthiopicChronology.INSTANCE;
+            case "InternationalFixed":
+                return InternationalFixedChronology.INSTANCE;
+            case "Julian":
+                return JulianChronology.INSTANCE;
+            case "Pax":
+                return PaxChronology.INSTANCE;
+            case "Symmetry010":
+                return Symmetry010Chronology.INSTANCE;
+            case "Symmetry454":
+                return Symmetry454Chronology.INSTANCE;
+            default:
+                throw new IllegalArgumentException("Unknown chronology: " + name);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Benchmark of {@code Chronology.dateEpochDay(long)}.
+     *
+     * @return the date
+     */
+    @Benchmark
+    public ChronoLocalDate dateEpochDay() {
+        return chrono.dateEpochDay(epochDays[index++ & MASK]);
+    }
+
+    /**
+     * Benchmark of {@code ChronoLocalDate.toEpochDay()}.
+     *
+     * @return the epoch-day
+     */
+    @Benchmark
+    public long toEpochDay() {
+        return dates[index++ & MASK].toEpochDay();
+    }
+
+    /**
+     * Benchmark of the round trip from epoch-day to date and back.
+     *
+     * @return the epoch-day
+     */
+    @Benchmark
+    public long roundTrip() {
+        return chrono.dateEpochDay(epochDays[index++ & MASK]).toEpochDay();
+    }
+
+    /**
+     * Benchmark of {@code ChronoLocalDate.plus(long, MONTHS)}.
+     *
+     * @return the date
+     */
+    @Benchmark
+    public ChronoLocalDate plusMonths() {
+        return dates[index++ & MASK].plus(7, MONTHS);
+    }
+
+    /**
+     * Benchmark of {@code ChronoLocalDate.until(Temporal, DAYS)}.
+     *
+     * @return the number of days
+     */
+    @Benchmark
+    public long untilDays() {
+        int i = index++ & MASK;
+        return dates[i].until(ends[i], DAYS);
+    }
+
+    /**
+     * Benchmark of {@code ChronoLocalDate.until(Temporal, MONTHS)}.
+     *
+     * @return the number of months
+     */
+    @Benchmark
+    public long untilMonths() {
+        int i = index++ & MASK;
+        return dates[i].until(ends[i], MONTHS);
+    }
+
+    /**
+     * Benchmark of {@code BatchDateConverter.epochDaysToDates}, reported per date.
+     *
+     * @return the output years
+     */
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int[] batchEpochDaysToDates() {
+        converter.epochDaysToDates(epochDays, years, months, days);
+        return years;
+    }
+
+    /**
+     * Benchmark of {@code BatchDateConverter} converting to dates and back, reported per date.
+     *
+     * @return the output epoch-days
+     */
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long[] batchRoundTrip() {
+        converter.epochDaysToDates(epochDays, years, months, days);
+        converter.datesToEpochDays(years, months, days, results);
+        return results;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Runs the benchmark from an IDE.
+     *
+     * @param args  the arguments, ignored
+     * @throws RunnerException if an error occurs
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ChronologyBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+
+}
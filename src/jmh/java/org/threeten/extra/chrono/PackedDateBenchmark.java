@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.chrono;
+
+import static java.time.temporal.ChronoField.DAY_OF_MONTH;
+import static java.time.temporal.ChronoField.MONTH_OF_YEAR;
+import static java.time.temporal.ChronoField.YEAR;
+import static java.time.temporal.ChronoUnit.MONTHS;
+
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.Chronology;
+import java.time.chrono.IsoChronology;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongBinaryOperator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of the packed date methods of each chronology against the equivalent date objects.
+ * <p>
+ * Run using {@code mvn -Pbenchmark test-compile exec:exec -Djmh.include=PackedDateBenchmark}.
+ * The GC profiler is enabled so that the allocation per operation is reported.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PackedDateBenchmark {
+
+    /**
+     * The number of dates in the data set, a power of two.
+     */
+    private static final int SIZE = 1024;
+    /**
+     * The mask used to cycle around the data set.
+     */
+    private static final int MASK = SIZE - 1;
+
+    /**
+     * The chronology to test.
+     */
+    @Param({
+        "Accounting",
+        "BritishCutover",
+        "Coptic",
+        "Discordian",
+        "Ethiopic",
+        "InternationalFixed",
+        "Julian",
+        "Pax",
+        "Symmetry010",
+        "Symmetry454"})
+    private String chronology;
+
+    /**
+     * The dates to query.
+     */
+    private ChronoLocalDate[] dates;
+    /**
+     * The end dates for until.
+     */
+    private ChronoLocalDate[] ends;
+    /**
+     * The packed dates to query.
+     */
+    private long[] packed;
+    /**
+     * The packed end dates for until.
+     */
+    private long[] packedEnds;
+    /**
+     * The packed plus months method.
+     */
+    private LongBinaryOperator plusMonths;
+    /**
+     * The packed months until method.
+     */
+    private LongBinaryOperator monthsUntil;
+    /**
+     * The current index into the data set.
+     */
+    private int index;
+
+    /**
+     * Sets up the data set, which is a fixed random set of dates between 1800 and 2200.
+     */
+    @Setup
+    public void setup() {
+        Chronology chrono = ChronologyBenchmark.chronology(chronology);
+        setupKernels(chrono);
+        Random random = new Random(1234);
+        long min = IsoChronology.INSTANCE.date(1800, 1, 1).toEpochDay();
+        long max = IsoChronology.INSTANCE.date(2200, 1, 1).toEpochDay();
+        dates = new ChronoLocalDate[SIZE];
+        ends = new ChronoLocalDate[SIZE];
+        packed = new long[SIZE];
+        packedEnds = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            long epochDay = min + (long) (random.nextDouble() * (max - min));
+            dates[i] = chrono.dateEpochDay(epochDay);
+            ends[i] = chrono.dateEpochDay(epochDay + random.nextInt(2000));
+            packed[i] = pack(dates[i]);
+            packedEnds[i] = pack(ends[i]);
+        }
+    }
+
+    private void setupKernels(Chronology chrono) {
+        switch (chronology) {
+            case "Accounting":
+                AccountingChronology accounting = (AccountingChronology) chrono;
+                plusMonths = accounting::plusMonthsPacked;
+                monthsUntil = accounting::monthsUntilPacked;
+                break;
+            case "BritishCutover":
+                plusMonths = BritishCutoverChronology::plusMonthsPacked;
+                monthsUntil = BritishCutoverChronology::monthsUntilPacked;
+                break;
+            case "Coptic":
+                plusMonths = CopticChronology::plusMonthsPacked;
+                monthsUntil = CopticChronology::monthsUntilPacked;
+                break;
+            case "Discordian":
+                plusMonths = DiscordianChronology::plusMonthsPacked;
+                monthsUntil = DiscordianChronology::monthsUntilPacked;
+                break;
+            case "Ethiopic":
+                plusMonths = EthiopicChronology::plusMonthsPacked;
+                monthsUntil = EthiopicChronology::monthsUntilPacked;
+                break;
+            case "InternationalFixed":
+                plusMonths = InternationalFixedChronology::plusMonthsPacked;
+                monthsUntil = InternationalFixedChronology::monthsUntilPacked;
+                break;
+            case "Julian":
+                plusMonths = JulianChronology::plusMonthsPacked;
+                monthsUntil = JulianChronology::monthsUntilPacked;
+                break;
+            case "Pax":
+                plusMonths = PaxChronology::plusMonthsPacked;
+                monthsUntil = PaxChronology::monthsUntilPacked;
+                break;
+            case "Symmetry010":
+                plusMonths = Symmetry010Chronology::plusMonthsPacked;
+                monthsUntil = Symmetry010Chronology::monthsUntilPacked;
+                break;
+            case "Symmetry454":
+                plusMonths = Symmetry454Chronology::plusMonthsPacked;
+                monthsUntil = Symmetry454Chronology::monthsUntilPacked;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown chronology: " + chronology);
+        }
+    }
+
+    private static long pack(ChronoLocalDate date) {
+        return PackedDates.pack(date.get(YEAR), date.get(MONTH_OF_YEAR), date.get(DAY_OF_MONTH));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Benchmark of {@code ChronoLocalDate.plus(long, MONTHS)}.
+     *
+     * @return the date
+     */
+    @Benchmark
+    public ChronoLocalDate plusMonths() {
+        return dates[index++ & MASK].plus(7, MONTHS);
+    }
+
+    /**
+     * Benchmark of {@code plusMonthsPacked(long, long)}.
+     *
+     * @return the packed date
+     */
+    @Benchmark
+    public long plusMonthsPacked() {
+        return plusMonths.applyAsLong(packed[index++ & MASK], 7);
+    }
+
+    /**
+     * Benchmark of {@code ChronoLocalDate.until(Temporal, MONTHS)}.
+     *
+     * @return the number of months
+     */
+    @Benchmark
+    public long untilMonths() {
+        int i = index++ & MASK;
+        return dates[i].until(ends[i], MONTHS);
+    }
+
+    /**
+     * Benchmark of {@code monthsUntilPacked(long, long)}.
+     *
+     * @return the number of months
+     */
+    @Benchmark
+    public long untilMonthsPacked() {
+        int i = index++ & MASK;
+        return monthsUntil.applyAsLong(packed[i], packedEnds[i]);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Runs the benchmark from an IDE.
+     *
+     * @param args  the arguments, ignored
+     * @throws RunnerException if an error occurs
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(PackedDateBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of the system {@link UtcRules} for recent and historical instants.
+ * <p>
+ * Run using {@code mvn -Pbenchmark test-compile exec:exec -Djmh.include=UtcRulesBenchmark}.
+ * The GC profiler is enabled so that the allocation per operation is reported.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UtcRulesBenchmark {
+
+    private static final int SIZE = 1024;
+    private static final int BATCH_SIZE = 1_000_000;
+
+    private final UtcRules rules = UtcRules.system();
+    private final UtcRules smearedRules = rules.withSmear(LeapSmear.linear(Duration.ofHours(12), Duration.ofHours(12)));
+    private long[] recentDays;
+    private long[] historicalDays;
+    private Instant[] recentInstants;
+    private TaiInstant[] recentTai;
+    private TaiInstant[] historicalTai;
+    private int index;
+    private long[] batchEpochSeconds;
+    private int[] batchNanos;
+    private long[] batchTaiSeconds;
+    private int[] batchTaiNanos;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        recentDays = new long[SIZE];
+        historicalDays = new long[SIZE];
+        recentInstants = new Instant[SIZE];
+        recentTai = new TaiInstant[SIZE];
+        historicalTai = new TaiInstant[SIZE];
+        Instant recent = Instant.parse("2020-01-01T00:00:00Z");
+        Instant historical = Instant.parse("1972-01-01T00:00:00Z");
+        for (int i = 0; i < SIZE; i++) {
+            recentInstants[i] = recent.plusSeconds(random.nextInt(365 * 86400));
+            recentDays[i] = UtcInstant.of(recentInstants[i]).getModifiedJulianDay();
+            recentTai[i] = TaiInstant.of(recentInstants[i]);
+            Instant old = historical.plusSeconds((long) (random.nextDouble() * 45 * 365 * 86400L));
+            historicalDays[i] = UtcInstant.of(old).getModifiedJulianDay();
+            historicalTai[i] = TaiInstant.of(old);
+        }
+        batchEpochSeconds = new long[BATCH_SIZE];
+        batchNanos = new int[BATCH_SIZE];
+        batchTaiSeconds = new long[BATCH_SIZE];
+        batchTaiNanos = new int[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batchEpochSeconds[i] = recent.getEpochSecond() + i * 31L;
+            batchNanos[i] = random.nextInt(1_000_000_000);
+        }
+    }
+
+    private int next() {
+        index = (index + 1) & (SIZE - 1);
+        return index;
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public int taiOffsetRecent() {
+        return rules.getTaiOffset(recentDays[next()]);
+    }
+
+    @Benchmark
+    public int taiOffsetHistorical() {
+        return rules.getTaiOffset(historicalDays[next()]);
+    }
+
+    @Benchmark
+    public int leapSecondAdjustmentHistorical() {
+        return rules.getLeapSecondAdjustment(historicalDays[next()]);
+    }
+
+    @Benchmark
+    public UtcInstant convertToUtcRecent() {
+        return rules.convertToUtc(recentTai[next()]);
+    }
+
+    @Benchmark
+    public UtcInstant convertToUtcHistorical() {
+        return rules.convertToUtc(historicalTai[next()]);
+    }
+
+    @Benchmark
+    public TaiInstant convertToTaiRecent() {
+        return rules.convertToTai(recentInstants[next()]);
+    }
+
+    @Benchmark
+    public UtcInstant convertInstantToUtcRecent() {
+        return rules.convertToUtc(recentInstants[next()]);
+    }
+
+    @Benchmark
+    public UtcInstant smearedConvertInstantToUtcRecent() {
+        return smearedRules.convertToUtc(recentInstants[next()]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long[] batchInstantsToTai() {
+        rules.convertInstantsToTai(batchEpochSeconds, batchNanos, batchTaiSeconds, batchTaiNanos);
+        return batchTaiSeconds;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long[] loopInstantsToTai() {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            TaiInstant tai = TaiInstant.of(Instant.ofEpochSecond(batchEpochSeconds[i], batchNanos[i]));
+            batchTaiSeconds[i] = tai.getTaiSeconds();
+            batchTaiNanos[i] = tai.getNano();
+        }
+        return batchTaiSeconds;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long[] batchTaiToInstants() {
+        rules.convertTaiToInstants(batchTaiSeconds, batchTaiNanos, batchEpochSeconds, batchNanos);
+        return batchEpochSeconds;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Runs the benchmark from an IDE.
+     *
+     * @param args  the arguments, ignored
+     * @throws RunnerException if an error occurs
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(UtcRulesBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+
+}
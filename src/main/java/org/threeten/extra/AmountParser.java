@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+/**
+ * Scanner for the ISO-8601 based amount formats, such as {@code PnDTnHnMnS}.
+ * <p>
+ * This is used by the single unit amount classes, such as {@code Days} and {@code Seconds},
+ * in place of a regular expression. The text is read directly from the {@code CharSequence}
+ * without creating any substrings.
+ * <p>
+ * The format consists of an optional sign, the letter 'P', a number of date sections,
+ * and then the letter 'T' followed by a number of time sections.
+ * Each section is an optionally signed number followed by a unit letter.
+ * The date and time units that may be used are specified in order.
+ * Each section is optional but, if present, must occur in the specified order.
+ * The 'T' may only be present if there are time units.
+ * Letters are matched in ASCII upper or lower case.
+ * Optionally, the last time unit may have a fraction of up to nine digits,
+ * introduced by a dot or comma, as used for seconds.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is mutable and intended for use from a single thread.
+ */
+final class AmountParser {
+
+    /**
+     * The text being parsed.
+     */
+    private final CharSequence text;
+    /**
+     * The date unit letters, in upper case.
+     */
+    private final String dateUnits;
+    /**
+     * The time unit letters, in upper case.
+     */
+    private final String timeUnits;
+    /**
+     * The span of the number of each unit, date units followed by time units,
+     * with the start in the upper 32 bits and the end in the lower, zero if absent.
+     */
+    private final long[] spans;
+    /**
+     * Whether a fraction is allowed on the last time unit.
+     */
+    private final boolean fractionAllowed;
+    /**
+     * The span of the digits of the fraction, zero if absent.
+     */
+    private long fractionSpan;
+    /**
+     * Whether the whole amount is negated.
+     */
+    private boolean negative;
+    /**
+     * Whether any section was found.
+     */
+    private boolean found;
+
+    /**
+     * Parses the text against the format.
+     * <p>
+     * A result is returned if the text matches the format, even if no sections are present.
+     * The numbers are not validated until they are requested.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive, validated
+     * @param end  the end index, exclusive, validated
+     * @param dateUnits  the date unit letters, in upper case and in order, not null
+     * @param timeUnits  the time unit letters, in upper case and in order, not null
+     * @return the parser containing the result, null if the text does not match the format
+     */
+    static AmountParser parse(CharSequence text, int start, int end, String dateUnits, String timeUnits) {
+        AmountParser parser = new AmountParser(text, dateUnits, timeUnits, false);
+        return parser.scan(start, end) ? parser : null;
+    }
+
+    /**
+     * Parses the text against the format, allowing a fraction on the last time unit.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive, validated
+     * @param end  the end index, exclusive, validated
+     * @param dateUnits  the date unit letters, in upper case and in order, not null
+     * @param timeUnits  the time unit letters, in upper case and in order, not empty
+     * @return the parser containing the result, null if the text does not match the format
+     */
+    static AmountParser parseWithFraction(CharSequence text, int start, int end, String dateUnits, String timeUnits) {
+        AmountParser parser = new AmountParser(text, dateUnits, timeUnits, true);
+        return parser.scan(start, end) ? parser : null;
+    }
+
+    /**
+     * Validates the range to be parsed.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @throws IndexOutOfBoundsException if the range is invalid
+     */
+    static void checkRange(CharSequence text, int start, int end) {
+        if (start < 0 || end > text.length() || start > end) {
+            throw new IndexOutOfBoundsException(
+                    "Invalid range: start=" + start + ", end=" + end + ", length=" + text.length());
+        }
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param text  the text to parse, not null
+     * @param dateUnits  the date unit letters, not null
+     * @param timeUnits  the time unit letters, not null
+     * @param fractionAllowed  whether a fraction is allowed on the last time unit
+     */
+    private AmountParser(CharSequence text, String dateUnits, String timeUnits, boolean fractionAllowed) {
+        this.text = text;
+        this.dateUnits = dateUnits;
+        this.timeUnits = timeUnits;
+        this.spans = new long[dateUnits.length() + timeUnits.length()];
+        this.fractionAllowed = fractionAllowed;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Scans the text, matching the format.
+     *
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return true if the text matches the format
+     */
+    private boolean scan(int start, int end) {
+        int pos = start;
+        if (pos < end) {
+            char c = text.charAt(pos);
+            if (c == '-') {
+                negative = true;
+                pos++;
+            } else if (c == '+') {
+                pos++;
+            }
+        }
+        if (pos == end || toUpperCase(text.charAt(pos)) != 'P') {
+            return false;
+        }
+        pos++;
+        pos = scanSections(pos, end, dateUnits, 0, false);
+        if (pos < 0) {
+            return false;
+        }
+        if (pos < end && timeUnits.length() > 0 && toUpperCase(text.charAt(pos)) == 'T') {
+            pos = scanSections(pos + 1, end, timeUnits, dateUnits.length(), fractionAllowed);
+            if (pos < 0) {
+                return false;
+            }
+        }
+        return pos == end;
+    }
+
+    /**
+     * Scans a sequence of sections, each of which is a number and a unit.
+     * <p>
+     * Scanning stops at the end, or at a character that cannot start a section.
+     *
+     * @param pos  the position to start from
+     * @param end  the end index, exclusive
+     * @param units  the unit letters allowed, in order
+     * @param spanOffset  the offset into the spans of the first unit
+     * @param fraction  whether the last unit may have a fraction
+     * @return the position after the last section, negative if the sections are invalid
+     */
+    private int scanSections(int pos, int end, String units, int spanOffset, boolean fraction) {
+        int nextUnit = 0;
+        while (pos < end) {
+            int numberStart = pos;
+            char c = text.charAt(pos);
+            if (c == '-' || c == '+') {
+                pos++;
+            }
+            int digitsStart = pos;
+            while (pos < end && isDigit(text.charAt(pos))) {
+                pos++;
+            }
+            if (pos == digitsStart) {
+                // no number, so either the end of the sections or invalid
+                return (pos == numberStart ? pos : -1);
+            }
+            int digitsEnd = pos;
+            if (fraction && pos < end && (text.charAt(pos) == '.' || text.charAt(pos) == ',')) {
+                int fractionStart = ++pos;
+                while (pos < end && isDigit(text.charAt(pos))) {
+                    pos++;
+                }
+                if (pos - fractionStart > 9 || pos == end || toUpperCase(text.charAt(pos)) != units.charAt(units.length() - 1)) {
+                    return -1;
+                }
+                fractionSpan = (((long) fractionStart) << 32) | pos;
+            }
+            if (pos == end) {
+                return -1;
+            }
+            int unit = units.indexOf(toUpperCase(text.charAt(pos)), nextUnit);
+            if (unit < 0) {
+                return -1;
+            }
+            spans[spanOffset + unit] = (((long) numberStart) << 32) | digitsEnd;
+            found = true;
+            nextUnit = unit + 1;
+            pos++;
+        }
+        return pos;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static char toUpperCase(char c) {
+        return (c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if the whole amount is negated by a leading minus sign.
+     *
+     * @return true if negative
+     */
+    boolean isNegative() {
+        return negative;
+    }
+
+    /**
+     * Checks if any section is present.
+     *
+     * @return true if at least one section is present
+     */
+    boolean isFound() {
+        return found;
+    }
+
+    /**
+     * Checks if the section for the specified unit is present.
+     *
+     * @param unit  the unit letter, in upper case
+     * @return true if present
+     */
+    boolean isPresent(char unit) {
+        return spans[spanIndex(unit)] != 0;
+    }
+
+    /**
+     * Checks if the section for the specified time unit is present.
+     * <p>
+     * This is used where a letter is both a date and a time unit, such as 'M'.
+     *
+     * @param unit  the time unit letter, in upper case
+     * @return true if present
+     */
+    boolean isTimePresent(char unit) {
+        return spans[dateUnits.length() + timeUnits.indexOf(unit)] != 0;
+    }
+
+    /**
+     * Gets the value of the section for the specified unit.
+     * <p>
+     * This behaves as per {@link Integer#parseInt(String)} on the text of the number.
+     *
+     * @param unit  the unit letter, in upper case, which must be present
+     * @return the value
+     * @throws NumberFormatException if the number does not fit in an {@code int}
+     */
+    int intValue(char unit) {
+        return intValue(spans[spanIndex(unit)]);
+    }
+
+    /**
+     * Gets the value of the section for the specified time unit.
+     * <p>
+     * This is used where a letter is both a date and a time unit, such as 'M'.
+     *
+     * @param unit  the time unit letter, in upper case, which must be present
+     * @return the value
+     * @throws NumberFormatException if the number does not fit in an {@code int}
+     */
+    int timeIntValue(char unit) {
+        return intValue(spans[dateUnits.length() + timeUnits.indexOf(unit)]);
+    }
+
+    private int intValue(long span) {
+        int pos = (int) (span >>> 32);
+        int end = (int) span;
+        boolean negate = false;
+        char c = text.charAt(pos);
+        if (c == '-') {
+            negate = true;
+            pos++;
+        } else if (c == '+') {
+            pos++;
+        }
+        // accumulate negatively, as the negative range is larger
+        long limit = negate ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        long total = 0;
+        for (; pos < end; pos++) {
+            total = total * 10 - (text.charAt(pos) - '0');
+            if (total < limit) {
+                throw new NumberFormatException("For input string: \"" + text.subSequence((int) (span >>> 32), end) + "\"");
+            }
+        }
+        return (int) (negate ? total : -total);
+    }
+
+    /**
+     * Gets the fraction of the last time unit in nanoseconds.
+     * <p>
+     * The fraction is negative if the number it follows is prefixed by the minus sign.
+     *
+     * @return the fraction, zero if absent
+     */
+    int fractionValue() {
+        if (fractionSpan == 0) {
+            return 0;
+        }
+        int pos = (int) (fractionSpan >>> 32);
+        int end = (int) fractionSpan;
+        int total = 0;
+        for (int i = 0; i < 9; i++) {
+            total = total * 10 + (pos < end ? text.charAt(pos++) - '0' : 0);
+        }
+        long span = spans[spans.length - 1];
+        return (text.charAt((int) (span >>> 32)) == '-' ? -total : total);
+    }
+
+    private int spanIndex(char unit) {
+        int index = dateUnits.indexOf(unit);
+        return (index >= 0 ? index : dateUnits.length() + timeUnits.indexOf(unit));
+    }
+
+}
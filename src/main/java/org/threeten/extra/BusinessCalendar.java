@@ -0,0 +1,381 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjuster;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A calendar of working days, defined by a weekend rule and a set of holidays.
+ * <p>
+ * A working day is any date that is not on a weekend day-of-week and is not a holiday.
+ * The calendar covers a bounded {@link LocalDateRange}, and all dates passed to
+ * or returned from the calendar must be within that range.
+ * <p>
+ * The working days are stored as a bitset indexed by epoch-day, together with
+ * a running count of the working days before each 64 day block.
+ * This allows {@link #isWorkingDay(LocalDate)}, {@link #workingDaysBetween(LocalDate, LocalDate)}
+ * and {@link #plusWorkingDays(LocalDate, int)} to be calculated in constant time,
+ * without stepping day by day. The calendar uses at most two bits per day in the range.
+ * <p>
+ * The adjusters, such as {@link #nextWorkingDay()}, behave as per
+ * {@link Temporals#nextWorkingDay()}, but use the holidays and weekend of this calendar.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class BusinessCalendar {
+
+    /**
+     * The range covered by the calendar.
+     */
+    private final LocalDateRange range;
+    /**
+     * The epoch-day of the start of the range.
+     */
+    private final long startEpochDay;
+    /**
+     * The number of days in the range.
+     */
+    private final int length;
+    /**
+     * The bitset of working days, with bit n of element n / 64 set if day n of the range is a working day.
+     */
+    private final long[] bits;
+    /**
+     * The number of working days before each element of the bitset, plus the total at the end.
+     */
+    private final int[] counts;
+    /**
+     * The element of the bitset containing every 64th working day, used to find a working day by number.
+     */
+    private final int[] selectIndex;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a calendar with a Saturday and Sunday weekend and the specified holidays.
+     *
+     * @param range  the range of dates covered by the calendar, bounded, not null
+     * @param holidays  the holidays, dates outside the range are ignored, not null
+     * @return the calendar, not null
+     * @throws DateTimeException if the range is unbounded
+     */
+    public static BusinessCalendar of(LocalDateRange range, Collection<LocalDate> holidays) {
+        return of(range, EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY), holidays);
+    }
+
+    /**
+     * Obtains a calendar with the specified weekend and holidays.
+     *
+     * @param range  the range of dates covered by the calendar, bounded, not null
+     * @param weekend  the days-of-week that are not working days, not null
+     * @param holidays  the holidays, dates outside the range are ignored, not null
+     * @return the calendar, not null
+     * @throws DateTimeException if the range is unbounded
+     */
+    public static BusinessCalendar of(LocalDateRange range, Set<DayOfWeek> weekend, Collection<LocalDate> holidays) {
+        Objects.requireNonNull(range, "range");
+        Objects.requireNonNull(weekend, "weekend");
+        Objects.requireNonNull(holidays, "holidays");
+        if (range.isUnboundedStart() || range.isUnboundedEnd()) {
+            throw new DateTimeException("BusinessCalendar range must be bounded: " + range);
+        }
+        return new BusinessCalendar(range, weekend, holidays);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param range  the range, validated
+     * @param weekend  the weekend, not null
+     * @param holidays  the holidays, not null
+     */
+    private BusinessCalendar(LocalDateRange range, Set<DayOfWeek> weekend, Collection<LocalDate> holidays) {
+        this.range = range;
+        this.startEpochDay = range.getStart().toEpochDay();
+        this.length = range.lengthInDays();
+        this.bits = new long[(length + 63) / 64];
+        // set the bits of the days that are not weekend days
+        boolean[] working = new boolean[7];
+        for (DayOfWeek dow : DayOfWeek.values()) {
+            working[dow.ordinal()] = !weekend.contains(dow);
+        }
+        int dowIndex = (int) Math.floorMod(startEpochDay + 3, 7);
+        for (int i = 0; i < length; i++) {
+            if (working[dowIndex]) {
+                bits[i >>> 6] |= 1L << i;
+            }
+            dowIndex = (dowIndex == 6 ? 0 : dowIndex + 1);
+        }
+        for (LocalDate holiday : holidays) {
+            Objects.requireNonNull(holiday, "holidays");
+            long index = holiday.toEpochDay() - startEpochDay;
+            if (index >= 0 && index < length) {
+                bits[(int) (index >>> 6)] &= ~(1L << index);
+            }
+        }
+        // count the working days before each element
+        this.counts = new int[bits.length + 1];
+        for (int i = 0; i < bits.length; i++) {
+            counts[i + 1] = counts[i] + Long.bitCount(bits[i]);
+        }
+        int total = counts[bits.length];
+        this.selectIndex = new int[(total + 63) / 64];
+        int element = 0;
+        for (int i = 0; i < selectIndex.length; i++) {
+            while (counts[element + 1] <= i * 64) {
+                element++;
+            }
+            selectIndex[i] = element;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the range of dates covered by the calendar.
+     *
+     * @return the range, not null
+     */
+    public LocalDateRange getRange() {
+        return range;
+    }
+
+    /**
+     * Checks if the specified date is a working day.
+     *
+     * @param date  the date to check, within the range, not null
+     * @return true if the date is a working day
+     * @throws DateTimeException if the date is outside the range
+     */
+    public boolean isWorkingDay(LocalDate date) {
+        int index = index(date, false);
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Calculates the number of working days between two dates.
+     * <p>
+     * The start date is included, but the end date is not.
+     * The result is negative if the end is before the start.
+     * The end date may be the end of the range.
+     *
+     * @param startInclusive  the start date, inclusive, within the range, not null
+     * @param endExclusive  the end date, exclusive, within the range, not null
+     * @return the number of working days from the start to the end
+     * @throws DateTimeException if either date is outside the range
+     */
+    public int workingDaysBetween(LocalDate startInclusive, LocalDate endExclusive) {
+        int start = index(startInclusive, true);
+        int end = index(endExclusive, true);
+        return rank(end) - rank(start);
+    }
+
+    /**
+     * Returns the date that is the specified number of working days after a date.
+     * <p>
+     * A positive amount returns the working day that many working days after the date,
+     * such that adding one returns the next working day.
+     * A negative amount returns the working day that many working days before the date,
+     * such that adding minus one returns the previous working day.
+     * The specified date does not need to be a working day.
+     * Adding zero returns the specified date, even if it is not a working day.
+     *
+     * @param date  the date to add to, within the range, not null
+     * @param workingDays  the number of working days to add, may be negative
+     * @return the resulting date, not null
+     * @throws DateTimeException if the date or the result is outside the range
+     */
+    public LocalDate plusWorkingDays(LocalDate date, int workingDays) {
+        int index = index(date, false);
+        if (workingDays == 0) {
+            return date;
+        }
+        long number = (workingDays > 0 ? rank(index + 1) - 1L : rank(index)) + workingDays;
+        if (number < 0 || number >= counts[bits.length]) {
+            throw new DateTimeException("BusinessCalendar result is outside the range: " + range);
+        }
+        return LocalDate.ofEpochDay(startEpochDay + select((int) number));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns an adjuster that returns the next working day.
+     * <p>
+     * The adjuster moves the temporal forward to the next working day in this calendar.
+     * The time, if present, is unchanged.
+     *
+     * @return the next working day adjuster, not null
+     */
+    public TemporalAdjuster nextWorkingDay() {
+        return plusWorkingDays(1);
+    }
+
+    /**
+     * Returns an adjuster that returns the previous working day.
+     * <p>
+     * The adjuster moves the temporal backward to the previous working day in this calendar.
+     * The time, if present, is unchanged.
+     *
+     * @return the previous working day adjuster, not null
+     */
+    public TemporalAdjuster previousWorkingDay() {
+        return plusWorkingDays(-1);
+    }
+
+    /**
+     * Returns an adjuster that returns the next working day, or the same day if it is a working day.
+     * <p>
+     * The time, if present, is unchanged.
+     *
+     * @return the next or same working day adjuster, not null
+     */
+    public TemporalAdjuster nextOrSameWorkingDay() {
+        return temporal -> {
+            LocalDate date = LocalDate.from(temporal);
+            return (isWorkingDay(date) ? temporal : temporal.with(nextWorkingDay()));
+        };
+    }
+
+    /**
+     * Returns an adjuster that returns the previous working day, or the same day if it is a working day.
+     * <p>
+     * The time, if present, is unchanged.
+     *
+     * @return the previous or same working day adjuster, not null
+     */
+    public TemporalAdjuster previousOrSameWorkingDay() {
+        return temporal -> {
+            LocalDate date = LocalDate.from(temporal);
+            return (isWorkingDay(date) ? temporal : temporal.with(previousWorkingDay()));
+        };
+    }
+
+    /**
+     * Returns an adjuster that adds the specified number of working days.
+     * <p>
+     * This behaves as per {@link #plusWorkingDays(LocalDate, int)}.
+     * The time, if present, is unchanged.
+     *
+     * @param workingDays  the number of working days to add, may be negative
+     * @return the adjuster, not null
+     */
+    public TemporalAdjuster plusWorkingDays(int workingDays) {
+        return temporal -> {
+            LocalDate date = LocalDate.from(temporal);
+            LocalDate result = plusWorkingDays(date, workingDays);
+            return temporal.plus(result.toEpochDay() - date.toEpochDay(), DAYS);
+        };
+    }
+
+    //-----------------------------------------------------------------------
+    // converts the date to an index into the range
+    private int index(LocalDate date, boolean allowEnd) {
+        Objects.requireNonNull(date, "date");
+        long index = date.toEpochDay() - startEpochDay;
+        if (index < 0 || index > length || (index == length && !allowEnd)) {
+            throw new DateTimeException("Date " + date + " is outside the BusinessCalendar range: " + range);
+        }
+        return (int) index;
+    }
+
+    // the number of working days before the index
+    private int rank(int index) {
+        int element = index >>> 6;
+        int bit = index & 63;
+        return (bit == 0 ? counts[element] : counts[element] + Long.bitCount(bits[element] & ((1L << bit) - 1)));
+    }
+
+    // the index of the working day with the specified number, counting from zero
+    private int select(int number) {
+        int element = selectIndex[number >>> 6];
+        while (counts[element + 1] <= number) {
+            element++;
+        }
+        long word = bits[element];
+        for (int i = counts[element]; i < number; i++) {
+            // clear the lowest set bit
+            word &= word - 1;
+        }
+        return element * 64 + Long.numberOfTrailingZeros(word);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this calendar is equal to another calendar.
+     * <p>
+     * Two calendars are equal if they have the same range and working days.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other calendar
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof BusinessCalendar) {
+            BusinessCalendar other = (BusinessCalendar) obj;
+            return range.equals(other.range) && Arrays.equals(bits, other.bits);
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this calendar.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return range.hashCode() ^ Arrays.hashCode(bits);
+    }
+
+    /**
+     * Outputs this calendar as a {@code String}.
+     *
+     * @return a string representation of this calendar, not null
+     */
+    @Override
+    public String toString() {
+        return "BusinessCalendar[" + range + ", workingDays=" + counts[bits.length] + "]";
+    }
+
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A clock that caches the instant of another clock, refreshing it periodically.
+ * <p>
+ * This class is designed for code that reads the clock many times, such as for
+ * logging, where reading the underlying clock each time is too expensive and
+ * precision is not required. A single daemon thread per clock reads the underlying
+ * clock at the specified granularity and stores the result, so that {@link #instant()}
+ * and {@link #millis()} only read the stored value.
+ * <p>
+ * The instant returned may be behind the underlying clock by up to the granularity,
+ * or more if the refresh thread is delayed. Successive reads return the same instant
+ * until the next refresh. If the underlying clock throws an exception during a refresh,
+ * the previous instant is kept and the refresh is retried after the granularity.
+ * Once the clock is closed, the refresh thread stops and reads go directly to the
+ * underlying clock. As the refresh thread keeps running until then, a clock should
+ * be closed when it is no longer needed.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is thread-safe.
+ * Clocks created by {@link #withZone(ZoneId)} share the cached instant and refresh thread.
+ */
+public final class CoarseClock
+        extends Clock
+        implements AutoCloseable {
+
+    /**
+     * The shared refresher.
+     */
+    private final Refresher refresher;
+    /**
+     * The time-zone.
+     */
+    private final ZoneId zone;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a clock caching the system clock in UTC at the specified granularity.
+     *
+     * @param granularity  the interval between refreshes, positive, not null
+     * @return the clock, not null
+     * @throws IllegalArgumentException if the granularity is not positive
+     */
+    public static CoarseClock systemUTC(Duration granularity) {
+        return of(Clock.systemUTC(), granularity);
+    }
+
+    /**
+     * Obtains a clock caching the specified clock at the specified granularity.
+     * <p>
+     * The returned clock uses the time-zone of the specified clock.
+     * A daemon thread is started to refresh the instant, which runs until the clock is closed.
+     *
+     * @param clock  the clock to cache, not null
+     * @param granularity  the interval between refreshes, positive, not null
+     * @return the clock, not null
+     * @throws IllegalArgumentException if the granularity is not positive
+     */
+    public static CoarseClock of(Clock clock, Duration granularity) {
+        Objects.requireNonNull(clock, "clock");
+        Objects.requireNonNull(granularity, "granularity");
+        if (granularity.isNegative() || granularity.isZero()) {
+            throw new IllegalArgumentException("Granularity must be positive: " + granularity);
+        }
+        Refresher refresher = new Refresher(clock, granularity);
+        refresher.start();
+        return new CoarseClock(refresher, clock.getZone());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param refresher  the refresher, validated not null
+     * @param zone  the time-zone, validated not null
+     */
+    private CoarseClock(Refresher refresher, ZoneId zone) {
+        this.refresher = refresher;
+        this.zone = zone;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the granularity at which the instant is refreshed.
+     *
+     * @return the granularity, not null
+     */
+    public Duration getGranularity() {
+        return refresher.granularity;
+    }
+
+    /**
+     * Checks if the clock has been closed.
+     *
+     * @return true if closed, when reads go directly to the underlying clock
+     */
+    public boolean isClosed() {
+        return refresher.cached.get() == null;
+    }
+
+    /**
+     * Closes the clock, stopping the refresh thread.
+     * <p>
+     * This also closes clocks sharing the refresh thread via {@link #withZone(ZoneId)}.
+     * After closing, reads go directly to the underlying clock.
+     */
+    @Override
+    public void close() {
+        refresher.close();
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Returns a clock that uses the specified time-zone and that shares the cached instant with this clock.
+     *
+     * @param zone  the time-zone to use, not null
+     * @return a view of this clock in the specified time-zone, not null
+     */
+    @Override
+    public CoarseClock withZone(ZoneId zone) {
+        Objects.requireNonNull(zone, "zone");
+        if (zone.equals(this.zone)) {
+            return this;
+        }
+        return new CoarseClock(refresher, zone);
+    }
+
+    /**
+     * Gets the cached instant.
+     *
+     * @return the instant of the underlying clock at the last refresh, not null
+     */
+    @Override
+    public Instant instant() {
+        Instant cached = refresher.cached.get();
+        return (cached != null ? cached : refresher.clock.instant());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this clock is equal to another, which requires sharing the cached instant.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other clock
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof CoarseClock) {
+            CoarseClock other = (CoarseClock) obj;
+            return refresher == other.refresher && zone.equals(other.zone);
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this clock.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(refresher) ^ zone.hashCode();
+    }
+
+    /**
+     * Outputs this clock as a {@code String}.
+     *
+     * @return a string representation of this clock, not null
+     */
+    @Override
+    public String toString() {
+        return "CoarseClock[" + refresher.clock + "," + refresher.granularity + "," + zone + "]";
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The refresh thread and cached instant, shared by clocks in different time-zones.
+     */
+    private static final class Refresher implements Runnable {
+        /**
+         * The underlying clock.
+         */
+        private final Clock clock;
+        /**
+         * The granularity.
+         */
+        private final Duration granularity;
+        /**
+         * The cached instant, null once closed.
+         */
+        private final AtomicReference<Instant> cached;
+        /**
+         * The refresh thread.
+         */
+        private final Thread thread;
+
+        Refresher(Clock clock, Duration granularity) {
+            this.clock = clock;
+            this.granularity = granularity;
+            this.cached = new AtomicReference<>(clock.instant());
+            this.thread = new Thread(this, "CoarseClock-refresh");
+            this.thread.setDaemon(true);
+        }
+
+        void start() {
+            thread.start();
+        }
+
+        void close() {
+            cached.set(null);
+            LockSupport.unpark(thread);
+        }
+
+        @Override
+        public void run() {
+            long nanos;
+            try {
+                nanos = granularity.toNanos();
+            } catch (ArithmeticException ex) {
+                nanos = Long.MAX_VALUE;
+            }
+            Instant previous = cached.get();
+            while (previous != null) {
+                LockSupport.parkNanos(this, nanos);
+                try {
+                    Instant now = clock.instant();
+                    // fails once closed, as the cached instant is then null
+                    previous = (cached.compareAndSet(previous, now) ? now : null);
+                } catch (RuntimeException ex) {
+                    // keep the previous instant and retry at the next refresh
+                    previous = cached.get();
+                }
+            }
+        }
+    }
+
+}
@@ -45,8 +45,6 @@ import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * A day-based amount of time, such as '12 days'.
@@ -82,13 +80,6 @@ public final class Days
      * The number of days per week.
      */
     private static final int DAYS_PER_WEEK = 7;
-    /**
-     * The pattern for parsing.
-     */
-    private static final Pattern PATTERN =
-            Pattern.compile("([-+]?)P"
-                    + "(?:([-+]?[0-9]+)W)?"
-                    + "(?:([-+]?[0-9]+)D)?", Pattern.CASE_INSENSITIVE);
 
     /**
      * The number of days.
@@ -205,32 +196,50 @@ public final class Days
      */
     public static Days parse(CharSequence text) {
         Objects.requireNonNull(text, "text");
-        Matcher matcher = PATTERN.matcher(text);
-        if (matcher.matches()) {
-            int negate = ("-".equals(matcher.group(1)) ? -1 : 1);
-            String weeksStr = matcher.group(2);
-            String daysStr = matcher.group(3);
-            if (weeksStr != null || daysStr != null) {
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Obtains a {@code Days} from a range of a text string such as {@code PnD}.
+     * <p>
+     * This parses the characters from the start index, inclusive, to the end index, exclusive,
+     * using the format described in {@link #parse(CharSequence)}.
+     * No substring of the text is created.
+     *
+     * @param text  the text to parse, not null
+     * @param startInclusive  the start index of the amount, inclusive
+     * @param endExclusive  the end index of the amount, exclusive
+     * @return the parsed period, not null
+     * @throws IndexOutOfBoundsException if the range is not within the text
+     * @throws DateTimeParseException if the text cannot be parsed to a period
+     */
+    public static Days parse(CharSequence text, int startInclusive, int endExclusive) {
+        Objects.requireNonNull(text, "text");
+        AmountParser.checkRange(text, startInclusive, endExclusive);
+        AmountParser parser = AmountParser.parse(text, startInclusive, endExclusive, "WD", "");
+        if (parser != null) {
+            int negate = (parser.isNegative() ? -1 : 1);
+            if (parser.isFound()) {
                 int days = 0;
-                if (daysStr != null) {
+                if (parser.isPresent('D')) {
                     try {
-                        days = Integer.parseInt(daysStr);
+                        days = parser.intValue('D');
                     } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to a Days, non-numeric days", text, 0, ex);
+                        throw new DateTimeParseException("Text cannot be parsed to a Days, non-numeric days", text, startInclusive, ex);
                     }
                 }
-                if (weeksStr != null) {
+                if (parser.isPresent('W')) {
                     try {
-                        int weeks = Math.multiplyExact(Integer.parseInt(weeksStr), DAYS_PER_WEEK);
+                        int weeks = Math.multiplyExact(parser.intValue('W'), DAYS_PER_WEEK);
                         days = Math.addExact(days, weeks);
                     } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to a Days, non-numeric weeks", text, 0, ex);
+                        throw new DateTimeParseException("Text cannot be parsed to a Days, non-numeric weeks", text, startInclusive, ex);
                     }
                 }
                 return of(Math.multiplyExact(days, negate));
             }
         }
-        throw new DateTimeParseException("Text cannot be parsed to a Days", text, 0);
+        throw new DateTimeParseException("Text cannot be parsed to a Days", text, startInclusive);
     }
 
     //-----------------------------------------------------------------------
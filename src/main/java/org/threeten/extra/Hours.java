@@ -45,8 +45,6 @@ import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * A hour-based amount of time, such as '4 hours'.
@@ -80,15 +78,6 @@ public final class Hours
      */
     private static final int HOURS_PER_DAY = 24;
 
-    /**
-     * The pattern for parsing.
-     */
-    private static final Pattern PATTERN =
-            Pattern.compile("([-+]?)P"
-                    + "(?:([-+]?[0-9]+)D)?"
-                    + "(?:T"
-                    + "(?:([-+]?[0-9]+)H)?)?", Pattern.CASE_INSENSITIVE);
-
     /**
      * The number of hours.
      */
@@ -188,32 +177,50 @@ public final class Hours
      */
     public static Hours parse(CharSequence text) {
         Objects.requireNonNull(text, "text");
-        Matcher matcher = PATTERN.matcher(text);
-        if (matcher.matches()) {
-            int negate = ("-".equals(matcher.group(1)) ? -1 : 1);
-            String daysStr = matcher.group(2);
-            String hoursStr = matcher.group(3);
-            if (daysStr != null || hoursStr != null) {
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Obtains a {@code Hours} from a range of a text string such as {@code PTnH}.
+     * <p>
+     * This parses the characters from the start index, inclusive, to the end index, exclusive,
+     * using the format described in {@link #parse(CharSequence)}.
+     * No substring of the text is created.
+     *
+     * @param text  the text to parse, not null
+     * @param startInclusive  the start index of the amount, inclusive
+     * @param endExclusive  the end index of the amount, exclusive
+     * @return the parsed period, not null
+     * @throws IndexOutOfBoundsException if the range is not within the text
+     * @throws DateTimeParseException if the text cannot be parsed to a period
+     */
+    public static Hours parse(CharSequence text, int startInclusive, int endExclusive) {
+        Objects.requireNonNull(text, "text");
+        AmountParser.checkRange(text, startInclusive, endExclusive);
+        AmountParser parser = AmountParser.parse(text, startInclusive, endExclusive, "D", "H");
+        if (parser != null) {
+            int negate = (parser.isNegative() ? -1 : 1);
+            if (parser.isFound()) {
                 int hours = 0;
-                if (hoursStr != null) {
+                if (parser.isPresent('H')) {
                     try {
-                        hours = Integer.parseInt(hoursStr);
+                        hours = parser.intValue('H');
                     } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to Hours, non-numeric hours", text, 0, ex);
+                        throw new DateTimeParseException("Text cannot be parsed to Hours, non-numeric hours", text, startInclusive, ex);
                     }
                 }
-                if (daysStr != null) {
+                if (parser.isPresent('D')) {
                     try {
-                        int daysAsHours = Math.multiplyExact(Integer.parseInt(daysStr), HOURS_PER_DAY);
+                        int daysAsHours = Math.multiplyExact(parser.intValue('D'), HOURS_PER_DAY);
                         hours = Math.addExact(hours, daysAsHours);
                     } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to Hours, non-numeric days", text, 0, ex);
+                        throw new DateTimeParseException("Text cannot be parsed to Hours, non-numeric days", text, startInclusive, ex);
                     }
                 }
                 return of(Math.multiplyExact(hours, negate));
             }
         }
-        throw new DateTimeParseException("Text cannot be parsed to Hours", text, 0);
+        throw new DateTimeParseException("Text cannot be parsed to Hours", text, startInclusive);
     }
 
     //-----------------------------------------------------------------------
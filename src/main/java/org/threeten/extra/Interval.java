@@ -154,6 +154,10 @@ public final class Interval
         Objects.requireNonNull(text, "text");
         for (int i = 0; i < text.length(); i++) {
             if (text.charAt(i) == '/') {
+                Interval interval = IntervalParser.parse(text, i);
+                if (interval != null) {
+                    return interval;
+                }
                 return parseSplit(text.subSequence(0, i), text.subSequence(i + 1, text.length()));
             }
         }
@@ -0,0 +1,469 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+/**
+ * An immutable index of values keyed by interval, supporting stabbing and overlap queries.
+ * <p>
+ * This finds the values whose interval {@linkplain Interval#contains(Instant) contains} an instant,
+ * or {@linkplain Interval#overlaps(Interval) overlaps} an interval, without checking every entry.
+ * The same interval may be used for more than one value.
+ * <p>
+ * The index is built once, from a {@link Builder} or by collecting a stream using
+ * {@link #toIntervalIndex(Function, Function)}, and is read-only thereafter.
+ * The entries are sorted by start and then end, and stored as an implicit balanced
+ * binary search tree in primitive arrays of epoch-seconds and nanoseconds.
+ * Each node is augmented with the maximum end of its subtree.
+ * A query descends the tree, skipping any subtree that ends before the query starts,
+ * or starts after the query ends. A query therefore typically takes time proportional
+ * to the logarithm of the size plus the number of matches.
+ * Matches are returned in the order of the index, earliest start first.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe, provided that the values are.
+ *
+ * @param <V>  the type of the values
+ */
+public final class IntervalIndex<V> {
+
+    /**
+     * The epoch-seconds of the starts, in tree order.
+     */
+    private final long[] startSeconds;
+    /**
+     * The nano-of-second of the starts, in tree order.
+     */
+    private final int[] startNanos;
+    /**
+     * The epoch-seconds of the ends, in tree order.
+     */
+    private final long[] endSeconds;
+    /**
+     * The nano-of-second of the ends, in tree order.
+     */
+    private final int[] endNanos;
+    /**
+     * The epoch-seconds of the maximum end of the subtree rooted at each node.
+     */
+    private final long[] maxEndSeconds;
+    /**
+     * The nano-of-second of the maximum end of the subtree rooted at each node.
+     */
+    private final int[] maxEndNanos;
+    /**
+     * The values, in tree order.
+     */
+    private final Object[] values;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Creates a builder for an index.
+     *
+     * @param <V>  the type of the values
+     * @return the builder, not null
+     */
+    public static <V> Builder<V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns a collector that builds an index from a stream.
+     * <p>
+     * Each element of the stream is mapped to an interval and a value.
+     *
+     * @param <T>  the type of the stream elements
+     * @param <V>  the type of the values
+     * @param intervalFunction  the function to obtain the interval, not null
+     * @param valueFunction  the function to obtain the value, not null
+     * @return the collector, not null
+     */
+    public static <T, V> Collector<T, ?, IntervalIndex<V>> toIntervalIndex(
+            Function<? super T, Interval> intervalFunction,
+            Function<? super T, ? extends V> valueFunction) {
+
+        Objects.requireNonNull(intervalFunction, "intervalFunction");
+        Objects.requireNonNull(valueFunction, "valueFunction");
+        return Collector.of(
+                IntervalIndex::<V>builder,
+                (builder, element) -> builder.add(intervalFunction.apply(element), valueFunction.apply(element)),
+                Builder::addAll,
+                Builder::build);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param intervals  the intervals, sorted
+     * @param values  the values, in the same order as the intervals
+     */
+    private IntervalIndex(Interval[] intervals, Object[] values) {
+        int size = intervals.length;
+        this.startSeconds = new long[size];
+        this.startNanos = new int[size];
+        this.endSeconds = new long[size];
+        this.endNanos = new int[size];
+        this.maxEndSeconds = new long[size];
+        this.maxEndNanos = new int[size];
+        this.values = values;
+        for (int i = 0; i < size; i++) {
+            Instant start = intervals[i].getStart();
+            Instant end = intervals[i].getEnd();
+            startSeconds[i] = start.getEpochSecond();
+            startNanos[i] = start.getNano();
+            endSeconds[i] = end.getEpochSecond();
+            endNanos[i] = end.getNano();
+        }
+        augment(0, size);
+    }
+
+    /**
+     * Calculates the maximum end of the subtree of each node in the specified range.
+     *
+     * @param low  the low index, inclusive
+     * @param high  the high index, exclusive
+     * @return the index of the root node of the range, -1 if the range is empty
+     */
+    private int augment(int low, int high) {
+        if (low >= high) {
+            return -1;
+        }
+        int mid = (low + high) >>> 1;
+        maxEndSeconds[mid] = endSeconds[mid];
+        maxEndNanos[mid] = endNanos[mid];
+        extendMaxEnd(mid, augment(low, mid));
+        extendMaxEnd(mid, augment(mid + 1, high));
+        return mid;
+    }
+
+    // extends the maximum end of the node to cover the child, if present
+    private void extendMaxEnd(int node, int child) {
+        if (child >= 0 && compare(maxEndSeconds[child], maxEndNanos[child], maxEndSeconds[node], maxEndNanos[node]) > 0) {
+            maxEndSeconds[node] = maxEndSeconds[child];
+            maxEndNanos[node] = maxEndNanos[child];
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of entries in the index.
+     *
+     * @return the number of entries, zero or greater
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Checks if the index is empty.
+     *
+     * @return true if the index has no entries
+     */
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Finds the values whose interval contains the specified instant.
+     * <p>
+     * This matches the behaviour of {@link Interval#contains(Instant)}.
+     *
+     * @param instant  the instant to query, not null
+     * @return the matching values, earliest start first, not null
+     */
+    public List<V> findContaining(Instant instant) {
+        List<V> result = new ArrayList<>();
+        forEachContaining(instant, result::add);
+        return result;
+    }
+
+    /**
+     * Finds the values whose interval overlaps the specified interval.
+     * <p>
+     * This matches the behaviour of {@link Interval#overlaps(Interval)}.
+     *
+     * @param interval  the interval to query, not null
+     * @return the matching values, earliest start first, not null
+     */
+    public List<V> findOverlapping(Interval interval) {
+        List<V> result = new ArrayList<>();
+        forEachOverlapping(interval, result::add);
+        return result;
+    }
+
+    /**
+     * Performs an action for each value whose interval contains the specified instant.
+     * <p>
+     * This matches the behaviour of {@link Interval#contains(Instant)}.
+     * The values are processed earliest start first, without creating a list.
+     *
+     * @param instant  the instant to query, not null
+     * @param action  the action to perform on each value, not null
+     */
+    public void forEachContaining(Instant instant, Consumer<? super V> action) {
+        Objects.requireNonNull(instant, "instant");
+        Objects.requireNonNull(action, "action");
+        search(0, values.length, instant.getEpochSecond(), instant.getNano(), instant.getEpochSecond(), instant.getNano(), false, action);
+    }
+
+    /**
+     * Performs an action for each value whose interval overlaps the specified interval.
+     * <p>
+     * This matches the behaviour of {@link Interval#overlaps(Interval)}.
+     * The values are processed earliest start first, without creating a list.
+     *
+     * @param interval  the interval to query, not null
+     * @param action  the action to perform on each value, not null
+     */
+    public void forEachOverlapping(Interval interval, Consumer<? super V> action) {
+        Objects.requireNonNull(interval, "interval");
+        Objects.requireNonNull(action, "action");
+        Instant start = interval.getStart();
+        Instant end = interval.getEnd();
+        search(0, values.length, start.getEpochSecond(), start.getNano(), end.getEpochSecond(), end.getNano(), true, action);
+    }
+
+    /**
+     * Gets the interval of the entry at the specified index.
+     * <p>
+     * The entries are sorted by start and then end.
+     *
+     * @param index  the index, from zero to {@code size() - 1}
+     * @return the interval, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public Interval getInterval(int index) {
+        checkIndex(index);
+        return Interval.of(
+                Instant.ofEpochSecond(startSeconds[index], startNanos[index]),
+                Instant.ofEpochSecond(endSeconds[index], endNanos[index]));
+    }
+
+    /**
+     * Gets the value of the entry at the specified index.
+     * <p>
+     * The entries are sorted by start and then end.
+     *
+     * @param index  the index, from zero to {@code size() - 1}
+     * @return the value, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    @SuppressWarnings("unchecked")
+    public V getValue(int index) {
+        checkIndex(index);
+        return (V) values[index];
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= values.length) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Searches the subtree of the specified range for entries matching the query.
+     * <p>
+     * The left subtree is searched recursively, and the right subtree iteratively.
+     *
+     * @param low  the low index, inclusive
+     * @param high  the high index, exclusive
+     * @param querySecond  the epoch-second of the query start
+     * @param queryNano  the nano-of-second of the query start
+     * @param queryEndSecond  the epoch-second of the query end, the same as the start for an instant
+     * @param queryEndNano  the nano-of-second of the query end, the same as the start for an instant
+     * @param interval  true to match as per {@code Interval.overlaps}, false as per {@code Interval.contains}
+     * @param action  the action to perform on each value, not null
+     */
+    @SuppressWarnings("unchecked")
+    private void search(
+            int low,
+            int high,
+            long querySecond,
+            int queryNano,
+            long queryEndSecond,
+            int queryEndNano,
+            boolean interval,
+            Consumer<? super V> action) {
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            // no entry in the subtree ends after the query starts
+            if (compare(maxEndSeconds[mid], maxEndNanos[mid], querySecond, queryNano) < 0) {
+                return;
+            }
+            search(low, mid, querySecond, queryNano, queryEndSecond, queryEndNano, interval, action);
+            // no entry from here on starts before the query ends
+            int cmpStart = compare(startSeconds[mid], startNanos[mid], queryEndSecond, queryEndNano);
+            if (cmpStart > 0) {
+                return;
+            }
+            if (interval ? overlaps(mid, querySecond, queryNano, queryEndSecond, queryEndNano, cmpStart) : contains(mid, querySecond, queryNano)) {
+                action.accept((V) values[mid]);
+            }
+            low = mid + 1;
+        }
+    }
+
+    // matches Interval.contains(Instant), where the start is known to be before or equal
+    private boolean contains(int index, long second, int nano) {
+        int cmpEnd = compare(second, nano, endSeconds[index], endNanos[index]);
+        return cmpEnd < 0 || (cmpEnd == 0 && second == Instant.MAX.getEpochSecond() && nano == Instant.MAX.getNano());
+    }
+
+    // matches Interval.overlaps(Interval), where the start is known to be before or equal to the query end
+    private boolean overlaps(int index, long startSecond, int startNano, long endSecond, int endNano, int cmpStartToQueryEnd) {
+        if (startSeconds[index] == startSecond && startNanos[index] == startNano &&
+                endSeconds[index] == endSecond && endNanos[index] == endNano) {
+            return true;
+        }
+        return cmpStartToQueryEnd < 0 && compare(startSecond, startNano, endSeconds[index], endNanos[index]) < 0;
+    }
+
+    private static int compare(long second1, int nano1, long second2, int nano2) {
+        int cmp = Long.compare(second1, second2);
+        return (cmp != 0 ? cmp : nano1 - nano2);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs this index as a {@code String}.
+     *
+     * @return a string representation of this index, not null
+     */
+    @Override
+    public String toString() {
+        return "IntervalIndex[size=" + values.length + "]";
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Builder used to create an {@code IntervalIndex}.
+     * <p>
+     * This class is mutable and not thread-safe.
+     *
+     * @param <V>  the type of the values
+     */
+    public static final class Builder<V> {
+
+        /**
+         * The intervals.
+         */
+        private final List<Interval> intervals = new ArrayList<>();
+        /**
+         * The values.
+         */
+        private final List<V> values = new ArrayList<>();
+
+        /**
+         * Restricted constructor.
+         */
+        private Builder() {
+        }
+
+        /**
+         * Adds an entry to the index.
+         *
+         * @param interval  the interval, not null
+         * @param value  the value, not null
+         * @return this, for chaining, not null
+         */
+        public Builder<V> add(Interval interval, V value) {
+            Objects.requireNonNull(interval, "interval");
+            Objects.requireNonNull(value, "value");
+            intervals.add(interval);
+            values.add(value);
+            return this;
+        }
+
+        /**
+         * Adds all the entries from another builder.
+         *
+         * @param other  the other builder, not null
+         * @return this, for chaining, not null
+         */
+        public Builder<V> addAll(Builder<? extends V> other) {
+            Objects.requireNonNull(other, "other");
+            intervals.addAll(other.intervals);
+            values.addAll(other.values);
+            return this;
+        }
+
+        /**
+         * Builds the index.
+         * <p>
+         * The builder may continue to be used after this method is called.
+         *
+         * @return the index, not null
+         */
+        public IntervalIndex<V> build() {
+            int size = intervals.size();
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Comparator<Integer> byInterval = Comparator
+                    .<Integer, Instant>comparing(i -> intervals.get(i).getStart())
+                    .thenComparing(i -> intervals.get(i).getEnd());
+            Arrays.sort(order, byInterval);
+            Interval[] sortedIntervals = new Interval[size];
+            Object[] sortedValues = new Object[size];
+            for (int i = 0; i < size; i++) {
+                sortedIntervals[i] = intervals.get(order[i]);
+                sortedValues[i] = values.get(order[i]);
+            }
+            return new IntervalIndex<>(sortedIntervals, sortedValues);
+        }
+
+        /**
+         * Outputs this builder as a {@code String}.
+         *
+         * @return a string representation of this builder, not null
+         */
+        @Override
+        public String toString() {
+            return "IntervalIndex.Builder[size=" + intervals.size() + "]";
+        }
+
+    }
+
+}
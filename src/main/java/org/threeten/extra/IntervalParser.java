@@ -0,0 +1,367 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZoneOffset;
+
+/**
+ * Scanner for the common ISO-8601 interval formats, used by {@link Interval#parse(CharSequence)}.
+ * <p>
+ * This handles the {@code instant/instant}, {@code instant/duration} and {@code duration/instant}
+ * forms where each date-time is of the form {@code yyyy-MM-ddTHH:mm[:ss[.fffffffff]]}
+ * with an offset of 'Z' or {@code +HH:MM}, and the end date-time may omit the offset.
+ * The text is read directly from the {@code CharSequence} in a single pass without
+ * creating any substrings or throwing any exceptions.
+ * <p>
+ * Any text that is not matched, such as an unusual offset, a time-zone ID,
+ * lower case letters or an out of range result, causes null to be returned.
+ * The caller then uses the general purpose parsing logic, which determines
+ * the result or the exception to be thrown.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is mutable and intended for use from a single thread.
+ */
+final class IntervalParser {
+
+    /**
+     * Seconds per day.
+     */
+    private static final int SECONDS_PER_DAY = 86400;
+    /**
+     * The number of days from year zero to year 1970.
+     */
+    private static final long DAYS_0000_TO_1970 = (146097 * 5L) - (30L * 365L + 7L);
+    /**
+     * The minimum local epoch-second supported by {@code LocalDateTime}.
+     */
+    private static final long MIN_LOCAL_SECOND = LocalDate.MIN.toEpochDay() * SECONDS_PER_DAY;
+    /**
+     * The maximum local epoch-second supported by {@code LocalDateTime}.
+     */
+    private static final long MAX_LOCAL_SECOND = (LocalDate.MAX.toEpochDay() + 1) * SECONDS_PER_DAY - 1;
+    /**
+     * The maximum offset in seconds.
+     */
+    private static final int MAX_OFFSET_SECONDS = 18 * 3600;
+    /**
+     * The marker for a missing offset.
+     */
+    private static final int NO_OFFSET = Integer.MIN_VALUE;
+
+    /**
+     * The text being parsed.
+     */
+    private final CharSequence text;
+    /**
+     * The local epoch-second of the last date-time parsed.
+     */
+    private long localSecond;
+    /**
+     * The nano-of-second of the last date-time parsed.
+     */
+    private int nano;
+    /**
+     * The offset in seconds of the last date-time parsed, {@code NO_OFFSET} if absent.
+     */
+    private int offsetSeconds;
+
+    /**
+     * Parses the text as an interval, if it is in one of the common formats.
+     *
+     * @param text  the text to parse, not null
+     * @param slash  the index of the first forward slash
+     * @return the parsed interval, null if the text is not in one of the common formats
+     * @throws java.time.DateTimeException if the text is in a common format but the interval is invalid
+     */
+    static Interval parse(CharSequence text, int slash) {
+        return new IntervalParser(text).parse(slash);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param text  the text to parse, not null
+     */
+    private IntervalParser(CharSequence text) {
+        this.text = text;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Parses the text.
+     *
+     * @param slash  the index of the first forward slash
+     * @return the parsed interval, null if not matched
+     */
+    private Interval parse(int slash) {
+        int length = text.length();
+        if (slash == 0 || slash + 1 == length) {
+            return null;
+        }
+        if (isAmountStart(0)) {
+            // duration followed by instant
+            if (!scanDateTime(slash + 1, length) || offsetSeconds == NO_OFFSET) {
+                return null;
+            }
+            Instant end = Instant.ofEpochSecond(localSecond - offsetSeconds, nano);
+            Instant start = applyAmount(0, slash, true);
+            return (start != null ? Interval.of(start, end) : null);
+        }
+        // instant followed by instant or duration
+        if (!scanDateTime(0, slash) || offsetSeconds == NO_OFFSET) {
+            return null;
+        }
+        Instant start = Instant.ofEpochSecond(localSecond - offsetSeconds, nano);
+        if (isAmountStart(slash + 1)) {
+            Instant end = applyAmount(slash + 1, length, false);
+            return (end != null ? Interval.of(start, end) : null);
+        }
+        int startOffset = offsetSeconds;
+        if (!scanDateTime(slash + 1, length)) {
+            return null;
+        }
+        // infer offset from start if not specified by end
+        int endOffset = (offsetSeconds == NO_OFFSET ? startOffset : offsetSeconds);
+        return Interval.of(start, Instant.ofEpochSecond(localSecond - endOffset, nano));
+    }
+
+    private boolean isAmountStart(int pos) {
+        char c = text.charAt(pos);
+        return c == 'P' || c == 'p';
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Scans a date-time, storing the result in the fields.
+     *
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return true if the whole range is a date-time in the common format
+     */
+    private boolean scanDateTime(int start, int end) {
+        if (end - start < 16 ||
+                text.charAt(start + 4) != '-' ||
+                text.charAt(start + 7) != '-' ||
+                text.charAt(start + 10) != 'T' ||
+                text.charAt(start + 13) != ':') {
+            return false;
+        }
+        int year = digits(start, 4);
+        int month = digits(start + 5, 2);
+        int day = digits(start + 8, 2);
+        int hour = digits(start + 11, 2);
+        int minute = digits(start + 14, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month) ||
+                hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return false;
+        }
+        int pos = start + 16;
+        int second = 0;
+        int nanoOfSecond = 0;
+        if (pos < end && text.charAt(pos) == ':') {
+            second = (pos + 3 <= end ? digits(pos + 1, 2) : -1);
+            if (second < 0 || second > 59) {
+                return false;
+            }
+            pos += 3;
+            if (pos < end && text.charAt(pos) == '.') {
+                int fractionStart = ++pos;
+                while (pos < end && pos - fractionStart < 9 && isDigit(text.charAt(pos))) {
+                    nanoOfSecond = nanoOfSecond * 10 + (text.charAt(pos) - '0');
+                    pos++;
+                }
+                if (pos == fractionStart) {
+                    return false;
+                }
+                for (int i = pos - fractionStart; i < 9; i++) {
+                    nanoOfSecond *= 10;
+                }
+            }
+        }
+        int offset = NO_OFFSET;
+        if (pos < end) {
+            char c = text.charAt(pos);
+            if (c == 'Z') {
+                offset = 0;
+                pos++;
+            } else if ((c == '+' || c == '-') && pos + 6 <= end && text.charAt(pos + 3) == ':') {
+                int offsetHours = digits(pos + 1, 2);
+                int offsetMinutes = digits(pos + 4, 2);
+                if (offsetHours < 0 || offsetMinutes < 0 || offsetMinutes > 59) {
+                    return false;
+                }
+                offset = offsetHours * 3600 + offsetMinutes * 60;
+                if (offset > MAX_OFFSET_SECONDS) {
+                    return false;
+                }
+                offset = (c == '-' ? -offset : offset);
+                pos += 6;
+            }
+        }
+        if (pos != end) {
+            return false;
+        }
+        localSecond = epochDay(year, month, day) * SECONDS_PER_DAY + hour * 3600 + minute * 60 + second;
+        nano = nanoOfSecond;
+        offsetSeconds = offset;
+        return true;
+    }
+
+    private int digits(int pos, int count) {
+        int total = 0;
+        for (int i = pos; i < pos + count; i++) {
+            char c = text.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            total = total * 10 + (c - '0');
+        }
+        return total;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return (isLeapYear(year) ? 29 : 28);
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    // as per LocalDate.toEpochDay(), for a non-negative year
+    private static long epochDay(int year, int month, int day) {
+        long y = year;
+        long m = month;
+        long total = 365 * y + (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+        total += (367 * m - 362) / 12;
+        total += day - 1;
+        if (m > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Applies the amount in the specified range to the last date-time parsed.
+     * <p>
+     * This matches {@link PeriodDuration#parse(CharSequence)} followed by addition or
+     * subtraction using {@code OffsetDateTime}.
+     *
+     * @param start  the start index of the amount, inclusive
+     * @param end  the end index of the amount, exclusive
+     * @param subtract  true to subtract the amount, false to add it
+     * @return the resulting instant, null if not matched
+     */
+    private Instant applyAmount(int start, int end, boolean subtract) {
+        AmountParser parser = AmountParser.parseWithFraction(text, start, end, "YMWD", "HMS");
+        char last = text.charAt(end - 1);
+        if (parser == null || !parser.isFound() || last == 'T' || last == 't') {
+            return null;
+        }
+        int years;
+        int months;
+        int days;
+        long seconds;
+        try {
+            years = (parser.isPresent('Y') ? parser.intValue('Y') : 0);
+            months = (parser.isPresent('M') ? parser.intValue('M') : 0);
+            long weekDays = (parser.isPresent('W') ? parser.intValue('W') * 7L : 0);
+            long totalDays = weekDays + (parser.isPresent('D') ? parser.intValue('D') : 0);
+            if (weekDays != (int) weekDays || totalDays != (int) totalDays) {
+                // overflow, as Period.parse() throws
+                return null;
+            }
+            days = (int) totalDays;
+            seconds = (parser.isTimePresent('H') ? parser.timeIntValue('H') * 3600L : 0) +
+                    (parser.isTimePresent('M') ? parser.timeIntValue('M') * 60L : 0) +
+                    (parser.isTimePresent('S') ? parser.timeIntValue('S') : 0);
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+        int nanos = parser.fractionValue();
+        if (nanos < 0 && parser.timeIntValue('S') == 0) {
+            // negative zero seconds with a fraction is handled differently by Duration.parse() in Java 8
+            return null;
+        }
+        if (years == 0 && months == 0) {
+            // fixed length amount, so use exact arithmetic
+            long amountSecond = days * (long) SECONDS_PER_DAY + seconds + Math.floorDiv(nanos, 1_000_000_000);
+            int amountNano = Math.floorMod(nanos, 1_000_000_000);
+            long resultSecond;
+            int resultNano;
+            if (subtract) {
+                resultSecond = localSecond - amountSecond - (nano < amountNano ? 1 : 0);
+                resultNano = (nano < amountNano ? nano + 1_000_000_000 - amountNano : nano - amountNano);
+            } else {
+                int sum = nano + amountNano;
+                resultSecond = localSecond + amountSecond + (sum >= 1_000_000_000 ? 1 : 0);
+                resultNano = (sum >= 1_000_000_000 ? sum - 1_000_000_000 : sum);
+            }
+            if (resultSecond < MIN_LOCAL_SECOND || resultSecond > MAX_LOCAL_SECOND) {
+                // out of range, as OffsetDateTime throws
+                return null;
+            }
+            return Instant.ofEpochSecond(resultSecond - offsetSeconds, resultNano);
+        }
+        OffsetDateTime base = OffsetDateTime.of(
+                LocalDateTime.ofEpochSecond(localSecond, nano, ZoneOffset.UTC),
+                ZoneOffset.ofTotalSeconds(offsetSeconds));
+        Period period = Period.of(years, months, days);
+        Duration duration = Duration.ofSeconds(seconds, nanos);
+        OffsetDateTime result = (subtract ? base.minus(period).minus(duration) : base.plus(period).plus(duration));
+        return result.toInstant();
+    }
+
+}
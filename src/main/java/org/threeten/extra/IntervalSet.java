@@ -0,0 +1,499 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * An immutable set of instants on the time-line, stored as disjoint intervals.
+ * <p>
+ * An interval set represents any number of parts of the time-line.
+ * It is stored as a sorted list of {@link Interval}s that do not overlap or abut,
+ * with empty intervals removed. As such, two sets that contain the same instants are equal.
+ * Each interval includes its start and excludes its end, except that an interval
+ * ending at {@link Instant#MAX} is treated as unbounded, as per {@link Interval#contains(Instant)}.
+ * <p>
+ * The set operations, {@linkplain #union(IntervalSet) union}, {@linkplain #intersection(IntervalSet) intersection},
+ * {@linkplain #difference(IntervalSet) difference} and {@linkplain #complement() complement},
+ * are calculated in a single pass over the two sets, in time proportional to the number of intervals.
+ * Checking if an instant is {@linkplain #contains(Instant) contained} uses a binary search.
+ * The boundaries are stored as primitive arrays of epoch-seconds and nanoseconds,
+ * so intermediate results do not create an object per interval.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe.
+ * <p>
+ * This class must be treated as a value type. Do not synchronize, rely on the
+ * identity hash code or use the distinction between equals() and ==.
+ */
+public final class IntervalSet
+        implements Serializable {
+
+    /**
+     * An empty interval set.
+     */
+    public static final IntervalSet EMPTY = new IntervalSet(new long[0], new int[0]);
+    /**
+     * An interval set over the whole time-line.
+     */
+    public static final IntervalSet ALL = new IntervalSet(
+            new long[] {Instant.MIN.getEpochSecond(), Instant.MAX.getEpochSecond()},
+            new int[] {Instant.MIN.getNano(), Instant.MAX.getNano()});
+
+    /**
+     * Serialization version.
+     */
+    private static final long serialVersionUID = -3475398273948729L;
+    /**
+     * Operation code for union.
+     */
+    private static final int UNION = 0;
+    /**
+     * Operation code for intersection.
+     */
+    private static final int INTERSECTION = 1;
+    /**
+     * Operation code for difference.
+     */
+    private static final int DIFFERENCE = 2;
+
+    /**
+     * The epoch-seconds of the boundaries, alternating start and end.
+     */
+    private final long[] seconds;
+    /**
+     * The nano-of-second of the boundaries, alternating start and end.
+     */
+    private final int[] nanos;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code IntervalSet} containing the specified intervals.
+     * <p>
+     * The intervals may be in any order and may overlap.
+     * Empty intervals are ignored.
+     *
+     * @param intervals  the intervals, not null, no nulls
+     * @return the interval set, not null
+     */
+    public static IntervalSet of(Interval... intervals) {
+        Objects.requireNonNull(intervals, "intervals");
+        return build(intervals.clone());
+    }
+
+    /**
+     * Obtains an instance of {@code IntervalSet} containing the specified intervals.
+     * <p>
+     * The intervals may be in any order and may overlap.
+     * Empty intervals are ignored.
+     *
+     * @param intervals  the intervals, not null, no nulls
+     * @return the interval set, not null
+     */
+    public static IntervalSet of(Collection<Interval> intervals) {
+        Objects.requireNonNull(intervals, "intervals");
+        return build(intervals.toArray(new Interval[intervals.size()]));
+    }
+
+    // sorts the array if necessary, then merges overlapping and abutting intervals
+    private static IntervalSet build(Interval[] intervals) {
+        boolean sorted = true;
+        for (int i = 0; i < intervals.length; i++) {
+            Objects.requireNonNull(intervals[i], "intervals");
+            sorted &= (i == 0 || intervals[i - 1].getStart().compareTo(intervals[i].getStart()) <= 0);
+        }
+        if (!sorted) {
+            Arrays.sort(intervals, Comparator.comparing(Interval::getStart));
+        }
+        long[] seconds = new long[intervals.length * 2];
+        int[] nanos = new int[intervals.length * 2];
+        int size = 0;
+        for (Interval interval : intervals) {
+            if (interval.isEmpty()) {
+                continue;
+            }
+            Instant start = interval.getStart();
+            Instant end = interval.getEnd();
+            if (size > 0 && compare(seconds[size - 1], nanos[size - 1], start.getEpochSecond(), start.getNano()) >= 0) {
+                // overlaps or abuts the previous interval, so extend it if necessary
+                if (compare(seconds[size - 1], nanos[size - 1], end.getEpochSecond(), end.getNano()) < 0) {
+                    seconds[size - 1] = end.getEpochSecond();
+                    nanos[size - 1] = end.getNano();
+                }
+            } else {
+                seconds[size] = start.getEpochSecond();
+                nanos[size++] = start.getNano();
+                seconds[size] = end.getEpochSecond();
+                nanos[size++] = end.getNano();
+            }
+        }
+        return create(seconds, nanos, size);
+    }
+
+    // creates an instance from validated boundaries, trimming the arrays
+    private static IntervalSet create(long[] seconds, int[] nanos, int size) {
+        if (size == 0) {
+            return EMPTY;
+        }
+        if (size < seconds.length) {
+            seconds = Arrays.copyOf(seconds, size);
+            nanos = Arrays.copyOf(nanos, size);
+        }
+        return new IntervalSet(seconds, nanos);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param seconds  the epoch-seconds of the boundaries, validated
+     * @param nanos  the nano-of-second of the boundaries, validated
+     */
+    private IntervalSet(long[] seconds, int[] nanos) {
+        this.seconds = seconds;
+        this.nanos = nanos;
+    }
+
+    /**
+     * Validates the boundaries after deserialization.
+     *
+     * @param in  the input stream, not null
+     * @throws IOException if an error occurs
+     * @throws ClassNotFoundException if a class cannot be found
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (seconds == null || nanos == null || seconds.length != nanos.length || seconds.length % 2 != 0) {
+            throw new InvalidObjectException("Invalid interval set");
+        }
+        for (int i = 0; i < seconds.length; i++) {
+            Instant instant;
+            try {
+                instant = Instant.ofEpochSecond(seconds[i], nanos[i]);
+            } catch (RuntimeException ex) {
+                throw new InvalidObjectException("Invalid interval set");
+            }
+            if (instant.getNano() != nanos[i] ||
+                    (i > 0 && compare(seconds[i - 1], nanos[i - 1], seconds[i], nanos[i]) >= 0)) {
+                throw new InvalidObjectException("Invalid interval set");
+            }
+        }
+    }
+
+    /**
+     * Resolves singletons.
+     *
+     * @return the resolved instance, not null
+     */
+    private Object readResolve() {
+        return (seconds.length == 0 ? EMPTY : this);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if the set is empty.
+     *
+     * @return true if the set contains no instants
+     */
+    public boolean isEmpty() {
+        return seconds.length == 0;
+    }
+
+    /**
+     * Gets the number of disjoint intervals in the set.
+     *
+     * @return the number of intervals, zero or greater
+     */
+    public int size() {
+        return seconds.length / 2;
+    }
+
+    /**
+     * Gets the interval at the specified index.
+     * <p>
+     * The intervals are sorted, with index zero being the earliest.
+     *
+     * @param index  the index, from zero to {@code size() - 1}
+     * @return the interval, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public Interval getInterval(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index);
+        }
+        return Interval.of(
+                Instant.ofEpochSecond(seconds[index * 2], nanos[index * 2]),
+                Instant.ofEpochSecond(seconds[index * 2 + 1], nanos[index * 2 + 1]));
+    }
+
+    /**
+     * Returns a stream of the disjoint intervals in the set, earliest first.
+     *
+     * @return the stream of intervals, not null
+     */
+    public Stream<Interval> stream() {
+        return IntStream.range(0, size()).mapToObj(this::getInterval);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this set contains the specified instant.
+     * <p>
+     * This uses a binary search over the intervals.
+     *
+     * @param instant  the instant, not null
+     * @return true if this set contains the instant
+     */
+    public boolean contains(Instant instant) {
+        Objects.requireNonNull(instant, "instant");
+        long second = instant.getEpochSecond();
+        int nano = instant.getNano();
+        // find the number of boundaries less than or equal to the instant
+        int low = 0;
+        int high = seconds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(seconds[mid], nanos[mid], second, nano) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        if (low % 2 == 1) {
+            return true;
+        }
+        // an interval ending at Instant.MAX is unbounded, as per Interval
+        return low > 0 && low == seconds.length && instant.equals(Instant.MAX) &&
+                seconds[low - 1] == second && nanos[low - 1] == nano;
+    }
+
+    /**
+     * Obtains the total duration of the intervals in this set.
+     *
+     * @return the total duration, not null
+     */
+    public Duration totalDuration() {
+        long totalSeconds = 0;
+        long totalNanos = 0;
+        for (int i = 0; i < seconds.length; i += 2) {
+            totalSeconds += seconds[i + 1] - seconds[i];
+            totalNanos += nanos[i + 1] - nanos[i];
+        }
+        return Duration.ofSeconds(totalSeconds, totalNanos);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Calculates the set of instants that are in this set or the specified set.
+     *
+     * @param other  the other set, not null
+     * @return the union of the two sets, not null
+     */
+    public IntervalSet union(IntervalSet other) {
+        Objects.requireNonNull(other, "other");
+        if (other.isEmpty()) {
+            return this;
+        }
+        return (isEmpty() ? other : combine(other, UNION));
+    }
+
+    /**
+     * Calculates the set of instants that are in both this set and the specified set.
+     *
+     * @param other  the other set, not null
+     * @return the intersection of the two sets, not null
+     */
+    public IntervalSet intersection(IntervalSet other) {
+        Objects.requireNonNull(other, "other");
+        if (isEmpty() || other.isEmpty()) {
+            return EMPTY;
+        }
+        return combine(other, INTERSECTION);
+    }
+
+    /**
+     * Calculates the set of instants that are in this set but not in the specified set.
+     *
+     * @param other  the other set, not null
+     * @return the difference of the two sets, not null
+     */
+    public IntervalSet difference(IntervalSet other) {
+        Objects.requireNonNull(other, "other");
+        if (isEmpty() || other.isEmpty()) {
+            return this;
+        }
+        return combine(other, DIFFERENCE);
+    }
+
+    /**
+     * Calculates the set of instants that are not in this set.
+     * <p>
+     * The result is the difference between {@link #ALL} and this set.
+     *
+     * @return the complement of this set, not null
+     */
+    public IntervalSet complement() {
+        return ALL.difference(this);
+    }
+
+    /**
+     * Combines this set with the other set in a single pass over the boundaries.
+     * <p>
+     * Each boundary toggles whether the set it belongs to is inside an interval.
+     * A boundary is output whenever the result of the operation changes.
+     *
+     * @param other  the other set, not null
+     * @param operation  the operation code
+     * @return the combined set, not null
+     */
+    private IntervalSet combine(IntervalSet other, int operation) {
+        long[] aSeconds = seconds;
+        int[] aNanos = nanos;
+        long[] bSeconds = other.seconds;
+        int[] bNanos = other.nanos;
+        long[] resultSeconds = new long[aSeconds.length + bSeconds.length];
+        int[] resultNanos = new int[resultSeconds.length];
+        int size = 0;
+        int a = 0;
+        int b = 0;
+        boolean inside = false;
+        while (a < aSeconds.length || b < bSeconds.length) {
+            long second;
+            int nano;
+            if (b == bSeconds.length ||
+                    (a < aSeconds.length && compare(aSeconds[a], aNanos[a], bSeconds[b], bNanos[b]) <= 0)) {
+                second = aSeconds[a];
+                nano = aNanos[a];
+            } else {
+                second = bSeconds[b];
+                nano = bNanos[b];
+            }
+            if (a < aSeconds.length && aSeconds[a] == second && aNanos[a] == nano) {
+                a++;
+            }
+            if (b < bSeconds.length && bSeconds[b] == second && bNanos[b] == nano) {
+                b++;
+            }
+            boolean insideA = (a & 1) == 1;
+            boolean insideB = (b & 1) == 1;
+            boolean result;
+            switch (operation) {
+                case UNION:
+                    result = insideA || insideB;
+                    break;
+                case INTERSECTION:
+                    result = insideA && insideB;
+                    break;
+                default:
+                    result = insideA && !insideB;
+                    break;
+            }
+            if (result != inside) {
+                resultSeconds[size] = second;
+                resultNanos[size++] = nano;
+                inside = result;
+            }
+        }
+        return create(resultSeconds, resultNanos, size);
+    }
+
+    private static int compare(long second1, int nano1, long second2, int nano2) {
+        int cmp = Long.compare(second1, second2);
+        return (cmp != 0 ? cmp : nano1 - nano2);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this interval set is equal to another interval set.
+     * <p>
+     * Two sets are equal if they contain the same instants.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other set
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof IntervalSet) {
+            IntervalSet other = (IntervalSet) obj;
+            return Arrays.equals(seconds, other.seconds) && Arrays.equals(nanos, other.nanos);
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this interval set.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(seconds) ^ Arrays.hashCode(nanos);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs this interval set as a {@code String}, such as
+     * {@code [2007-12-03T10:15:30Z/2007-12-04T10:15:30Z, 2007-12-05T10:15:30Z/2007-12-06T10:15:30Z]}.
+     * <p>
+     * The output is the list of intervals in ISO-8601 format, earliest first.
+     *
+     * @return a string representation of this interval set, not null
+     */
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder(seconds.length * 26 + 2);
+        buf.append('[');
+        for (int i = 0; i < seconds.length; i += 2) {
+            if (i > 0) {
+                buf.append(", ");
+            }
+            buf.append(Instant.ofEpochSecond(seconds[i], nanos[i]))
+                .append('/')
+                .append(Instant.ofEpochSecond(seconds[i + 1], nanos[i + 1]));
+        }
+        return buf.append(']').toString();
+    }
+
+}
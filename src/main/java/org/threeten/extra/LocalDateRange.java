@@ -37,10 +37,12 @@ import java.time.LocalDate;
 import java.time.Period;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.TemporalAdjuster;
-import java.util.Iterator;
+import java.util.Comparator;
 import java.util.Objects;
 import java.util.Spliterator;
-import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -484,30 +486,130 @@ public final class LocalDateRange
      * <p>
      * This returns a stream consisting of each date in the range.
      * The stream is ordered.
+     * <p>
+     * The stream is sized, and splits exactly in half for parallel processing.
      * 
      * @return the stream of dates from the start to the end
      */
     public Stream<LocalDate> stream() {
-        Iterator<LocalDate> it = new Iterator<LocalDate>() {
-            private LocalDate current = start;
-
-            @Override
-            public LocalDate next() {
-                LocalDate result = current;
-                current = current.plusDays(1);
-                return result;
-            }
+        return StreamSupport.stream(new DateSpliterator(start.toEpochDay(), end.toEpochDay()), false);
+    }
+
+    /**
+     * Streams the dates in the range at the specified step.
+     * <p>
+     * This returns a stream consisting of the start date, and then each date
+     * obtained by adding a multiple of the step to the start, that is before the end.
+     * Each date is calculated from the start, rather than from the previous date,
+     * so a monthly stream from the 31st stays on the last day of shorter months
+     * but returns to the 31st in longer months.
+     * The stream is ordered, sized and splits exactly in half for parallel processing.
+     * <p>
+     * For example, a range from 2012-01-31 to 2012-05-01 stepped by {@code P1M}
+     * returns 2012-01-31, 2012-02-29, 2012-03-31 and 2012-04-30.
+     *
+     * @param step  the step between dates, positive, not null
+     * @return the stream of dates, not null
+     * @throws IllegalArgumentException if the step is zero or negative
+     */
+    public Stream<LocalDate> stream(Period step) {
+        validateStep(step);
+        return LongStream.range(0, countSteps(step)).mapToObj(index -> stepDate(step, index));
+    }
+
+    /**
+     * Splits the range into consecutive ranges at the specified step.
+     * <p>
+     * This returns a stream of ranges, each starting at a date returned by
+     * {@link #stream(Period)} and ending at the next such date.
+     * The last range ends at the end of this range, and so may be shorter than the step.
+     * The ranges abut one another and together cover this range.
+     * An empty range returns an empty stream.
+     * The stream is ordered, sized and splits exactly in half for parallel processing.
+     * <p>
+     * For example, a range from 2012-01-15 to 2012-04-01 split by {@code P1M}
+     * returns 2012-01-15/2012-02-15, 2012-02-15/2012-03-15 and 2012-03-15/2012-04-01.
+     *
+     * @param step  the step between the starts of the ranges, positive, not null
+     * @return the stream of ranges, not null
+     * @throws IllegalArgumentException if the step is zero or negative
+     */
+    public Stream<LocalDateRange> splitBy(Period step) {
+        validateStep(step);
+        long count = countSteps(step);
+        return LongStream.range(0, count).mapToObj(index -> {
+            LocalDate stepStart = stepDate(step, index);
+            LocalDate stepEnd = (index + 1 == count ? end : stepDate(step, index + 1));
+            return new LocalDateRange(stepStart, stepEnd);
+        });
+    }
+
+    private static void validateStep(Period step) {
+        Objects.requireNonNull(step, "step");
+        if (step.isZero() || step.isNegative()) {
+            throw new IllegalArgumentException("Step must be positive: " + step);
+        }
+    }
 
-            @Override
-            public boolean hasNext() {
-                return current.isBefore(end);
+    // counts the step dates before the end, using a binary search as month lengths vary
+    private long countSteps(Period step) {
+        // each step is at least one day, so the count cannot exceed the length
+        long low = 0;
+        long high = end.toEpochDay() - start.toEpochDay();
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (isStepBeforeEnd(step, mid)) {
+                low = mid + 1;
+            } else {
+                high = mid;
             }
-        };
-        long count = end.toEpochDay() - start.toEpochDay() + 1;
-        Spliterator<LocalDate> spliterator = Spliterators.spliterator(it, count,
-                Spliterator.IMMUTABLE | Spliterator.NONNULL | Spliterator.DISTINCT | Spliterator.ORDERED |
-                        Spliterator.SORTED | Spliterator.SIZED | Spliterator.SUBSIZED);
-        return StreamSupport.stream(spliterator, false);
+        }
+        return low;
+    }
+
+    private boolean isStepBeforeEnd(Period step, long index) {
+        try {
+            return stepDate(step, index).isBefore(end);
+        } catch (DateTimeException | ArithmeticException ex) {
+            // beyond LocalDate.MAX
+            return false;
+        }
+    }
+
+    // the date at the index, as per start.plus(step.multipliedBy(index)) but without int overflow
+    private LocalDate stepDate(Period step, long index) {
+        return start
+                .plusMonths(Math.multiplyExact(step.toTotalMonths(), index))
+                .plusDays(Math.multiplyExact((long) step.getDays(), index));
+    }
+
+    /**
+     * Streams the epoch-days of the dates included in the range.
+     * <p>
+     * This returns a stream consisting of the {@linkplain LocalDate#toEpochDay() epoch-day}
+     * of each date in the range, without creating a {@code LocalDate} for each.
+     * The stream is ordered, sized and splits exactly in half for parallel processing.
+     *
+     * @return the stream of epoch-days from the start to the end
+     */
+    public LongStream epochDays() {
+        return LongStream.range(start.toEpochDay(), end.toEpochDay());
+    }
+
+    /**
+     * Performs an action for the epoch-day of each date included in the range.
+     * <p>
+     * The action is passed the {@linkplain LocalDate#toEpochDay() epoch-day}
+     * of each date in the range, in order, without creating a {@code LocalDate} for each.
+     *
+     * @param action  the action to perform on each epoch-day, not null
+     */
+    public void forEachEpochDay(LongConsumer action) {
+        Objects.requireNonNull(action, "action");
+        long endEpochDay = end.toEpochDay();
+        for (long epochDay = start.toEpochDay(); epochDay < endEpochDay; epochDay++) {
+            action.accept(epochDay);
+        }
     }
 
     //-----------------------------------------------------------------------
@@ -635,4 +737,74 @@ public final class LocalDateRange
         return start.toString() + '/' + end.toString();
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Spliterator over a range of epoch-days.
+     * <p>
+     * This splits the range exactly in half, without iterating.
+     */
+    private static final class DateSpliterator implements Spliterator<LocalDate> {
+        /**
+         * The next epoch-day.
+         */
+        private long current;
+        /**
+         * The end epoch-day, exclusive.
+         */
+        private final long end;
+
+        private DateSpliterator(long current, long end) {
+            this.current = current;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super LocalDate> action) {
+            Objects.requireNonNull(action, "action");
+            if (current < end) {
+                action.accept(LocalDate.ofEpochDay(current++));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super LocalDate> action) {
+            Objects.requireNonNull(action, "action");
+            long day = current;
+            current = end;
+            for (; day < end; day++) {
+                action.accept(LocalDate.ofEpochDay(day));
+            }
+        }
+
+        @Override
+        public Spliterator<LocalDate> trySplit() {
+            long mid = current + (end - current) / 2;
+            if (mid == current) {
+                return null;
+            }
+            DateSpliterator prefix = new DateSpliterator(current, mid);
+            current = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - current;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.IMMUTABLE | Spliterator.NONNULL | Spliterator.DISTINCT | Spliterator.ORDERED |
+                    Spliterator.SORTED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+        @Override
+        public Comparator<? super LocalDate> getComparator() {
+            // natural ordering
+            return null;
+        }
+    }
+
 }
@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * A map of values keyed by non-overlapping date ranges, such as effective-dated reference data.
+ * <p>
+ * Each date maps to at most one value. Putting a value for a range replaces any values
+ * for the dates in that range, splitting or trimming existing ranges as necessary.
+ * Ranges that abut and have equal values are merged, so the map is always in the
+ * smallest form for the dates it contains.
+ * <p>
+ * For example, putting 'A' for 2012-01-01/2013-01-01 and then 'B' for 2012-06-01/2012-07-01
+ * results in three ranges, 'A' for 2012-01-01/2012-06-01, 'B' for 2012-06-01/2012-07-01
+ * and 'A' for 2012-07-01/2013-01-01. Putting 'A' for 2012-06-01/2012-07-01 then results
+ * in a single range again.
+ * <p>
+ * The ranges are stored as sorted arrays of epoch-days, so a lookup is a binary search.
+ * As with {@link LocalDateRange}, a range ending at {@link LocalDate#MAX} is treated as unbounded.
+ * Putting and removing take time proportional to the size of the map.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * A map obtained from {@link #create()} is mutable and not thread-safe.
+ * A map obtained from {@link #snapshot()} is immutable and thread-safe, provided that the values are.
+ * Taking a snapshot does not copy the map, as the arrays are replaced rather than changed on each update.
+ *
+ * @param <V>  the type of the values
+ */
+public final class LocalDateRangeMap<V> {
+
+    /**
+     * The epoch-day of the maximum date.
+     */
+    private static final long MAX_EPOCH_DAY = LocalDate.MAX.toEpochDay();
+
+    /**
+     * Whether this map is an immutable snapshot.
+     */
+    private final boolean snapshot;
+    /**
+     * The entries, replaced on each update.
+     */
+    private volatile Entries entries;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Creates an empty mutable map.
+     *
+     * @param <V>  the type of the values
+     * @return the map, not null
+     */
+    public static <V> LocalDateRangeMap<V> create() {
+        return new LocalDateRangeMap<>(Entries.EMPTY, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param entries  the entries, not null
+     * @param snapshot  whether the map is an immutable snapshot
+     */
+    private LocalDateRangeMap(Entries entries, boolean snapshot) {
+        this.entries = entries;
+        this.snapshot = snapshot;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns an immutable snapshot of this map.
+     * <p>
+     * The snapshot is unaffected by later changes to this map.
+     * It can be shared between threads and does not copy the entries.
+     *
+     * @return the snapshot, not null
+     */
+    public LocalDateRangeMap<V> snapshot() {
+        return (snapshot ? this : new LocalDateRangeMap<>(entries, true));
+    }
+
+    /**
+     * Checks if this map is an immutable snapshot.
+     *
+     * @return true if this map is a snapshot
+     */
+    public boolean isSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Gets the number of ranges in the map.
+     *
+     * @return the number of ranges, after merging, zero or greater
+     */
+    public int size() {
+        return entries.size;
+    }
+
+    /**
+     * Checks if the map is empty.
+     *
+     * @return true if the map has no ranges
+     */
+    public boolean isEmpty() {
+        return entries.size == 0;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the value in effect on the specified date.
+     *
+     * @param date  the date to query, not null
+     * @return the value, null if no range contains the date
+     */
+    @SuppressWarnings("unchecked")
+    public V get(LocalDate date) {
+        Entries current = entries;
+        int index = current.find(date);
+        return (index >= 0 ? (V) current.values[index] : null);
+    }
+
+    /**
+     * Gets the range containing the specified date.
+     *
+     * @param date  the date to query, not null
+     * @return the range, null if no range contains the date
+     */
+    public LocalDateRange getRange(LocalDate date) {
+        Entries current = entries;
+        int index = current.find(date);
+        return (index >= 0 ? current.range(index) : null);
+    }
+
+    /**
+     * Performs an action for each range and value in the map, earliest first.
+     *
+     * @param action  the action to perform, not null
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super LocalDateRange, ? super V> action) {
+        Objects.requireNonNull(action, "action");
+        Entries current = entries;
+        for (int i = 0; i < current.size; i++) {
+            action.accept(current.range(i), (V) current.values[i]);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Puts a value for the specified range.
+     * <p>
+     * Any existing values for dates in the range are replaced, splitting or trimming
+     * the existing ranges. The range is merged with any abutting ranges with an equal value.
+     * An empty range has no effect.
+     *
+     * @param range  the range, not null
+     * @param value  the value, not null
+     * @throws UnsupportedOperationException if this map is a snapshot
+     */
+    public void put(LocalDateRange range, V value) {
+        Objects.requireNonNull(range, "range");
+        Objects.requireNonNull(value, "value");
+        update(range, value);
+    }
+
+    /**
+     * Removes the values for the specified range.
+     * <p>
+     * Any existing ranges are split or trimmed so that no date in the range has a value.
+     *
+     * @param range  the range, not null
+     * @throws UnsupportedOperationException if this map is a snapshot
+     */
+    public void remove(LocalDateRange range) {
+        Objects.requireNonNull(range, "range");
+        update(range, null);
+    }
+
+    // rebuilds the entries, replacing the range with the value, or removing it if null
+    private void update(LocalDateRange range, Object value) {
+        if (snapshot) {
+            throw new UnsupportedOperationException("LocalDateRangeMap snapshot cannot be changed");
+        }
+        if (range.isEmpty()) {
+            return;
+        }
+        long start = range.getStart().toEpochDay();
+        long end = range.getEnd().toEpochDay();
+        Entries current = entries;
+        Entries result = new Entries(current.size + 2);
+        int i = 0;
+        while (i < current.size && current.ends[i] <= start) {
+            result.add(current.starts[i], current.ends[i], current.values[i]);
+            i++;
+        }
+        int tail = -1;
+        while (i < current.size && current.starts[i] < end) {
+            if (current.starts[i] < start) {
+                result.add(current.starts[i], start, current.values[i]);
+            }
+            if (current.ends[i] > end) {
+                tail = i;
+            }
+            i++;
+        }
+        if (value != null) {
+            result.add(start, end, value);
+        }
+        if (tail >= 0) {
+            result.add(end, current.ends[tail], current.values[tail]);
+        }
+        while (i < current.size) {
+            result.add(current.starts[i], current.ends[i], current.values[i]);
+            i++;
+        }
+        entries = result;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs this map as a {@code String}, such as {@code {2012-01-01/2012-06-01=A}}.
+     *
+     * @return a string representation of this map, not null
+     */
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder("{");
+        forEach((range, value) -> {
+            if (buf.length() > 1) {
+                buf.append(", ");
+            }
+            buf.append(range).append('=').append(value);
+        });
+        return buf.append('}').toString();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The entries of the map, sorted by start.
+     * <p>
+     * Once built, the entries are never changed, so they can be shared by snapshots.
+     */
+    private static final class Entries {
+        /**
+         * The empty instance.
+         */
+        private static final Entries EMPTY = new Entries(0);
+
+        /**
+         * The start epoch-days, inclusive.
+         */
+        private final long[] starts;
+        /**
+         * The end epoch-days, exclusive.
+         */
+        private final long[] ends;
+        /**
+         * The values.
+         */
+        private final Object[] values;
+        /**
+         * The number of entries.
+         */
+        private int size;
+
+        private Entries(int capacity) {
+            this.starts = new long[capacity];
+            this.ends = new long[capacity];
+            this.values = new Object[capacity];
+        }
+
+        // adds an entry during building, merging with the previous entry if possible
+        private void add(long start, long end, Object value) {
+            if (size > 0 && ends[size - 1] == start && values[size - 1].equals(value)) {
+                ends[size - 1] = end;
+            } else {
+                starts[size] = start;
+                ends[size] = end;
+                values[size++] = value;
+            }
+        }
+
+        // finds the index of the entry containing the date, -1 if none
+        private int find(LocalDate date) {
+            long epochDay = date.toEpochDay();
+            int index = Arrays.binarySearch(starts, 0, size, epochDay);
+            if (index < 0) {
+                index = -index - 2;
+            }
+            if (index < 0) {
+                return -1;
+            }
+            long end = ends[index];
+            return (epochDay < end || (epochDay == MAX_EPOCH_DAY && end == MAX_EPOCH_DAY) ? index : -1);
+        }
+
+        private LocalDateRange range(int index) {
+            return LocalDateRange.of(LocalDate.ofEpochDay(starts[index]), LocalDate.ofEpochDay(ends[index]));
+        }
+    }
+
+}
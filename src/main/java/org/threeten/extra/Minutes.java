@@ -45,8 +45,6 @@ import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * A minute-based amount of time, such as '8 minutes'.
@@ -84,16 +82,6 @@ public final class Minutes
      */
     private static final int MINUTES_PER_HOUR = 60;
 
-    /**
-     * The pattern for parsing.
-     */
-    private static final Pattern PATTERN =
-            Pattern.compile("([-+]?)P"
-                    + "(?:([-+]?[0-9]+)D)?"
-                    + "(?:T"
-                    + "(?:([-+]?[0-9]+)H)?"
-                    + "(?:([-+]?[0-9]+)M)?)?", Pattern.CASE_INSENSITIVE);
-
     /**
      * The number of minutes.
      */
@@ -213,41 +201,58 @@ public final class Minutes
      */
     public static Minutes parse(CharSequence text) {
         Objects.requireNonNull(text, "text");
-        Matcher matcher = PATTERN.matcher(text);
-        if (matcher.matches()) {
-            int negate = ("-".equals(matcher.group(1)) ? -1 : 1);
-            String daysStr = matcher.group(2);
-            String hoursStr = matcher.group(3);
-            String minutesStr = matcher.group(4);
-            if (daysStr != null || hoursStr != null || minutesStr != null) {
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Obtains a {@code Minutes} from a range of a text string such as {@code PTnM}.
+     * <p>
+     * This parses the characters from the start index, inclusive, to the end index, exclusive,
+     * using the format described in {@link #parse(CharSequence)}.
+     * No substring of the text is created.
+     *
+     * @param text  the text to parse, not null
+     * @param startInclusive  the start index of the amount, inclusive
+     * @param endExclusive  the end index of the amount, exclusive
+     * @return the parsed period, not null
+     * @throws IndexOutOfBoundsException if the range is not within the text
+     * @throws DateTimeParseException if the text cannot be parsed to a period
+     */
+    public static Minutes parse(CharSequence text, int startInclusive, int endExclusive) {
+        Objects.requireNonNull(text, "text");
+        AmountParser.checkRange(text, startInclusive, endExclusive);
+        AmountParser parser = AmountParser.parse(text, startInclusive, endExclusive, "D", "HM");
+        if (parser != null) {
+            int negate = (parser.isNegative() ? -1 : 1);
+            if (parser.isFound()) {
                 int minutes = 0;
-                if (minutesStr != null) {
+                if (parser.isPresent('M')) {
                     try {
-                        minutes = Integer.parseInt(minutesStr);
+                        minutes = parser.intValue('M');
                     } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to Minutes, non-numeric minutes", text, 0, ex);
+                        throw new DateTimeParseException("Text cannot be parsed to Minutes, non-numeric minutes", text, startInclusive, ex);
                     }
                 }
-                if (hoursStr != null) {
+                if (parser.isPresent('H')) {
                     try {
-                        int hoursAsMins = Math.multiplyExact(Integer.parseInt(hoursStr), MINUTES_PER_HOUR);
+                        int hoursAsMins = Math.multiplyExact(parser.intValue('H'), MINUTES_PER_HOUR);
                         minutes = Math.addExact(minutes, hoursAsMins);
                     } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to Minutes, non-numeric hours", text, 0, ex);
+                        throw new DateTimeParseException("Text cannot be parsed to Minutes, non-numeric hours", text, startInclusive, ex);
                     }
                 }
-                if (daysStr != null) {
+                if (parser.isPresent('D')) {
                     try {
-                        int daysAsMins = Math.multiplyExact(Integer.parseInt(daysStr), MINUTES_PER_DAY);
+                        int daysAsMins = Math.multiplyExact(parser.intValue('D'), MINUTES_PER_DAY);
                         minutes = Math.addExact(minutes, daysAsMins);
                     } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to Minutes, non-numeric days", text, 0, ex);
+                        throw new DateTimeParseException("Text cannot be parsed to Minutes, non-numeric days", text, startInclusive, ex);
                     }
                 }
                 return of(Math.multiplyExact(minutes, negate));
             }
         }
-        throw new DateTimeParseException("Text cannot be parsed to Minutes", text, 0);
+        throw new DateTimeParseException("Text cannot be parsed to Minutes", text, startInclusive);
     }
 
     //-----------------------------------------------------------------------
@@ -45,8 +45,6 @@ import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * A month-based amount of time, such as '12 months'.
@@ -82,13 +80,6 @@ public final class Months
      * The number of months per year.
      */
     private static final int MONTHS_PER_YEAR = 12;
-    /**
-     * The pattern for parsing.
-     */
-    private static final Pattern PATTERN =
-            Pattern.compile("([-+]?)P"
-                    + "(?:([-+]?[0-9]+)Y)?"
-                    + "(?:([-+]?[0-9]+)M)?", Pattern.CASE_INSENSITIVE);
 
     /**
      * The number of months.
@@ -205,32 +196,50 @@ public final class Months
      */
     public static Months parse(CharSequence text) {
         Objects.requireNonNull(text, "text");
-        Matcher matcher = PATTERN.matcher(text);
-        if (matcher.matches()) {
-            int negate = ("-".equals(matcher.group(1)) ? -1 : 1);
-            String weeksStr = matcher.group(2);
-            String daysStr = matcher.group(3);
-            if (weeksStr != null || daysStr != null) {
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Obtains a {@code Months} from a range of a text string such as {@code PnM}.
+     * <p>
+     * This parses the characters from the start index, inclusive, to the end index, exclusive,
+     * using the format described in {@link #parse(CharSequence)}.
+     * No substring of the text is created.
+     *
+     * @param text  the text to parse, not null
+     * @param startInclusive  the start index of the amount, inclusive
+     * @param endExclusive  the end index of the amount, exclusive
+     * @return the parsed period, not null
+     * @throws IndexOutOfBoundsException if the range is not within the text
+     * @throws DateTimeParseException if the text cannot be parsed to a period
+     */
+    public static Months parse(CharSequence text, int startInclusive, int endExclusive) {
+        Objects.requireNonNull(text, "text");
+        AmountParser.checkRange(text, startInclusive, endExclusive);
+        AmountParser parser = AmountParser.parse(text, startInclusive, endExclusive, "YM", "");
+        if (parser != null) {
+            int negate = (parser.isNegative() ? -1 : 1);
+            if (parser.isFound()) {
                 int months = 0;
-                if (daysStr != null) {
+                if (parser.isPresent('M')) {
                     try {
-                        months = Integer.parseInt(daysStr);
+                        months = parser.intValue('M');
                     } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to a Months, non-numeric months", text, 0, ex);
+                        throw new DateTimeParseException("Text cannot be parsed to a Months, non-numeric months", text, startInclusive, ex);
                     }
                 }
-                if (weeksStr != null) {
+                if (parser.isPresent('Y')) {
                     try {
-                        int years = Math.multiplyExact(Integer.parseInt(weeksStr), MONTHS_PER_YEAR);
+                        int years = Math.multiplyExact(parser.intValue('Y'), MONTHS_PER_YEAR);
                         months = Math.addExact(months, years);
                     } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to a Months, non-numeric years", text, 0, ex);
+                        throw new DateTimeParseException("Text cannot be parsed to a Months, non-numeric years", text, startInclusive, ex);
                     }
                 }
                 return of(Math.multiplyExact(months, negate));
             }
         }
-        throw new DateTimeParseException("Text cannot be parsed to a Months", text, 0);
+        throw new DateTimeParseException("Text cannot be parsed to a Months", text, startInclusive);
     }
 
     //-----------------------------------------------------------------------
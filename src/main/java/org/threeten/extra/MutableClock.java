@@ -41,14 +41,19 @@ import java.time.Clock;
 import java.time.DateTimeException;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjuster;
 import java.time.temporal.TemporalAmount;
 import java.time.temporal.TemporalField;
 import java.time.temporal.TemporalUnit;
 import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 
 /**
  * A clock that does not advance on its own and that must be updated manually.
@@ -75,6 +80,11 @@ import java.util.Objects;
  * since clock-sensitive components are likely to assume that time is
  * monotonically increasing.
  * <p>
+ * Two variants advance on their own, in addition to being updated manually.
+ * A clock created by {@link #ticking(Duration)} advances by a fixed amount
+ * each time it is read, while a clock created by {@link #scaled(Clock, double)}
+ * follows another clock at a multiple of its rate.
+ * <p>
  * Update semantics are expressed in terms of {@link ZonedDateTime}. The steps
  * of each update are as follows:
  * <ol>
@@ -94,12 +104,17 @@ import java.util.Objects;
  * corresponding method of {@code ZonedDateTime}.
  *
  * <h3>Implementation Requirements:</h3>
- * This class is thread-safe. Updates are atomic and synchronized.
+ * This class is thread-safe. Updates are atomic and lock-free.
  * <p>
  * While update semantics are expressed in terms of {@code ZonedDateTime}, that
  * imposes no requirements on implementation details. The implementation may
  * avoid using {@code ZonedDateTime} completely or only sometimes, for
- * convenience, efficiency, or any other reason.
+ * convenience, efficiency, or any other reason. In particular, adding a
+ * {@code Duration} or a time-based {@code ChronoUnit} is performed directly
+ * on the instant, which has the same result.
+ * <p>
+ * An update may be retried if another thread updates the clock concurrently,
+ * so adjusters should not have side effects.
  *
  * @serial exclude
  */
@@ -111,6 +126,14 @@ public final class MutableClock
      * Serialization version.
      */
     private static final long serialVersionUID = -6152029959790119695L;
+    /**
+     * The minimum epoch-second that is valid in a {@code ZonedDateTime} in any time-zone.
+     */
+    private static final long MIN_SAFE_SECONDS = LocalDateTime.MIN.toEpochSecond(ZoneOffset.MIN);
+    /**
+     * The maximum epoch-second, exclusive, that is valid in a {@code ZonedDateTime} in any time-zone.
+     */
+    private static final long MAX_SAFE_SECONDS = LocalDateTime.MAX.toEpochSecond(ZoneOffset.MAX);
 
     /**
      * The mutable instant of this clock.
@@ -149,7 +172,59 @@ public final class MutableClock
     public static MutableClock of(Instant instant, ZoneId zone) {
         Objects.requireNonNull(instant, "instant");
         Objects.requireNonNull(zone, "zone");
-        return new MutableClock(new InstantHolder(instant), zone);
+        return new MutableClock(new ManualInstantHolder(instant), zone);
+    }
+
+    /**
+     * Obtains a new {@code MutableClock} set to the epoch of
+     * 1970-01-01T00:00:00Z that advances by the specified amount each time it is read,
+     * converting to date and time using the UTC time-zone.
+     * <p>
+     * Each call to {@link #instant()} or {@link #millis()} returns the current
+     * instant and then advances the clock by the specified amount, so successive
+     * reads are separated by exactly that amount. The clock may also be updated
+     * manually, for example to set the initial instant.
+     * <p>
+     * Reads are atomic, so concurrent readers always see distinct instants.
+     * Reading throws {@code DateTimeException} once the clock would pass {@code Instant.MAX}.
+     * A deserialized clock does not advance on reads.
+     *
+     * @param perRead the amount to advance by on each read, not negative, not null
+     * @return a new {@code MutableClock}, not null
+     * @throws IllegalArgumentException if the amount is negative
+     */
+    public static MutableClock ticking(Duration perRead) {
+        Objects.requireNonNull(perRead, "perRead");
+        if (perRead.isNegative()) {
+            throw new IllegalArgumentException("Amount per read must not be negative: " + perRead);
+        }
+        return new MutableClock(new TickingInstantHolder(EPOCH, perRead), UTC);
+    }
+
+    /**
+     * Obtains a new {@code MutableClock} that advances at a multiple of the rate of another clock.
+     * <p>
+     * The clock starts at the instant of the base clock and uses its time-zone.
+     * Thereafter, each period of time that passes on the base clock advances this
+     * clock by that period multiplied by the rate. For example, with a rate of 1000
+     * and the system clock as the base, the clock advances by a thousand seconds
+     * for each second of wall time.
+     * <p>
+     * The clock may also be updated manually, after which it continues to advance
+     * at the same rate from the new instant. The base clock is read on each read
+     * or update of this clock. A deserialized clock does not advance.
+     *
+     * @param base the clock to follow, not null
+     * @param rate the multiple of the rate of the base clock, positive and finite
+     * @return a new {@code MutableClock}, not null
+     * @throws IllegalArgumentException if the rate is not positive and finite
+     */
+    public static MutableClock scaled(Clock base, double rate) {
+        Objects.requireNonNull(base, "base");
+        if (!(rate > 0 && rate <= Double.MAX_VALUE)) {
+            throw new IllegalArgumentException("Rate must be positive and finite: " + rate);
+        }
+        return new MutableClock(new ScaledInstantHolder(base, rate), base.getZone());
     }
 
     /**
@@ -190,10 +265,11 @@ public final class MutableClock
      */
     public void add(TemporalAmount amountToAdd) {
         Objects.requireNonNull(amountToAdd, "amountToAdd");
-        synchronized (instantHolder) {
-            ZonedDateTime current = ZonedDateTime.ofInstant(instantHolder.get(), zone);
-            ZonedDateTime result = current.plus(amountToAdd);
-            instantHolder.set(result.toInstant());
+        if (amountToAdd instanceof Duration) {
+            Duration duration = (Duration) amountToAdd;
+            update(instant -> instant.plus(duration), zdt -> zdt.plus(duration));
+        } else {
+            update(null, zdt -> zdt.plus(amountToAdd));
         }
     }
 
@@ -216,10 +292,10 @@ public final class MutableClock
      */
     public void add(long amountToAdd, TemporalUnit unit) {
         Objects.requireNonNull(unit, "unit");
-        synchronized (instantHolder) {
-            ZonedDateTime current = ZonedDateTime.ofInstant(instantHolder.get(), zone);
-            ZonedDateTime result = current.plus(amountToAdd, unit);
-            instantHolder.set(result.toInstant());
+        if (unit instanceof ChronoUnit && unit.isTimeBased()) {
+            update(instant -> instant.plus(amountToAdd, unit), zdt -> zdt.plus(amountToAdd, unit));
+        } else {
+            update(null, zdt -> zdt.plus(amountToAdd, unit));
         }
     }
 
@@ -240,11 +316,7 @@ public final class MutableClock
      */
     public void set(TemporalAdjuster adjuster) {
         Objects.requireNonNull(adjuster, "adjuster");
-        synchronized (instantHolder) {
-            ZonedDateTime current = ZonedDateTime.ofInstant(instantHolder.get(), zone);
-            ZonedDateTime result = current.with(adjuster);
-            instantHolder.set(result.toInstant());
-        }
+        update(null, zdt -> zdt.with(adjuster));
     }
 
     /**
@@ -266,11 +338,45 @@ public final class MutableClock
      */
     public void set(TemporalField field, long newValue) {
         Objects.requireNonNull(field, "field");
-        synchronized (instantHolder) {
-            ZonedDateTime current = ZonedDateTime.ofInstant(instantHolder.get(), zone);
-            ZonedDateTime result = current.with(field, newValue);
-            instantHolder.set(result.toInstant());
-        }
+        update(null, zdt -> zdt.with(field, newValue));
+    }
+
+    /**
+     * Atomically updates the instant of this clock.
+     * <p>
+     * The fast operation, if present, is applied directly to the instant when both the
+     * current and resulting instants are valid in a {@code ZonedDateTime}, where it must
+     * produce the same result as the slow operation. Otherwise, including when the fast
+     * operation throws an exception, the slow operation is applied to a {@code ZonedDateTime}.
+     *
+     * @param fast the operation on the instant, null if none
+     * @param slow the operation on the zoned date-time, not null
+     */
+    private void update(UnaryOperator<Instant> fast, UnaryOperator<ZonedDateTime> slow) {
+        instantHolder.update(current -> {
+            if (fast != null && isSafe(current)) {
+                try {
+                    Instant result = fast.apply(current);
+                    if (isSafe(result)) {
+                        return result;
+                    }
+                } catch (DateTimeException | ArithmeticException ex) {
+                    // use the slow operation to produce the same exception as ZonedDateTime
+                }
+            }
+            return slow.apply(ZonedDateTime.ofInstant(current, zone)).toInstant();
+        });
+    }
+
+    /**
+     * Checks if the instant is valid in a {@code ZonedDateTime} in any time-zone.
+     *
+     * @param instant the instant to check, not null
+     * @return true if the instant is valid in any time-zone
+     */
+    private static boolean isSafe(Instant instant) {
+        long seconds = instant.getEpochSecond();
+        return seconds >= MIN_SAFE_SECONDS && seconds < MAX_SAFE_SECONDS;
     }
 
     @Override
@@ -299,7 +405,7 @@ public final class MutableClock
 
     @Override
     public Instant instant() {
-        return instantHolder.get();
+        return instantHolder.read();
     }
 
     /**
@@ -339,7 +445,7 @@ public final class MutableClock
 
     @Override
     public String toString() {
-        return "MutableClock[" + instant() + "," + getZone() + "]";
+        return "MutableClock[" + instantHolder.get() + "," + getZone() + "]";
     }
 
     /**
@@ -395,7 +501,7 @@ public final class MutableClock
          * @param clock the {@code MutableClock} to be serialized, not null
          */
         SerializationProxy(MutableClock clock) {
-            instant = clock.instant();
+            instant = clock.instantHolder.get();
             zone = clock.getZone();
         }
 
@@ -424,40 +530,191 @@ public final class MutableClock
      * hashCode} methods.
      * <p>
      * Reads of the value are volatile and are never stale. Blind writes to the
-     * value are volatile and do not need to synchronize. Atomic read-and-write
-     * operations must synchronize on the holder object instance.
+     * value are volatile. Atomic read-and-write operations use a compare-and-set
+     * loop and do not lock.
+     */
+    private abstract static class InstantHolder {
+        /**
+         * Gets the value, without advancing it.
+         *
+         * @return the current value, not null
+         */
+        abstract Instant get();
+
+        /**
+         * Reads the value for the clock, which may advance it.
+         *
+         * @return the current value, not null
+         */
+        Instant read() {
+            return get();
+        }
+
+        /**
+         * Writes the value.
+         *
+         * @param value the new value, validated not null
+         */
+        abstract void set(Instant value);
+
+        /**
+         * Atomically updates the value, retrying if the value is changed concurrently.
+         *
+         * @param function the function to apply, which may be called more than once, not null
+         * @return the new value, not null
+         */
+        abstract Instant update(UnaryOperator<Instant> function);
+    }
+
+    /**
+     * A holder for a value that only changes when updated.
      */
-    private static final class InstantHolder {
+    private static class ManualInstantHolder extends InstantHolder {
         /**
          * The current value.
          */
-        private volatile Instant value;
+        final AtomicReference<Instant> value;
 
         /**
          * Constructor.
          *
          * @param value the initial value, validated not null
          */
-        InstantHolder(Instant value) {
-            this.value = value;
+        ManualInstantHolder(Instant value) {
+            this.value = new AtomicReference<>(value);
+        }
+
+        @Override
+        Instant get() {
+            return value.get();
+        }
+
+        @Override
+        void set(Instant value) {
+            this.value.set(value);
+        }
+
+        @Override
+        Instant update(UnaryOperator<Instant> function) {
+            return value.updateAndGet(function);
         }
+    }
 
+    /**
+     * A holder for a value that advances by a fixed amount on each read.
+     */
+    private static final class TickingInstantHolder extends ManualInstantHolder {
         /**
-         * Reads the value.
+         * The amount to advance by on each read.
+         */
+        private final UnaryOperator<Instant> tick;
+
+        /**
+         * Constructor.
          *
-         * @return the current value, not null
+         * @param value the initial value, validated not null
+         * @param perRead the amount to advance by, validated not null
          */
-        Instant get() {
-            return value;
+        TickingInstantHolder(Instant value, Duration perRead) {
+            super(value);
+            this.tick = instant -> instant.plus(perRead);
+        }
+
+        @Override
+        Instant read() {
+            return value.getAndUpdate(tick);
         }
+    }
 
+    /**
+     * A holder for a value that advances at a multiple of the rate of a base clock.
+     * <p>
+     * The state pairs an instant of this clock with the instant of the base clock
+     * at which it applied, and is replaced as a whole on each update.
+     */
+    private static final class ScaledInstantHolder extends InstantHolder {
         /**
-         * Writes the value.
+         * The base clock.
+         */
+        private final Clock base;
+        /**
+         * The rate relative to the base clock.
+         */
+        private final double rate;
+        /**
+         * The anchor, holding the value at an instant of the base clock.
+         */
+        private final AtomicReference<Anchor> anchor;
+
+        /**
+         * Constructor.
          *
-         * @param value the new value, validated not null
+         * @param base the base clock, validated not null
+         * @param rate the rate, validated positive and finite
          */
+        ScaledInstantHolder(Clock base, double rate) {
+            this.base = base;
+            this.rate = rate;
+            Instant now = base.instant();
+            this.anchor = new AtomicReference<>(new Anchor(now, now));
+        }
+
+        @Override
+        Instant get() {
+            return anchor.get().valueAt(base.instant(), rate);
+        }
+
+        @Override
         void set(Instant value) {
+            anchor.set(new Anchor(value, base.instant()));
+        }
+
+        @Override
+        Instant update(UnaryOperator<Instant> function) {
+            while (true) {
+                Anchor current = anchor.get();
+                Instant baseNow = base.instant();
+                Instant value = function.apply(current.valueAt(baseNow, rate));
+                if (anchor.compareAndSet(current, new Anchor(value, baseNow))) {
+                    return value;
+                }
+            }
+        }
+    }
+
+    /**
+     * An immutable pairing of an instant of a scaled clock with an instant of its base clock.
+     */
+    private static final class Anchor {
+        /**
+         * The value of the scaled clock.
+         */
+        private final Instant value;
+        /**
+         * The instant of the base clock.
+         */
+        private final Instant base;
+
+        Anchor(Instant value, Instant base) {
             this.value = value;
+            this.base = base;
+        }
+
+        /**
+         * Calculates the value of the scaled clock at an instant of the base clock.
+         *
+         * @param baseNow the instant of the base clock, not null
+         * @param rate the rate
+         * @return the value, not null
+         */
+        Instant valueAt(Instant baseNow, double rate) {
+            double seconds = (baseNow.getEpochSecond() - base.getEpochSecond()) * rate;
+            double nanos = (baseNow.getNano() - base.getNano()) * rate;
+            double scaled = seconds * 1_000_000_000d + nanos;
+            if (Math.abs(scaled) < 9.0e18) {
+                return value.plusNanos((long) scaled);
+            }
+            return value.plusSeconds((long) (seconds + nanos / 1_000_000_000d));
         }
     }
 }
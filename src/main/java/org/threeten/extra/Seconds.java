@@ -45,8 +45,6 @@ import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * A second-based amount of time, such as '8 seconds'.
@@ -90,17 +88,6 @@ public final class Seconds
      */
     private static final int SECONDS_PER_MINUTE = 60;
 
-    /**
-     * The pattern for parsing.
-     */
-    private static final Pattern PATTERN =
-            Pattern.compile("([-+]?)P"
-                    + "(?:([-+]?[0-9]+)D)?"
-                    + "(?:T"
-                    + "(?:([-+]?[0-9]+)H)?"
-                    + "(?:([-+]?[0-9]+)M)?"
-                    + "(?:([-+]?[0-9]+)S)?)?", Pattern.CASE_INSENSITIVE);
-
     /**
      * The number of seconds.
      */
@@ -239,50 +226,66 @@ public final class Seconds
      */
     public static Seconds parse(CharSequence text) {
         Objects.requireNonNull(text, "text");
-        Matcher matcher = PATTERN.matcher(text);
-        if (matcher.matches()) {
-            int negate = ("-".equals(matcher.group(1)) ? -1 : 1);
-            String daysStr = matcher.group(2);
-            String hoursStr = matcher.group(3);
-            String minutesStr = matcher.group(4);
-            String secondsStr = matcher.group(5);
-            if (daysStr != null || hoursStr != null || minutesStr != null || secondsStr != null) {
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Obtains a {@code Seconds} from a range of a text string such as {@code PTnS}.
+     * <p>
+     * This parses the characters from the start index, inclusive, to the end index, exclusive,
+     * using the format described in {@link #parse(CharSequence)}.
+     * No substring of the text is created.
+     *
+     * @param text  the text to parse, not null
+     * @param startInclusive  the start index of the amount, inclusive
+     * @param endExclusive  the end index of the amount, exclusive
+     * @return the parsed period, not null
+     * @throws IndexOutOfBoundsException if the range is not within the text
+     * @throws DateTimeParseException if the text cannot be parsed to a period
+     */
+    public static Seconds parse(CharSequence text, int startInclusive, int endExclusive) {
+        Objects.requireNonNull(text, "text");
+        AmountParser.checkRange(text, startInclusive, endExclusive);
+        AmountParser parser = AmountParser.parse(text, startInclusive, endExclusive, "D", "HMS");
+        if (parser != null) {
+            int negate = (parser.isNegative() ? -1 : 1);
+            if (parser.isFound()) {
                 int seconds = 0;
-                if (secondsStr != null) {
+                if (parser.isPresent('S')) {
                     try {
-                        seconds = Integer.parseInt(secondsStr);
+                        seconds = parser.intValue('S');
                     } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to Seconds, non-numeric seconds", text, 0, ex);
+                        throw new DateTimeParseException("Text cannot be parsed to Seconds, non-numeric seconds", text, startInclusive, ex);
                     }
                 }
-                if (minutesStr != null) {
+                if (parser.isPresent('M')) {
                     try {
-                        int minutesAsSecs = Math.multiplyExact(Integer.parseInt(minutesStr), SECONDS_PER_MINUTE);
+                        int minutesAsSecs = Math.multiplyExact(parser.intValue('M'), SECONDS_PER_MINUTE);
                         seconds = Math.addExact(seconds, minutesAsSecs);
                     } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to Seconds, non-numeric minutes", text, 0, ex);
+                        throw new DateTimeParseException("Text cannot be parsed to Seconds, non-numeric minutes", text, startInclusive, ex);
                     }
                 }
-                if (hoursStr != null) {
+                if (parser.isPresent('H')) {
                     try {
-                        int hoursAsSecs = Math.multiplyExact(Integer.parseInt(hoursStr), SECONDS_PER_HOUR);
+                        int hoursAsSecs = Math.multiplyExact(parser.intValue('H'), SECONDS_PER_HOUR);
                         seconds = Math.addExact(seconds, hoursAsSecs);
                     } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to Seconds, non-numeric hours", text, 0, ex);
+                        throw new DateTimeParseException("Text cannot be parsed to Seconds, non-numeric hours", text, startInclusive, ex);
                     }
                 }
-                if (daysStr != null) {
+                if (parser.isPresent('D')) {
                     try {
-                        int daysAsSecs = Math.multiplyExact(Integer.parseInt(daysStr), SECONDS_PER_DAY);
+                        int daysAsSecs = Math.multiplyExact(parser.intValue('D'), SECONDS_PER_DAY);
                         seconds = Math.addExact(seconds, daysAsSecs);
                     } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to Seconds, non-numeric days", text, 0, ex);
+                        throw new DateTimeParseException("Text cannot be parsed to Seconds, non-numeric days", text, startInclusive, ex);
                     }
                 }
                 return of(Math.multiplyExact(seconds, negate));
             }
         }
-        throw new DateTimeParseException("Text cannot be parsed to Seconds", text, 0);
+        throw new DateTimeParseException("Text cannot be parsed to Seconds", text, startInclusive);
     }
 
     //-----------------------------------------------------------------------
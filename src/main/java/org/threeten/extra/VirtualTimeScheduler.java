@@ -0,0 +1,534 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A scheduled executor that runs tasks in virtual time, as defined by a {@link MutableClock}.
+ * <p>
+ * This class is designed for testing components that schedule tasks, allowing
+ * days or weeks of scheduled activity to be simulated without waiting.
+ * Each task has a deadline, which is the instant of the clock when the task was
+ * scheduled plus the delay. The tasks wait in a queue ordered by deadline and
+ * never run on their own. Instead, they are run on the calling thread by
+ * {@link #advance(Duration)}, {@link #advanceTo(Instant)}, {@link #advanceToNextDeadline()}
+ * and {@link #runDueTasks()}.
+ * <p>
+ * When advancing, the clock is set to the deadline of each task before it is run,
+ * and to the target instant once no more tasks are due. The clock remains the
+ * source of truth, and may also be updated directly. Tasks due at the same instant
+ * run in the order that they were scheduled. Tasks submitted without a delay,
+ * such as by {@link #execute(Runnable)}, are due immediately, but still wait
+ * until the scheduler is next driven.
+ * <p>
+ * Periodic tasks follow {@link java.util.concurrent.ScheduledThreadPoolExecutor}.
+ * A fixed-rate task is rescheduled relative to its previous deadline, while a
+ * fixed-delay task is rescheduled relative to the clock after it has run.
+ * A periodic task that throws an exception is not rescheduled.
+ * On shutdown, periodic tasks are cancelled, while other queued tasks still run
+ * when the scheduler is driven. The scheduler terminates once it has been shut down,
+ * the queue is empty and no task is running.
+ * <p>
+ * Since the tasks only run when the scheduler is driven, methods that block waiting
+ * for a task, such as {@code invokeAll} and {@code Future.get}, must not be called
+ * on the thread that drives the scheduler.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is thread-safe. Tasks may be scheduled from any thread, including by other tasks.
+ */
+public final class VirtualTimeScheduler
+        extends AbstractExecutorService
+        implements ScheduledExecutorService {
+
+    /**
+     * The clock.
+     */
+    private final MutableClock clock;
+    /**
+     * The queue of tasks, ordered by deadline, also used as the lock.
+     */
+    private final PriorityQueue<ScheduledTask<?>> queue = new PriorityQueue<>();
+    /**
+     * The sequence number of the next task, guarded by the queue.
+     */
+    private long sequence;
+    /**
+     * Whether the scheduler has been shut down, guarded by the queue.
+     */
+    private boolean shutdown;
+    /**
+     * The number of tasks removed from the queue that are still running, guarded by the queue.
+     */
+    private int running;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a scheduler bound to the specified clock.
+     *
+     * @param clock  the clock defining virtual time, not null
+     * @return the scheduler, not null
+     */
+    public static VirtualTimeScheduler of(MutableClock clock) {
+        Objects.requireNonNull(clock, "clock");
+        return new VirtualTimeScheduler(clock);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param clock  the clock, validated not null
+     */
+    private VirtualTimeScheduler(MutableClock clock) {
+        this.clock = clock;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the clock defining virtual time.
+     *
+     * @return the clock, not null
+     */
+    public MutableClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Gets the number of queued tasks.
+     *
+     * @return the number of tasks waiting to run, zero or greater
+     */
+    public int getQueuedTaskCount() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    /**
+     * Gets the earliest deadline of the queued tasks.
+     *
+     * @return the next deadline, null if no tasks are queued
+     */
+    public Instant getNextDeadline() {
+        synchronized (queue) {
+            ScheduledTask<?> task = queue.peek();
+            return (task != null ? task.deadline : null);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Runs the tasks that are due at the current instant of the clock.
+     * <p>
+     * The clock is not changed, other than by the tasks themselves.
+     *
+     * @return the number of tasks run
+     */
+    public int runDueTasks() {
+        return runUntil(clock.instant());
+    }
+
+    /**
+     * Advances the clock by the specified amount, running the tasks that become due.
+     *
+     * @param amount  the amount to advance by, not negative, not null
+     * @return the number of tasks run
+     * @throws IllegalArgumentException if the amount is negative
+     * @throws DateTimeException if the clock cannot be advanced
+     */
+    public int advance(Duration amount) {
+        Objects.requireNonNull(amount, "amount");
+        if (amount.isNegative()) {
+            throw new IllegalArgumentException("Amount must not be negative: " + amount);
+        }
+        return advanceTo(clock.instant().plus(amount));
+    }
+
+    /**
+     * Advances the clock to the specified instant, running the tasks that become due.
+     * <p>
+     * Each task is run with the clock set to its deadline, or later if the
+     * deadline had already passed. Once no more tasks are due, the clock is
+     * set to the target instant, unless a task has moved it further.
+     *
+     * @param target  the instant to advance to, not before the clock, not null
+     * @return the number of tasks run
+     * @throws IllegalArgumentException if the target is before the instant of the clock
+     */
+    public int advanceTo(Instant target) {
+        Objects.requireNonNull(target, "target");
+        if (target.isBefore(clock.instant())) {
+            throw new IllegalArgumentException("Cannot move the clock backwards: " + target);
+        }
+        int count = runUntil(target);
+        if (clock.instant().isBefore(target)) {
+            clock.setInstant(target);
+        }
+        return count;
+    }
+
+    /**
+     * Advances the clock to the next deadline, running the tasks that are due at that instant.
+     * <p>
+     * If the next deadline has already passed, the clock is not changed and the due tasks are run.
+     * If no tasks are queued, nothing happens.
+     *
+     * @return the number of tasks run, zero if no tasks are queued
+     */
+    public int advanceToNextDeadline() {
+        Instant next = getNextDeadline();
+        if (next == null) {
+            return 0;
+        }
+        Instant now = clock.instant();
+        return advanceTo(next.isAfter(now) ? next : now);
+    }
+
+    // runs the tasks with a deadline at or before the target, in deadline order
+    private int runUntil(Instant target) {
+        int count = 0;
+        ScheduledTask<?> task;
+        while ((task = pollDue(target)) != null) {
+            if (task.deadline.isAfter(clock.instant())) {
+                clock.setInstant(task.deadline);
+            }
+            try {
+                task.run();
+            } finally {
+                completed();
+            }
+            count++;
+        }
+        return count;
+    }
+
+    // removes the next task if its deadline is at or before the target
+    private ScheduledTask<?> pollDue(Instant target) {
+        synchronized (queue) {
+            ScheduledTask<?> task = queue.peek();
+            if (task == null || task.deadline.isAfter(target)) {
+                return null;
+            }
+            queue.poll();
+            running++;
+            return task;
+        }
+    }
+
+    // records that a task polled from the queue has finished running
+    private void completed() {
+        synchronized (queue) {
+            running--;
+            signalIfTerminated();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public void execute(Runnable command) {
+        schedule(command, 0, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        Objects.requireNonNull(command, "command");
+        Objects.requireNonNull(unit, "unit");
+        return enqueue(new ScheduledTask<Void>(Executors.callable(command, null), deadline(delay, unit), 0));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        Objects.requireNonNull(callable, "callable");
+        Objects.requireNonNull(unit, "unit");
+        return enqueue(new ScheduledTask<V>(callable, deadline(delay, unit), 0));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        Objects.requireNonNull(command, "command");
+        Objects.requireNonNull(unit, "unit");
+        if (period <= 0) {
+            throw new IllegalArgumentException("Period must be positive: " + period);
+        }
+        return enqueue(new ScheduledTask<Void>(
+                Executors.callable(command, null), deadline(initialDelay, unit), unit.toNanos(period)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        Objects.requireNonNull(command, "command");
+        Objects.requireNonNull(unit, "unit");
+        if (delay <= 0) {
+            throw new IllegalArgumentException("Delay must be positive: " + delay);
+        }
+        return enqueue(new ScheduledTask<Void>(
+                Executors.callable(command, null), deadline(initialDelay, unit), -unit.toNanos(delay)));
+    }
+
+    // calculates the deadline, capping at the maximum instant
+    private Instant deadline(long delay, TimeUnit unit) {
+        try {
+            return clock.instant().plusNanos(unit.toNanos(delay));
+        } catch (DateTimeException | ArithmeticException ex) {
+            return delay < 0 ? Instant.MIN : Instant.MAX;
+        }
+    }
+
+    // adds a new task to the queue
+    private <V> ScheduledTask<V> enqueue(ScheduledTask<V> task) {
+        synchronized (queue) {
+            if (shutdown) {
+                throw new RejectedExecutionException("VirtualTimeScheduler has been shut down");
+            }
+            task.sequence = sequence++;
+            queue.add(task);
+        }
+        return task;
+    }
+
+    // adds a periodic task back to the queue, cancelling it if shut down
+    private void requeue(ScheduledTask<?> task) {
+        synchronized (queue) {
+            if (!shutdown) {
+                queue.add(task);
+                return;
+            }
+        }
+        task.cancel(false);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public void shutdown() {
+        List<ScheduledTask<?>> periodic = new ArrayList<>();
+        synchronized (queue) {
+            shutdown = true;
+            for (ScheduledTask<?> task : queue) {
+                if (task.isPeriodic()) {
+                    periodic.add(task);
+                }
+            }
+            queue.removeAll(periodic);
+            signalIfTerminated();
+        }
+        for (ScheduledTask<?> task : periodic) {
+            task.cancel(false);
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        synchronized (queue) {
+            shutdown = true;
+            List<Runnable> tasks = new ArrayList<>(queue);
+            queue.clear();
+            signalIfTerminated();
+            return tasks;
+        }
+    }
+
+    @Override
+    public boolean isShutdown() {
+        synchronized (queue) {
+            return shutdown;
+        }
+    }
+
+    @Override
+    public boolean isTerminated() {
+        synchronized (queue) {
+            return terminated();
+        }
+    }
+
+    /**
+     * Waits for the scheduler to terminate, in real time.
+     * <p>
+     * The scheduler only terminates once shut down, the queue has been emptied
+     * and the last task has finished running, so another thread must drive the scheduler while this method waits.
+     *
+     * @param timeout  the maximum real time to wait
+     * @param unit  the unit of the timeout, not null
+     * @return true if the scheduler terminated, false if the timeout elapsed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        long end = System.nanoTime() + nanos;
+        synchronized (queue) {
+            while (!terminated()) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(queue, nanos);
+                nanos = end - System.nanoTime();
+            }
+            return true;
+        }
+    }
+
+    // checks if shut down with no tasks queued or running, called holding the lock
+    private boolean terminated() {
+        return shutdown && queue.isEmpty() && running == 0;
+    }
+
+    // notifies threads awaiting termination, called holding the lock
+    private void signalIfTerminated() {
+        if (terminated()) {
+            queue.notifyAll();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs this scheduler as a {@code String}.
+     *
+     * @return a string representation of this scheduler, not null
+     */
+    @Override
+    public String toString() {
+        return "VirtualTimeScheduler[" + clock.instant() + ", queued=" + getQueuedTaskCount() + "]";
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A task in the queue.
+     *
+     * @param <V>  the type of the result
+     */
+    private final class ScheduledTask<V>
+            extends FutureTask<V>
+            implements RunnableScheduledFuture<V> {
+
+        /**
+         * The deadline, only changed when not in the queue.
+         */
+        private volatile Instant deadline;
+        /**
+         * The period in nanoseconds, positive for fixed-rate, negative for fixed-delay, zero if not periodic.
+         */
+        private final long period;
+        /**
+         * The sequence number, ordering tasks with the same deadline.
+         */
+        private long sequence;
+
+        ScheduledTask(Callable<V> callable, Instant deadline, long period) {
+            super(callable);
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return period != 0;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            Duration delay = Duration.between(clock.instant(), deadline);
+            long nanos;
+            try {
+                nanos = delay.toNanos();
+            } catch (ArithmeticException ex) {
+                nanos = delay.isNegative() ? Long.MIN_VALUE : Long.MAX_VALUE;
+            }
+            return unit.convert(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other == this) {
+                return 0;
+            }
+            if (other instanceof ScheduledTask) {
+                ScheduledTask<?> task = (ScheduledTask<?>) other;
+                int cmp = deadline.compareTo(task.deadline);
+                return (cmp != 0 ? cmp : Long.compare(sequence, task.sequence));
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public void run() {
+            if (period == 0) {
+                super.run();
+            } else if (runAndReset()) {
+                if (period > 0) {
+                    deadline = plusNanos(deadline, period);
+                } else {
+                    deadline = plusNanos(clock.instant(), -period);
+                }
+                requeue(this);
+            }
+        }
+
+        // adds nanoseconds, capping at the maximum instant
+        private Instant plusNanos(Instant instant, long nanos) {
+            try {
+                return instant.plusNanos(nanos);
+            } catch (DateTimeException | ArithmeticException ex) {
+                return Instant.MAX;
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                synchronized (queue) {
+                    queue.remove(this);
+                    signalIfTerminated();
+                }
+            }
+            return cancelled;
+        }
+    }
+
+}
@@ -45,8 +45,6 @@ import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * A year-based amount of time, such as '12 years'.
@@ -78,11 +76,6 @@ public final class Years
      * A serialization identifier for this class.
      */
     private static final long serialVersionUID = -8903767091325669093L;
-    /**
-     * The pattern for parsing.
-     */
-    private static final Pattern PATTERN =
-            Pattern.compile("([-+]?)P([-+]?[0-9]+)Y", Pattern.CASE_INSENSITIVE);
 
     /**
      * The number of years.
@@ -175,18 +168,37 @@ public final class Years
      */
     public static Years parse(CharSequence text) {
         Objects.requireNonNull(text, "text");
-        Matcher matcher = PATTERN.matcher(text);
-        if (matcher.matches()) {
-            int negate = ("-".equals(matcher.group(1)) ? -1 : 1);
-            String str = matcher.group(2);
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Obtains a {@code Years} from a range of a text string such as {@code PnY}.
+     * <p>
+     * This parses the characters from the start index, inclusive, to the end index, exclusive,
+     * using the format described in {@link #parse(CharSequence)}.
+     * No substring of the text is created.
+     *
+     * @param text  the text to parse, not null
+     * @param startInclusive  the start index of the amount, inclusive
+     * @param endExclusive  the end index of the amount, exclusive
+     * @return the parsed period, not null
+     * @throws IndexOutOfBoundsException if the range is not within the text
+     * @throws DateTimeParseException if the text cannot be parsed to a period
+     */
+    public static Years parse(CharSequence text, int startInclusive, int endExclusive) {
+        Objects.requireNonNull(text, "text");
+        AmountParser.checkRange(text, startInclusive, endExclusive);
+        AmountParser parser = AmountParser.parse(text, startInclusive, endExclusive, "Y", "");
+        if (parser != null && parser.isFound()) {
+            int negate = (parser.isNegative() ? -1 : 1);
             try {
-                int val = Integer.parseInt(str);
+                int val = parser.intValue('Y');
                 return of(Math.multiplyExact(val, negate));
             } catch (NumberFormatException ex) {
-                throw new DateTimeParseException("Text cannot be parsed to a Years", text, 0, ex);
+                throw new DateTimeParseException("Text cannot be parsed to a Years", text, startInclusive, ex);
             }
         }
-        throw new DateTimeParseException("Text cannot be parsed to a Years", text, 0);
+        throw new DateTimeParseException("Text cannot be parsed to a Years", text, startInclusive);
     }
 
     //-----------------------------------------------------------------------
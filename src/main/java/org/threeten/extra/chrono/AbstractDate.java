@@ -71,6 +71,10 @@ abstract class AbstractDate
 
     abstract int getDayOfYear();
 
+    long toPacked() {
+        return PackedDates.pack(getProlepticYear(), getMonth(), getDayOfMonth());
+    }
+
     AbstractDate withDayOfYear(int value) {
         return plusDays(value - getDayOfYear());
     }
@@ -52,6 +52,8 @@ import java.time.temporal.TemporalAdjusters;
 import java.time.temporal.ValueRange;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * An Accounting calendar system.
@@ -84,7 +86,7 @@ import java.util.List;
  * <h3>Implementation Requirements</h3>
  * This class is immutable and thread-safe.
  */
-public final class AccountingChronology extends AbstractChronology implements Serializable {
+public final class AccountingChronology extends AbstractChronology implements BatchDateConverter, Serializable {
 
     /**
      * Serialization version.
@@ -106,6 +108,18 @@ public final class AccountingChronology extends AbstractChronology implements Se
      * Range of days in year.
      */
     static final ValueRange DAY_OF_YEAR_RANGE = ValueRange.of(1, 364, 371);
+    /**
+     * The first proleptic-year in the table of year starts.
+     */
+    static final int YEAR_STARTS_FIRST_YEAR = 1900;
+    /**
+     * The last proleptic-year in the table of year starts.
+     */
+    private static final int YEAR_STARTS_LAST_YEAR = 2200;
+    /**
+     * Cache of the chronologies created, keyed by configuration.
+     */
+    private static final ConcurrentMap<Integer, AccountingChronology> CACHE = new ConcurrentHashMap<>();
 
     /**
      * The day of the week on which a given Accounting year ends.
@@ -145,11 +159,18 @@ public final class AccountingChronology extends AbstractChronology implements Se
      * Number of days from the start of Accounting year 1 (for this chronology) to the start of ISO 1970
      */
     private final transient int days0001ToIso1970;
+    /**
+     * The epoch-day of the start of each year in the table, and of the year after it, built on first use.
+     */
+    private transient volatile int[] yearStarts;
 
     //-----------------------------------------------------------------------
     /**
-     * Creates an {@code AccountingChronology} validating the input.
+     * Obtains an {@code AccountingChronology} validating the input.
      * Package private as only meant to be called from the builder.
+     * <p>
+     * Chronologies are cached, so equal configurations return the same instance,
+     * sharing the derived information and the table of year starts.
      * 
      * @param endsOn  The day-of-week a given year ends on.
      * @param end The  month-end the year is based on.
@@ -172,6 +193,11 @@ public final class AccountingChronology extends AbstractChronology implements Se
             throw new IllegalStateException("Leap week cannot not be placed in non-existant month " + leapWeekInMonth
                     + ", range is [" + division.getMonthsInYearRange() + "].");
         }
+        Integer key = cacheKey(endsOn, end, inLastWeek, division, leapWeekInMonth);
+        AccountingChronology cached = CACHE.get(key);
+        if (cached != null) {
+            return cached;
+        }
 
         // Derive cached information.
         LocalDate endingLimit = inLastWeek ? LocalDate.of(0, end, 1).with(TemporalAdjusters.lastDayOfMonth()) :
@@ -190,7 +216,28 @@ public final class AccountingChronology extends AbstractChronology implements Se
         ValueRange dayOfMonthRange = ValueRange.of(1, shortestMonthLength * 7, longestMonthLength * 7);
         int daysToEpoch = Math.toIntExact(0 - yearZeroEnd.plusDays(1).toEpochDay());
 
-        return new AccountingChronology(endsOn, end, inLastWeek, division, leapWeekInMonth, yearZeroDifference, alignedWeekOfMonthRange, dayOfMonthRange, daysToEpoch);
+        AccountingChronology created = new AccountingChronology(endsOn, end, inLastWeek, division, leapWeekInMonth, yearZeroDifference, alignedWeekOfMonthRange, dayOfMonthRange, daysToEpoch);
+        cached = CACHE.putIfAbsent(key, created);
+        return (cached != null ? cached : created);
+    }
+
+    /**
+     * Gets the cache key of a validated configuration.
+     * 
+     * @param endsOn  The day-of-week a given year ends on.
+     * @param end  The month-end the year is based on.
+     * @param inLastWeek  Whether the year ends in the last week of the month, or nearest the end-of-month.
+     * @param division  How the year is divided.
+     * @param leapWeekInMonth  The month in which the leap-week resides, from 1 to 13.
+     * @return The key, unique to the configuration.
+     */
+    private static Integer cacheKey(DayOfWeek endsOn, Month end, boolean inLastWeek, AccountingYearDivision division, int leapWeekInMonth) {
+        int key = endsOn.ordinal();
+        key = key * 12 + end.ordinal();
+        key = key * 2 + (inLastWeek ? 1 : 0);
+        key = key * AccountingYearDivision.values().length + division.ordinal();
+        key = key * 16 + leapWeekInMonth;
+        return key;
     }
 
     //-----------------------------------------------------------------------
@@ -221,7 +268,7 @@ public final class AccountingChronology extends AbstractChronology implements Se
     }
 
     /**
-     * Resolve stored instances.
+     * Resolve stored instances to the cached instance.
      *
      * @return a built, validated instance.
      */
@@ -242,6 +289,52 @@ public final class AccountingChronology extends AbstractChronology implements Se
         return days0001ToIso1970;
     }
 
+    /**
+     * Gets the table of year starts, building it on first use.
+     * <p>
+     * The table holds the epoch-day of the start of each year from 1900 to 2200,
+     * followed by the start of 2201, so that dates in that range can be converted
+     * without calculating the leap years. The table must not be modified.
+     * If two threads build the table at the same time, each builds an equal table.
+     *
+     * @return the table of year starts, indexed from {@link #YEAR_STARTS_FIRST_YEAR}, not null
+     */
+    int[] getYearStarts() {
+        int[] starts = yearStarts;
+        if (starts == null) {
+            starts = new int[YEAR_STARTS_LAST_YEAR - YEAR_STARTS_FIRST_YEAR + 2];
+            for (int i = 0; i < starts.length; i++) {
+                starts[i] = Math.toIntExact(calculateYearStart(YEAR_STARTS_FIRST_YEAR + i));
+            }
+            yearStarts = starts;
+        }
+        return starts;
+    }
+
+    /**
+     * Gets the epoch-day of the start of the year.
+     *
+     * @param prolepticYear  the proleptic-year
+     * @return the epoch-day of the first day of the year
+     */
+    long getYearStart(long prolepticYear) {
+        long index = prolepticYear - YEAR_STARTS_FIRST_YEAR;
+        if (index >= 0 && index <= YEAR_STARTS_LAST_YEAR - YEAR_STARTS_FIRST_YEAR) {
+            return getYearStarts()[(int) index];
+        }
+        return calculateYearStart(prolepticYear);
+    }
+
+    /**
+     * Calculates the epoch-day of the start of the year, from the number of leap years before it.
+     *
+     * @param prolepticYear  the proleptic-year
+     * @return the epoch-day of the first day of the year
+     */
+    private long calculateYearStart(long prolepticYear) {
+        return ((prolepticYear - 1) * 52 + previousLeapYears(prolepticYear)) * 7 - days0001ToIso1970;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Gets the ID of the chronology - 'Accounting'.
@@ -350,6 +443,118 @@ public final class AccountingChronology extends AbstractChronology implements Se
         return AccountingDate.ofEpochDay(this, epochDay);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void epochDaysToDates(long[] epochDays, int[] prolepticYears, int[] months, int[] daysOfMonth) {
+        PackedDates.epochDaysToDates(this::packedDateEpochDay, epochDays, prolepticYears, months, daysOfMonth);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void epochDaysToDates(int[] epochDays, int[] prolepticYears, int[] months, int[] daysOfMonth) {
+        PackedDates.epochDaysToDates(this::packedDateEpochDay, epochDays, prolepticYears, months, daysOfMonth);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void datesToEpochDays(int[] prolepticYears, int[] months, int[] daysOfMonth, long[] epochDays) {
+        PackedDates.datesToEpochDays(this::epochDayOf, prolepticYears, months, daysOfMonth, epochDays);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void datesToEpochDays(int[] prolepticYears, int[] months, int[] daysOfMonth, int[] epochDays) {
+        PackedDates.datesToEpochDays(this::epochDayOf, prolepticYears, months, daysOfMonth, epochDays);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains the epoch-day of an Accounting date without creating an {@code AccountingDate}.
+     * <p>
+     * The date is validated in the same way as {@link #date(int, int, int)}.
+     *
+     * @param prolepticYear  the Accounting proleptic-year
+     * @param month  the Accounting month-of-year
+     * @param dayOfMonth  the Accounting day-of-month
+     * @return the epoch-day, based on 1970-01-01 (ISO)
+     * @throws DateTimeException if the date is invalid
+     */
+    public long epochDayOf(int prolepticYear, int month, int dayOfMonth) {
+        return AccountingDate.epochDayOf(this, prolepticYear, month, dayOfMonth);
+    }
+
+    /**
+     * Obtains a packed Accounting date from the epoch-day.
+     * <p>
+     * The fields of the result are obtained using {@link PackedDates}.
+     * The packed date is only meaningful to a chronology with the same configuration as this one.
+     *
+     * @param epochDay  the epoch-day, based on 1970-01-01 (ISO)
+     * @return the packed Accounting date
+     * @throws DateTimeException if the epoch-day is out of range
+     */
+    public long packedDateEpochDay(long epochDay) {
+        return AccountingDate.packEpochDay(this, epochDay);
+    }
+
+    /**
+     * Adds months to a packed Accounting date.
+     * <p>
+     * This matches {@code plus(months, MONTHS)} on {@code AccountingDate},
+     * including the resolution of an invalid day-of-month,
+     * without creating an {@code AccountingDate}.
+     *
+     * @param packed  the packed Accounting date
+     * @param months  the months to add, may be negative
+     * @return the packed Accounting date with the months added
+     * @throws DateTimeException if the packed date is invalid, or the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public long plusMonthsPacked(long packed, long months) {
+        return AccountingDate.plusMonthsPacked(this, AccountingDate.checkPacked(this, packed), months);
+    }
+
+    /**
+     * Adds years to a packed Accounting date.
+     * <p>
+     * This matches {@code plus(years, YEARS)} on {@code AccountingDate},
+     * including the resolution of an invalid day-of-month,
+     * without creating an {@code AccountingDate}.
+     *
+     * @param packed  the packed Accounting date
+     * @param years  the years to add, may be negative
+     * @return the packed Accounting date with the years added
+     * @throws DateTimeException if the packed date is invalid, or the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public long plusYearsPacked(long packed, long years) {
+        return AccountingDate.plusYearsPacked(this, AccountingDate.checkPacked(this, packed), years);
+    }
+
+    /**
+     * Calculates the number of complete months between two packed Accounting dates.
+     * <p>
+     * This matches {@code until(end, MONTHS)} on {@code AccountingDate},
+     * without creating an {@code AccountingDate}.
+     *
+     * @param startPacked  the packed Accounting start date, inclusive
+     * @param endPacked  the packed Accounting end date, exclusive
+     * @return the number of complete months, negative if the end is before the start
+     * @throws DateTimeException if either packed date is invalid
+     */
+    public long monthsUntilPacked(long startPacked, long endPacked) {
+        return AccountingDate.monthsUntilPacked(this, AccountingDate.checkPacked(this, startPacked), AccountingDate.checkPacked(this, endPacked));
+    }
+
     //-------------------------------------------------------------------------
     /**
      * Obtains the current Accounting local date from the system clock in the default time-zone.
@@ -469,6 +674,11 @@ public final class AccountingChronology extends AbstractChronology implements Se
      */
     @Override
     public boolean isLeapYear(long prolepticYear) {
+        long index = prolepticYear - YEAR_STARTS_FIRST_YEAR;
+        if (index >= 0 && index <= YEAR_STARTS_LAST_YEAR - YEAR_STARTS_FIRST_YEAR) {
+            int[] starts = getYearStarts();
+            return starts[(int) index + 1] - starts[(int) index] > DAY_OF_YEAR_RANGE.getSmallestMaximum();
+        }
         return Math.floorMod(prolepticYear + getISOLeapYearCount(prolepticYear) + yearZeroDifference, 7) == 0
                 || Math.floorMod(prolepticYear + getISOLeapYearCount(prolepticYear + 1) + yearZeroDifference, 7) == 0;
     }
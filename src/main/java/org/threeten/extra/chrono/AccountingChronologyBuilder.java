@@ -155,6 +155,8 @@ public final class AccountingChronologyBuilder {
 
     /**
      * Completes this builder by creating the {@code AccountingChronology}.
+     * <p>
+     * Builders with the same configuration return the same chronology instance.
      * 
      * @return the created chronology, not null.
      * @throws DateTimeException if the chronology cannot be built.
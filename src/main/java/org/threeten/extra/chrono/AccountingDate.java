@@ -237,13 +237,25 @@ public final class AccountingDate extends AbstractDate implements ChronoLocalDat
         if (dayOfYear > WEEKS_IN_YEAR * DAYS_IN_WEEK && !leap) {
             throw new DateTimeException("Invalid date 'DayOfYear " + dayOfYear + "' as '" + prolepticYear + "' is not a leap year");
         }
+        return ofPacked(chronology, packValidYearDay(chronology, prolepticYear, dayOfYear, leap));
+    }
 
+    /**
+     * Converts a validated proleptic-year and day-of-year to a packed Accounting date.
+     *
+     * @param chronology  the Accounting chronology to base the date on, not null
+     * @param prolepticYear  the Accounting proleptic-year, validated
+     * @param dayOfYear  the Accounting day-of-year, validated for the year
+     * @param leap  whether the year is a leap year
+     * @return the packed date
+     */
+    private static long packValidYearDay(AccountingChronology chronology, int prolepticYear, int dayOfYear, boolean leap) {
         int month = (leap ? chronology.getDivision().getMonthFromElapsedWeeks((dayOfYear - 1) / DAYS_IN_WEEK, chronology.getLeapWeekInMonth())
                 : chronology.getDivision().getMonthFromElapsedWeeks((dayOfYear - 1) / DAYS_IN_WEEK));
         int dayOfMonth = dayOfYear - (leap ? chronology.getDivision().getWeeksAtStartOfMonth(month, chronology.getLeapWeekInMonth())
                 : chronology.getDivision().getWeeksAtStartOfMonth(month)) * DAYS_IN_WEEK;
 
-        return new AccountingDate(chronology, prolepticYear, month, dayOfMonth);
+        return PackedDates.pack(prolepticYear, month, dayOfMonth);
     }
 
     /**
@@ -257,7 +269,34 @@ public final class AccountingDate extends AbstractDate implements ChronoLocalDat
      *  NullPointerException if an AccountingChronology was not provided
      */
     static AccountingDate ofEpochDay(AccountingChronology chronology, long epochDay) {
+        return ofPacked(chronology, packEpochDay(chronology, epochDay));
+    }
+
+    /**
+     * Converts an epoch-day to a packed Accounting date.
+     *
+     * @param chronology  the Accounting chronology to base the date on, not null
+     * @param epochDay  the epoch day to convert based on 1970-01-01 (ISO)
+     * @return the packed date
+     * @throws DateTimeException if the epoch-day is out of range
+     */
+    static long packEpochDay(AccountingChronology chronology, long epochDay) {
         EPOCH_DAY.range().checkValidValue(epochDay, EPOCH_DAY);  // validate outer bounds
+        // Most dates are within the table of year starts, where the year can be found directly.
+        int[] yearStarts = chronology.getYearStarts();
+        int last = yearStarts.length - 1;
+        if (epochDay >= yearStarts[0] && epochDay < yearStarts[last]) {
+            int index = Math.min((int) ((epochDay - yearStarts[0]) * 400 / DAYS_PER_LONG_CYCLE), last - 1);
+            while (yearStarts[index] > epochDay) {
+                index--;
+            }
+            while (yearStarts[index + 1] <= epochDay) {
+                index++;
+            }
+            int dayOfYear = (int) (epochDay - yearStarts[index]) + 1;
+            boolean leap = yearStarts[index + 1] - yearStarts[index] > WEEKS_IN_YEAR * DAYS_IN_WEEK;
+            return packValidYearDay(chronology, AccountingChronology.YEAR_STARTS_FIRST_YEAR + index, dayOfYear, leap);
+        }
         // Use Accounting 1 to help with 0-counts.  Leap years can occur at any time.
         long accountingEpochDay = epochDay + chronology.getDays0001ToIso1970();
 
@@ -277,12 +316,132 @@ public final class AccountingDate extends AbstractDate implements ChronoLocalDat
             year++;
         }
 
-        return ofYearDay(chronology, year + 400 * longCycle, daysInLongCycle - yearStart + 1);
+        int prolepticYear = year + 400 * longCycle;
+        YEAR.checkValidValue(prolepticYear);
+        return packValidYearDay(chronology, prolepticYear, daysInLongCycle - yearStart + 1, chronology.isLeapYear(prolepticYear));
+    }
+
+    /**
+     * Converts an Accounting date to an epoch-day, validating the input.
+     *
+     * @param chronology  the Accounting chronology to base the date on, not null
+     * @param prolepticYear  the Accounting proleptic-year
+     * @param month  the Accounting month-of-year
+     * @param dayOfMonth  the Accounting day-of-month
+     * @return the epoch-day
+     * @throws DateTimeException if the value of any field is out of range,
+     *  or if the day-of-month is invalid for the month-year
+     */
+    static long epochDayOf(AccountingChronology chronology, int prolepticYear, int month, int dayOfMonth) {
+        checkValid(chronology, prolepticYear, month, dayOfMonth);
+        return chronology.getYearStart(prolepticYear) + (dayOfYear(chronology, prolepticYear, month, dayOfMonth) - 1);
+    }
+
+    /**
+     * Gets the day-of-year of a valid date.
+     *
+     * @param chronology  the Accounting chronology, not null
+     * @param prolepticYear  the Accounting proleptic-year, validated
+     * @param month  the Accounting month-of-year, validated
+     * @param dayOfMonth  the Accounting day-of-month, validated
+     * @return the day-of-year
+     */
+    private static int dayOfYear(AccountingChronology chronology, int prolepticYear, int month, int dayOfMonth) {
+        int weeksAtStartOfMonth = (chronology.isLeapYear(prolepticYear) ? chronology.getDivision().getWeeksAtStartOfMonth(month, chronology.getLeapWeekInMonth())
+                : chronology.getDivision().getWeeksAtStartOfMonth(month));
+        return weeksAtStartOfMonth * DAYS_IN_WEEK + dayOfMonth;
+    }
+
+    /**
+     * Creates an {@code AccountingDate} from a packed date.
+     *
+     * @param chronology  the Accounting chronology to base the date on, not null
+     * @param packed  the packed date, validated
+     * @return the date, not null
+     */
+    private static AccountingDate ofPacked(AccountingChronology chronology, long packed) {
+        return new AccountingDate(chronology, PackedDates.year(packed), PackedDates.month(packed), PackedDates.day(packed));
     }
 
     private static AccountingDate resolvePreviousValid(AccountingChronology chronology, int prolepticYear, int month, int day) {
+        return ofPacked(chronology, packResolvePrevious(chronology, prolepticYear, month, day));
+    }
+
+    /**
+     * Packs a date, reducing the day-of-month to the last valid day if necessary.
+     *
+     * @param chronology  the Accounting chronology to base the date on, not null
+     * @param prolepticYear  the Accounting proleptic-year
+     * @param month  the Accounting month-of-year, validated
+     * @param day  the Accounting day-of-month, validated
+     * @return the packed date
+     */
+    private static long packResolvePrevious(AccountingChronology chronology, int prolepticYear, int month, int day) {
         day = Math.min(day, lengthOfMonth(chronology, prolepticYear, month));
-        return new AccountingDate(chronology, prolepticYear, month, day);
+        return PackedDates.pack(prolepticYear, month, day);
+    }
+
+    /**
+     * Validates a packed date.
+     *
+     * @param chronology  the Accounting chronology to base the date on, not null
+     * @param packed  the packed date
+     * @return the packed date, unchanged
+     * @throws DateTimeException if the date is invalid
+     */
+    static long checkPacked(AccountingChronology chronology, long packed) {
+        checkValid(chronology, PackedDates.year(packed), PackedDates.month(packed), PackedDates.day(packed));
+        return packed;
+    }
+
+    /**
+     * Adds months to a packed date.
+     *
+     * @param chronology  the Accounting chronology to base the date on, not null
+     * @param packed  the packed date, validated
+     * @param monthsToAdd  the months to add, may be negative
+     * @return the packed date, adjusted to the end of the month if necessary
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    static long plusMonthsPacked(AccountingChronology chronology, long packed, long monthsToAdd) {
+        if (monthsToAdd == 0) {
+            return packed;
+        }
+        int monthsInYear = chronology.getDivision().lengthOfYearInMonths();
+        long calcEm = Math.addExact(PackedDates.prolepticMonth(packed, monthsInYear), monthsToAdd);
+        int newYear = Math.toIntExact(Math.floorDiv(calcEm, monthsInYear));
+        int newMonth = (int) (Math.floorMod(calcEm, monthsInYear) + 1);
+        return packResolvePrevious(chronology, newYear, newMonth, PackedDates.day(packed));
+    }
+
+    /**
+     * Adds years to a packed date.
+     *
+     * @param chronology  the Accounting chronology to base the date on, not null
+     * @param packed  the packed date, validated
+     * @param yearsToAdd  the years to add, may be negative
+     * @return the packed date, adjusted to the end of the month if necessary
+     * @throws DateTimeException if the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    static long plusYearsPacked(AccountingChronology chronology, long packed, long yearsToAdd) {
+        if (yearsToAdd == 0) {
+            return packed;
+        }
+        int newYear = YEAR.checkValidIntValue(Math.addExact(PackedDates.year(packed), yearsToAdd));
+        return packResolvePrevious(chronology, newYear, PackedDates.month(packed), PackedDates.day(packed));
+    }
+
+    /**
+     * Calculates the number of whole months between two packed dates.
+     *
+     * @param chronology  the Accounting chronology to base the date on, not null
+     * @param start  the packed start date, validated
+     * @param end  the packed end date, exclusive, validated
+     * @return the number of complete months
+     */
+    static long monthsUntilPacked(AccountingChronology chronology, long start, long end) {
+        return PackedDates.monthsUntil(start, end, chronology.getDivision().lengthOfYearInMonths());
     }
 
     private static int lengthOfMonth(AccountingChronology chronology, int prolepticYear, int month) {
@@ -301,6 +460,22 @@ public final class AccountingDate extends AbstractDate implements ChronoLocalDat
      *  NullPointerException if an AccountingChronology was not provided
      */
     static AccountingDate create(AccountingChronology chronology, int prolepticYear, int month, int dayOfMonth) {
+        checkValid(chronology, prolepticYear, month, dayOfMonth);
+        return new AccountingDate(chronology, prolepticYear, month, dayOfMonth);
+    }
+
+    /**
+     * Validates the fields of a date.
+     *
+     * @param chronology  the Accounting chronology to base the date on, not null
+     * @param prolepticYear  the Accounting proleptic-year
+     * @param month  the Accounting month-of-year
+     * @param dayOfMonth  the Accounting day-of-month
+     * @throws DateTimeException if the value of any field is out of range,
+     *  or if the day-of-month is invalid for the month-year,
+     *  NullPointerException if an AccountingChronology was not provided
+     */
+    private static void checkValid(AccountingChronology chronology, int prolepticYear, int month, int dayOfMonth) {
         Objects.requireNonNull(chronology, "A previously setup chronology is required.");
         YEAR.checkValidValue(prolepticYear);
         chronology.range(MONTH_OF_YEAR).checkValidValue(month, MONTH_OF_YEAR);
@@ -313,8 +488,6 @@ public final class AccountingDate extends AbstractDate implements ChronoLocalDat
                 throw new DateTimeException("Invalid date '" + month + "/" + dayOfMonth + "'");
             }
         }
-
-        return new AccountingDate(chronology, prolepticYear, month, dayOfMonth);
     }
 
     //-----------------------------------------------------------------------
@@ -360,9 +533,7 @@ public final class AccountingDate extends AbstractDate implements ChronoLocalDat
 
     @Override
     int getDayOfYear() {
-        int weeksAtStartOfMonth = (isLeapYear() ? chronology.getDivision().getWeeksAtStartOfMonth(month, chronology.getLeapWeekInMonth())
-                : chronology.getDivision().getWeeksAtStartOfMonth(month));
-        return weeksAtStartOfMonth * DAYS_IN_WEEK + day;
+        return dayOfYear(chronology, prolepticYear, month, day);
     }
 
     @Override
@@ -441,6 +612,22 @@ public final class AccountingDate extends AbstractDate implements ChronoLocalDat
         return (amountToSubtract == Long.MIN_VALUE ? plus(Long.MAX_VALUE, unit).plus(1, unit) : plus(-amountToSubtract, unit));
     }
 
+    @Override
+    AccountingDate plusYears(long yearsToAdd) {
+        if (yearsToAdd == 0) {
+            return this;
+        }
+        return ofPacked(chronology, plusYearsPacked(chronology, toPacked(), yearsToAdd));
+    }
+
+    @Override
+    AccountingDate plusMonths(long months) {
+        if (months == 0) {
+            return this;
+        }
+        return ofPacked(chronology, plusMonthsPacked(chronology, toPacked(), months));
+    }
+
     //-------------------------------------------------------------------------
     @Override  // for covariant return type
     @SuppressWarnings("unchecked")
@@ -458,12 +645,15 @@ public final class AccountingDate extends AbstractDate implements ChronoLocalDat
         return super.doUntil(AccountingDate.from(chronology, endDateExclusive));
     }
 
+    @Override
+    long monthsUntil(AbstractDate end) {
+        return monthsUntilPacked(chronology, toPacked(), end.toPacked());
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public long toEpochDay() {
-        long year = prolepticYear;
-        long accountingEpochDay = ((year - 1) * WEEKS_IN_YEAR + chronology.previousLeapYears(year)) * DAYS_IN_WEEK + (getDayOfYear() - 1);
-        return accountingEpochDay - chronology.getDays0001ToIso1970();
+        return chronology.getYearStart(prolepticYear) + (getDayOfYear() - 1);
     }
 
     //-------------------------------------------------------------------------
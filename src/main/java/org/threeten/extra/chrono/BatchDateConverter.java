@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.chrono;
+
+import java.time.DateTimeException;
+import java.time.chrono.Chronology;
+import java.time.chrono.IsoChronology;
+import java.util.Objects;
+
+/**
+ * Converts columns of dates between epoch-days and year, month and day fields.
+ * <p>
+ * Analytics code often stores dates as a column of epoch-days, and needs the
+ * year, month and day of each in a calendar system.
+ * Using {@link Chronology#dateEpochDay(long)} creates a date object for each element.
+ * Implementations of this interface instead convert whole arrays, writing the fields
+ * into arrays supplied by the caller, with no allocation for each element.
+ * <p>
+ * Each chronology in this package implements this interface.
+ * Use {@link #of(Chronology)} to obtain a converter for any chronology.
+ * <p>
+ * The year is the proleptic-year, and the month and day are the month-of-year
+ * and day-of-month, as would be returned by the date of the chronology.
+ * All the arrays passed to a method must have the same length.
+ * If an exception is thrown, the output arrays are partially updated.
+ *
+ * <h3>Specification for implementors</h3>
+ * Implementations must be thread-safe.
+ */
+public interface BatchDateConverter {
+
+    /**
+     * Obtains a converter for the specified chronology.
+     * <p>
+     * If the chronology implements this interface it is returned directly.
+     * The ISO chronology has a dedicated converter.
+     * Otherwise, a converter based on {@link Chronology#dateEpochDay(long)} and
+     * {@link Chronology#date(int, int, int)} is returned, which creates a date for each element.
+     *
+     * @param chronology  the chronology to convert dates in, not null
+     * @return the converter, not null
+     */
+    static BatchDateConverter of(Chronology chronology) {
+        Objects.requireNonNull(chronology, "chronology");
+        if (chronology instanceof BatchDateConverter) {
+            return (BatchDateConverter) chronology;
+        }
+        if (chronology.equals(IsoChronology.INSTANCE)) {
+            return IsoBatchDateConverter.INSTANCE;
+        }
+        return new ChronologyBatchDateConverter(chronology);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts an array of epoch-days to dates.
+     *
+     * @param epochDays  the epoch-days to convert, based on 1970-01-01 (ISO), not null
+     * @param prolepticYears  the array to store the proleptic-years in, not null
+     * @param months  the array to store the months in, not null
+     * @param daysOfMonth  the array to store the days in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if an epoch-day is out of range for the chronology
+     */
+    void epochDaysToDates(long[] epochDays, int[] prolepticYears, int[] months, int[] daysOfMonth);
+
+    /**
+     * Converts an array of epoch-days to dates.
+     *
+     * @param epochDays  the epoch-days to convert, based on 1970-01-01 (ISO), not null
+     * @param prolepticYears  the array to store the proleptic-years in, not null
+     * @param months  the array to store the months in, not null
+     * @param daysOfMonth  the array to store the days in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if an epoch-day is out of range for the chronology
+     */
+    void epochDaysToDates(int[] epochDays, int[] prolepticYears, int[] months, int[] daysOfMonth);
+
+    /**
+     * Converts arrays of dates to epoch-days.
+     *
+     * @param prolepticYears  the proleptic-years to convert, not null
+     * @param months  the months to convert, not null
+     * @param daysOfMonth  the days to convert, not null
+     * @param epochDays  the array to store the epoch-days in, based on 1970-01-01 (ISO), not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if a date is invalid
+     */
+    void datesToEpochDays(int[] prolepticYears, int[] months, int[] daysOfMonth, long[] epochDays);
+
+    /**
+     * Converts arrays of dates to epoch-days.
+     *
+     * @param prolepticYears  the proleptic-years to convert, not null
+     * @param months  the months to convert, not null
+     * @param daysOfMonth  the days to convert, not null
+     * @param epochDays  the array to store the epoch-days in, based on 1970-01-01 (ISO), not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if a date is invalid, or the epoch-day does not fit in an {@code int}
+     */
+    void datesToEpochDays(int[] prolepticYears, int[] months, int[] daysOfMonth, int[] epochDays);
+
+}
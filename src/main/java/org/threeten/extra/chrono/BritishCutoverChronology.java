@@ -100,7 +100,7 @@ import java.util.Map;
  */
 public final class BritishCutoverChronology
         extends AbstractChronology
-        implements Serializable {
+        implements BatchDateConverter, Serializable {
 
     /**
      * Singleton instance for the Coptic chronology.
@@ -294,6 +294,120 @@ public final class BritishCutoverChronology
         return BritishCutoverDate.ofEpochDay(epochDay);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void epochDaysToDates(long[] epochDays, int[] prolepticYears, int[] months, int[] daysOfMonth) {
+        PackedDates.epochDaysToDates(BritishCutoverDate::packEpochDay, epochDays, prolepticYears, months, daysOfMonth);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void epochDaysToDates(int[] epochDays, int[] prolepticYears, int[] months, int[] daysOfMonth) {
+        PackedDates.epochDaysToDates(BritishCutoverDate::packEpochDay, epochDays, prolepticYears, months, daysOfMonth);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void datesToEpochDays(int[] prolepticYears, int[] months, int[] daysOfMonth, long[] epochDays) {
+        PackedDates.datesToEpochDays(BritishCutoverDate::epochDayOf, prolepticYears, months, daysOfMonth, epochDays);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void datesToEpochDays(int[] prolepticYears, int[] months, int[] daysOfMonth, int[] epochDays) {
+        PackedDates.datesToEpochDays(BritishCutoverDate::epochDayOf, prolepticYears, months, daysOfMonth, epochDays);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains the epoch-day of a British Cutover date without creating a {@code BritishCutoverDate}.
+     * <p>
+     * The date is validated in the same way as {@link #date(int, int, int)}.
+     *
+     * @param prolepticYear  the British Cutover proleptic-year
+     * @param month  the British Cutover month-of-year
+     * @param dayOfMonth  the British Cutover day-of-month
+     * @return the epoch-day, based on 1970-01-01 (ISO)
+     * @throws DateTimeException if the date is invalid
+     */
+    public static long epochDayOf(int prolepticYear, int month, int dayOfMonth) {
+        return BritishCutoverDate.epochDayOf(prolepticYear, month, dayOfMonth);
+    }
+
+    /**
+     * Obtains a packed British Cutover date from the epoch-day.
+     * <p>
+     * The fields of the result are obtained using {@link PackedDates}.
+     *
+     * @param epochDay  the epoch-day, based on 1970-01-01 (ISO)
+     * @return the packed British Cutover date
+     * @throws DateTimeException if the epoch-day is out of range
+     */
+    public static long packedDateEpochDay(long epochDay) {
+        return BritishCutoverDate.packEpochDay(epochDay);
+    }
+
+    /**
+     * Adds months to a packed British Cutover date.
+     * <p>
+     * This matches {@code plus(months, MONTHS)} on {@code BritishCutoverDate},
+     * including the resolution of an invalid day-of-month,
+     * without creating a {@code BritishCutoverDate}.
+     * A packed date in the cutover gap is resolved in the same way as {@link #date(int, int, int)}.
+     *
+     * @param packed  the packed British Cutover date
+     * @param months  the months to add, may be negative
+     * @return the packed British Cutover date with the months added
+     * @throws DateTimeException if the packed date is invalid, or the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public static long plusMonthsPacked(long packed, long months) {
+        return BritishCutoverDate.plusMonthsPacked(BritishCutoverDate.checkPacked(packed), months);
+    }
+
+    /**
+     * Adds years to a packed British Cutover date.
+     * <p>
+     * This matches {@code plus(years, YEARS)} on {@code BritishCutoverDate},
+     * including the resolution of an invalid day-of-month,
+     * without creating a {@code BritishCutoverDate}.
+     * A packed date in the cutover gap is resolved in the same way as {@link #date(int, int, int)}.
+     *
+     * @param packed  the packed British Cutover date
+     * @param years  the years to add, may be negative
+     * @return the packed British Cutover date with the years added
+     * @throws DateTimeException if the packed date is invalid, or the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public static long plusYearsPacked(long packed, long years) {
+        return BritishCutoverDate.plusYearsPacked(BritishCutoverDate.checkPacked(packed), years);
+    }
+
+    /**
+     * Calculates the number of complete months between two packed British Cutover dates.
+     * <p>
+     * This matches {@code until(end, MONTHS)} on {@code BritishCutoverDate},
+     * without creating a {@code BritishCutoverDate}.
+     * A packed date in the cutover gap is resolved in the same way as {@link #date(int, int, int)}.
+     *
+     * @param startPacked  the packed British Cutover start date, inclusive
+     * @param endPacked  the packed British Cutover end date, exclusive
+     * @return the number of complete months, negative if the end is before the start
+     * @throws DateTimeException if either packed date is invalid
+     */
+    public static long monthsUntilPacked(long startPacked, long endPacked) {
+        return BritishCutoverDate.monthsUntilPacked(BritishCutoverDate.checkPacked(startPacked), BritishCutoverDate.checkPacked(endPacked));
+    }
+
     //-------------------------------------------------------------------------
     /**
      * Obtains the current British Cutover local date from the system clock in the default time-zone.
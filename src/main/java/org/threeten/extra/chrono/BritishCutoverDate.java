@@ -31,6 +31,7 @@
  */
 package org.threeten.extra.chrono;
 
+import static java.time.temporal.ChronoField.YEAR;
 import static org.threeten.extra.chrono.BritishCutoverChronology.CUTOVER;
 import static org.threeten.extra.chrono.BritishCutoverChronology.CUTOVER_DAYS;
 import static org.threeten.extra.chrono.BritishCutoverChronology.CUTOVER_YEAR;
@@ -74,6 +75,10 @@ public final class BritishCutoverDate
      * Serialization version.
      */
     private static final long serialVersionUID = -9626278512674L;
+    /**
+     * The epoch-day of the cutover.
+     */
+    private static final long CUTOVER_EPOCH_DAY = CUTOVER.toEpochDay();
     /**
      * The underlying date.
      */
@@ -216,6 +221,44 @@ public final class BritishCutoverDate
         return new BritishCutoverDate(LocalDate.ofEpochDay(epochDay));
     }
 
+    /**
+     * Converts an epoch-day to a packed British Cutover date.
+     *
+     * @param epochDay  the epoch day to convert based on 1970-01-01 (ISO)
+     * @return the packed date
+     * @throws DateTimeException if the epoch-day is out of range
+     */
+    static long packEpochDay(final long epochDay) {
+        if (epochDay < CUTOVER_EPOCH_DAY) {
+            return JulianDate.packEpochDay(epochDay);
+        }
+        return IsoBatchDateConverter.packEpochDay(epochDay);
+    }
+
+    /**
+     * Converts a British Cutover date to an epoch-day, validating the input.
+     * <p>
+     * As with {@link #create(int, int, int)}, a date in the cutover gap is
+     * treated as a Julian date.
+     *
+     * @param prolepticYear  the British Cutover proleptic-year
+     * @param month  the British Cutover month-of-year, from 1 to 12
+     * @param dayOfMonth  the British Cutover day-of-month, from 1 to 31
+     * @return the epoch-day
+     * @throws DateTimeException if the value of any field is out of range,
+     *  or if the day-of-month is invalid for the month-year
+     */
+    static long epochDayOf(int prolepticYear, int month, int dayOfMonth) {
+        if (prolepticYear < CUTOVER_YEAR) {
+            return JulianDate.epochDayOf(prolepticYear, month, dayOfMonth);
+        }
+        long isoEpochDay = IsoBatchDateConverter.epochDayOf(prolepticYear, month, dayOfMonth);
+        if (isoEpochDay < CUTOVER_EPOCH_DAY) {
+            return JulianDate.epochDayOf(prolepticYear, month, dayOfMonth);
+        }
+        return isoEpochDay;
+    }
+
     /**
      * Creates a {@code BritishCutoverDate} validating the input.
      *
@@ -240,6 +283,112 @@ public final class BritishCutoverDate
         }
     }
 
+    /**
+     * Creates a {@code BritishCutoverDate} from a packed date.
+     *
+     * @param packed  the packed date, validated
+     * @return the date, not null
+     */
+    private static BritishCutoverDate ofPacked(long packed) {
+        return create(PackedDates.year(packed), PackedDates.month(packed), PackedDates.day(packed));
+    }
+
+    /**
+     * Packs a date, reducing the day-of-month to the last valid day if necessary.
+     * <p>
+     * As with {@link #create(int, int, int)}, a date in the cutover gap is
+     * treated as a Julian date.
+     *
+     * @param prolepticYear  the British Cutover proleptic-year
+     * @param month  the British Cutover month-of-year, validated
+     * @param day  the British Cutover day-of-month, validated
+     * @return the packed date
+     * @throws DateTimeException if the year is out of range
+     */
+    private static long packResolvePrevious(int prolepticYear, int month, int day) {
+        switch (month) {
+            case 2:
+                day = Math.min(day, BritishCutoverChronology.INSTANCE.isLeapYear(prolepticYear) ? 29 : 28);
+                break;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                day = Math.min(day, 30);
+                break;
+        }
+        if (prolepticYear > CUTOVER_YEAR) {
+            YEAR.checkValidValue(prolepticYear);
+        } else if (prolepticYear < CUTOVER_YEAR) {
+            JulianChronology.YEAR_RANGE.checkValidValue(prolepticYear, YEAR);
+        } else {
+            return packEpochDay(epochDayOf(prolepticYear, month, day));
+        }
+        return PackedDates.pack(prolepticYear, month, day);
+    }
+
+    /**
+     * Validates a packed date.
+     * <p>
+     * A date in the cutover gap is resolved as per {@link #create(int, int, int)}.
+     *
+     * @param packed  the packed date
+     * @return the packed date, resolved if in the cutover gap
+     * @throws DateTimeException if the date is invalid
+     */
+    static long checkPacked(long packed) {
+        int prolepticYear = PackedDates.year(packed);
+        long epochDay = epochDayOf(prolepticYear, PackedDates.month(packed), PackedDates.day(packed));
+        return prolepticYear == CUTOVER_YEAR ? packEpochDay(epochDay) : packed;
+    }
+
+    /**
+     * Adds months to a packed date.
+     *
+     * @param packed  the packed date, validated
+     * @param monthsToAdd  the months to add, may be negative
+     * @return the packed date, adjusted to the end of the month if necessary
+     * @throws DateTimeException if the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    static long plusMonthsPacked(long packed, long monthsToAdd) {
+        if (monthsToAdd == 0) {
+            return packed;
+        }
+        long calcEm = Math.addExact(PackedDates.prolepticMonth(packed, 12), monthsToAdd);
+        int newYear = Math.toIntExact(Math.floorDiv(calcEm, 12));
+        int newMonth = (int) (Math.floorMod(calcEm, 12) + 1);
+        return packResolvePrevious(newYear, newMonth, PackedDates.day(packed));
+    }
+
+    /**
+     * Adds years to a packed date.
+     *
+     * @param packed  the packed date, validated
+     * @param yearsToAdd  the years to add, may be negative
+     * @return the packed date, adjusted to the end of the month if necessary
+     * @throws DateTimeException if the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    static long plusYearsPacked(long packed, long yearsToAdd) {
+        if (yearsToAdd == 0) {
+            return packed;
+        }
+        int newYear = YEAR.checkValidIntValue(Math.addExact(PackedDates.year(packed), yearsToAdd));
+        return packResolvePrevious(newYear, PackedDates.month(packed), PackedDates.day(packed));
+    }
+
+    /**
+     * Calculates the number of whole months between two packed dates.
+     *
+     * @param start  the packed start date, validated
+     * @param end  the packed end date, exclusive, validated
+     * @return the number of complete months
+     */
+    static long monthsUntilPacked(long start, long end) {
+        return PackedDates.monthsUntil(start, end, 12);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Creates an instance from an ISO date.
@@ -360,18 +509,7 @@ public final class BritishCutoverDate
 
     @Override
     BritishCutoverDate resolvePrevious(int year, int month, int dayOfMonth) {
-        switch (month) {
-            case 2:
-                dayOfMonth = Math.min(dayOfMonth, getChronology().isLeapYear(year) ? 29 : 28);
-                break;
-            case 4:
-            case 6:
-            case 9:
-            case 11:
-                dayOfMonth = Math.min(dayOfMonth, 30);
-                break;
-        }
-        return create(year, month, dayOfMonth);
+        return ofPacked(packResolvePrevious(year, month, dayOfMonth));
     }
 
     //-----------------------------------------------------------------------
@@ -465,6 +603,22 @@ public final class BritishCutoverDate
         return (amountToSubtract == Long.MIN_VALUE ? plus(Long.MAX_VALUE, unit).plus(1, unit) : plus(-amountToSubtract, unit));
     }
 
+    @Override
+    BritishCutoverDate plusYears(long yearsToAdd) {
+        if (yearsToAdd == 0) {
+            return this;
+        }
+        return ofPacked(plusYearsPacked(toPacked(), yearsToAdd));
+    }
+
+    @Override
+    BritishCutoverDate plusMonths(long months) {
+        if (months == 0) {
+            return this;
+        }
+        return ofPacked(plusMonthsPacked(toPacked(), months));
+    }
+
     //-------------------------------------------------------------------------
     @Override  // for covariant return type
     @SuppressWarnings("unchecked")
@@ -508,6 +662,11 @@ public final class BritishCutoverDate
         return getChronology().period(years, months, days);
     }
 
+    @Override
+    long monthsUntil(AbstractDate end) {
+        return monthsUntilPacked(toPacked(), end.toPacked());
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public long toEpochDay() {
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.chrono;
+
+import static java.time.temporal.ChronoField.DAY_OF_MONTH;
+import static java.time.temporal.ChronoField.MONTH_OF_YEAR;
+import static java.time.temporal.ChronoField.YEAR;
+
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.Chronology;
+
+/**
+ * Batch conversion of dates in any chronology.
+ * <p>
+ * This is used for chronologies that do not implement {@link BatchDateConverter}.
+ * It creates a date object for each element.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe.
+ */
+final class ChronologyBatchDateConverter implements BatchDateConverter {
+
+    /**
+     * The chronology.
+     */
+    private final Chronology chronology;
+
+    /**
+     * Creates an instance.
+     *
+     * @param chronology  the chronology, not null
+     */
+    ChronologyBatchDateConverter(Chronology chronology) {
+        this.chronology = chronology;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public void epochDaysToDates(long[] epochDays, int[] prolepticYears, int[] months, int[] daysOfMonth) {
+        PackedDates.epochDaysToDates(this::packEpochDay, epochDays, prolepticYears, months, daysOfMonth);
+    }
+
+    @Override
+    public void epochDaysToDates(int[] epochDays, int[] prolepticYears, int[] months, int[] daysOfMonth) {
+        PackedDates.epochDaysToDates(this::packEpochDay, epochDays, prolepticYears, months, daysOfMonth);
+    }
+
+    @Override
+    public void datesToEpochDays(int[] prolepticYears, int[] months, int[] daysOfMonth, long[] epochDays) {
+        PackedDates.datesToEpochDays(this::epochDayOf, prolepticYears, months, daysOfMonth, epochDays);
+    }
+
+    @Override
+    public void datesToEpochDays(int[] prolepticYears, int[] months, int[] daysOfMonth, int[] epochDays) {
+        PackedDates.datesToEpochDays(this::epochDayOf, prolepticYears, months, daysOfMonth, epochDays);
+    }
+
+    // creates a date and packs its fields
+    private long packEpochDay(long epochDay) {
+        ChronoLocalDate date = chronology.dateEpochDay(epochDay);
+        return PackedDates.pack(date.get(YEAR), date.get(MONTH_OF_YEAR), date.get(DAY_OF_MONTH));
+    }
+
+    // creates a date and gets its epoch-day
+    private long epochDayOf(int prolepticYear, int month, int dayOfMonth) {
+        return chronology.date(prolepticYear, month, dayOfMonth).toEpochDay();
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return "BatchDateConverter[" + chronology.getId() + "]";
+    }
+
+}
@@ -74,7 +74,7 @@ import java.util.Map;
  */
 public final class CopticChronology
         extends AbstractNileChronology
-        implements Serializable {
+        implements BatchDateConverter, Serializable {
 
     /**
      * Singleton instance for the Coptic chronology.
@@ -210,6 +210,117 @@ public final class CopticChronology
         return CopticDate.ofEpochDay(epochDay);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void epochDaysToDates(long[] epochDays, int[] prolepticYears, int[] months, int[] daysOfMonth) {
+        PackedDates.epochDaysToDates(CopticDate::packEpochDay, epochDays, prolepticYears, months, daysOfMonth);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void epochDaysToDates(int[] epochDays, int[] prolepticYears, int[] months, int[] daysOfMonth) {
+        PackedDates.epochDaysToDates(CopticDate::packEpochDay, epochDays, prolepticYears, months, daysOfMonth);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void datesToEpochDays(int[] prolepticYears, int[] months, int[] daysOfMonth, long[] epochDays) {
+        PackedDates.datesToEpochDays(CopticDate::epochDayOf, prolepticYears, months, daysOfMonth, epochDays);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void datesToEpochDays(int[] prolepticYears, int[] months, int[] daysOfMonth, int[] epochDays) {
+        PackedDates.datesToEpochDays(CopticDate::epochDayOf, prolepticYears, months, daysOfMonth, epochDays);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains the epoch-day of a Coptic date without creating a {@code CopticDate}.
+     * <p>
+     * The date is validated in the same way as {@link #date(int, int, int)}.
+     *
+     * @param prolepticYear  the Coptic proleptic-year
+     * @param month  the Coptic month-of-year
+     * @param dayOfMonth  the Coptic day-of-month
+     * @return the epoch-day, based on 1970-01-01 (ISO)
+     * @throws DateTimeException if the date is invalid
+     */
+    public static long epochDayOf(int prolepticYear, int month, int dayOfMonth) {
+        return CopticDate.epochDayOf(prolepticYear, month, dayOfMonth);
+    }
+
+    /**
+     * Obtains a packed Coptic date from the epoch-day.
+     * <p>
+     * The fields of the result are obtained using {@link PackedDates}.
+     *
+     * @param epochDay  the epoch-day, based on 1970-01-01 (ISO)
+     * @return the packed Coptic date
+     * @throws DateTimeException if the epoch-day is out of range
+     */
+    public static long packedDateEpochDay(long epochDay) {
+        return CopticDate.packEpochDay(epochDay);
+    }
+
+    /**
+     * Adds months to a packed Coptic date.
+     * <p>
+     * This matches {@code plus(months, MONTHS)} on {@code CopticDate},
+     * including the resolution of an invalid day-of-month,
+     * without creating a {@code CopticDate}.
+     *
+     * @param packed  the packed Coptic date
+     * @param months  the months to add, may be negative
+     * @return the packed Coptic date with the months added
+     * @throws DateTimeException if the packed date is invalid, or the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public static long plusMonthsPacked(long packed, long months) {
+        return CopticDate.plusMonthsPacked(CopticDate.checkPacked(packed), months);
+    }
+
+    /**
+     * Adds years to a packed Coptic date.
+     * <p>
+     * This matches {@code plus(years, YEARS)} on {@code CopticDate},
+     * including the resolution of an invalid day-of-month,
+     * without creating a {@code CopticDate}.
+     *
+     * @param packed  the packed Coptic date
+     * @param years  the years to add, may be negative
+     * @return the packed Coptic date with the years added
+     * @throws DateTimeException if the packed date is invalid, or the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public static long plusYearsPacked(long packed, long years) {
+        return CopticDate.plusYearsPacked(CopticDate.checkPacked(packed), years);
+    }
+
+    /**
+     * Calculates the number of complete months between two packed Coptic dates.
+     * <p>
+     * This matches {@code until(end, MONTHS)} on {@code CopticDate},
+     * without creating a {@code CopticDate}.
+     *
+     * @param startPacked  the packed Coptic start date, inclusive
+     * @param endPacked  the packed Coptic end date, exclusive
+     * @return the number of complete months, negative if the end is before the start
+     * @throws DateTimeException if either packed date is invalid
+     */
+    public static long monthsUntilPacked(long startPacked, long endPacked) {
+        return CopticDate.monthsUntilPacked(CopticDate.checkPacked(startPacked), CopticDate.checkPacked(endPacked));
+    }
+
     //-------------------------------------------------------------------------
     /**
      * Obtains the current Coptic local date from the system clock in the default time-zone.
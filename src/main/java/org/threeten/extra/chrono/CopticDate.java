@@ -216,6 +216,17 @@ public final class CopticDate
      * @throws DateTimeException if the epoch-day is out of range
      */
     static CopticDate ofEpochDay(final long epochDay) {
+        return ofPacked(packEpochDay(epochDay));
+    }
+
+    /**
+     * Converts an epoch-day to a packed Coptic date.
+     *
+     * @param epochDay  the epoch day to convert based on 1970-01-01 (ISO)
+     * @return the packed date
+     * @throws DateTimeException if the epoch-day is out of range
+     */
+    static long packEpochDay(final long epochDay) {
         EPOCH_DAY.range().checkValidValue(epochDay, EPOCH_DAY);  // validate outer bounds
         long copticED = epochDay + EPOCH_DAY_DIFFERENCE;
         int adjustment = 0;
@@ -228,14 +239,111 @@ public final class CopticDate
         int doy0 = (int) (copticED - startYearEpochDay);
         int month = doy0 / 30 + 1;
         int dom = doy0 % 30 + 1;
-        return new CopticDate(prolepticYear + adjustment, month, dom);
+        return PackedDates.pack(prolepticYear + adjustment, month, dom);
+    }
+
+    /**
+     * Converts a Coptic date to an epoch-day, validating the input.
+     *
+     * @param prolepticYear  the Coptic proleptic-year
+     * @param month  the Coptic month-of-year, from 1 to 13
+     * @param dayOfMonth  the Coptic day-of-month, from 1 to 30
+     * @return the epoch-day
+     * @throws DateTimeException if the value of any field is out of range,
+     *  or if the day-of-month is invalid for the month-year
+     */
+    static long epochDayOf(int prolepticYear, int month, int dayOfMonth) {
+        checkValid(prolepticYear, month, dayOfMonth);
+        long year = (long) prolepticYear;
+        long calendarEpochDay = ((year - 1) * 365) + Math.floorDiv(year, 4) + (month - 1) * 30 + (dayOfMonth - 1);
+        return calendarEpochDay - EPOCH_DAY_DIFFERENCE;
+    }
+
+    /**
+     * Creates a {@code CopticDate} from a packed date.
+     *
+     * @param packed  the packed date, validated
+     * @return the date, not null
+     */
+    private static CopticDate ofPacked(long packed) {
+        return new CopticDate(PackedDates.year(packed), PackedDates.month(packed), PackedDates.day(packed));
     }
 
     private static CopticDate resolvePreviousValid(int prolepticYear, int month, int day) {
+        return ofPacked(packResolvePrevious(prolepticYear, month, day));
+    }
+
+    /**
+     * Packs a date, reducing the day-of-month to the last valid day if necessary.
+     *
+     * @param prolepticYear  the proleptic-year
+     * @param month  the month-of-year, validated
+     * @param day  the day-of-month, validated
+     * @return the packed date
+     */
+    private static long packResolvePrevious(int prolepticYear, int month, int day) {
         if (month == 13 && day > 5) {
             day = CopticChronology.INSTANCE.isLeapYear(prolepticYear) ? 6 : 5;
         }
-        return new CopticDate(prolepticYear, month, day);
+        return PackedDates.pack(prolepticYear, month, day);
+    }
+
+    /**
+     * Validates a packed date.
+     *
+     * @param packed  the packed date
+     * @return the packed date, unchanged
+     * @throws DateTimeException if the date is invalid
+     */
+    static long checkPacked(long packed) {
+        checkValid(PackedDates.year(packed), PackedDates.month(packed), PackedDates.day(packed));
+        return packed;
+    }
+
+    /**
+     * Adds months to a packed date.
+     *
+     * @param packed  the packed date, validated
+     * @param monthsToAdd  the months to add, may be negative
+     * @return the packed date, adjusted to the end of the month if necessary
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    static long plusMonthsPacked(long packed, long monthsToAdd) {
+        if (monthsToAdd == 0) {
+            return packed;
+        }
+        long calcEm = Math.addExact(PackedDates.prolepticMonth(packed, 13), monthsToAdd);
+        int newYear = Math.toIntExact(Math.floorDiv(calcEm, 13));
+        int newMonth = (int) (Math.floorMod(calcEm, 13) + 1);
+        return packResolvePrevious(newYear, newMonth, PackedDates.day(packed));
+    }
+
+    /**
+     * Adds years to a packed date.
+     *
+     * @param packed  the packed date, validated
+     * @param yearsToAdd  the years to add, may be negative
+     * @return the packed date, adjusted to the end of the month if necessary
+     * @throws DateTimeException if the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    static long plusYearsPacked(long packed, long yearsToAdd) {
+        if (yearsToAdd == 0) {
+            return packed;
+        }
+        int newYear = YEAR.checkValidIntValue(Math.addExact(PackedDates.year(packed), yearsToAdd));
+        return packResolvePrevious(newYear, PackedDates.month(packed), PackedDates.day(packed));
+    }
+
+    /**
+     * Calculates the number of whole months between two packed dates.
+     *
+     * @param start  the packed start date, validated
+     * @param end  the packed end date, exclusive, validated
+     * @return the number of complete months
+     */
+    static long monthsUntilPacked(long start, long end) {
+        return PackedDates.monthsUntil(start, end, 13);
     }
 
     /**
@@ -249,6 +357,20 @@ public final class CopticDate
      *  or if the day-of-month is invalid for the month-year
      */
     static CopticDate create(int prolepticYear, int month, int dayOfMonth) {
+        checkValid(prolepticYear, month, dayOfMonth);
+        return new CopticDate(prolepticYear, month, dayOfMonth);
+    }
+
+    /**
+     * Validates the fields of a date.
+     *
+     * @param prolepticYear  the Coptic proleptic-year
+     * @param month  the Coptic month-of-year, from 1 to 13
+     * @param dayOfMonth  the Coptic day-of-month, from 1 to 30
+     * @throws DateTimeException if the value of any field is out of range,
+     *  or if the day-of-month is invalid for the month-year
+     */
+    private static void checkValid(int prolepticYear, int month, int dayOfMonth) {
         CopticChronology.YEAR_RANGE.checkValidValue(prolepticYear, YEAR);
         CopticChronology.MOY_RANGE.checkValidValue(month, MONTH_OF_YEAR);
         CopticChronology.DOM_RANGE.checkValidValue(dayOfMonth, DAY_OF_MONTH);
@@ -265,7 +387,6 @@ public final class CopticDate
                 }
             }
         }
-        return new CopticDate(prolepticYear, month, dayOfMonth);
     }
 
     //-----------------------------------------------------------------------
@@ -376,6 +497,22 @@ public final class CopticDate
         return (amountToSubtract == Long.MIN_VALUE ? plus(Long.MAX_VALUE, unit).plus(1, unit) : plus(-amountToSubtract, unit));
     }
 
+    @Override
+    CopticDate plusYears(long yearsToAdd) {
+        if (yearsToAdd == 0) {
+            return this;
+        }
+        return ofPacked(plusYearsPacked(toPacked(), yearsToAdd));
+    }
+
+    @Override
+    CopticDate plusMonths(long months) {
+        if (months == 0) {
+            return this;
+        }
+        return ofPacked(plusMonthsPacked(toPacked(), months));
+    }
+
     //-------------------------------------------------------------------------
     @Override  // for covariant return type
     @SuppressWarnings("unchecked")
@@ -393,4 +530,9 @@ public final class CopticDate
         return super.doUntil(CopticDate.from(endDateExclusive));
     }
 
+    @Override
+    long monthsUntil(AbstractDate end) {
+        return monthsUntilPacked(toPacked(), end.toPacked());
+    }
+
 }
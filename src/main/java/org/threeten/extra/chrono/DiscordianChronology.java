@@ -78,7 +78,7 @@ import java.util.Map;
  */
 public final class DiscordianChronology
         extends AbstractChronology
-        implements Serializable {
+        implements BatchDateConverter, Serializable {
 
     /**
      * Singleton instance for the Discordian chronology.
@@ -272,6 +272,118 @@ public final class DiscordianChronology
         return DiscordianDate.ofEpochDay(epochDay);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void epochDaysToDates(long[] epochDays, int[] prolepticYears, int[] months, int[] daysOfMonth) {
+        PackedDates.epochDaysToDates(DiscordianDate::packEpochDay, epochDays, prolepticYears, months, daysOfMonth);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void epochDaysToDates(int[] epochDays, int[] prolepticYears, int[] months, int[] daysOfMonth) {
+        PackedDates.epochDaysToDates(DiscordianDate::packEpochDay, epochDays, prolepticYears, months, daysOfMonth);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void datesToEpochDays(int[] prolepticYears, int[] months, int[] daysOfMonth, long[] epochDays) {
+        PackedDates.datesToEpochDays(DiscordianDate::epochDayOf, prolepticYears, months, daysOfMonth, epochDays);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void datesToEpochDays(int[] prolepticYears, int[] months, int[] daysOfMonth, int[] epochDays) {
+        PackedDates.datesToEpochDays(DiscordianDate::epochDayOf, prolepticYears, months, daysOfMonth, epochDays);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains the epoch-day of a Discordian date without creating a {@code DiscordianDate}.
+     * <p>
+     * The date is validated in the same way as {@link #date(int, int, int)}.
+     *
+     * @param prolepticYear  the Discordian proleptic-year
+     * @param month  the Discordian month-of-year
+     * @param dayOfMonth  the Discordian day-of-month
+     * @return the epoch-day, based on 1970-01-01 (ISO)
+     * @throws DateTimeException if the date is invalid
+     */
+    public static long epochDayOf(int prolepticYear, int month, int dayOfMonth) {
+        return DiscordianDate.epochDayOf(prolepticYear, month, dayOfMonth);
+    }
+
+    /**
+     * Obtains a packed Discordian date from the epoch-day.
+     * <p>
+     * The fields of the result are obtained using {@link PackedDates}.
+     * St. Tib's Day is packed with month zero and day zero, the fields of the date.
+     *
+     * @param epochDay  the epoch-day, based on 1970-01-01 (ISO)
+     * @return the packed Discordian date
+     * @throws DateTimeException if the epoch-day is out of range
+     */
+    public static long packedDateEpochDay(long epochDay) {
+        return DiscordianDate.packEpochDay(epochDay);
+    }
+
+    /**
+     * Adds months to a packed Discordian date.
+     * <p>
+     * This matches {@code plus(months, MONTHS)} on {@code DiscordianDate},
+     * including the handling of St. Tib's Day,
+     * without creating a {@code DiscordianDate}.
+     *
+     * @param packed  the packed Discordian date
+     * @param months  the months to add, may be negative
+     * @return the packed Discordian date with the months added
+     * @throws DateTimeException if the packed date is invalid, or the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public static long plusMonthsPacked(long packed, long months) {
+        return DiscordianDate.plusMonthsPacked(DiscordianDate.checkPacked(packed), months);
+    }
+
+    /**
+     * Adds years to a packed Discordian date.
+     * <p>
+     * This matches {@code plus(years, YEARS)} on {@code DiscordianDate},
+     * including the resolution of St. Tib's Day in a year that is not a leap year,
+     * without creating a {@code DiscordianDate}.
+     *
+     * @param packed  the packed Discordian date
+     * @param years  the years to add, may be negative
+     * @return the packed Discordian date with the years added
+     * @throws DateTimeException if the packed date is invalid, or the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public static long plusYearsPacked(long packed, long years) {
+        return DiscordianDate.plusYearsPacked(DiscordianDate.checkPacked(packed), years);
+    }
+
+    /**
+     * Calculates the number of complete months between two packed Discordian dates.
+     * <p>
+     * This matches {@code until(end, MONTHS)} on {@code DiscordianDate},
+     * without creating a {@code DiscordianDate}.
+     *
+     * @param startPacked  the packed Discordian start date, inclusive
+     * @param endPacked  the packed Discordian end date, exclusive
+     * @return the number of complete months, negative if the end is before the start
+     * @throws DateTimeException if either packed date is invalid
+     */
+    public static long monthsUntilPacked(long startPacked, long endPacked) {
+        return DiscordianDate.monthsUntilPacked(DiscordianDate.checkPacked(startPacked), DiscordianDate.checkPacked(endPacked));
+    }
+
     //-------------------------------------------------------------------------
     /**
      * Obtains the current Discordian local date from the system clock in the default time-zone.
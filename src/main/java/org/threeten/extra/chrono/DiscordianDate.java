@@ -234,20 +234,7 @@ public final class DiscordianDate
             throw new DateTimeException("Invalid date 'DayOfYear 366' as '" + prolepticYear + "' is not a leap year");
         }
 
-        if (leap) {
-            if (dayOfYear == ST_TIBS_OFFSET) {
-                // Take care of special case of St Tib's Day.
-                return new DiscordianDate(prolepticYear, 0, 0);
-            } else if (dayOfYear > ST_TIBS_OFFSET) {
-                // Offset dayOfYear to account for added day.
-                dayOfYear--;
-            }
-        }
-
-        int month = (dayOfYear - 1) / DAYS_IN_MONTH + 1;
-        int dayOfMonth = (dayOfYear - 1) % DAYS_IN_MONTH + 1;
-
-        return new DiscordianDate(prolepticYear, month, dayOfMonth);
+        return ofPacked(packValidYearDay(prolepticYear, dayOfYear, leap));
     }
 
     /**
@@ -259,6 +246,17 @@ public final class DiscordianDate
      * @throws DateTimeException if the epoch-day is out of range
      */
     static DiscordianDate ofEpochDay(final long epochDay) {
+        return ofPacked(packEpochDay(epochDay));
+    }
+
+    /**
+     * Converts an epoch-day to a packed Discordian date.
+     *
+     * @param epochDay  the epoch day to convert based on 1970-01-01 (ISO)
+     * @return the packed date
+     * @throws DateTimeException if the epoch-day is out of range
+     */
+    static long packEpochDay(final long epochDay) {
         DiscordianChronology.EPOCH_DAY_RANGE.checkValidValue(epochDay, EPOCH_DAY);
 
         // use of Discordian 1167 makes leap year at end of long cycle
@@ -268,7 +266,7 @@ public final class DiscordianDate
         long daysInLongCycle = Math.floorMod(discordianEpochDay, DAYS_PER_LONG_CYCLE);
         if (daysInLongCycle == DAYS_PER_LONG_CYCLE - 1) {
             int year = (int) (longCycle * 400) + 400;
-            return ofYearDay(year + OFFSET_FROM_ISO_0000, 366);
+            return packYearDay(year + OFFSET_FROM_ISO_0000, 366);
         }
 
         int cycle = (int) daysInLongCycle / DAYS_PER_CYCLE;
@@ -278,16 +276,123 @@ public final class DiscordianDate
 
         if (dayInShortCycle == DAYS_PER_SHORT_CYCLE - 1) {
             int year = (int) (longCycle * 400) + (cycle * 100) + (shortCycle * 4) + 4;
-            return ofYearDay(year + OFFSET_FROM_ISO_0000, 366);
+            return packYearDay(year + OFFSET_FROM_ISO_0000, 366);
         }
 
         int year = (int) (longCycle * 400) + (cycle * 100) + (shortCycle * 4) + (dayInShortCycle / 365) + 1;
         int dayOfYear = (dayInShortCycle % 365) + 1;
 
-        return ofYearDay(year + OFFSET_FROM_ISO_0000, dayOfYear);
+        return packYearDay(year + OFFSET_FROM_ISO_0000, dayOfYear);
+    }
+
+    /**
+     * Converts a proleptic-year and valid day-of-year to a packed Discordian date.
+     *
+     * @param prolepticYear  the Discordian proleptic-year
+     * @param dayOfYear  the Discordian day-of-year, valid for the year
+     * @return the packed date
+     * @throws DateTimeException if the year is out of range
+     */
+    private static long packYearDay(int prolepticYear, int dayOfYear) {
+        DiscordianChronology.YEAR_RANGE.checkValidValue(prolepticYear, YEAR);
+        return packValidYearDay(prolepticYear, dayOfYear, DiscordianChronology.INSTANCE.isLeapYear(prolepticYear));
+    }
+
+    /**
+     * Converts a valid proleptic-year and day-of-year to a packed Discordian date.
+     *
+     * @param prolepticYear  the Discordian proleptic-year, validated
+     * @param dayOfYear  the Discordian day-of-year, validated
+     * @param leap  whether the year is a leap year
+     * @return the packed date
+     */
+    private static long packValidYearDay(int prolepticYear, int dayOfYear, boolean leap) {
+        if (leap) {
+            if (dayOfYear == ST_TIBS_OFFSET) {
+                // Take care of special case of St Tib's Day.
+                return PackedDates.pack(prolepticYear, 0, 0);
+            } else if (dayOfYear > ST_TIBS_OFFSET) {
+                // Offset dayOfYear to account for added day.
+                dayOfYear--;
+            }
+        }
+
+        int month = (dayOfYear - 1) / DAYS_IN_MONTH + 1;
+        int dayOfMonth = (dayOfYear - 1) % DAYS_IN_MONTH + 1;
+
+        return PackedDates.pack(prolepticYear, month, dayOfMonth);
+    }
+
+    /**
+     * Converts a Discordian date to an epoch-day, validating the input.
+     *
+     * @param prolepticYear  the Discordian proleptic-year
+     * @param month  the Discordian month-of-year, from 0 to 5
+     * @param dayOfMonth  the Discordian day-of-month, from 0 to 73
+     * @return the epoch-day
+     * @throws DateTimeException if the value of any field is out of range,
+     *  or if the day-of-month is invalid for the month-year
+     */
+    static long epochDayOf(int prolepticYear, int month, int dayOfMonth) {
+        checkValid(prolepticYear, month, dayOfMonth);
+        boolean leap = DiscordianChronology.INSTANCE.isLeapYear(prolepticYear);
+        return epochDayOfValid(prolepticYear, dayOfYear(month, dayOfMonth, leap));
+    }
+
+    /**
+     * Converts a valid proleptic-year and day-of-year to an epoch-day.
+     *
+     * @param prolepticYear  the Discordian proleptic-year, validated
+     * @param dayOfYear  the Discordian day-of-year, validated
+     * @return the epoch-day
+     */
+    private static long epochDayOfValid(int prolepticYear, int dayOfYear) {
+        long year = prolepticYear;
+        long discordianEpochDay = ((year - OFFSET_FROM_ISO_0000 - 1) * 365) + getLeapYearsBefore(year) + (dayOfYear - 1);
+        return discordianEpochDay - DISCORDIAN_1167_TO_ISO_1970;
+    }
+
+    /**
+     * Gets the day-of-year of a valid date.
+     *
+     * @param month  the Discordian month-of-year, validated
+     * @param dayOfMonth  the Discordian day-of-month, validated
+     * @param leap  whether the year is a leap year
+     * @return the day-of-year
+     */
+    private static int dayOfYear(int month, int dayOfMonth, boolean leap) {
+        // St. Tib's Day isn't part of any month, but would be the 60th day of the year.
+        if (month == 0 && dayOfMonth == 0) {
+            return ST_TIBS_OFFSET;
+        }
+        int dayOfYear = (month - 1) * DAYS_IN_MONTH + dayOfMonth;
+        // If after St. Tib's day, need to offset to account for it.
+        return dayOfYear + (dayOfYear >= ST_TIBS_OFFSET && leap ? 1 : 0);
+    }
+
+    /**
+     * Creates a {@code DiscordianDate} from a packed date.
+     *
+     * @param packed  the packed date, validated
+     * @return the date, not null
+     */
+    private static DiscordianDate ofPacked(long packed) {
+        return new DiscordianDate(PackedDates.year(packed), PackedDates.month(packed), PackedDates.day(packed));
     }
 
     private static DiscordianDate resolvePreviousValid(int prolepticYear, int month, int day) {
+        return ofPacked(packResolvePrevious(prolepticYear, month, day));
+    }
+
+    /**
+     * Packs a date, resolving St. Tib's Day if the year is not a leap year.
+     *
+     * @param prolepticYear  the Discordian proleptic-year
+     * @param month  the Discordian month-of-year, validated
+     * @param day  the Discordian day-of-month, validated
+     * @return the packed date
+     */
+    private static long packResolvePrevious(int prolepticYear, int month, int day) {
         switch (month) {
             case 0:
                 day = 0;
@@ -301,7 +406,88 @@ public final class DiscordianDate
                     day = ST_TIBS_OFFSET;
                 }
         }
-        return new DiscordianDate(prolepticYear, month, day);
+        return PackedDates.pack(prolepticYear, month, day);
+    }
+
+    /**
+     * Validates a packed date.
+     *
+     * @param packed  the packed date
+     * @return the packed date, unchanged
+     * @throws DateTimeException if the date is invalid
+     */
+    static long checkPacked(long packed) {
+        checkValid(PackedDates.year(packed), PackedDates.month(packed), PackedDates.day(packed));
+        return packed;
+    }
+
+    /**
+     * Gets the proleptic-month of a packed date.
+     *
+     * @param packed  the packed date, validated
+     * @return the proleptic-month
+     */
+    private static long prolepticMonth(long packed) {
+        // Consider St. Tib's day to be part of the 1st month for this count.
+        int month = PackedDates.month(packed);
+        return PackedDates.year(packed) * (long) MONTHS_IN_YEAR + (month == 0 ? 1 : month) - 1;
+    }
+
+    /**
+     * Adds months to a packed date.
+     *
+     * @param packed  the packed date, validated
+     * @param monthsToAdd  the months to add, may be negative
+     * @return the packed date, with St. Tib's Day adjusted if necessary
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    static long plusMonthsPacked(long packed, long monthsToAdd) {
+        if (monthsToAdd == 0) {
+            return packed;
+        }
+        long calcEm = Math.addExact(prolepticMonth(packed), monthsToAdd);
+        int newYear = Math.toIntExact(Math.floorDiv(calcEm, MONTHS_IN_YEAR));
+        int newMonth = (int) (Math.floorMod(calcEm, MONTHS_IN_YEAR) + 1);
+        // If the starting date was St. Tib's Day, attempt to retain that status.
+        if (PackedDates.month(packed) == 0 && newMonth == 1) {
+            newMonth = 0;
+        }
+        return packResolvePrevious(newYear, newMonth, PackedDates.day(packed));
+    }
+
+    /**
+     * Adds years to a packed date.
+     *
+     * @param packed  the packed date, validated
+     * @param yearsToAdd  the years to add, may be negative
+     * @return the packed date, with St. Tib's Day adjusted if necessary
+     * @throws DateTimeException if the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    static long plusYearsPacked(long packed, long yearsToAdd) {
+        if (yearsToAdd == 0) {
+            return packed;
+        }
+        int newYear = YEAR.checkValidIntValue(Math.addExact(PackedDates.year(packed), yearsToAdd));
+        return packResolvePrevious(newYear, PackedDates.month(packed), PackedDates.day(packed));
+    }
+
+    /**
+     * Calculates the number of whole months between two packed dates.
+     *
+     * @param start  the packed start date, validated
+     * @param end  the packed end date, exclusive, validated
+     * @return the number of complete months
+     */
+    static long monthsUntilPacked(long start, long end) {
+        long monthStart = prolepticMonth(start) * 128L;
+        long monthEnd = prolepticMonth(end) * 128L;
+        boolean startTibs = PackedDates.month(start) == 0;
+        boolean endTibs = PackedDates.month(end) == 0;
+        // Toggle offset for St. Tib's Day based on the direction traveled.
+        long packed1 = monthStart + (startTibs && !endTibs ? (monthEnd > monthStart ? ST_TIBS_OFFSET : ST_TIBS_OFFSET - 1) : PackedDates.day(start));  // no overflow
+        long packed2 = monthEnd + (endTibs && !startTibs ? (monthStart > monthEnd ? ST_TIBS_OFFSET : ST_TIBS_OFFSET - 1) : PackedDates.day(end));  // no overflow
+        return (packed2 - packed1) / 128L;
     }
 
     private static long getLeapYearsBefore(long year) {
@@ -320,6 +506,20 @@ public final class DiscordianDate
      *  or if the day-of-year is invalid for the month-year
      */
     static DiscordianDate create(int prolepticYear, int month, int dayOfMonth) {
+        checkValid(prolepticYear, month, dayOfMonth);
+        return new DiscordianDate(prolepticYear, month, dayOfMonth);
+    }
+
+    /**
+     * Validates the fields of a date.
+     *
+     * @param prolepticYear  the Discordian proleptic-year
+     * @param month  the Discordian month-of-year, from 0 to 5
+     * @param dayOfMonth  the Discordian day-of-month, from 0 to 73
+     * @throws DateTimeException if the value of any field is out of range,
+     *  or if the day-of-month is invalid for the month-year
+     */
+    private static void checkValid(int prolepticYear, int month, int dayOfMonth) {
         DiscordianChronology.YEAR_RANGE.checkValidValue(prolepticYear, YEAR);
         DiscordianChronology.MONTH_OF_YEAR_RANGE.checkValidValue(month, MONTH_OF_YEAR);
         DiscordianChronology.DAY_OF_MONTH_RANGE.checkValidValue(dayOfMonth, DAY_OF_MONTH);
@@ -331,8 +531,6 @@ public final class DiscordianDate
                 throw new DateTimeException("Invalid date 'St. Tibs Day' as '" + prolepticYear + "' is not a leap year");
             }
         }
-
-        return new DiscordianDate(prolepticYear, month, dayOfMonth);
     }
 
     //-----------------------------------------------------------------------
@@ -376,13 +574,7 @@ public final class DiscordianDate
 
     @Override
     int getDayOfYear() {
-        // St. Tib's Day isn't part of any month, but would be the 60th day of the year.
-        if (month == 0 && day == 0) {
-            return ST_TIBS_OFFSET;
-        }
-        int dayOfYear = (month - 1) * DAYS_IN_MONTH + day;
-        // If after St. Tib's day, need to offset to account for it.
-        return dayOfYear + (dayOfYear >= ST_TIBS_OFFSET && isLeapYear() ? 1 : 0);
+        return dayOfYear(month, day, isLeapYear());
     }
 
     @Override
@@ -473,8 +665,7 @@ public final class DiscordianDate
 
     @Override
     long getProlepticMonth() {
-        // Consider St. Tib's day to be part of the 1st month for this count.
-        return prolepticYear * MONTHS_IN_YEAR + (month == 0 ? 1 : month) - 1;
+        return prolepticMonth(toPacked());
     }
 
     long getProlepticWeek() {
@@ -619,19 +810,20 @@ public final class DiscordianDate
         return (DiscordianDate) super.plus(amountToAdd, unit);
     }
 
+    @Override
+    DiscordianDate plusYears(long yearsToAdd) {
+        if (yearsToAdd == 0) {
+            return this;
+        }
+        return ofPacked(plusYearsPacked(toPacked(), yearsToAdd));
+    }
+
     @Override
     DiscordianDate plusMonths(long months) {
         if (months == 0) {
             return this;
         }
-        long calcEm = Math.addExact(getProlepticMonth(), months);
-        int newYear = Math.toIntExact(Math.floorDiv(calcEm, MONTHS_IN_YEAR));
-        int newMonth = (int) (Math.floorMod(calcEm, MONTHS_IN_YEAR) + 1);
-        // If the starting date was St. Tib's Day, attempt to retain that status.
-        if (month == 0 && newMonth == 1) {
-            newMonth = 0;
-        }
-        return resolvePrevious(newYear, newMonth, day);
+        return ofPacked(plusMonthsPacked(toPacked(), months));
     }
 
     @Override
@@ -697,13 +889,7 @@ public final class DiscordianDate
 
     @Override
     long monthsUntil(AbstractDate end) {
-        DiscordianDate discordianEnd = DiscordianDate.from(end);
-        long monthStart = this.getProlepticMonth() * 128L;
-        long monthEnd = discordianEnd.getProlepticMonth() * 128L;
-        // Toggle offset for St. Tib's Day based on the direction traveled.
-        long packed1 = monthStart + (this.month == 0 && discordianEnd.month != 0 ? (monthEnd > monthStart ? ST_TIBS_OFFSET : ST_TIBS_OFFSET - 1) : this.getDayOfMonth());  // no overflow
-        long packed2 = monthEnd + (discordianEnd.month == 0 && this.month != 0 ? (monthStart > monthEnd ? ST_TIBS_OFFSET : ST_TIBS_OFFSET - 1) : end.getDayOfMonth());  // no overflow
-        return (packed2 - packed1) / 128L;
+        return monthsUntilPacked(toPacked(), DiscordianDate.from(end).toPacked());
     }
 
     @Override
@@ -720,9 +906,7 @@ public final class DiscordianDate
     //-----------------------------------------------------------------------
     @Override
     public long toEpochDay() {
-        long year = prolepticYear;
-        long discordianEpochDay = ((year - OFFSET_FROM_ISO_0000 - 1) * 365) + getLeapYearsBefore(year) + (getDayOfYear() - 1);
-        return discordianEpochDay - DISCORDIAN_1167_TO_ISO_1970;
+        return epochDayOfValid(prolepticYear, getDayOfYear());
     }
 
     //-------------------------------------------------------------------------
@@ -74,7 +74,7 @@ import java.util.Map;
  */
 public final class EthiopicChronology
         extends AbstractNileChronology
-        implements Serializable {
+        implements BatchDateConverter, Serializable {
 
     /**
      * Singleton instance for the Ethiopic chronology.
@@ -210,6 +210,117 @@ public final class EthiopicChronology
         return EthiopicDate.ofEpochDay(epochDay);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void epochDaysToDates(long[] epochDays, int[] prolepticYears, int[] months, int[] daysOfMonth) {
+        PackedDates.epochDaysToDates(EthiopicDate::packEpochDay, epochDays, prolepticYears, months, daysOfMonth);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void epochDaysToDates(int[] epochDays, int[] prolepticYears, int[] months, int[] daysOfMonth) {
+        PackedDates.epochDaysToDates(EthiopicDate::packEpochDay, epochDays, prolepticYears, months, daysOfMonth);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void datesToEpochDays(int[] prolepticYears, int[] months, int[] daysOfMonth, long[] epochDays) {
+        PackedDates.datesToEpochDays(EthiopicDate::epochDayOf, prolepticYears, months, daysOfMonth, epochDays);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void datesToEpochDays(int[] prolepticYears, int[] months, int[] daysOfMonth, int[] epochDays) {
+        PackedDates.datesToEpochDays(EthiopicDate::epochDayOf, prolepticYears, months, daysOfMonth, epochDays);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains the epoch-day of an Ethiopic date without creating an {@code EthiopicDate}.
+     * <p>
+     * The date is validated in the same way as {@link #date(int, int, int)}.
+     *
+     * @param prolepticYear  the Ethiopic proleptic-year
+     * @param month  the Ethiopic month-of-year
+     * @param dayOfMonth  the Ethiopic day-of-month
+     * @return the epoch-day, based on 1970-01-01 (ISO)
+     * @throws DateTimeException if the date is invalid
+     */
+    public static long epochDayOf(int prolepticYear, int month, int dayOfMonth) {
+        return EthiopicDate.epochDayOf(prolepticYear, month, dayOfMonth);
+    }
+
+    /**
+     * Obtains a packed Ethiopic date from the epoch-day.
+     * <p>
+     * The fields of the result are obtained using {@link PackedDates}.
+     *
+     * @param epochDay  the epoch-day, based on 1970-01-01 (ISO)
+     * @return the packed Ethiopic date
+     * @throws DateTimeException if the epoch-day is out of range
+     */
+    public static long packedDateEpochDay(long epochDay) {
+        return EthiopicDate.packEpochDay(epochDay);
+    }
+
+    /**
+     * Adds months to a packed Ethiopic date.
+     * <p>
+     * This matches {@code plus(months, MONTHS)} on {@code EthiopicDate},
+     * including the resolution of an invalid day-of-month,
+     * without creating an {@code EthiopicDate}.
+     *
+     * @param packed  the packed Ethiopic date
+     * @param months  the months to add, may be negative
+     * @return the packed Ethiopic date with the months added
+     * @throws DateTimeException if the packed date is invalid, or the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public static long plusMonthsPacked(long packed, long months) {
+        return EthiopicDate.plusMonthsPacked(EthiopicDate.checkPacked(packed), months);
+    }
+
+    /**
+     * Adds years to a packed Ethiopic date.
+     * <p>
+     * This matches {@code plus(years, YEARS)} on {@code EthiopicDate},
+     * including the resolution of an invalid day-of-month,
+     * without creating an {@code EthiopicDate}.
+     *
+     * @param packed  the packed Ethiopic date
+     * @param years  the years to add, may be negative
+     * @return the packed Ethiopic date with the years added
+     * @throws DateTimeException if the packed date is invalid, or the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public static long plusYearsPacked(long packed, long years) {
+        return EthiopicDate.plusYearsPacked(EthiopicDate.checkPacked(packed), years);
+    }
+
+    /**
+     * Calculates the number of complete months between two packed Ethiopic dates.
+     * <p>
+     * This matches {@code until(end, MONTHS)} on {@code EthiopicDate},
+     * without creating an {@code EthiopicDate}.
+     *
+     * @param startPacked  the packed Ethiopic start date, inclusive
+     * @param endPacked  the packed Ethiopic end date, exclusive
+     * @return the number of complete months, negative if the end is before the start
+     * @throws DateTimeException if either packed date is invalid
+     */
+    public static long monthsUntilPacked(long startPacked, long endPacked) {
+        return EthiopicDate.monthsUntilPacked(EthiopicDate.checkPacked(startPacked), EthiopicDate.checkPacked(endPacked));
+    }
+
     //-------------------------------------------------------------------------
     /**
      * Obtains the current Ethiopic local date from the system clock in the default time-zone.
@@ -0,0 +1,464 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.chrono;
+
+import static java.time.temporal.ChronoField.ALIGNED_WEEK_OF_YEAR;
+import static org.threeten.extra.chrono.AccountingYearDivision.THIRTEEN_EVEN_MONTHS_OF_4_WEEKS;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An index mapping ISO dates to the fiscal periods of an Accounting calendar.
+ * <p>
+ * Reporting code often needs the fiscal year, period, week and quarter of many dates.
+ * Obtaining these from an {@link AccountingDate} converts each date in full.
+ * This index is built once for a window of dates, and then answers each query
+ * with a few array reads and no allocation.
+ * <p>
+ * The index holds a 16-bit code for each day in the window, the position of the
+ * period containing the day, and a small table describing each period.
+ * The period position is also available directly as a dense key, from zero to
+ * {@link #getPeriodCount()}, suitable for use as an array index when aggregating.
+ * Arrays of epoch-days can be mapped in a single call, such as for columnar data.
+ * <p>
+ * The period is the Accounting month-of-year, from 1 to 12 or 1 to 13.
+ * The week is the aligned week-of-year, from 1 to 53, as Accounting years start on a week boundary.
+ * The quarter is from 1 to 4. Where the year is divided into 12 periods, each quarter is
+ * three periods. Where the year is divided into 13 periods of 4 weeks, each quarter is
+ * 13 weeks, with any 53rd week in the fourth quarter.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class FiscalCalendarIndex {
+
+    /**
+     * The maximum number of periods in an index.
+     */
+    private static final int MAX_PERIODS = Character.MAX_VALUE + 1;
+
+    /**
+     * The chronology.
+     */
+    private final AccountingChronology chronology;
+    /**
+     * The first epoch-day in the window.
+     */
+    private final long startEpochDay;
+    /**
+     * The position of the period containing each day, indexed from the start of the window.
+     */
+    private final char[] dayPeriods;
+    /**
+     * The epoch-day that each period starts on.
+     */
+    private final long[] periodStarts;
+    /**
+     * The proleptic-year of each period.
+     */
+    private final int[] periodYears;
+    /**
+     * The month-of-year of each period.
+     */
+    private final byte[] periodMonths;
+    /**
+     * The number of weeks in the year before each period.
+     */
+    private final byte[] periodWeeksBefore;
+    /**
+     * The quarter of each period, zero for a 13 period year where it depends on the week.
+     */
+    private final byte[] periodQuarters;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an index of the fiscal periods of the chronology for a window of dates.
+     * <p>
+     * Each day in the window uses two bytes, so a window of a century uses about 73 kilobytes.
+     *
+     * @param chronology  the Accounting chronology, not null
+     * @param startInclusive  the first date in the window, not null
+     * @param endExclusive  the date after the last date in the window, not null
+     * @return the index, not null
+     * @throws DateTimeException if the end is not after the start, or the window is too long
+     */
+    public static FiscalCalendarIndex of(AccountingChronology chronology, LocalDate startInclusive, LocalDate endExclusive) {
+        Objects.requireNonNull(chronology, "chronology");
+        Objects.requireNonNull(startInclusive, "startInclusive");
+        Objects.requireNonNull(endExclusive, "endExclusive");
+        if (endExclusive.isAfter(startInclusive) == false) {
+            throw new DateTimeException("End date must be after start date");
+        }
+        long start = startInclusive.toEpochDay();
+        long days = endExclusive.toEpochDay() - start;
+        if (days / 28 + 2 > MAX_PERIODS) {
+            throw new DateTimeException("Window too long for index: " + startInclusive + " to " + endExclusive);
+        }
+        return new FiscalCalendarIndex(chronology, start, (int) days);
+    }
+
+    /**
+     * Constructor, building the index.
+     *
+     * @param chronology  the chronology, not null
+     * @param startEpochDay  the first epoch-day in the window
+     * @param days  the number of days in the window, validated
+     */
+    private FiscalCalendarIndex(AccountingChronology chronology, long startEpochDay, int days) {
+        this.chronology = chronology;
+        this.startEpochDay = startEpochDay;
+        this.dayPeriods = new char[days];
+        int capacity = days / 28 + 2;  // no period is shorter than four weeks
+        long[] starts = new long[capacity];
+        int[] years = new int[capacity];
+        byte[] months = new byte[capacity];
+        byte[] weeksBefore = new byte[capacity];
+        byte[] quarters = new byte[capacity];
+        boolean thirteen = chronology.getDivision() == THIRTEEN_EVEN_MONTHS_OF_4_WEEKS;
+        AccountingDate first = chronology.dateEpochDay(startEpochDay);
+        AccountingDate period = chronology.dateEpochDay(startEpochDay - first.getDayOfMonth() + 1);
+        int count = 0;
+        long periodStart = period.toEpochDay();
+        while (periodStart < startEpochDay + days) {
+            long periodEnd = periodStart + period.lengthOfMonth();
+            starts[count] = periodStart;
+            years[count] = period.getProlepticYear();
+            months[count] = (byte) period.getMonth();
+            weeksBefore[count] = (byte) (period.get(ALIGNED_WEEK_OF_YEAR) - 1);
+            quarters[count] = (byte) (thirteen ? 0 : (period.getMonth() - 1) / 3 + 1);
+            int from = (int) Math.max(periodStart - startEpochDay, 0);
+            int to = (int) Math.min(periodEnd - startEpochDay, days);
+            Arrays.fill(dayPeriods, from, to, (char) count);
+            count++;
+            periodStart = periodEnd;
+            period = chronology.dateEpochDay(periodStart);
+        }
+        this.periodStarts = Arrays.copyOf(starts, count);
+        this.periodYears = Arrays.copyOf(years, count);
+        this.periodMonths = Arrays.copyOf(months, count);
+        this.periodWeeksBefore = Arrays.copyOf(weeksBefore, count);
+        this.periodQuarters = Arrays.copyOf(quarters, count);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the chronology of the index.
+     *
+     * @return the chronology, not null
+     */
+    public AccountingChronology getChronology() {
+        return chronology;
+    }
+
+    /**
+     * Gets the first date in the window.
+     *
+     * @return the start date, inclusive, not null
+     */
+    public LocalDate getStart() {
+        return LocalDate.ofEpochDay(startEpochDay);
+    }
+
+    /**
+     * Gets the date after the last date in the window.
+     *
+     * @return the end date, exclusive, not null
+     */
+    public LocalDate getEnd() {
+        return LocalDate.ofEpochDay(startEpochDay + dayPeriods.length);
+    }
+
+    /**
+     * Checks if the date is in the window of the index.
+     *
+     * @param date  the date to check, not null
+     * @return true if the date can be looked up
+     */
+    public boolean contains(LocalDate date) {
+        long offset = date.toEpochDay() - startEpochDay;
+        return offset >= 0 && offset < dayPeriods.length;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of periods in the index, including those partly in the window.
+     *
+     * @return the number of periods
+     */
+    public int getPeriodCount() {
+        return periodStarts.length;
+    }
+
+    /**
+     * Gets the first day of a period, which may be before the start of the window.
+     *
+     * @param periodIndex  the position of the period, from zero to {@code getPeriodCount() - 1}
+     * @return the first day of the period, not null
+     * @throws IndexOutOfBoundsException if the position is invalid
+     */
+    public AccountingDate getPeriodStart(int periodIndex) {
+        return chronology.date(periodYears[periodIndex], periodMonths[periodIndex], 1);
+    }
+
+    /**
+     * Gets the position of the period containing the epoch-day.
+     * <p>
+     * The first period in the window is at position zero, and each subsequent period
+     * is at the next position, so the position can be used to index an array.
+     *
+     * @param epochDay  the epoch-day to look up
+     * @return the position of the period, from zero to {@code getPeriodCount() - 1}
+     * @throws DateTimeException if the epoch-day is outside the window
+     */
+    public int getPeriodIndex(long epochDay) {
+        long offset = epochDay - startEpochDay;
+        if (offset < 0 || offset >= dayPeriods.length) {
+            throw new DateTimeException("Date outside the window of the index: " + LocalDate.ofEpochDay(epochDay));
+        }
+        return dayPeriods[(int) offset];
+    }
+
+    /**
+     * Gets the fiscal year, the Accounting proleptic-year, of the date.
+     *
+     * @param date  the date to look up, not null
+     * @return the fiscal year
+     * @throws DateTimeException if the date is outside the window
+     */
+    public int getYear(LocalDate date) {
+        return getYear(date.toEpochDay());
+    }
+
+    /**
+     * Gets the fiscal year, the Accounting proleptic-year, of the epoch-day.
+     *
+     * @param epochDay  the epoch-day to look up
+     * @return the fiscal year
+     * @throws DateTimeException if the epoch-day is outside the window
+     */
+    public int getYear(long epochDay) {
+        return periodYears[getPeriodIndex(epochDay)];
+    }
+
+    /**
+     * Gets the fiscal period, the Accounting month-of-year, of the date.
+     *
+     * @param date  the date to look up, not null
+     * @return the fiscal period, from 1 to 12, or 1 to 13
+     * @throws DateTimeException if the date is outside the window
+     */
+    public int getPeriod(LocalDate date) {
+        return getPeriod(date.toEpochDay());
+    }
+
+    /**
+     * Gets the fiscal period, the Accounting month-of-year, of the epoch-day.
+     *
+     * @param epochDay  the epoch-day to look up
+     * @return the fiscal period, from 1 to 12, or 1 to 13
+     * @throws DateTimeException if the epoch-day is outside the window
+     */
+    public int getPeriod(long epochDay) {
+        return periodMonths[getPeriodIndex(epochDay)];
+    }
+
+    /**
+     * Gets the fiscal week, the aligned week-of-year, of the date.
+     *
+     * @param date  the date to look up, not null
+     * @return the fiscal week, from 1 to 53
+     * @throws DateTimeException if the date is outside the window
+     */
+    public int getWeekOfYear(LocalDate date) {
+        return getWeekOfYear(date.toEpochDay());
+    }
+
+    /**
+     * Gets the fiscal week, the aligned week-of-year, of the epoch-day.
+     *
+     * @param epochDay  the epoch-day to look up
+     * @return the fiscal week, from 1 to 53
+     * @throws DateTimeException if the epoch-day is outside the window
+     */
+    public int getWeekOfYear(long epochDay) {
+        int period = getPeriodIndex(epochDay);
+        return weekOfYear(period, epochDay);
+    }
+
+    /**
+     * Gets the fiscal quarter of the date.
+     *
+     * @param date  the date to look up, not null
+     * @return the fiscal quarter, from 1 to 4
+     * @throws DateTimeException if the date is outside the window
+     */
+    public int getQuarter(LocalDate date) {
+        return getQuarter(date.toEpochDay());
+    }
+
+    /**
+     * Gets the fiscal quarter of the epoch-day.
+     *
+     * @param epochDay  the epoch-day to look up
+     * @return the fiscal quarter, from 1 to 4
+     * @throws DateTimeException if the epoch-day is outside the window
+     */
+    public int getQuarter(long epochDay) {
+        int period = getPeriodIndex(epochDay);
+        return quarter(period, epochDay);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Maps an array of epoch-days to the positions of their periods.
+     * <p>
+     * This is equivalent to calling {@link #getPeriodIndex(long)} for each element.
+     * If an exception is thrown, the results are partially updated.
+     *
+     * @param epochDays  the epoch-days to look up, not null
+     * @param results  the array to store the positions in, the same length, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if an epoch-day is outside the window
+     */
+    public void mapPeriodIndexes(long[] epochDays, int[] results) {
+        validateLengths(epochDays, results);
+        for (int i = 0; i < epochDays.length; i++) {
+            results[i] = getPeriodIndex(epochDays[i]);
+        }
+    }
+
+    /**
+     * Maps an array of epoch-days to their fiscal years.
+     * <p>
+     * This is equivalent to calling {@link #getYear(long)} for each element.
+     * If an exception is thrown, the results are partially updated.
+     *
+     * @param epochDays  the epoch-days to look up, not null
+     * @param results  the array to store the fiscal years in, the same length, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if an epoch-day is outside the window
+     */
+    public void mapYears(long[] epochDays, int[] results) {
+        validateLengths(epochDays, results);
+        for (int i = 0; i < epochDays.length; i++) {
+            results[i] = periodYears[getPeriodIndex(epochDays[i])];
+        }
+    }
+
+    /**
+     * Maps an array of epoch-days to their fiscal periods.
+     * <p>
+     * This is equivalent to calling {@link #getPeriod(long)} for each element.
+     * If an exception is thrown, the results are partially updated.
+     *
+     * @param epochDays  the epoch-days to look up, not null
+     * @param results  the array to store the fiscal periods in, the same length, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if an epoch-day is outside the window
+     */
+    public void mapPeriods(long[] epochDays, int[] results) {
+        validateLengths(epochDays, results);
+        for (int i = 0; i < epochDays.length; i++) {
+            results[i] = periodMonths[getPeriodIndex(epochDays[i])];
+        }
+    }
+
+    /**
+     * Maps an array of epoch-days to their fiscal weeks.
+     * <p>
+     * This is equivalent to calling {@link #getWeekOfYear(long)} for each element.
+     * If an exception is thrown, the results are partially updated.
+     *
+     * @param epochDays  the epoch-days to look up, not null
+     * @param results  the array to store the fiscal weeks in, the same length, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if an epoch-day is outside the window
+     */
+    public void mapWeeksOfYear(long[] epochDays, int[] results) {
+        validateLengths(epochDays, results);
+        for (int i = 0; i < epochDays.length; i++) {
+            results[i] = weekOfYear(getPeriodIndex(epochDays[i]), epochDays[i]);
+        }
+    }
+
+    /**
+     * Maps an array of epoch-days to their fiscal quarters.
+     * <p>
+     * This is equivalent to calling {@link #getQuarter(long)} for each element.
+     * If an exception is thrown, the results are partially updated.
+     *
+     * @param epochDays  the epoch-days to look up, not null
+     * @param results  the array to store the fiscal quarters in, the same length, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if an epoch-day is outside the window
+     */
+    public void mapQuarters(long[] epochDays, int[] results) {
+        validateLengths(epochDays, results);
+        for (int i = 0; i < epochDays.length; i++) {
+            results[i] = quarter(getPeriodIndex(epochDays[i]), epochDays[i]);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // gets the week-of-year of a day in the period
+    private int weekOfYear(int period, long epochDay) {
+        return periodWeeksBefore[period] + (int) (epochDay - periodStarts[period]) / 7 + 1;
+    }
+
+    // gets the quarter of a day in the period
+    private int quarter(int period, long epochDay) {
+        int quarter = periodQuarters[period];
+        return (quarter != 0 ? quarter : Math.min((weekOfYear(period, epochDay) - 1) / 13 + 1, 4));
+    }
+
+    // checks the arrays are the same length
+    private static void validateLengths(long[] epochDays, int[] results) {
+        if (epochDays.length != results.length) {
+            throw new IllegalArgumentException("Arrays must have the same length");
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs the index as a {@code String}.
+     *
+     * @return a string representation of the index, not null
+     */
+    @Override
+    public String toString() {
+        return "FiscalCalendarIndex[" + getStart() + '/' + getEnd() + ']';
+    }
+
+}
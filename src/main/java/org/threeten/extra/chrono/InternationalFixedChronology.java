@@ -75,7 +75,7 @@ import java.util.List;
  * <h3>Implementation Requirements</h3>
  * This class is immutable and thread-safe.
  */
-public final class InternationalFixedChronology extends AbstractChronology implements Serializable {
+public final class InternationalFixedChronology extends AbstractChronology implements BatchDateConverter, Serializable {
 
     /**
      * Singleton instance for the International fixed chronology.
@@ -282,6 +282,117 @@ public final class InternationalFixedChronology extends AbstractChronology imple
         return InternationalFixedDate.ofEpochDay(epochDay);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void epochDaysToDates(long[] epochDays, int[] prolepticYears, int[] months, int[] daysOfMonth) {
+        PackedDates.epochDaysToDates(InternationalFixedDate::packEpochDay, epochDays, prolepticYears, months, daysOfMonth);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void epochDaysToDates(int[] epochDays, int[] prolepticYears, int[] months, int[] daysOfMonth) {
+        PackedDates.epochDaysToDates(InternationalFixedDate::packEpochDay, epochDays, prolepticYears, months, daysOfMonth);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void datesToEpochDays(int[] prolepticYears, int[] months, int[] daysOfMonth, long[] epochDays) {
+        PackedDates.datesToEpochDays(InternationalFixedDate::epochDayOf, prolepticYears, months, daysOfMonth, epochDays);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void datesToEpochDays(int[] prolepticYears, int[] months, int[] daysOfMonth, int[] epochDays) {
+        PackedDates.datesToEpochDays(InternationalFixedDate::epochDayOf, prolepticYears, months, daysOfMonth, epochDays);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains the epoch-day of an International Fixed date without creating an {@code InternationalFixedDate}.
+     * <p>
+     * The date is validated in the same way as {@link #date(int, int, int)}.
+     *
+     * @param prolepticYear  the International Fixed proleptic-year
+     * @param month  the International Fixed month-of-year
+     * @param dayOfMonth  the International Fixed day-of-month
+     * @return the epoch-day, based on 1970-01-01 (ISO)
+     * @throws DateTimeException if the date is invalid
+     */
+    public static long epochDayOf(int prolepticYear, int month, int dayOfMonth) {
+        return InternationalFixedDate.epochDayOf(prolepticYear, month, dayOfMonth);
+    }
+
+    /**
+     * Obtains a packed International Fixed date from the epoch-day.
+     * <p>
+     * The fields of the result are obtained using {@link PackedDates}.
+     *
+     * @param epochDay  the epoch-day, based on 1970-01-01 (ISO)
+     * @return the packed International Fixed date
+     * @throws DateTimeException if the epoch-day is out of range
+     */
+    public static long packedDateEpochDay(long epochDay) {
+        return InternationalFixedDate.packEpochDay(epochDay);
+    }
+
+    /**
+     * Adds months to a packed International Fixed date.
+     * <p>
+     * This matches {@code plus(months, MONTHS)} on {@code InternationalFixedDate},
+     * including the resolution of Leap Day and Year Day, day 29, in a month without that day,
+     * without creating an {@code InternationalFixedDate}.
+     *
+     * @param packed  the packed International Fixed date
+     * @param months  the months to add, may be negative
+     * @return the packed International Fixed date with the months added
+     * @throws DateTimeException if the packed date is invalid, or the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public static long plusMonthsPacked(long packed, long months) {
+        return InternationalFixedDate.plusMonthsPacked(InternationalFixedDate.checkPacked(packed), months);
+    }
+
+    /**
+     * Adds years to a packed International Fixed date.
+     * <p>
+     * This matches {@code plus(years, YEARS)} on {@code InternationalFixedDate},
+     * including the resolution of Leap Day in a year that is not a leap year,
+     * without creating an {@code InternationalFixedDate}.
+     *
+     * @param packed  the packed International Fixed date
+     * @param years  the years to add, may be negative
+     * @return the packed International Fixed date with the years added
+     * @throws DateTimeException if the packed date is invalid, or the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public static long plusYearsPacked(long packed, long years) {
+        return InternationalFixedDate.plusYearsPacked(InternationalFixedDate.checkPacked(packed), years);
+    }
+
+    /**
+     * Calculates the number of complete months between two packed International Fixed dates.
+     * <p>
+     * This matches {@code until(end, MONTHS)} on {@code InternationalFixedDate},
+     * without creating an {@code InternationalFixedDate}.
+     *
+     * @param startPacked  the packed International Fixed start date, inclusive
+     * @param endPacked  the packed International Fixed end date, exclusive
+     * @return the number of complete months, negative if the end is before the start
+     * @throws DateTimeException if either packed date is invalid
+     */
+    public static long monthsUntilPacked(long startPacked, long endPacked) {
+        return InternationalFixedDate.monthsUntilPacked(InternationalFixedDate.checkPacked(startPacked), InternationalFixedDate.checkPacked(endPacked));
+    }
+
     //-------------------------------------------------------------------------
     /**
      * Obtains the current International Fixed local date from the system clock in the default time-zone.
@@ -246,6 +246,19 @@ public final class InternationalFixedDate
      *  or if the day-of-year is invalid for the year
      */
     static InternationalFixedDate ofYearDay(int prolepticYear, int dayOfYear) {
+        return ofPacked(packYearDay(prolepticYear, dayOfYear));
+    }
+
+    /**
+     * Converts a proleptic-year and day-of-year to a packed International fixed date, validating the input.
+     *
+     * @param prolepticYear  the International fixed proleptic-year
+     * @param dayOfYear  the International fixed day-of-year
+     * @return the packed date
+     * @throws DateTimeException if the value of any field is out of range,
+     *  or if the day-of-year is invalid for the year
+     */
+    private static long packYearDay(int prolepticYear, int dayOfYear) {
         YEAR_RANGE.checkValidValue(prolepticYear, ChronoField.YEAR_OF_ERA);
         ChronoField.DAY_OF_YEAR.checkValidValue(dayOfYear);
 
@@ -255,10 +268,10 @@ public final class InternationalFixedDate
             throw new DateTimeException("Invalid date 'DayOfYear 366' as '" + prolepticYear + "' is not a leap year");
         }
         if (dayOfYear == lastDoy) {
-            return new InternationalFixedDate(prolepticYear, 13, 29);
+            return PackedDates.pack(prolepticYear, 13, 29);
         }
         if (dayOfYear == LEAP_DAY_AS_DAY_OF_YEAR && isLeapYear) {
-            return new InternationalFixedDate(prolepticYear, 6, 29);
+            return PackedDates.pack(prolepticYear, 6, 29);
         }
         int doy0 = dayOfYear - 1;
         if (dayOfYear >= LEAP_DAY_AS_DAY_OF_YEAR && isLeapYear) {
@@ -266,7 +279,7 @@ public final class InternationalFixedDate
         }
         int month = (doy0 / DAYS_IN_MONTH) + 1;
         int day = (doy0 % DAYS_IN_MONTH) + 1;
-        return new InternationalFixedDate(prolepticYear, month, day);
+        return PackedDates.pack(prolepticYear, month, day);
     }
 
     /**
@@ -278,6 +291,17 @@ public final class InternationalFixedDate
      * @throws DateTimeException if the epoch-day is out of range
      */
     static InternationalFixedDate ofEpochDay(long epochDay) {
+        return ofPacked(packEpochDay(epochDay));
+    }
+
+    /**
+     * Converts an epoch-day to a packed International fixed date.
+     *
+     * @param epochDay  the epoch day to convert based on 1970-01-01 (ISO)
+     * @return the packed date
+     * @throws DateTimeException if the epoch-day is out of range
+     */
+    static long packEpochDay(long epochDay) {
         EPOCH_DAY_RANGE.checkValidValue(epochDay, ChronoField.EPOCH_DAY);
         long zeroDay = epochDay + DAYS_0000_TO_1970;
 
@@ -296,10 +320,60 @@ public final class InternationalFixedDate
         // In some cases, N/0/0 results in (N+1)/0/0 (rubbish), in a way +1 year off.
         if (doy == 0) {
             year -= 1;
-            doy = DAYS_IN_YEAR + (isLeapYear ? 1 : 0);
+            doy = DAYS_IN_YEAR + (INSTANCE.isLeapYear(year) ? 1 : 0);
         }
 
-        return ofYearDay((int) year, (int) doy);
+        return packYearDay((int) year, (int) doy);
+    }
+
+    /**
+     * Converts an International fixed date to an epoch-day, validating the input.
+     *
+     * @param prolepticYear  the International fixed proleptic-year
+     * @param month  the International fixed month-of-year, from 1 to 13
+     * @param dayOfMonth  the International fixed day-of-month, from 1 to 29
+     * @return the epoch-day
+     * @throws DateTimeException if the value of any field is out of range,
+     *  or if the day-of-month is invalid for the month-year
+     */
+    static long epochDayOf(int prolepticYear, int month, int dayOfMonth) {
+        checkValid(prolepticYear, month, dayOfMonth);
+        return epochDayOfValid(prolepticYear, dayOfYear(month, dayOfMonth, INSTANCE.isLeapYear(prolepticYear)));
+    }
+
+    /**
+     * Converts a valid proleptic-year and day-of-year to an epoch-day.
+     *
+     * @param prolepticYear  the International fixed proleptic-year, validated
+     * @param dayOfYear  the International fixed day-of-year, validated
+     * @return the epoch-day
+     */
+    private static long epochDayOfValid(int prolepticYear, int dayOfYear) {
+        long epochDay = ((long) prolepticYear) * DAYS_IN_YEAR +
+                InternationalFixedChronology.getLeapYearsBefore(prolepticYear) + dayOfYear;
+        return epochDay - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Gets the day-of-year of a valid date.
+     *
+     * @param month  the International fixed month-of-year, validated
+     * @param dayOfMonth  the International fixed day-of-month, validated
+     * @param leap  whether the year is a leap year
+     * @return the day-of-year
+     */
+    private static int dayOfYear(int month, int dayOfMonth, boolean leap) {
+        return ((month - 1) * DAYS_IN_MONTH + dayOfMonth) + (month > 6 && leap ? 1 : 0);
+    }
+
+    /**
+     * Creates an {@code InternationalFixedDate} from a packed date.
+     *
+     * @param packed  the packed date, validated
+     * @return the date, not null
+     */
+    private static InternationalFixedDate ofPacked(long packed) {
+        return new InternationalFixedDate(PackedDates.year(packed), PackedDates.month(packed), PackedDates.day(packed));
     }
 
     /**
@@ -315,11 +389,90 @@ public final class InternationalFixedDate
      * @return the resolved date
      */
     private static InternationalFixedDate resolvePreviousValid(int prolepticYear, int month, int day) {
+        return ofPacked(packResolvePrevious(prolepticYear, month, day));
+    }
+
+    /**
+     * Packs a date, reducing the day-of-month to the last valid day if necessary.
+     *
+     * @param prolepticYear  the International fixed proleptic-year
+     * @param month  the International fixed month, from 1 to 13
+     * @param day  the International fixed day-of-month, from 1 to 28 (29 for Leap Day or Year Day)
+     * @return the packed date
+     * @throws DateTimeException if the date is invalid
+     */
+    private static long packResolvePrevious(int prolepticYear, int month, int day) {
         int monthR = Math.min(month, MONTHS_IN_YEAR);
         int dayR = Math.min(day,
             (monthR == 13 || (monthR == 6 && INSTANCE.isLeapYear(prolepticYear)) ? DAYS_IN_LONG_MONTH : DAYS_IN_MONTH));
 
-        return create(prolepticYear, monthR, dayR);
+        checkValid(prolepticYear, monthR, dayR);
+        return PackedDates.pack(prolepticYear, monthR, dayR);
+    }
+
+    /**
+     * Validates a packed date.
+     *
+     * @param packed  the packed date
+     * @return the packed date, unchanged
+     * @throws DateTimeException if the date is invalid
+     */
+    static long checkPacked(long packed) {
+        checkValid(PackedDates.year(packed), PackedDates.month(packed), PackedDates.day(packed));
+        return packed;
+    }
+
+    /**
+     * Adds months to a packed date.
+     *
+     * @param packed  the packed date, validated
+     * @param monthsToAdd  the months to add, may be negative
+     * @return the packed date, adjusted to the end of the month if necessary
+     * @throws DateTimeException if the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    static long plusMonthsPacked(long packed, long monthsToAdd) {
+        if (monthsToAdd == 0) {
+            return packed;
+        }
+        if (monthsToAdd % MONTHS_IN_YEAR == 0) {
+            return plusYearsPacked(packed, monthsToAdd / MONTHS_IN_YEAR);
+        }
+        int newMonth = (int) Math.addExact(PackedDates.prolepticMonth(packed, MONTHS_IN_YEAR), monthsToAdd);
+        int newYear = newMonth / MONTHS_IN_YEAR;
+        newMonth = 1 + (newMonth % MONTHS_IN_YEAR);
+        return packResolvePrevious(newYear, newMonth, PackedDates.day(packed));
+    }
+
+    /**
+     * Adds years to a packed date.
+     *
+     * @param packed  the packed date, validated
+     * @param yearsToAdd  the years to add, may be negative
+     * @return the packed date, adjusted to the end of the month if necessary
+     * @throws DateTimeException if the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    static long plusYearsPacked(long packed, long yearsToAdd) {
+        if (yearsToAdd == 0) {
+            return packed;
+        }
+        int newYear = YEAR_RANGE.checkValidIntValue(Math.addExact(PackedDates.year(packed), yearsToAdd), ChronoField.YEAR);
+        return packResolvePrevious(newYear, PackedDates.month(packed), PackedDates.day(packed));
+    }
+
+    /**
+     * Calculates the number of whole months between two packed dates.
+     *
+     * @param start  the packed start date, validated
+     * @param end  the packed end date, exclusive, validated
+     * @return the number of complete months
+     */
+    static long monthsUntilPacked(long start, long end) {
+        long monthStart = PackedDates.prolepticMonth(start, MONTHS_IN_YEAR) * 32L + PackedDates.day(start);
+        long monthEnd = PackedDates.prolepticMonth(end, MONTHS_IN_YEAR) * 32L + PackedDates.day(end);
+
+        return (monthEnd - monthStart) / 32L;
     }
 
     //-----------------------------------------------------------------------
@@ -333,6 +486,20 @@ public final class InternationalFixedDate
      * @throws DateTimeException if the date is invalid
      */
     static InternationalFixedDate create(int prolepticYear, int month, int dayOfMonth) {
+        checkValid(prolepticYear, month, dayOfMonth);
+        return new InternationalFixedDate(prolepticYear, month, dayOfMonth);
+    }
+
+    /**
+     * Validates the fields of a date.
+     *
+     * @param prolepticYear  the International fixed proleptic-year
+     * @param month  the International fixed month-of-year, from 1 to 13
+     * @param dayOfMonth  the International fixed day-of-month, from 1 to 29
+     * @throws DateTimeException if the value of any field is out of range,
+     *  or if the day-of-month is invalid for the month-year
+     */
+    private static void checkValid(int prolepticYear, int month, int dayOfMonth) {
         YEAR_RANGE.checkValidValue(prolepticYear, ChronoField.YEAR_OF_ERA);
         MONTH_OF_YEAR_RANGE.checkValidValue(month, ChronoField.MONTH_OF_YEAR);
         DAY_OF_MONTH_RANGE.checkValidValue(dayOfMonth, ChronoField.DAY_OF_MONTH);
@@ -343,7 +510,6 @@ public final class InternationalFixedDate
         if (month == 6 && dayOfMonth == DAYS_IN_LONG_MONTH && !INSTANCE.isLeapYear(prolepticYear)) {
             throw new DateTimeException("Invalid Leap Day as '" + prolepticYear + "' is not a leap year");
         }
-        return new InternationalFixedDate(prolepticYear, month, dayOfMonth);
     }
 
     //-----------------------------------------------------------------------
@@ -361,7 +527,7 @@ public final class InternationalFixedDate
         this.isLeapYear = INSTANCE.isLeapYear(prolepticYear);
         this.isLeapDay = this.month == 6 && this.day == 29;
         this.isYearDay = this.month == 13 && this.day == 29;
-        this.dayOfYear = ((month - 1) * DAYS_IN_MONTH + day) + (month > 6 && isLeapYear ? 1 : 0);
+        this.dayOfYear = dayOfYear(month, dayOfMonth, isLeapYear);
     }
 
     /**
@@ -645,13 +811,7 @@ public final class InternationalFixedDate
         if (months == 0) {
             return this;
         }
-        if (months % MONTHS_IN_YEAR == 0) {
-            return plusYears(months / MONTHS_IN_YEAR);
-        }
-        int newMonth = (int) Math.addExact(getProlepticMonth(), months);
-        int newYear = newMonth / MONTHS_IN_YEAR;
-        newMonth = 1 + (newMonth % MONTHS_IN_YEAR);
-        return resolvePreviousValid(newYear, newMonth, day);
+        return ofPacked(plusMonthsPacked(toPacked(), months));
     }
 
     @Override
@@ -659,8 +819,7 @@ public final class InternationalFixedDate
         if (yearsToAdd == 0) {
             return this;
         }
-        int newYear = YEAR_RANGE.checkValidIntValue(Math.addExact(prolepticYear, yearsToAdd), ChronoField.YEAR);
-        return resolvePreviousValid(newYear, month, day);
+        return ofPacked(plusYearsPacked(toPacked(), yearsToAdd));
     }
 
     @Override
@@ -747,19 +906,13 @@ public final class InternationalFixedDate
 
     @Override
     long monthsUntil(AbstractDate end) {
-        InternationalFixedDate date = InternationalFixedDate.from(end);
-        long monthStart = this.getProlepticMonth() * 32L + this.getDayOfMonth();
-        long monthEnd = date.getProlepticMonth() * 32L + date.getDayOfMonth();
-
-        return (monthEnd - monthStart) / 32L;
+        return monthsUntilPacked(toPacked(), InternationalFixedDate.from(end).toPacked());
     }
 
     //-----------------------------------------------------------------------
     @Override
     public long toEpochDay() {
-        long epochDay = ((long) this.prolepticYear) * DAYS_IN_YEAR +
-                InternationalFixedChronology.getLeapYearsBefore(this.prolepticYear) + this.dayOfYear;
-        return epochDay - DAYS_0000_TO_1970;
+        return epochDayOfValid(prolepticYear, dayOfYear);
     }
 
     /**
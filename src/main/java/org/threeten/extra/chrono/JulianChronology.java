@@ -82,7 +82,7 @@ import java.util.Map;
  * <h3>Implementation Requirements</h3>
  * This class is immutable and thread-safe.
  */
-public final class JulianChronology extends AbstractChronology implements Serializable {
+public final class JulianChronology extends AbstractChronology implements BatchDateConverter, Serializable {
 
     /**
      * Singleton instance for the Julian chronology.
@@ -228,6 +228,117 @@ public final class JulianChronology extends AbstractChronology implements Serial
         return JulianDate.ofEpochDay(epochDay);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void epochDaysToDates(long[] epochDays, int[] prolepticYears, int[] months, int[] daysOfMonth) {
+        PackedDates.epochDaysToDates(JulianDate::packEpochDay, epochDays, prolepticYears, months, daysOfMonth);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void epochDaysToDates(int[] epochDays, int[] prolepticYears, int[] months, int[] daysOfMonth) {
+        PackedDates.epochDaysToDates(JulianDate::packEpochDay, epochDays, prolepticYears, months, daysOfMonth);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void datesToEpochDays(int[] prolepticYears, int[] months, int[] daysOfMonth, long[] epochDays) {
+        PackedDates.datesToEpochDays(JulianDate::epochDayOf, prolepticYears, months, daysOfMonth, epochDays);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void datesToEpochDays(int[] prolepticYears, int[] months, int[] daysOfMonth, int[] epochDays) {
+        PackedDates.datesToEpochDays(JulianDate::epochDayOf, prolepticYears, months, daysOfMonth, epochDays);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains the epoch-day of a Julian date without creating a {@code JulianDate}.
+     * <p>
+     * The date is validated in the same way as {@link #date(int, int, int)}.
+     *
+     * @param prolepticYear  the Julian proleptic-year
+     * @param month  the Julian month-of-year
+     * @param dayOfMonth  the Julian day-of-month
+     * @return the epoch-day, based on 1970-01-01 (ISO)
+     * @throws DateTimeException if the date is invalid
+     */
+    public static long epochDayOf(int prolepticYear, int month, int dayOfMonth) {
+        return JulianDate.epochDayOf(prolepticYear, month, dayOfMonth);
+    }
+
+    /**
+     * Obtains a packed Julian date from the epoch-day.
+     * <p>
+     * The fields of the result are obtained using {@link PackedDates}.
+     *
+     * @param epochDay  the epoch-day, based on 1970-01-01 (ISO)
+     * @return the packed Julian date
+     * @throws DateTimeException if the epoch-day is out of range
+     */
+    public static long packedDateEpochDay(long epochDay) {
+        return JulianDate.packEpochDay(epochDay);
+    }
+
+    /**
+     * Adds months to a packed Julian date.
+     * <p>
+     * This matches {@code plus(months, MONTHS)} on {@code JulianDate},
+     * including the resolution of an invalid day-of-month,
+     * without creating a {@code JulianDate}.
+     *
+     * @param packed  the packed Julian date
+     * @param months  the months to add, may be negative
+     * @return the packed Julian date with the months added
+     * @throws DateTimeException if the packed date is invalid, or the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public static long plusMonthsPacked(long packed, long months) {
+        return JulianDate.plusMonthsPacked(JulianDate.checkPacked(packed), months);
+    }
+
+    /**
+     * Adds years to a packed Julian date.
+     * <p>
+     * This matches {@code plus(years, YEARS)} on {@code JulianDate},
+     * including the resolution of an invalid day-of-month,
+     * without creating a {@code JulianDate}.
+     *
+     * @param packed  the packed Julian date
+     * @param years  the years to add, may be negative
+     * @return the packed Julian date with the years added
+     * @throws DateTimeException if the packed date is invalid, or the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public static long plusYearsPacked(long packed, long years) {
+        return JulianDate.plusYearsPacked(JulianDate.checkPacked(packed), years);
+    }
+
+    /**
+     * Calculates the number of complete months between two packed Julian dates.
+     * <p>
+     * This matches {@code until(end, MONTHS)} on {@code JulianDate},
+     * without creating a {@code JulianDate}.
+     *
+     * @param startPacked  the packed Julian start date, inclusive
+     * @param endPacked  the packed Julian end date, exclusive
+     * @return the number of complete months, negative if the end is before the start
+     * @throws DateTimeException if either packed date is invalid
+     */
+    public static long monthsUntilPacked(long startPacked, long endPacked) {
+        return JulianDate.monthsUntilPacked(JulianDate.checkPacked(startPacked), JulianDate.checkPacked(endPacked));
+    }
+
     //-------------------------------------------------------------------------
     /**
      * Obtains the current Julian local date from the system clock in the default time-zone.
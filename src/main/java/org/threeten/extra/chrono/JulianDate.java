@@ -212,13 +212,7 @@ public final class JulianDate
         if (dayOfYear == 366 && leap == false) {
             throw new DateTimeException("Invalid date 'DayOfYear 366' as '" + prolepticYear + "' is not a leap year");
         }
-        Month moy = Month.of((dayOfYear - 1) / 31 + 1);
-        int monthEnd = moy.firstDayOfYear(leap) + moy.length(leap) - 1;
-        if (dayOfYear > monthEnd) {
-            moy = moy.plus(1);
-        }
-        int dom = dayOfYear - moy.firstDayOfYear(leap) + 1;
-        return new JulianDate(prolepticYear, moy.getValue(), dom);
+        return ofPacked(packYearDay(prolepticYear, dayOfYear, leap));
     }
 
     /**
@@ -230,6 +224,17 @@ public final class JulianDate
      * @throws DateTimeException if the epoch-day is out of range
      */
     static JulianDate ofEpochDay(final long epochDay) {
+        return ofPacked(packEpochDay(epochDay));
+    }
+
+    /**
+     * Converts an epoch-day to a packed Julian date.
+     *
+     * @param epochDay  the epoch day to convert based on 1970-01-01 (ISO)
+     * @return the packed date
+     * @throws DateTimeException if the epoch-day is out of range
+     */
+    static long packEpochDay(final long epochDay) {
         EPOCH_DAY.range().checkValidValue(epochDay, EPOCH_DAY);  // validate outer bounds
         // use of Julian 0001 makes leap year at end of cycle
         long julianEpochDay = epochDay + JULIAN_0001_TO_ISO_1970;
@@ -237,14 +242,85 @@ public final class JulianDate
         long daysInCycle = Math.floorMod(julianEpochDay, DAYS_PER_CYCLE);
         if (daysInCycle == DAYS_PER_CYCLE - 1) {
             int year = (int) ((cycle * 4 + 3) + 1);
-            return ofYearDay(year, 366);
+            JulianChronology.YEAR_RANGE.checkValidValue(year, YEAR);
+            return packYearDay(year, 366, true);
         }
         int year = (int) ((cycle * 4 + daysInCycle / 365) + 1);
         int doy = (int) ((daysInCycle % 365) + 1);
-        return ofYearDay(year, doy);
+        JulianChronology.YEAR_RANGE.checkValidValue(year, YEAR);
+        return packYearDay(year, doy, JulianChronology.INSTANCE.isLeapYear(year));
+    }
+
+    /**
+     * Converts a valid proleptic-year and day-of-year to a packed Julian date.
+     *
+     * @param prolepticYear  the Julian proleptic-year, validated
+     * @param dayOfYear  the Julian day-of-year, validated
+     * @param leap  whether the year is a leap year
+     * @return the packed date
+     */
+    private static long packYearDay(int prolepticYear, int dayOfYear, boolean leap) {
+        Month moy = Month.of((dayOfYear - 1) / 31 + 1);
+        int monthEnd = moy.firstDayOfYear(leap) + moy.length(leap) - 1;
+        if (dayOfYear > monthEnd) {
+            moy = moy.plus(1);
+        }
+        int dom = dayOfYear - moy.firstDayOfYear(leap) + 1;
+        return PackedDates.pack(prolepticYear, moy.getValue(), dom);
+    }
+
+    /**
+     * Converts a Julian date to an epoch-day, validating the input.
+     *
+     * @param prolepticYear  the Julian proleptic-year
+     * @param month  the Julian month-of-year, from 1 to 12
+     * @param dayOfMonth  the Julian day-of-month, from 1 to 31
+     * @return the epoch-day
+     * @throws DateTimeException if the value of any field is out of range,
+     *  or if the day-of-month is invalid for the month-year
+     */
+    static long epochDayOf(int prolepticYear, int month, int dayOfMonth) {
+        checkValid(prolepticYear, month, dayOfMonth);
+        boolean leap = JulianChronology.INSTANCE.isLeapYear(prolepticYear);
+        return epochDayOfValid(prolepticYear, Month.of(month).firstDayOfYear(leap) + dayOfMonth - 1);
+    }
+
+    /**
+     * Converts a valid proleptic-year and day-of-year to an epoch-day.
+     *
+     * @param prolepticYear  the Julian proleptic-year, validated
+     * @param dayOfYear  the Julian day-of-year, validated
+     * @return the epoch-day
+     */
+    private static long epochDayOfValid(int prolepticYear, int dayOfYear) {
+        long year = (long) prolepticYear;
+        long julianEpochDay = ((year - 1) * 365) + Math.floorDiv((year - 1), 4) + (dayOfYear - 1);
+        return julianEpochDay - JULIAN_0001_TO_ISO_1970;
+    }
+
+    /**
+     * Creates a {@code JulianDate} from a packed date.
+     *
+     * @param packed  the packed date, validated
+     * @return the date, not null
+     */
+    private static JulianDate ofPacked(long packed) {
+        return new JulianDate(PackedDates.year(packed), PackedDates.month(packed), PackedDates.day(packed));
     }
 
     private static JulianDate resolvePreviousValid(int prolepticYear, int month, int day) {
+        return ofPacked(packResolvePrevious(prolepticYear, month, day));
+    }
+
+    /**
+     * Packs a date, reducing the day-of-month to the last valid day if necessary.
+     *
+     * @param prolepticYear  the Julian proleptic-year
+     * @param month  the Julian month-of-year, validated
+     * @param day  the Julian day-of-month, validated
+     * @return the packed date
+     */
+    private static long packResolvePrevious(int prolepticYear, int month, int day) {
         switch (month) {
             case 2:
                 day = Math.min(day, JulianChronology.INSTANCE.isLeapYear(prolepticYear) ? 29 : 28);
@@ -256,7 +332,65 @@ public final class JulianDate
                 day = Math.min(day, 30);
                 break;
         }
-        return new JulianDate(prolepticYear, month, day);
+        return PackedDates.pack(prolepticYear, month, day);
+    }
+
+    /**
+     * Validates a packed date.
+     *
+     * @param packed  the packed date
+     * @return the packed date, unchanged
+     * @throws DateTimeException if the date is invalid
+     */
+    static long checkPacked(long packed) {
+        checkValid(PackedDates.year(packed), PackedDates.month(packed), PackedDates.day(packed));
+        return packed;
+    }
+
+    /**
+     * Adds months to a packed date.
+     *
+     * @param packed  the packed date, validated
+     * @param monthsToAdd  the months to add, may be negative
+     * @return the packed date, adjusted to the end of the month if necessary
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    static long plusMonthsPacked(long packed, long monthsToAdd) {
+        if (monthsToAdd == 0) {
+            return packed;
+        }
+        long calcEm = Math.addExact(PackedDates.prolepticMonth(packed, 12), monthsToAdd);
+        int newYear = Math.toIntExact(Math.floorDiv(calcEm, 12));
+        int newMonth = (int) (Math.floorMod(calcEm, 12) + 1);
+        return packResolvePrevious(newYear, newMonth, PackedDates.day(packed));
+    }
+
+    /**
+     * Adds years to a packed date.
+     *
+     * @param packed  the packed date, validated
+     * @param yearsToAdd  the years to add, may be negative
+     * @return the packed date, adjusted to the end of the month if necessary
+     * @throws DateTimeException if the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    static long plusYearsPacked(long packed, long yearsToAdd) {
+        if (yearsToAdd == 0) {
+            return packed;
+        }
+        int newYear = YEAR.checkValidIntValue(Math.addExact(PackedDates.year(packed), yearsToAdd));
+        return packResolvePrevious(newYear, PackedDates.month(packed), PackedDates.day(packed));
+    }
+
+    /**
+     * Calculates the number of whole months between two packed dates.
+     *
+     * @param start  the packed start date, validated
+     * @param end  the packed end date, exclusive, validated
+     * @return the number of complete months
+     */
+    static long monthsUntilPacked(long start, long end) {
+        return PackedDates.monthsUntil(start, end, 12);
     }
 
     /**
@@ -270,6 +404,20 @@ public final class JulianDate
      *  or if the day-of-year is invalid for the month-year
      */
     static JulianDate create(int prolepticYear, int month, int dayOfMonth) {
+        checkValid(prolepticYear, month, dayOfMonth);
+        return new JulianDate(prolepticYear, month, dayOfMonth);
+    }
+
+    /**
+     * Validates the fields of a date.
+     *
+     * @param prolepticYear  the Julian proleptic-year
+     * @param month  the Julian month-of-year, from 1 to 12
+     * @param dayOfMonth  the Julian day-of-month, from 1 to 31
+     * @throws DateTimeException if the value of any field is out of range,
+     *  or if the day-of-month is invalid for the month-year
+     */
+    private static void checkValid(int prolepticYear, int month, int dayOfMonth) {
         JulianChronology.YEAR_RANGE.checkValidValue(prolepticYear, YEAR);
         MONTH_OF_YEAR.checkValidValue(month);
         DAY_OF_MONTH.checkValidValue(dayOfMonth);
@@ -294,7 +442,6 @@ public final class JulianDate
                 }
             }
         }
-        return new JulianDate(prolepticYear, month, dayOfMonth);
     }
 
     //-----------------------------------------------------------------------
@@ -433,6 +580,22 @@ public final class JulianDate
         return (amountToSubtract == Long.MIN_VALUE ? plus(Long.MAX_VALUE, unit).plus(1, unit) : plus(-amountToSubtract, unit));
     }
 
+    @Override
+    JulianDate plusYears(long yearsToAdd) {
+        if (yearsToAdd == 0) {
+            return this;
+        }
+        return ofPacked(plusYearsPacked(toPacked(), yearsToAdd));
+    }
+
+    @Override
+    JulianDate plusMonths(long months) {
+        if (months == 0) {
+            return this;
+        }
+        return ofPacked(plusMonthsPacked(toPacked(), months));
+    }
+
     //-------------------------------------------------------------------------
     @Override  // for covariant return type
     @SuppressWarnings("unchecked")
@@ -450,12 +613,15 @@ public final class JulianDate
         return super.doUntil(JulianDate.from(endDateExclusive));
     }
 
+    @Override
+    long monthsUntil(AbstractDate end) {
+        return monthsUntilPacked(toPacked(), end.toPacked());
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public long toEpochDay() {
-        long year = (long) prolepticYear;
-        long julianEpochDay = ((year - 1) * 365) + Math.floorDiv((year - 1), 4) + (getDayOfYear() - 1);
-        return julianEpochDay - JULIAN_0001_TO_ISO_1970;
+        return epochDayOfValid(prolepticYear, getDayOfYear());
     }
 
 }
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.chrono;
+
+import java.time.DateTimeException;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Utilities for dates packed into a {@code long}.
+ * <p>
+ * A packed date holds the proleptic-year in the upper 48 bits, the month in the
+ * next 8 bits and the day in the lowest 8 bits.
+ * The encoding allows a date to be returned from a calculation without allocation.
+ * <p>
+ * Packed dates are produced and consumed by methods of the chronologies in this package,
+ * such as {@link JulianChronology#plusMonthsPacked(long, long)}. These are static methods,
+ * except on {@link AccountingChronology}, where they are instance methods as the calendar
+ * depends on how the chronology was configured.
+ * The encoding carries no chronology, thus a packed date is only meaningful
+ * when used with the chronology that produced it.
+ * Packed dates of the same chronology compare in date order as {@code long} values.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class PackedDates {
+
+    /**
+     * Restricted constructor.
+     */
+    private PackedDates() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Packs a date.
+     * <p>
+     * Only the month and day are checked, to ensure they fit in the encoding.
+     * The chronology methods that accept a packed date validate it as a date.
+     *
+     * @param prolepticYear  the proleptic-year
+     * @param month  the month, from 0 to 255
+     * @param dayOfMonth  the day, from 0 to 255
+     * @return the packed date
+     * @throws DateTimeException if the month or day is outside the range 0 to 255
+     */
+    public static long pack(int prolepticYear, int month, int dayOfMonth) {
+        if (((month | dayOfMonth) & ~0xFF) != 0) {
+            throw new DateTimeException("Invalid month or day for packed date: " + month + ", " + dayOfMonth);
+        }
+        return ((long) prolepticYear << 16) | (month << 8) | dayOfMonth;
+    }
+
+    /**
+     * Gets the proleptic-year of a packed date.
+     *
+     * @param packed  the packed date
+     * @return the proleptic-year
+     */
+    public static int year(long packed) {
+        return (int) (packed >> 16);
+    }
+
+    /**
+     * Gets the month of a packed date.
+     *
+     * @param packed  the packed date
+     * @return the month
+     */
+    public static int month(long packed) {
+        return (int) (packed >>> 8) & 0xFF;
+    }
+
+    /**
+     * Gets the day of a packed date.
+     *
+     * @param packed  the packed date
+     * @return the day
+     */
+    public static int day(long packed) {
+        return (int) packed & 0xFF;
+    }
+
+    /**
+     * Stores the fields of a packed date in arrays.
+     *
+     * @param packed  the packed date
+     * @param index  the index to store at
+     * @param prolepticYears  the proleptic-years, not null
+     * @param months  the months, not null
+     * @param daysOfMonth  the days, not null
+     */
+    static void unpack(long packed, int index, int[] prolepticYears, int[] months, int[] daysOfMonth) {
+        prolepticYears[index] = year(packed);
+        months[index] = month(packed);
+        daysOfMonth[index] = day(packed);
+    }
+
+    /**
+     * Gets the proleptic-month of a packed date, the count of months from year zero.
+     *
+     * @param packed  the packed date
+     * @param monthsInYear  the number of months in each year
+     * @return the proleptic-month
+     */
+    static long prolepticMonth(long packed, int monthsInYear) {
+        return year(packed) * (long) monthsInYear + month(packed) - 1;
+    }
+
+    /**
+     * Calculates the number of whole months between two packed dates.
+     * <p>
+     * This is suitable for chronologies where every year has the same number of months.
+     *
+     * @param start  the packed start date
+     * @param end  the packed end date, exclusive
+     * @param monthsInYear  the number of months in each year
+     * @return the number of complete months
+     */
+    static long monthsUntil(long start, long end, int monthsInYear) {
+        long packed1 = prolepticMonth(start, monthsInYear) * 256L + day(start);  // no overflow
+        long packed2 = prolepticMonth(end, monthsInYear) * 256L + day(end);  // no overflow
+        return (packed2 - packed1) / 256L;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts an array of epoch-days to dates, implementing {@link BatchDateConverter}.
+     *
+     * @param packEpochDay  the function converting an epoch-day to a packed date, not null
+     * @param epochDays  the epoch-days to convert, not null
+     * @param prolepticYears  the array to store the proleptic-years in, not null
+     * @param months  the array to store the months in, not null
+     * @param daysOfMonth  the array to store the days in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if an epoch-day is out of range
+     */
+    static void epochDaysToDates(
+            LongUnaryOperator packEpochDay, long[] epochDays, int[] prolepticYears, int[] months, int[] daysOfMonth) {
+        checkLengths(epochDays.length, prolepticYears, months, daysOfMonth);
+        for (int i = 0; i < epochDays.length; i++) {
+            unpack(packEpochDay.applyAsLong(epochDays[i]), i, prolepticYears, months, daysOfMonth);
+        }
+    }
+
+    /**
+     * Converts an array of epoch-days to dates, implementing {@link BatchDateConverter}.
+     *
+     * @param packEpochDay  the function converting an epoch-day to a packed date, not null
+     * @param epochDays  the epoch-days to convert, not null
+     * @param prolepticYears  the array to store the proleptic-years in, not null
+     * @param months  the array to store the months in, not null
+     * @param daysOfMonth  the array to store the days in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if an epoch-day is out of range
+     */
+    static void epochDaysToDates(
+            LongUnaryOperator packEpochDay, int[] epochDays, int[] prolepticYears, int[] months, int[] daysOfMonth) {
+        checkLengths(epochDays.length, prolepticYears, months, daysOfMonth);
+        for (int i = 0; i < epochDays.length; i++) {
+            unpack(packEpochDay.applyAsLong(epochDays[i]), i, prolepticYears, months, daysOfMonth);
+        }
+    }
+
+    /**
+     * Converts arrays of dates to epoch-days, implementing {@link BatchDateConverter}.
+     *
+     * @param epochDayOf  the function converting a date to an epoch-day, not null
+     * @param prolepticYears  the proleptic-years to convert, not null
+     * @param months  the months to convert, not null
+     * @param daysOfMonth  the days to convert, not null
+     * @param epochDays  the array to store the epoch-days in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if a date is invalid
+     */
+    static void datesToEpochDays(
+            EpochDayFunction epochDayOf, int[] prolepticYears, int[] months, int[] daysOfMonth, long[] epochDays) {
+        checkLengths(epochDays.length, prolepticYears, months, daysOfMonth);
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = epochDayOf.epochDayOf(prolepticYears[i], months[i], daysOfMonth[i]);
+        }
+    }
+
+    /**
+     * Converts arrays of dates to epoch-days, implementing {@link BatchDateConverter}.
+     *
+     * @param epochDayOf  the function converting a date to an epoch-day, not null
+     * @param prolepticYears  the proleptic-years to convert, not null
+     * @param months  the months to convert, not null
+     * @param daysOfMonth  the days to convert, not null
+     * @param epochDays  the array to store the epoch-days in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if a date is invalid, or the epoch-day does not fit in an {@code int}
+     */
+    static void datesToEpochDays(
+            EpochDayFunction epochDayOf, int[] prolepticYears, int[] months, int[] daysOfMonth, int[] epochDays) {
+        checkLengths(epochDays.length, prolepticYears, months, daysOfMonth);
+        for (int i = 0; i < epochDays.length; i++) {
+            long epochDay = epochDayOf.epochDayOf(prolepticYears[i], months[i], daysOfMonth[i]);
+            if (epochDay != (int) epochDay) {
+                throw new DateTimeException("Epoch-day is too large to fit in an int: " + epochDay);
+            }
+            epochDays[i] = (int) epochDay;
+        }
+    }
+
+    // checks that the arrays have the same length
+    private static void checkLengths(int length, int[] prolepticYears, int[] months, int[] daysOfMonth) {
+        if (prolepticYears.length != length || months.length != length || daysOfMonth.length != length) {
+            throw new IllegalArgumentException("Arrays must have the same length");
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A function converting the fields of a date to an epoch-day.
+     */
+    @FunctionalInterface
+    interface EpochDayFunction {
+        /**
+         * Converts a date to an epoch-day, validating the fields.
+         *
+         * @param prolepticYear  the proleptic-year
+         * @param month  the month-of-year
+         * @param dayOfMonth  the day-of-month
+         * @return the epoch-day, based on 1970-01-01 (ISO)
+         * @throws DateTimeException if the date is invalid
+         */
+        long epochDayOf(int prolepticYear, int month, int dayOfMonth);
+    }
+
+}
@@ -79,7 +79,7 @@ import java.util.Map;
  * <h3>Implementation Requirements</h3>
  * This class is immutable and thread-safe.
  */
-public final class PaxChronology extends AbstractChronology implements Serializable {
+public final class PaxChronology extends AbstractChronology implements BatchDateConverter, Serializable {
 
     /**
      * Singleton instance for the Pax chronology.
@@ -264,6 +264,117 @@ public final class PaxChronology extends AbstractChronology implements Serializa
         return PaxDate.ofEpochDay(epochDay);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void epochDaysToDates(long[] epochDays, int[] prolepticYears, int[] months, int[] daysOfMonth) {
+        PackedDates.epochDaysToDates(PaxDate::packEpochDay, epochDays, prolepticYears, months, daysOfMonth);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void epochDaysToDates(int[] epochDays, int[] prolepticYears, int[] months, int[] daysOfMonth) {
+        PackedDates.epochDaysToDates(PaxDate::packEpochDay, epochDays, prolepticYears, months, daysOfMonth);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void datesToEpochDays(int[] prolepticYears, int[] months, int[] daysOfMonth, long[] epochDays) {
+        PackedDates.datesToEpochDays(PaxDate::epochDayOf, prolepticYears, months, daysOfMonth, epochDays);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void datesToEpochDays(int[] prolepticYears, int[] months, int[] daysOfMonth, int[] epochDays) {
+        PackedDates.datesToEpochDays(PaxDate::epochDayOf, prolepticYears, months, daysOfMonth, epochDays);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains the epoch-day of a Pax date without creating a {@code PaxDate}.
+     * <p>
+     * The date is validated in the same way as {@link #date(int, int, int)}.
+     *
+     * @param prolepticYear  the Pax proleptic-year
+     * @param month  the Pax month-of-year
+     * @param dayOfMonth  the Pax day-of-month
+     * @return the epoch-day, based on 1970-01-01 (ISO)
+     * @throws DateTimeException if the date is invalid
+     */
+    public static long epochDayOf(int prolepticYear, int month, int dayOfMonth) {
+        return PaxDate.epochDayOf(prolepticYear, month, dayOfMonth);
+    }
+
+    /**
+     * Obtains a packed Pax date from the epoch-day.
+     * <p>
+     * The fields of the result are obtained using {@link PackedDates}.
+     *
+     * @param epochDay  the epoch-day, based on 1970-01-01 (ISO)
+     * @return the packed Pax date
+     * @throws DateTimeException if the epoch-day is out of range
+     */
+    public static long packedDateEpochDay(long epochDay) {
+        return PaxDate.packEpochDay(epochDay);
+    }
+
+    /**
+     * Adds months to a packed Pax date.
+     * <p>
+     * This matches {@code plus(months, MONTHS)} on {@code PaxDate},
+     * including the resolution of a day-of-month after the end of the leap month Pax,
+     * without creating a {@code PaxDate}.
+     *
+     * @param packed  the packed Pax date
+     * @param months  the months to add, may be negative
+     * @return the packed Pax date with the months added
+     * @throws DateTimeException if the packed date is invalid, or the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public static long plusMonthsPacked(long packed, long months) {
+        return PaxDate.plusMonthsPacked(PaxDate.checkPacked(packed), months);
+    }
+
+    /**
+     * Adds years to a packed Pax date.
+     * <p>
+     * This matches {@code plus(years, YEARS)} on {@code PaxDate},
+     * including the adjustment of the month-of-year for the leap month Pax,
+     * without creating a {@code PaxDate}.
+     *
+     * @param packed  the packed Pax date
+     * @param years  the years to add, may be negative
+     * @return the packed Pax date with the years added
+     * @throws DateTimeException if the packed date is invalid, or the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public static long plusYearsPacked(long packed, long years) {
+        return PaxDate.plusYearsPacked(PaxDate.checkPacked(packed), years);
+    }
+
+    /**
+     * Calculates the number of complete months between two packed Pax dates.
+     * <p>
+     * This matches {@code until(end, MONTHS)} on {@code PaxDate},
+     * without creating a {@code PaxDate}.
+     *
+     * @param startPacked  the packed Pax start date, inclusive
+     * @param endPacked  the packed Pax end date, exclusive
+     * @return the number of complete months, negative if the end is before the start
+     * @throws DateTimeException if either packed date is invalid
+     */
+    public static long monthsUntilPacked(long startPacked, long endPacked) {
+        return PaxDate.monthsUntilPacked(PaxDate.checkPacked(startPacked), PaxDate.checkPacked(endPacked));
+    }
+
     //-------------------------------------------------------------------------
     /**
      * Obtains the current Pax local date from the system clock in the default time-zone.
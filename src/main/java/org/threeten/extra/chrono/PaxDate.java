@@ -193,6 +193,20 @@ public final class PaxDate
      *  or if the day-of-month is invalid for the month-year
      */
     public static PaxDate of(int prolepticYear, int month, int dayOfMonth) {
+        checkValid(prolepticYear, month, dayOfMonth);
+        return new PaxDate(prolepticYear, month, dayOfMonth);
+    }
+
+    /**
+     * Validates the fields of a date.
+     *
+     * @param prolepticYear  the Pax proleptic-year
+     * @param month  the Pax month-of-year, from 1 to 14
+     * @param dayOfMonth  the Pax day-of-month, from 1 to 28
+     * @throws DateTimeException if the value of any field is out of range,
+     *  or if the day-of-month is invalid for the month-year
+     */
+    private static void checkValid(int prolepticYear, int month, int dayOfMonth) {
         YEAR.checkValidValue(prolepticYear);
         PaxChronology.MONTH_OF_YEAR_RANGE.checkValidValue(month, MONTH_OF_YEAR);
         PaxChronology.DAY_OF_MONTH_RANGE.checkValidValue(dayOfMonth, DAY_OF_MONTH);
@@ -203,8 +217,6 @@ public final class PaxDate
         if (dayOfMonth > DAYS_IN_WEEK && month == MONTHS_IN_YEAR && PaxChronology.INSTANCE.isLeapYear(prolepticYear)) {
             throw new DateTimeException("Invalid date during Pax as " + prolepticYear + " is a leap year");
         }
-
-        return new PaxDate(prolepticYear, month, dayOfMonth);
     }
 
     /**
@@ -246,6 +258,19 @@ public final class PaxDate
      *  or if the day-of-year is invalid for the year
      */
     static PaxDate ofYearDay(int prolepticYear, int dayOfYear) {
+        return ofPacked(packYearDay(prolepticYear, dayOfYear));
+    }
+
+    /**
+     * Converts a proleptic-year and day-of-year to a packed Pax date, validating the input.
+     *
+     * @param prolepticYear  the Pax proleptic-year
+     * @param dayOfYear  the Pax day-of-year
+     * @return the packed date
+     * @throws DateTimeException if the value of any field is out of range,
+     *  or if the day-of-year is invalid for the year
+     */
+    private static long packYearDay(int prolepticYear, int dayOfYear) {
         YEAR.checkValidValue(prolepticYear);
         PaxChronology.DAY_OF_YEAR_RANGE.checkValidValue(dayOfYear, DAY_OF_YEAR);
         boolean leap = PaxChronology.INSTANCE.isLeapYear(prolepticYear);
@@ -268,7 +293,7 @@ public final class PaxDate
             dayOfMonth += (DAYS_IN_MONTH - DAYS_IN_WEEK);
         }
 
-        return of(prolepticYear, month, dayOfMonth);
+        return PackedDates.pack(prolepticYear, month, dayOfMonth);
     }
 
     /**
@@ -280,6 +305,17 @@ public final class PaxDate
      * @throws DateTimeException if the epoch-day is out of range
      */
     static PaxDate ofEpochDay(long epochDay) {
+        return ofPacked(packEpochDay(epochDay));
+    }
+
+    /**
+     * Converts an epoch-day to a packed Pax date.
+     *
+     * @param epochDay  the epoch day to convert based on 1970-01-01 (ISO)
+     * @return the packed date
+     * @throws DateTimeException if the epoch-day is out of range
+     */
+    static long packEpochDay(long epochDay) {
         EPOCH_DAY.range().checkValidValue(epochDay, EPOCH_DAY);
         // use of Pax 0001 makes non-leap century at end of (long) cycle.
         long paxEpochDay = epochDay + PAX_0001_TO_ISO_1970;
@@ -289,7 +325,7 @@ public final class PaxDate
         if (dayOfCycle >= DAYS_PER_CYCLE - DAYS_IN_YEAR - DAYS_IN_WEEK) {
             // Is in the century year
             int dayOfYear = dayOfCycle - (DAYS_PER_CYCLE - DAYS_IN_YEAR - DAYS_IN_WEEK) + 1;
-            return ofYearDay(longCycle * (4 * YEARS_IN_CENTURY) + cycle * YEARS_IN_CENTURY + YEARS_IN_CENTURY, dayOfYear);
+            return packYearDay(longCycle * (4 * YEARS_IN_CENTURY) + cycle * YEARS_IN_CENTURY + YEARS_IN_CENTURY, dayOfYear);
         }
 
         // For negative years, the cycle of leap years runs the other direction for 99s and 6s.
@@ -297,7 +333,7 @@ public final class PaxDate
             if (dayOfCycle >= DAYS_PER_CYCLE - 2 * DAYS_IN_YEAR - 2 * DAYS_IN_WEEK) {
                 // Is in the '99 year
                 int dayOfYear = dayOfCycle - (DAYS_PER_CYCLE - 2 * DAYS_IN_YEAR - 2 * DAYS_IN_WEEK) + 1;
-                return ofYearDay(longCycle * (4 * YEARS_IN_CENTURY) + cycle * YEARS_IN_CENTURY + (YEARS_IN_CENTURY - 1), dayOfYear);
+                return packYearDay(longCycle * (4 * YEARS_IN_CENTURY) + cycle * YEARS_IN_CENTURY + (YEARS_IN_CENTURY - 1), dayOfYear);
             }
             // Otherwise, part of the regular 6-year cycle.
             int sixCycle = dayOfCycle / DAYS_PER_SIX_CYCLE;
@@ -308,11 +344,11 @@ public final class PaxDate
                 year--;
                 dayOfYear += DAYS_IN_YEAR;
             }
-            return ofYearDay(longCycle * (4 * YEARS_IN_CENTURY) + cycle * YEARS_IN_CENTURY + sixCycle * 6 + year, dayOfYear);
+            return packYearDay(longCycle * (4 * YEARS_IN_CENTURY) + cycle * YEARS_IN_CENTURY + sixCycle * 6 + year, dayOfYear);
         } else {
             if (dayOfCycle < DAYS_IN_YEAR + DAYS_IN_WEEK) {
                 // -'99 year is at _start_ of cycle (first year encountered).
-                return ofYearDay(longCycle * (4 * YEARS_IN_CENTURY) + cycle * YEARS_IN_CENTURY + 1, dayOfCycle + 1);
+                return packYearDay(longCycle * (4 * YEARS_IN_CENTURY) + cycle * YEARS_IN_CENTURY + 1, dayOfCycle + 1);
             }
             // Otherwise, part of the regular 6-year cycle, but offset -'96 to be end of six-year-cycle first.
             int offsetCycle = dayOfCycle + 2 * DAYS_IN_YEAR - DAYS_IN_WEEK;
@@ -324,14 +360,164 @@ public final class PaxDate
                 year--;
                 dayOfYear += DAYS_IN_YEAR;
             }
-            return ofYearDay(longCycle * (4 * YEARS_IN_CENTURY) + cycle * YEARS_IN_CENTURY - 2 + (sixCycle * 6 + year), dayOfYear);
+            return packYearDay(longCycle * (4 * YEARS_IN_CENTURY) + cycle * YEARS_IN_CENTURY - 2 + (sixCycle * 6 + year), dayOfYear);
         }
     }
 
+    /**
+     * Converts a Pax date to an epoch-day, validating the input.
+     *
+     * @param prolepticYear  the Pax proleptic-year
+     * @param month  the Pax month-of-year, from 1 to 14
+     * @param dayOfMonth  the Pax day-of-month, from 1 to 28
+     * @return the epoch-day
+     * @throws DateTimeException if the value of any field is out of range,
+     *  or if the day-of-month is invalid for the month-year
+     */
+    static long epochDayOf(int prolepticYear, int month, int dayOfMonth) {
+        checkValid(prolepticYear, month, dayOfMonth);
+        return epochDayOfValid(prolepticYear, dayOfYear(month, dayOfMonth));
+    }
+
+    /**
+     * Converts a valid proleptic-year and day-of-year to an epoch-day.
+     *
+     * @param prolepticYear  the Pax proleptic-year, validated
+     * @param dayOfYear  the Pax day-of-year, validated
+     * @return the epoch-day
+     */
+    private static long epochDayOfValid(int prolepticYear, int dayOfYear) {
+        long paxEpochDay = ((long) prolepticYear - 1) * DAYS_IN_YEAR + getLeapYearsBefore(prolepticYear) * DAYS_IN_WEEK + dayOfYear - 1;
+        return paxEpochDay - PAX_0001_TO_ISO_1970;
+    }
+
+    /**
+     * Gets the day-of-year of a valid date.
+     *
+     * @param month  the Pax month-of-year, validated
+     * @param dayOfMonth  the Pax day-of-month, validated
+     * @return the day-of-year
+     */
+    private static int dayOfYear(int month, int dayOfMonth) {
+        return (month - 1) * DAYS_IN_MONTH
+                - (month == MONTHS_IN_YEAR + 1 ? DAYS_IN_MONTH - DAYS_IN_WEEK : 0) + dayOfMonth;
+    }
+
+    /**
+     * Creates a {@code PaxDate} from a packed date.
+     *
+     * @param packed  the packed date, validated
+     * @return the date, not null
+     */
+    private static PaxDate ofPacked(long packed) {
+        return new PaxDate(PackedDates.year(packed), PackedDates.month(packed), PackedDates.day(packed));
+    }
+
     private static PaxDate resolvePreviousValid(int prolepticYear, int month, int day) {
+        return ofPacked(packResolvePrevious(prolepticYear, month, day));
+    }
+
+    /**
+     * Packs a date, reducing the month and day-of-month to the last valid values if necessary.
+     *
+     * @param prolepticYear  the Pax proleptic-year
+     * @param month  the Pax month-of-year, from 1 to 14
+     * @param day  the Pax day-of-month, from 1 to 28
+     * @return the packed date
+     * @throws DateTimeException if the date is invalid
+     */
+    private static long packResolvePrevious(int prolepticYear, int month, int day) {
         int monthR = Math.min(month, MONTHS_IN_YEAR + (PaxChronology.INSTANCE.isLeapYear(prolepticYear) ? 1 : 0));
         int dayR = Math.min(day, month == MONTHS_IN_YEAR && PaxChronology.INSTANCE.isLeapYear(prolepticYear) ? DAYS_IN_WEEK : DAYS_IN_MONTH);
-        return PaxDate.of(prolepticYear, monthR, dayR);
+        checkValid(prolepticYear, monthR, dayR);
+        return PackedDates.pack(prolepticYear, monthR, dayR);
+    }
+
+    /**
+     * Validates a packed date.
+     *
+     * @param packed  the packed date
+     * @return the packed date, unchanged
+     * @throws DateTimeException if the date is invalid
+     */
+    static long checkPacked(long packed) {
+        checkValid(PackedDates.year(packed), PackedDates.month(packed), PackedDates.day(packed));
+        return packed;
+    }
+
+    /**
+     * Get the proleptic month of a packed date from the start of the epoch (Pax 0000).
+     *
+     * @param packed  the packed date, validated
+     * @return The proleptic month.
+     */
+    private static long prolepticMonth(long packed) {
+        int prolepticYear = PackedDates.year(packed);
+        return ((long) prolepticYear) * MONTHS_IN_YEAR + getLeapYearsBefore(prolepticYear) + PackedDates.month(packed) - 1;
+    }
+
+    /**
+     * Adds months to a packed date.
+     *
+     * @param packed  the packed date, validated
+     * @param monthsToAdd  the months to add, may be negative
+     * @return the packed date, adjusted to the end of the month if necessary
+     * @throws DateTimeException if the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    static long plusMonthsPacked(long packed, long monthsToAdd) {
+        if (monthsToAdd == 0) {
+            return packed;
+        }
+        long calcMonths = Math.addExact(prolepticMonth(packed), monthsToAdd);
+        // "Regularize" the month count, as if years were all 13 months long.
+        long monthsRegularized = calcMonths - getLeapMonthsBefore(calcMonths);
+        int newYear = YEAR.checkValidIntValue(Math.floorDiv(monthsRegularized, MONTHS_IN_YEAR));
+        int newMonth = Math.toIntExact(calcMonths - ((long) newYear * MONTHS_IN_YEAR + getLeapYearsBefore(newYear)) + 1);
+        return packResolvePrevious(newYear, newMonth, PackedDates.day(packed));
+    }
+
+    /**
+     * Adds years to a packed date.
+     *
+     * @param packed  the packed date, validated
+     * @param yearsToAdd  the years to add, may be negative
+     * @return the packed date, see {@link #plusYears(long)} for the month handling
+     * @throws DateTimeException if the result exceeds the supported range
+     */
+    static long plusYearsPacked(long packed, long yearsToAdd) {
+        if (yearsToAdd == 0) {
+            return packed;
+        }
+        int prolepticYear = PackedDates.year(packed);
+        int month = PackedDates.month(packed);
+        int day = PackedDates.day(packed);
+        int newYear = YEAR.checkValidIntValue(prolepticYear + yearsToAdd);
+        // Retain actual month (not index) in the case where a leap month is to be inserted.
+        if (month == MONTHS_IN_YEAR && !PaxChronology.INSTANCE.isLeapYear(prolepticYear) && PaxChronology.INSTANCE.isLeapYear(newYear)) {
+            checkValid(newYear, MONTHS_IN_YEAR + 1, day);
+            return PackedDates.pack(newYear, MONTHS_IN_YEAR + 1, day);
+        }
+        // Otherwise, one of the following is true:
+        // 1 - Before the leap month, nothing to do (most common)
+        // 2 - Both source and destination in leap-month, nothing to do
+        // 3 - Both source and destination after leap month in leap year, nothing to do
+        // 4 - Source in leap month, but destination year not leap. Retain month index, preserving day-of-year.
+        // 5 - Source after leap month, but destination year not leap. Move month index back.
+        return packResolvePrevious(newYear, month, day);
+    }
+
+    /**
+     * Calculates the number of whole months between two packed dates.
+     *
+     * @param start  the packed start date, validated
+     * @param end  the packed end date, exclusive, validated
+     * @return the number of complete months
+     */
+    static long monthsUntilPacked(long start, long end) {
+        long packed1 = prolepticMonth(start) * 256L + PackedDates.day(start);  // no overflow
+        long packed2 = prolepticMonth(end) * 256L + PackedDates.day(end);  // no overflow
+        return (packed2 - packed1) / 256L;
     }
 
     /**
@@ -421,8 +607,7 @@ public final class PaxDate
 
     @Override
     int getDayOfYear() {
-        return (month - 1) * DAYS_IN_MONTH
-                - (month == MONTHS_IN_YEAR + 1 ? DAYS_IN_MONTH - DAYS_IN_WEEK : 0) + getDayOfMonth();
+        return dayOfYear(month, day);
     }
 
     @Override
@@ -457,7 +642,7 @@ public final class PaxDate
      */
     @Override
     long getProlepticMonth() {
-        return ((long) getProlepticYear()) * MONTHS_IN_YEAR + getLeapYearsBefore(getProlepticYear()) + month - 1;
+        return prolepticMonth(toPacked());
     }
 
     //-----------------------------------------------------------------------
@@ -562,18 +747,7 @@ public final class PaxDate
         if (yearsToAdd == 0) {
             return this;
         }
-        int newYear = YEAR.checkValidIntValue(getProlepticYear() + yearsToAdd);
-        // Retain actual month (not index) in the case where a leap month is to be inserted.
-        if (month == MONTHS_IN_YEAR && !isLeapYear() && PaxChronology.INSTANCE.isLeapYear(newYear)) {
-            return of(newYear, MONTHS_IN_YEAR + 1, getDayOfMonth());
-        }
-        // Otherwise, one of the following is true:
-        // 1 - Before the leap month, nothing to do (most common)
-        // 2 - Both source and destination in leap-month, nothing to do
-        // 3 - Both source and destination after leap month in leap year, nothing to do
-        // 4 - Source in leap month, but destination year not leap. Retain month index, preserving day-of-year.
-        // 5 - Source after leap month, but destination year not leap. Move month index back.
-        return resolvePreviousValid(newYear, month, day);
+        return ofPacked(plusYearsPacked(toPacked(), yearsToAdd));
     }
 
     /**
@@ -600,12 +774,7 @@ public final class PaxDate
         if (monthsToAdd == 0) {
             return this;
         }
-        long calcMonths = Math.addExact(getProlepticMonth(), monthsToAdd);
-        // "Regularize" the month count, as if years were all 13 months long.
-        long monthsRegularized = calcMonths - getLeapMonthsBefore(calcMonths);
-        int newYear = YEAR.checkValidIntValue(Math.floorDiv(monthsRegularized, MONTHS_IN_YEAR));
-        int newMonth = Math.toIntExact(calcMonths - ((long) newYear * MONTHS_IN_YEAR + getLeapYearsBefore(newYear)) + 1);
-        return resolvePreviousValid(newYear, newMonth, getDayOfMonth());
+        return ofPacked(plusMonthsPacked(toPacked(), monthsToAdd));
     }
 
     @Override
@@ -674,11 +843,15 @@ public final class PaxDate
         return getChronology().period(years, months, days);
     }
 
+    @Override
+    long monthsUntil(AbstractDate end) {
+        return monthsUntilPacked(toPacked(), end.toPacked());
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public long toEpochDay() {
-        long paxEpochDay = ((long) getProlepticYear() - 1) * DAYS_IN_YEAR + getLeapYearsBefore(getProlepticYear()) * DAYS_IN_WEEK + getDayOfYear() - 1;
-        return paxEpochDay - PAX_0001_TO_ISO_1970;
+        return epochDayOfValid(prolepticYear, getDayOfYear());
     }
 
 }
@@ -83,7 +83,7 @@ import java.util.List;
  */
 public final class Symmetry010Chronology
         extends AbstractChronology
-        implements Serializable {
+        implements BatchDateConverter, Serializable {
 
     /**
      * Singleton instance for the Symmetry010 chronology.
@@ -314,6 +314,117 @@ public final class Symmetry010Chronology
         return Symmetry010Date.ofEpochDay(epochDay);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void epochDaysToDates(long[] epochDays, int[] prolepticYears, int[] months, int[] daysOfMonth) {
+        PackedDates.epochDaysToDates(Symmetry010Date::packEpochDay, epochDays, prolepticYears, months, daysOfMonth);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void epochDaysToDates(int[] epochDays, int[] prolepticYears, int[] months, int[] daysOfMonth) {
+        PackedDates.epochDaysToDates(Symmetry010Date::packEpochDay, epochDays, prolepticYears, months, daysOfMonth);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void datesToEpochDays(int[] prolepticYears, int[] months, int[] daysOfMonth, long[] epochDays) {
+        PackedDates.datesToEpochDays(Symmetry010Date::epochDayOf, prolepticYears, months, daysOfMonth, epochDays);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void datesToEpochDays(int[] prolepticYears, int[] months, int[] daysOfMonth, int[] epochDays) {
+        PackedDates.datesToEpochDays(Symmetry010Date::epochDayOf, prolepticYears, months, daysOfMonth, epochDays);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains the epoch-day of a Symmetry010 date without creating a {@code Symmetry010Date}.
+     * <p>
+     * The date is validated in the same way as {@link #date(int, int, int)}.
+     *
+     * @param prolepticYear  the Symmetry010 proleptic-year
+     * @param month  the Symmetry010 month-of-year
+     * @param dayOfMonth  the Symmetry010 day-of-month
+     * @return the epoch-day, based on 1970-01-01 (ISO)
+     * @throws DateTimeException if the date is invalid
+     */
+    public static long epochDayOf(int prolepticYear, int month, int dayOfMonth) {
+        return Symmetry010Date.epochDayOf(prolepticYear, month, dayOfMonth);
+    }
+
+    /**
+     * Obtains a packed Symmetry010 date from the epoch-day.
+     * <p>
+     * The fields of the result are obtained using {@link PackedDates}.
+     *
+     * @param epochDay  the epoch-day, based on 1970-01-01 (ISO)
+     * @return the packed Symmetry010 date
+     * @throws DateTimeException if the epoch-day is out of range
+     */
+    public static long packedDateEpochDay(long epochDay) {
+        return Symmetry010Date.packEpochDay(epochDay);
+    }
+
+    /**
+     * Adds months to a packed Symmetry010 date.
+     * <p>
+     * This matches {@code plus(months, MONTHS)} on {@code Symmetry010Date},
+     * including the resolution of an invalid day-of-month,
+     * without creating a {@code Symmetry010Date}.
+     *
+     * @param packed  the packed Symmetry010 date
+     * @param months  the months to add, may be negative
+     * @return the packed Symmetry010 date with the months added
+     * @throws DateTimeException if the packed date is invalid, or the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public static long plusMonthsPacked(long packed, long months) {
+        return Symmetry010Date.plusMonthsPacked(Symmetry010Date.checkPacked(packed), months);
+    }
+
+    /**
+     * Adds years to a packed Symmetry010 date.
+     * <p>
+     * This matches {@code plus(years, YEARS)} on {@code Symmetry010Date},
+     * including the resolution of an invalid day-of-month,
+     * without creating a {@code Symmetry010Date}.
+     *
+     * @param packed  the packed Symmetry010 date
+     * @param years  the years to add, may be negative
+     * @return the packed Symmetry010 date with the years added
+     * @throws DateTimeException if the packed date is invalid, or the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public static long plusYearsPacked(long packed, long years) {
+        return Symmetry010Date.plusYearsPacked(Symmetry010Date.checkPacked(packed), years);
+    }
+
+    /**
+     * Calculates the number of complete months between two packed Symmetry010 dates.
+     * <p>
+     * This matches {@code until(end, MONTHS)} on {@code Symmetry010Date},
+     * without creating a {@code Symmetry010Date}.
+     *
+     * @param startPacked  the packed Symmetry010 start date, inclusive
+     * @param endPacked  the packed Symmetry010 end date, exclusive
+     * @return the number of complete months, negative if the end is before the start
+     * @throws DateTimeException if either packed date is invalid
+     */
+    public static long monthsUntilPacked(long startPacked, long endPacked) {
+        return Symmetry010Date.monthsUntilPacked(Symmetry010Date.checkPacked(startPacked), Symmetry010Date.checkPacked(endPacked));
+    }
+
     //-------------------------------------------------------------------------
     /**
      * Obtains the current Symmetry010 local date from the system clock in the default time-zone.
@@ -431,7 +542,7 @@ public final class Symmetry010Chronology
      */
     @Override
     public boolean isLeapYear(long year) {
-        return WEEKS_IN_YEAR > ((WEEKS_IN_YEAR * year + 146) % YEARS_IN_CYCLE);
+        return WEEKS_IN_YEAR > Math.floorMod(WEEKS_IN_YEAR * year + 146, YEARS_IN_CYCLE);
     }
 
     //-----------------------------------------------------------------------
@@ -80,7 +80,7 @@ import java.util.List;
  */
 public final class Symmetry454Chronology
         extends AbstractChronology
-        implements Serializable {
+        implements BatchDateConverter, Serializable {
 
     /**
      * Singleton instance for the Symmetry454 chronology.
@@ -307,6 +307,117 @@ public final class Symmetry454Chronology
         return Symmetry454Date.ofEpochDay(epochDay);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void epochDaysToDates(long[] epochDays, int[] prolepticYears, int[] months, int[] daysOfMonth) {
+        PackedDates.epochDaysToDates(Symmetry454Date::packEpochDay, epochDays, prolepticYears, months, daysOfMonth);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void epochDaysToDates(int[] epochDays, int[] prolepticYears, int[] months, int[] daysOfMonth) {
+        PackedDates.epochDaysToDates(Symmetry454Date::packEpochDay, epochDays, prolepticYears, months, daysOfMonth);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void datesToEpochDays(int[] prolepticYears, int[] months, int[] daysOfMonth, long[] epochDays) {
+        PackedDates.datesToEpochDays(Symmetry454Date::epochDayOf, prolepticYears, months, daysOfMonth, epochDays);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void datesToEpochDays(int[] prolepticYears, int[] months, int[] daysOfMonth, int[] epochDays) {
+        PackedDates.datesToEpochDays(Symmetry454Date::epochDayOf, prolepticYears, months, daysOfMonth, epochDays);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains the epoch-day of a Symmetry454 date without creating a {@code Symmetry454Date}.
+     * <p>
+     * The date is validated in the same way as {@link #date(int, int, int)}.
+     *
+     * @param prolepticYear  the Symmetry454 proleptic-year
+     * @param month  the Symmetry454 month-of-year
+     * @param dayOfMonth  the Symmetry454 day-of-month
+     * @return the epoch-day, based on 1970-01-01 (ISO)
+     * @throws DateTimeException if the date is invalid
+     */
+    public static long epochDayOf(int prolepticYear, int month, int dayOfMonth) {
+        return Symmetry454Date.epochDayOf(prolepticYear, month, dayOfMonth);
+    }
+
+    /**
+     * Obtains a packed Symmetry454 date from the epoch-day.
+     * <p>
+     * The fields of the result are obtained using {@link PackedDates}.
+     *
+     * @param epochDay  the epoch-day, based on 1970-01-01 (ISO)
+     * @return the packed Symmetry454 date
+     * @throws DateTimeException if the epoch-day is out of range
+     */
+    public static long packedDateEpochDay(long epochDay) {
+        return Symmetry454Date.packEpochDay(epochDay);
+    }
+
+    /**
+     * Adds months to a packed Symmetry454 date.
+     * <p>
+     * This matches {@code plus(months, MONTHS)} on {@code Symmetry454Date},
+     * including the resolution of an invalid day-of-month,
+     * without creating a {@code Symmetry454Date}.
+     *
+     * @param packed  the packed Symmetry454 date
+     * @param months  the months to add, may be negative
+     * @return the packed Symmetry454 date with the months added
+     * @throws DateTimeException if the packed date is invalid, or the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public static long plusMonthsPacked(long packed, long months) {
+        return Symmetry454Date.plusMonthsPacked(Symmetry454Date.checkPacked(packed), months);
+    }
+
+    /**
+     * Adds years to a packed Symmetry454 date.
+     * <p>
+     * This matches {@code plus(years, YEARS)} on {@code Symmetry454Date},
+     * including the resolution of an invalid day-of-month,
+     * without creating a {@code Symmetry454Date}.
+     *
+     * @param packed  the packed Symmetry454 date
+     * @param years  the years to add, may be negative
+     * @return the packed Symmetry454 date with the years added
+     * @throws DateTimeException if the packed date is invalid, or the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public static long plusYearsPacked(long packed, long years) {
+        return Symmetry454Date.plusYearsPacked(Symmetry454Date.checkPacked(packed), years);
+    }
+
+    /**
+     * Calculates the number of complete months between two packed Symmetry454 dates.
+     * <p>
+     * This matches {@code until(end, MONTHS)} on {@code Symmetry454Date},
+     * without creating a {@code Symmetry454Date}.
+     *
+     * @param startPacked  the packed Symmetry454 start date, inclusive
+     * @param endPacked  the packed Symmetry454 end date, exclusive
+     * @return the number of complete months, negative if the end is before the start
+     * @throws DateTimeException if either packed date is invalid
+     */
+    public static long monthsUntilPacked(long startPacked, long endPacked) {
+        return Symmetry454Date.monthsUntilPacked(Symmetry454Date.checkPacked(startPacked), Symmetry454Date.checkPacked(endPacked));
+    }
+
     //-------------------------------------------------------------------------
     /**
      * Obtains the current Symmetry454 local date from the system clock in the default time-zone.
@@ -424,7 +535,7 @@ public final class Symmetry454Chronology
      */
     @Override
     public boolean isLeapYear(long year) {
-        return WEEKS_IN_YEAR > ((WEEKS_IN_YEAR * year + 146) % YEARS_IN_CYCLE);
+        return WEEKS_IN_YEAR > Math.floorMod(WEEKS_IN_YEAR * year + 146, YEARS_IN_CYCLE);
     }
 
     //-----------------------------------------------------------------------
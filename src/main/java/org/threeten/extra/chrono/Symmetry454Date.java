@@ -233,6 +233,19 @@ public final class Symmetry454Date
      *  or if the day-of-year is invalid for the year
      */
     static Symmetry454Date ofYearDay(int prolepticYear, int dayOfYear) {
+        return ofPacked(packYearDay(prolepticYear, dayOfYear));
+    }
+
+    /**
+     * Converts a proleptic-year and day-of-year to a packed Symmetry454 date, validating the input.
+     *
+     * @param prolepticYear  the Symmetry454 proleptic-year
+     * @param dayOfYear  the Symmetry454 day-of-year
+     * @return the packed date
+     * @throws DateTimeException if the value of any field is out of range,
+     *  or if the day-of-year is invalid for the year
+     */
+    private static long packYearDay(int prolepticYear, int dayOfYear) {
         YEAR_RANGE.checkValidValue(prolepticYear, ChronoField.YEAR_OF_ERA);
         DAY_OF_YEAR_RANGE.checkValidValue(dayOfYear, ChronoField.DAY_OF_YEAR);
         boolean leap = INSTANCE.isLeapYear(prolepticYear);
@@ -252,7 +265,7 @@ public final class Symmetry454Date
             month += 1;
             day -= DAYS_IN_MONTH;
         }
-        return new Symmetry454Date(prolepticYear, month, day);
+        return PackedDates.pack(prolepticYear, month, day);
     }
 
     /**
@@ -264,9 +277,20 @@ public final class Symmetry454Date
      * @throws DateTimeException if the epoch-day is out of range
      */
     static Symmetry454Date ofEpochDay(long epochDay) {
+        return ofPacked(packEpochDay(epochDay));
+    }
+
+    /**
+     * Converts an epoch-day to a packed Symmetry454 date.
+     *
+     * @param epochDay  the epoch day to convert based on 1970-01-01 (ISO)
+     * @return the packed date
+     * @throws DateTimeException if the epoch-day is out of range
+     */
+    static long packEpochDay(long epochDay) {
         EPOCH_DAY_RANGE.checkValidValue(epochDay + 3, ChronoField.EPOCH_DAY);
         long zeroDay = epochDay + DAYS_0001_TO_1970 + 1;
-        long year = 1 + ((293 * zeroDay) / DAYS_PER_CYCLE);
+        long year = 1 + Math.floorDiv(293 * zeroDay, DAYS_PER_CYCLE);
         long doy = zeroDay - (DAYS_IN_YEAR * (year - 1) + Symmetry454Chronology.getLeapYearsBefore(year) * DAYS_IN_WEEK);
 
         if (doy < 1) {
@@ -279,7 +303,57 @@ public final class Symmetry454Date
             doy -= diy;
             year++;
         }
-        return ofYearDay((int) year, (int) doy);
+        return packYearDay((int) year, (int) doy);
+    }
+
+    /**
+     * Converts a Symmetry454 date to an epoch-day, validating the input.
+     *
+     * @param prolepticYear  the Symmetry454 proleptic-year
+     * @param month  the Symmetry454 month-of-year, from 1 to 12
+     * @param dayOfMonth  the Symmetry454 day-of-month, from 1 to 35
+     * @return the epoch-day
+     * @throws DateTimeException if the value of any field is out of range,
+     *  or if the day-of-month is invalid for the month-year
+     */
+    static long epochDayOf(int prolepticYear, int month, int dayOfMonth) {
+        checkValid(prolepticYear, month, dayOfMonth);
+        return epochDayOfValid(prolepticYear, dayOfYear(month, dayOfMonth));
+    }
+
+    /**
+     * Converts a valid proleptic-year and day-of-year to an epoch-day.
+     *
+     * @param prolepticYear  the Symmetry454 proleptic-year, validated
+     * @param dayOfYear  the Symmetry454 day-of-year, validated
+     * @return the epoch-day
+     */
+    private static long epochDayOfValid(int prolepticYear, int dayOfYear) {
+        return (long) (prolepticYear - 1) * DAYS_IN_YEAR +
+                Symmetry454Chronology.getLeapYearsBefore(prolepticYear) * DAYS_IN_WEEK +
+                dayOfYear -
+                DAYS_0001_TO_1970 - 1;
+    }
+
+    /**
+     * Gets the day-of-year of a valid date.
+     *
+     * @param month  the Symmetry454 month-of-year, validated
+     * @param dayOfMonth  the Symmetry454 day-of-month, validated
+     * @return the day-of-year
+     */
+    private static int dayOfYear(int month, int dayOfMonth) {
+        return DAYS_IN_MONTH * (month - 1) + DAYS_IN_WEEK * (month / 3) + dayOfMonth;
+    }
+
+    /**
+     * Creates a {@code Symmetry454Date} from a packed date.
+     *
+     * @param packed  the packed date, validated
+     * @return the date, not null
+     */
+    private static Symmetry454Date ofPacked(long packed) {
+        return new Symmetry454Date(PackedDates.year(packed), PackedDates.month(packed), PackedDates.day(packed));
     }
 
     /**
@@ -294,11 +368,85 @@ public final class Symmetry454Date
      * @return the resolved date
      */
     private static Symmetry454Date resolvePreviousValid(int prolepticYear, int month, int day) {
+        return ofPacked(packResolvePrevious(prolepticYear, month, day));
+    }
+
+    /**
+     * Packs a date, reducing the month and day-of-month to the last valid values if necessary.
+     *
+     * @param prolepticYear  the proleptic-year
+     * @param month  the month, from 1 to 12
+     * @param day  the day-of-month
+     * @return the packed date
+     * @throws DateTimeException if the date is invalid
+     */
+    private static long packResolvePrevious(int prolepticYear, int month, int day) {
         int monthR = Math.min(month, MONTHS_IN_YEAR);
         int dayR = Math.min(day,
             (monthR % 3 == 2) || (monthR == 12 && INSTANCE.isLeapYear(prolepticYear)) ? DAYS_IN_MONTH_LONG : DAYS_IN_MONTH);
+        checkValid(prolepticYear, monthR, dayR);
+        return PackedDates.pack(prolepticYear, monthR, dayR);
+    }
+
+    /**
+     * Validates a packed date.
+     *
+     * @param packed  the packed date
+     * @return the packed date, unchanged
+     * @throws DateTimeException if the date is invalid
+     */
+    static long checkPacked(long packed) {
+        checkValid(PackedDates.year(packed), PackedDates.month(packed), PackedDates.day(packed));
+        return packed;
+    }
 
-        return create(prolepticYear, monthR, dayR);
+    /**
+     * Adds months to a packed date.
+     *
+     * @param packed  the packed date, validated
+     * @param monthsToAdd  the months to add, may be negative
+     * @return the packed date, adjusted to the end of the month if necessary
+     * @throws DateTimeException if the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    static long plusMonthsPacked(long packed, long monthsToAdd) {
+        if (monthsToAdd == 0) {
+            return packed;
+        }
+        long calcEm = Math.addExact(PackedDates.prolepticMonth(packed, MONTHS_IN_YEAR), monthsToAdd);
+        int newYear = Math.toIntExact(Math.floorDiv(calcEm, MONTHS_IN_YEAR));
+        int newMonth = (int) (Math.floorMod(calcEm, MONTHS_IN_YEAR) + 1);
+        return packResolvePrevious(newYear, newMonth, PackedDates.day(packed));
+    }
+
+    /**
+     * Adds years to a packed date.
+     *
+     * @param packed  the packed date, validated
+     * @param yearsToAdd  the years to add, may be negative
+     * @return the packed date, adjusted to the end of the month if necessary
+     * @throws DateTimeException if the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    static long plusYearsPacked(long packed, long yearsToAdd) {
+        if (yearsToAdd == 0) {
+            return packed;
+        }
+        int newYear = ChronoField.YEAR.checkValidIntValue(Math.addExact(PackedDates.year(packed), yearsToAdd));
+        return packResolvePrevious(newYear, PackedDates.month(packed), PackedDates.day(packed));
+    }
+
+    /**
+     * Calculates the number of whole months between two packed dates.
+     *
+     * @param start  the packed start date, validated
+     * @param end  the packed end date, exclusive, validated
+     * @return the number of complete months
+     */
+    static long monthsUntilPacked(long start, long end) {
+        long monthStart = PackedDates.prolepticMonth(start, MONTHS_IN_YEAR) * 64L + PackedDates.day(start);
+        long monthEnd = PackedDates.prolepticMonth(end, MONTHS_IN_YEAR) * 64L + PackedDates.day(end);
+        return (monthEnd - monthStart) / 64L;
     }
 
     //-----------------------------------------------------------------------
@@ -313,6 +461,20 @@ public final class Symmetry454Date
      * @throws DateTimeException if the date is invalid
      */
     static Symmetry454Date create(int prolepticYear, int month, int dayOfMonth) {
+        checkValid(prolepticYear, month, dayOfMonth);
+        return new Symmetry454Date(prolepticYear, month, dayOfMonth);
+    }
+
+    /**
+     * Validates the fields of a date.
+     *
+     * @param prolepticYear  the Symmetry454 proleptic-year
+     * @param month  the Symmetry454 month-of-year, from 1 to 12
+     * @param dayOfMonth  the Symmetry454 day-of-month, from 1 to 35
+     * @throws DateTimeException if the value of any field is out of range,
+     *  or if the day-of-month is invalid for the month-year
+     */
+    private static void checkValid(int prolepticYear, int month, int dayOfMonth) {
         YEAR_RANGE.checkValidValue(prolepticYear, ChronoField.YEAR_OF_ERA);
         MONTH_OF_YEAR_RANGE.checkValidValue(month, ChronoField.MONTH_OF_YEAR);
         DAY_OF_MONTH_RANGE.checkValidValue(dayOfMonth, ChronoField.DAY_OF_MONTH);
@@ -326,7 +488,6 @@ public final class Symmetry454Date
                 throw new DateTimeException("Invalid date: " + prolepticYear + '/' + month + '/' + dayOfMonth);
             }
         }
-        return new Symmetry454Date(prolepticYear, month, dayOfMonth);
     }
 
     //-----------------------------------------------------------------------
@@ -342,7 +503,7 @@ public final class Symmetry454Date
         this.prolepticYear = prolepticYear;
         this.month = month;
         this.day = dayOfMonth;
-        this.dayOfYear = DAYS_IN_MONTH * (month - 1) + DAYS_IN_WEEK * (month / 3) + dayOfMonth;
+        this.dayOfYear = dayOfYear(month, dayOfMonth);
     }
 
     /**
@@ -589,6 +750,22 @@ public final class Symmetry454Date
         return (Symmetry454Date) super.minus(amountToSubtract, unit);
     }
 
+    @Override
+    Symmetry454Date plusYears(long yearsToAdd) {
+        if (yearsToAdd == 0) {
+            return this;
+        }
+        return ofPacked(plusYearsPacked(toPacked(), yearsToAdd));
+    }
+
+    @Override
+    Symmetry454Date plusMonths(long months) {
+        if (months == 0) {
+            return this;
+        }
+        return ofPacked(plusMonthsPacked(toPacked(), months));
+    }
+
     //-------------------------------------------------------------------------
     @Override  // for covariant return type
     @SuppressWarnings("unchecked")
@@ -618,7 +795,7 @@ public final class Symmetry454Date
         Symmetry454Date end = Symmetry454Date.from(endDateExclusive);
         int years = Math.toIntExact(yearsUntil(end));
         // Get to the same "whole" year.
-        Symmetry454Date sameYearEnd = (Symmetry454Date) plusYears(years);
+        Symmetry454Date sameYearEnd = plusYears(years);
         int months = (int) sameYearEnd.monthsUntil(end);
         int days = (int) sameYearEnd.plusMonths(months).daysUntil(end);
         return getChronology().period(years, months, days);
@@ -634,22 +811,13 @@ public final class Symmetry454Date
 
     @Override
     long monthsUntil(AbstractDate end) {
-        Symmetry454Date date = Symmetry454Date.from(end);
-        long monthStart = this.getProlepticMonth() * 64L + this.getDayOfMonth();
-        long monthEnd = date.getProlepticMonth() * 64L + date.getDayOfMonth();
-        return (monthEnd - monthStart) / 64L;
+        return monthsUntilPacked(toPacked(), Symmetry454Date.from(end).toPacked());
     }
 
     //-----------------------------------------------------------------------
     @Override
     public long toEpochDay() {
-        long epochDay =
-                (long) (this.prolepticYear - 1) * DAYS_IN_YEAR +
-                Symmetry454Chronology.getLeapYearsBefore(this.prolepticYear) * DAYS_IN_WEEK +
-                this.dayOfYear -
-                DAYS_0001_TO_1970 - 1;
-
-        return epochDay;
+        return epochDayOfValid(prolepticYear, dayOfYear);
     }
 
     /**
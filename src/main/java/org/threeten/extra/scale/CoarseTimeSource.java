@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+import org.threeten.extra.CoarseClock;
+
+/**
+ * A time-source that caches the instant of a clock, refreshing it periodically.
+ * <p>
+ * This class is designed for code that reads the time many times, where precision
+ * is not required. The instant is cached by a {@link CoarseClock}, whose daemon thread
+ * reads the clock at the specified granularity. The {@code UtcInstant} and {@code TaiInstant}
+ * are converted at most once per refresh, by the first read that needs them, and stored
+ * together with the {@code Instant}, so that other reads only read the stored value.
+ * The UTC and TAI instants are converted using the system leap-second rules.
+ * <p>
+ * The instant returned may be behind the clock by up to the granularity,
+ * or more if the refresh thread is delayed. Once the time-source is closed,
+ * the refresh thread stops and reads go directly to the clock.
+ * As the refresh thread keeps running until then, a time-source should be
+ * closed when it is no longer needed.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is thread-safe.
+ * It is not serializable, as it owns a thread.
+ */
+public final class CoarseTimeSource implements TimeSource, AutoCloseable {
+
+    /**
+     * The clock.
+     */
+    private final Clock clock;
+    /**
+     * The coarse clock caching the instant.
+     */
+    private final CoarseClock coarseClock;
+    /**
+     * The reading of the last instant converted, not null.
+     */
+    private volatile Reading reading;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a time-source caching the system clock at the specified granularity.
+     *
+     * @param granularity  the interval between refreshes, positive, not null
+     * @return the time-source, not null
+     * @throws IllegalArgumentException if the granularity is not positive
+     */
+    public static CoarseTimeSource system(Duration granularity) {
+        return of(Clock.systemUTC(), granularity);
+    }
+
+    /**
+     * Obtains a time-source caching the specified clock at the specified granularity.
+     * <p>
+     * A daemon thread is started to refresh the instant, which runs until the time-source is closed.
+     *
+     * @param clock  the clock to cache, not null
+     * @param granularity  the interval between refreshes, positive, not null
+     * @return the time-source, not null
+     * @throws IllegalArgumentException if the granularity is not positive
+     */
+    public static CoarseTimeSource of(Clock clock, Duration granularity) {
+        Objects.requireNonNull(clock, "clock");
+        // convert before starting the refresh thread, so that a failure does not leave it running
+        Reading reading = new Reading(clock.instant());
+        return new CoarseTimeSource(clock, CoarseClock.of(clock, granularity), reading);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param clock  the clock, validated not null
+     * @param coarseClock  the coarse clock caching the clock, not null
+     * @param reading  the initial reading, not null
+     */
+    private CoarseTimeSource(Clock clock, CoarseClock coarseClock, Reading reading) {
+        this.clock = clock;
+        this.coarseClock = coarseClock;
+        this.reading = reading;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the granularity at which the instant is refreshed.
+     *
+     * @return the granularity, not null
+     */
+    public Duration getGranularity() {
+        return coarseClock.getGranularity();
+    }
+
+    /**
+     * Checks if the time-source has been closed.
+     *
+     * @return true if closed, when reads go directly to the clock
+     */
+    public boolean isClosed() {
+        return coarseClock.isClosed();
+    }
+
+    /**
+     * Closes the time-source, stopping the refresh thread.
+     * <p>
+     * After closing, reads go directly to the clock.
+     */
+    @Override
+    public void close() {
+        coarseClock.close();
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public Instant instant() {
+        return coarseClock.instant();
+    }
+
+    @Override
+    public UtcInstant utcInstant() {
+        return reading().utcInstant;
+    }
+
+    @Override
+    public TaiInstant taiInstant() {
+        return reading().taiInstant;
+    }
+
+    // gets the reading of the current instant, converting it if it has changed since the last read
+    private Reading reading() {
+        Instant instant = coarseClock.instant();
+        Reading reading = this.reading;
+        if (reading.instant != instant) {
+            reading = new Reading(instant);
+            this.reading = reading;
+        }
+        return reading;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs this time-source as a {@code String}.
+     *
+     * @return a string representation of this time-source, not null
+     */
+    @Override
+    public String toString() {
+        return "CoarseTimeSource[" + clock + "," + coarseClock.getGranularity() + "]";
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A reading of the clock in each time-scale.
+     */
+    private static final class Reading {
+        private final Instant instant;
+        private final UtcInstant utcInstant;
+        private final TaiInstant taiInstant;
+
+        Reading(Instant instant) {
+            this.instant = instant;
+            this.utcInstant = UtcInstant.of(instant);
+            this.taiInstant = TaiInstant.of(instant);
+        }
+    }
+
+}
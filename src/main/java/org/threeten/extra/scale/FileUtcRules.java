@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * UTC rules loaded from a leap second file, reloaded when the file changes.
+ * <p>
+ * New leap seconds are announced months before they occur. These rules allow a
+ * long-running application to pick them up by updating a local file, without a restart.
+ * <p>
+ * The file may be in the format of {@code LeapSeconds.txt} bundled with this library,
+ * the ISO date of each leap second and the TAI offset after that date.
+ * Alternatively, it may be the {@code leap-seconds.list} file published by the IERS and NIST,
+ * the NTP second at which each TAI offset starts.
+ * <p>
+ * A daemon thread watches the directory of the file using a {@link WatchService}.
+ * When the file is created or modified, it is parsed and the new rules are published
+ * in a single atomic step, so that readers never take a lock. If the file cannot be
+ * read or is invalid, such as while it is partly written, the previous rules remain in use.
+ * To avoid seeing a partly written file at all, write a temporary file and move it into place.
+ * Each of the batch conversions uses the same rules for the whole batch.
+ * <p>
+ * The rules should be closed when no longer needed, to stop the watch thread.
+ * Once closed, the last loaded rules remain in use.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is thread-safe.
+ * It is not serializable, as it owns a thread.
+ */
+public final class FileUtcRules extends UtcRules implements AutoCloseable {
+
+    /**
+     * The file.
+     */
+    private final Path file;
+    /**
+     * The current data.
+     */
+    private final AtomicReference<SystemUtcRules.Data> dataRef;
+    /**
+     * The watch service.
+     */
+    private final WatchService watcher;
+    /**
+     * The watch thread.
+     */
+    private final Thread thread;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains rules loaded from the specified file, reloading them when the file changes.
+     * <p>
+     * The file is loaded immediately, then a daemon thread is started to watch it,
+     * which runs until the rules are closed.
+     *
+     * @param file  the leap second file, not null
+     * @return the rules, not null
+     * @throws IOException if the file cannot be read, is invalid, or cannot be watched
+     */
+    public static FileUtcRules of(Path file) throws IOException {
+        Objects.requireNonNull(file, "file");
+        Path absolute = file.toAbsolutePath();
+        SystemUtcRules.Data data = load(absolute);
+        WatchService watcher = absolute.getFileSystem().newWatchService();
+        try {
+            absolute.getParent().register(watcher, ENTRY_CREATE, ENTRY_MODIFY);
+        } catch (IOException | RuntimeException ex) {
+            watcher.close();
+            throw ex;
+        }
+        FileUtcRules rules = new FileUtcRules(absolute, data, watcher);
+        rules.thread.start();
+        return rules;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param file  the file, absolute, not null
+     * @param data  the initial data, not null
+     * @param watcher  the watch service, registered on the directory of the file, not null
+     */
+    private FileUtcRules(Path file, SystemUtcRules.Data data, WatchService watcher) {
+        this.file = file;
+        this.dataRef = new AtomicReference<>(data);
+        this.watcher = watcher;
+        this.thread = new Thread(this::watch, "FileUtcRules-watch");
+        this.thread.setDaemon(true);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the file the rules are loaded from.
+     *
+     * @return the absolute path of the file, not null
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Reloads the rules from the file immediately.
+     * <p>
+     * This is not normally needed, as changes are picked up by the watch thread,
+     * but may be used when the file system does not report changes, or after closing.
+     * Reloads by this method and the watch thread run one at a time, so that the rules
+     * from an earlier read of the file cannot replace those from a later one.
+     *
+     * @throws IOException if the file cannot be read or is invalid, when the previous rules remain in use
+     */
+    public synchronized void reload() throws IOException {
+        dataRef.set(load(file));
+    }
+
+    /**
+     * Closes the rules, stopping the watch thread.
+     * <p>
+     * The last loaded rules remain in use.
+     *
+     * @throws IOException if the watch service cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        watcher.close();
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String getName() {
+        return "File:" + file;
+    }
+
+    @Override
+    public int getLeapSecondAdjustment(long mjDay) {
+        return dataRef.get().getLeapSecondAdjustment(mjDay);
+    }
+
+    @Override
+    public int getTaiOffset(long mjDay) {
+        return dataRef.get().getTaiOffset(mjDay);
+    }
+
+    @Override
+    public long[] getLeapSecondDates() {
+        return dataRef.get().getLeapSecondDates();
+    }
+
+    @Override
+    public UtcInstant convertToUtc(TaiInstant taiInstant) {
+        return dataRef.get().convertToUtc(taiInstant);
+    }
+
+    /**
+     * Gets the current data, which does not change as the file is reloaded.
+     *
+     * @return the current data, not null
+     */
+    @Override
+    UtcRules snapshot() {
+        return dataRef.get();
+    }
+
+    //-----------------------------------------------------------------------
+    // watches the directory of the file until closed, reloading when the file changes
+    private void watch() {
+        Path name = file.getFileName();
+        try {
+            while (true) {
+                WatchKey key = watcher.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    changed |= (event.kind() == OVERFLOW || name.equals(event.context()));
+                }
+                if (changed) {
+                    try {
+                        reload();
+                    } catch (IOException | RuntimeException ex) {
+                        // keep the previous rules, a partly written file is reloaded on the next change
+                    }
+                }
+                if (key.reset() == false) {
+                    return;  // directory no longer accessible
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException ex) {
+            // closed
+        }
+    }
+
+    /**
+     * Loads the leap second file.
+     *
+     * @param file  the file, not null
+     * @return the data, not null
+     * @throws IOException if the file cannot be read or is invalid
+     */
+    private static SystemUtcRules.Data load(Path file) throws IOException {
+        try {
+            return SystemUtcRules.parseLeapSeconds(Files.readAllLines(file, StandardCharsets.UTF_8));
+        } catch (RuntimeException ex) {
+            throw new IOException("Invalid leap second file: " + file, ex);
+        }
+    }
+
+}
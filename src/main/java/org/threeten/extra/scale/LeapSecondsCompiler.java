@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+
+/**
+ * Compiles the leap second text file to the binary form read by the system rules.
+ * <p>
+ * This is run by the build after the resources are copied, writing
+ * {@code LeapSeconds.dat} alongside {@code LeapSeconds.txt}, so that the system
+ * rules can load the bundled leap seconds without parsing text.
+ * The binary file records the length and CRC-32 of the text file, so that a binary
+ * file left over from different text is ignored.
+ * The text file remains the source, and any other text file on the classpath is still parsed.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is a build tool and is not intended for use by applications.
+ */
+final class LeapSecondsCompiler {
+
+    /**
+     * Restricted constructor.
+     */
+    private LeapSecondsCompiler() {
+    }
+
+    /**
+     * Compiles the text file.
+     *
+     * @param args  the text file to read and the binary file to write
+     * @throws Exception if an error occurs
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: LeapSecondsCompiler <input LeapSeconds.txt> <output LeapSeconds.dat>");
+        }
+        compile(new File(args[0]), new File(args[1]));
+    }
+
+    /**
+     * Compiles the text file to the binary file.
+     *
+     * @param input  the text file, not null
+     * @param output  the binary file, not null
+     * @throws Exception if an error occurs
+     */
+    static void compile(File input, File output) throws Exception {
+        URL url = input.toURI().toURL();
+        SystemUtcRules.Data data = SystemUtcRules.loadLeapSeconds(url);
+        long checksum = SystemUtcRules.textChecksum(url);
+        File dir = output.getAbsoluteFile().getParentFile();
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Unable to create directory: " + dir);
+        }
+        try (OutputStream out = new FileOutputStream(output)) {
+            SystemUtcRules.writeCompiled(data, checksum, out);
+        }
+    }
+
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * A strategy for smearing leap seconds when converting between UTC and {@code Instant}.
+ * <p>
+ * The Java time-scale has exactly 86400 seconds in every day, so a leap second must be
+ * absorbed by running the clock slightly slower or faster for a period around the leap.
+ * A smear defines that period, known as the window, within which the leap second is
+ * spread linearly. Outside each window, UTC and the Java time-scale agree.
+ * <p>
+ * The standard {@link UtcRules} conversions use UTC-SLS, which spreads the leap
+ * over the last 1000 seconds of the UTC day. Many NTP services instead use a longer
+ * window centred on the leap, such as the 24 hour window from noon to noon of
+ * {@code linear(Duration.ofHours(12), Duration.ofHours(12))}.
+ * A smear is applied to rules using {@link UtcRules#withSmear(LeapSmear)}.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class LeapSmear implements Serializable {
+
+    /**
+     * Serialization version.
+     */
+    private static final long serialVersionUID = -2307484186744318262L;
+    /**
+     * The UTC-SLS smear.
+     */
+    private static final LeapSmear UTC_SLS = new LeapSmear(1000 * UtcRules.NANOS_PER_SECOND, 0, true);
+    /**
+     * The maximum length of each side of the window.
+     */
+    private static final Duration MAX_SIDE = Duration.ofDays(1);
+
+    /**
+     * The nanoseconds of the window before midnight.
+     */
+    private final long beforeNanos;
+    /**
+     * The nanoseconds of the window after midnight.
+     */
+    private final long afterNanos;
+    /**
+     * Whether the window before midnight is measured in UTC, including the leap second.
+     */
+    private final boolean utcBefore;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains the UTC-SLS smear, as used by the standard conversions.
+     * <p>
+     * The window is the last 1000 UTC seconds of the day of the leap second,
+     * including the leap second itself.
+     *
+     * @return the UTC-SLS smear, not null
+     */
+    public static LeapSmear utcSls() {
+        return UTC_SLS;
+    }
+
+    /**
+     * Obtains a linear smear with a window around the midnight at the end of the leap second.
+     * <p>
+     * The window starts the specified time before midnight and ends the specified time after
+     * midnight, both measured on the Java time-scale. Within the window, each second of the
+     * Java time-scale is longer or shorter so that the leap is spread evenly across it.
+     * For example, a 24 hour smear from noon to noon is {@code linear(Duration.ofHours(12), Duration.ofHours(12))}.
+     *
+     * @param before  the length of the window before midnight, from zero to one day, not null
+     * @param after  the length of the window after midnight, from zero to one day, not null
+     * @return the linear smear, not null
+     * @throws IllegalArgumentException if either length is negative or more than one day,
+     *  or the window is not longer than one second
+     */
+    public static LeapSmear linear(Duration before, Duration after) {
+        Objects.requireNonNull(before, "before");
+        Objects.requireNonNull(after, "after");
+        if (before.isNegative() || after.isNegative() || before.compareTo(MAX_SIDE) > 0 || after.compareTo(MAX_SIDE) > 0) {
+            throw new IllegalArgumentException("Smear window must be from zero to one day on each side of the leap: " + before + ", " + after);
+        }
+        if (before.plus(after).compareTo(Duration.ofSeconds(1)) <= 0) {
+            throw new IllegalArgumentException("Smear window must be longer than one second: " + before + ", " + after);
+        }
+        return new LeapSmear(before.toNanos(), after.toNanos(), false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param beforeNanos  the nanoseconds of the window before midnight
+     * @param afterNanos  the nanoseconds of the window after midnight
+     * @param utcBefore  whether the window before midnight is measured in UTC
+     */
+    private LeapSmear(long beforeNanos, long afterNanos, boolean utcBefore) {
+        this.beforeNanos = beforeNanos;
+        this.afterNanos = afterNanos;
+        this.utcBefore = utcBefore;
+    }
+
+    /**
+     * Validates the smear after deserialization.
+     *
+     * @return the validated smear, not null
+     */
+    private Object readResolve() {
+        if (utcBefore) {
+            return UTC_SLS;
+        }
+        return linear(getBefore(), getAfter());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the length of the window before the midnight at the end of the leap second.
+     * <p>
+     * For UTC-SLS, this is measured in UTC, so includes the leap second.
+     *
+     * @return the length of the window before midnight, not null
+     */
+    public Duration getBefore() {
+        return Duration.ofNanos(beforeNanos);
+    }
+
+    /**
+     * Gets the length of the window after the midnight at the end of the leap second.
+     *
+     * @return the length of the window after midnight, not null
+     */
+    public Duration getAfter() {
+        return Duration.ofNanos(afterNanos);
+    }
+
+    /**
+     * Gets the nanoseconds of the window before midnight, on the Java time-scale.
+     *
+     * @param leapAdjustment  the leap second adjustment, -1 or 1
+     * @return the nanoseconds before midnight
+     */
+    long instantBeforeNanos(int leapAdjustment) {
+        return (utcBefore ? beforeNanos - leapAdjustment * UtcRules.NANOS_PER_SECOND : beforeNanos);
+    }
+
+    /**
+     * Gets the nanoseconds of the window after midnight.
+     *
+     * @return the nanoseconds after midnight
+     */
+    long afterNanos() {
+        return afterNanos;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this smear is equal to another.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other smear
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof LeapSmear) {
+            LeapSmear other = (LeapSmear) obj;
+            return beforeNanos == other.beforeNanos && afterNanos == other.afterNanos && utcBefore == other.utcBefore;
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this smear.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return Long.hashCode(beforeNanos) ^ Long.hashCode(afterNanos * 31) ^ (utcBefore ? 1 : 0);
+    }
+
+    /**
+     * Outputs this smear as a {@code String}, such as {@code Linear[PT12H/PT12H]}.
+     *
+     * @return a string representation of this smear, not null
+     */
+    @Override
+    public String toString() {
+        return (utcBefore ? "UTC-SLS" : "Linear[" + getBefore() + '/' + getAfter() + ']');
+    }
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import java.io.Serializable;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A time-source based on a clock that smears leap seconds.
+ * <p>
+ * Many NTP services smear each leap second across a window around it, so that the
+ * system clock never shows a leap second. This time-source reads such a clock, and
+ * converts its instant to UTC and TAI using the same smear, so that the leap
+ * second is recovered exactly. The conversions outside the smear windows are
+ * the same as for the standard rules.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe.
+ * It is serializable if the clock and rules are.
+ */
+public final class SmearedTimeSource implements TimeSource, Serializable {
+
+    /**
+     * Serialization version.
+     */
+    private static final long serialVersionUID = -3018253683826593816L;
+
+    /**
+     * The clock.
+     */
+    private final Clock clock;
+    /**
+     * The smeared rules.
+     */
+    private final UtcRules rules;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a time-source for a smeared clock, using the system leap second rules.
+     *
+     * @param clock  the smeared clock, not null
+     * @param smear  the smear used by the clock, not null
+     * @return the time-source, not null
+     */
+    public static SmearedTimeSource of(Clock clock, LeapSmear smear) {
+        return of(clock, UtcRules.system(), smear);
+    }
+
+    /**
+     * Obtains a time-source for a smeared clock, using the specified leap second rules.
+     *
+     * @param clock  the smeared clock, not null
+     * @param rules  the leap second rules, not null
+     * @param smear  the smear used by the clock, not null
+     * @return the time-source, not null
+     */
+    public static SmearedTimeSource of(Clock clock, UtcRules rules, LeapSmear smear) {
+        Objects.requireNonNull(clock, "clock");
+        Objects.requireNonNull(rules, "rules");
+        Objects.requireNonNull(smear, "smear");
+        return new SmearedTimeSource(clock, rules.withSmear(smear));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param clock  the clock, not null
+     * @param rules  the smeared rules, not null
+     */
+    private SmearedTimeSource(Clock clock, UtcRules rules) {
+        this.clock = clock;
+        this.rules = rules;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the smeared rules used to convert the instant of the clock.
+     *
+     * @return the rules, not null
+     */
+    public UtcRules getRules() {
+        return rules;
+    }
+
+    @Override
+    public Instant instant() {
+        return clock.instant();
+    }
+
+    @Override
+    public UtcInstant utcInstant() {
+        return rules.convertToUtc(clock.instant());
+    }
+
+    @Override
+    public TaiInstant taiInstant() {
+        return rules.convertToTai(clock.instant());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this time-source is equal to another.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if the clock and rules are equal
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof SmearedTimeSource) {
+            SmearedTimeSource other = (SmearedTimeSource) obj;
+            return clock.equals(other.clock) && rules.equals(other.rules);
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this time-source.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return clock.hashCode() ^ rules.hashCode();
+    }
+
+    /**
+     * Outputs this time-source as a {@code String}.
+     *
+     * @return a string representation of this time-source, not null
+     */
+    @Override
+    public String toString() {
+        return "SmearedTimeSource[" + clock + ',' + rules.getName() + ']';
+    }
+
+}
@@ -0,0 +1,391 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import java.io.Serializable;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * UTC rules that convert to and from {@code Instant} using a leap smear.
+ * <p>
+ * The leap seconds are those of the underlying rules. The smear window of each
+ * leap second is precomputed, and recomputed only when the underlying rules change,
+ * so that converting a date after the newest window costs a single comparison.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe.
+ * It is serializable if the underlying rules are.
+ */
+final class SmearedUtcRules extends UtcRules implements Serializable {
+
+    /**
+     * Serialization version.
+     */
+    private static final long serialVersionUID = 3410712583398512617L;
+    /**
+     * Constant for nanos per standard day.
+     */
+    private static final long DAY_NANOS = SECS_PER_DAY * NANOS_PER_SECOND;
+    /**
+     * Constant for the nanoseconds in the shortest possible UTC day.
+     */
+    private static final long MIN_DAY_NANOS = (SECS_PER_DAY - 1) * NANOS_PER_SECOND;
+
+    /**
+     * The underlying rules.
+     */
+    private final UtcRules rules;
+    /**
+     * The smear.
+     */
+    private final LeapSmear smear;
+    /**
+     * The windows of the current underlying rules.
+     */
+    private transient volatile Windows windows;
+
+    /**
+     * Constructor.
+     *
+     * @param rules  the underlying rules, not null
+     * @param smear  the smear, not null
+     */
+    SmearedUtcRules(UtcRules rules, LeapSmear smear) {
+        this.rules = Objects.requireNonNull(rules, "rules");
+        this.smear = Objects.requireNonNull(smear, "smear");
+    }
+
+    /**
+     * Constructor for a snapshot.
+     *
+     * @param windows  the windows, not null
+     * @param smear  the smear, not null
+     */
+    private SmearedUtcRules(Windows windows, LeapSmear smear) {
+        this.rules = windows.source;
+        this.smear = smear;
+        this.windows = windows;
+    }
+
+    /**
+     * Gets the windows, recomputing them if the underlying rules have changed.
+     *
+     * @return the windows, not null
+     */
+    private Windows windows() {
+        UtcRules current = rules.snapshot();
+        Windows result = windows;
+        if (result == null || result.source != current) {
+            result = new Windows(current, smear);
+            windows = result;
+        }
+        return result;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String getName() {
+        return rules.getName() + '/' + smear;
+    }
+
+    @Override
+    public int getLeapSecondAdjustment(long mjDay) {
+        return rules.getLeapSecondAdjustment(mjDay);
+    }
+
+    @Override
+    public int getTaiOffset(long mjDay) {
+        return rules.getTaiOffset(mjDay);
+    }
+
+    @Override
+    public long[] getLeapSecondDates() {
+        return rules.getLeapSecondDates();
+    }
+
+    @Override
+    public UtcInstant convertToUtc(TaiInstant taiInstant) {
+        return rules.convertToUtc(taiInstant);
+    }
+
+    @Override
+    public UtcRules withSmear(LeapSmear smear) {
+        return new SmearedUtcRules(rules, smear);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts a {@code UtcInstant} to an {@code Instant} using the smear.
+     *
+     * @param utcInstant  the UTC instant to convert, not null
+     * @return the converted instant, not null
+     * @throws DateTimeException if the valid range is exceeded
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public Instant convertToInstant(UtcInstant utcInstant) {
+        long mjd = utcInstant.getModifiedJulianDay();
+        long epochSec = Math.multiplyExact(Math.subtractExact(mjd, OFFSET_MJD_EPOCH), SECS_PER_DAY);
+        return Instant.ofEpochSecond(epochSec, windows().utcToInstantNanos(mjd, utcInstant.getNanoOfDay()));
+    }
+
+    /**
+     * Converts an {@code Instant} to a {@code UtcInstant} using the smear.
+     *
+     * @param instant  the instant to convert, not null
+     * @return the converted UTC instant, not null
+     * @throws DateTimeException if the valid range is exceeded
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public UtcInstant convertToUtc(Instant instant) {
+        long mjd = Math.floorDiv(instant.getEpochSecond(), SECS_PER_DAY) + OFFSET_MJD_EPOCH;
+        long slsNanos = Math.floorMod(instant.getEpochSecond(), SECS_PER_DAY) * NANOS_PER_SECOND + instant.getNano();
+        Windows windows = windows();
+        long utcNanos = windows.instantToUtcNanos(mjd, slsNanos);
+        if (utcNanos < 0) {
+            mjd--;
+            utcNanos += windows.source.utcDayNanos(mjd);
+        } else if (utcNanos >= MIN_DAY_NANOS && utcNanos >= windows.source.utcDayNanos(mjd)) {
+            utcNanos -= windows.source.utcDayNanos(mjd);
+            mjd++;
+        }
+        return UtcInstant.ofModifiedJulianDay(mjd, utcNanos);
+    }
+
+    @Override
+    long instantToUtcNanos(long mjd, long slsNanos) {
+        return windows().instantToUtcNanos(mjd, slsNanos);
+    }
+
+    @Override
+    long utcToInstantNanos(long mjd, long utcNanos) {
+        return windows().utcToInstantNanos(mjd, utcNanos);
+    }
+
+    /**
+     * Gets the current rules and windows, which do not change as leap seconds are registered.
+     *
+     * @return the current rules, not null
+     */
+    @Override
+    UtcRules snapshot() {
+        Windows current = windows();
+        return (current.source == rules ? this : new SmearedUtcRules(current, smear));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if these rules are equal to other rules.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if the underlying rules and smear are equal
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof SmearedUtcRules) {
+            SmearedUtcRules other = (SmearedUtcRules) obj;
+            return rules.equals(other.rules) && smear.equals(other.smear);
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for these rules.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return rules.hashCode() ^ smear.hashCode();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The smear windows of a set of leap seconds.
+     * <p>
+     * Each window is centred on the midnight at the end of a leap second day.
+     * Within the window, the elapsed time on the Java time-scale {@code t} and
+     * in UTC {@code u} are related linearly by the window length on the Java
+     * time-scale {@code W} and the leap adjustment {@code L}, such that
+     * {@code u = t + floor(L * t / W)}.
+     */
+    private static final class Windows {
+        /** The rules the windows were computed from. */
+        private final UtcRules source;
+        /** The leap second days, ascending. */
+        private final long[] days;
+        /** The leap second adjustment of each day, in nanoseconds. */
+        private final long[] leapNanos;
+        /** The nanoseconds of the window before midnight on the Java time-scale. */
+        private final long[] beforeNanos;
+        /** The nanoseconds of the window after midnight. */
+        private final long afterNanos;
+        /** The first day that a window covers. */
+        private final long firstDay;
+        /** The last day that a window covers. */
+        private final long lastDay;
+
+        /**
+         * Computes the windows.
+         *
+         * @param source  the rules, not null
+         * @param smear  the smear, not null
+         * @throws DateTimeException if the windows overlap
+         */
+        private Windows(UtcRules source, LeapSmear smear) {
+            this.source = source;
+            long[] dates = source.getLeapSecondDates();
+            long[] days = new long[dates.length];
+            long[] leapNanos = new long[dates.length];
+            long[] beforeNanos = new long[dates.length];
+            int count = 0;
+            for (long date : dates) {
+                int leap = source.getLeapSecondAdjustment(date);
+                if (leap != 0) {
+                    long before = smear.instantBeforeNanos(leap);
+                    if (before + smear.afterNanos() + leap * NANOS_PER_SECOND <= 0) {
+                        throw new DateTimeException("Leap smear window too short for leap second adjustment: " + leap);
+                    }
+                    // each side of a window is at most one day, so windows can only overlap on consecutive days
+                    if (count > 0 && date - days[count - 1] < 2) {
+                        throw new DateTimeException("Leap smear windows overlap: " + days[count - 1] + ", " + date);
+                    }
+                    days[count] = date;
+                    leapNanos[count] = leap * NANOS_PER_SECOND;
+                    beforeNanos[count] = before;
+                    count++;
+                }
+            }
+            this.days = Arrays.copyOf(days, count);
+            this.leapNanos = Arrays.copyOf(leapNanos, count);
+            this.beforeNanos = Arrays.copyOf(beforeNanos, count);
+            this.afterNanos = smear.afterNanos();
+            this.firstDay = (count > 0 ? days[0] : Long.MAX_VALUE);
+            this.lastDay = (count > 0 ? days[count - 1] + 1 : Long.MIN_VALUE);
+        }
+
+        /**
+         * Converts an instant to UTC nanoseconds from the start of the same day.
+         *
+         * @param mjd  the Modified Julian Day of the instant
+         * @param slsNanos  the nano-of-day of the instant
+         * @return the UTC nanoseconds from the start of the day, may be negative or after the end of the day
+         */
+        long instantToUtcNanos(long mjd, long slsNanos) {
+            if (mjd > lastDay || mjd < firstDay) {
+                return slsNanos;
+            }
+            // find the window and the time elapsed since it started
+            int index = Arrays.binarySearch(days, mjd);
+            boolean leapDay = index >= 0;
+            if (leapDay == false) {
+                index = Arrays.binarySearch(days, mjd - 1);
+                if (index < 0) {
+                    return slsNanos;
+                }
+            }
+            long before = beforeNanos[index];
+            long length = before + afterNanos;
+            long elapsed = (leapDay ? slsNanos - DAY_NANOS : slsNanos) + before;
+            if (elapsed < 0 || elapsed >= length) {
+                return slsNanos;
+            }
+            long leap = leapNanos[index];
+            long utcElapsed = elapsed + (leap >= 0 ? scale(elapsed, leap, length, false) : -scale(elapsed, -leap, length, true));
+            long utcNanos = DAY_NANOS - before + utcElapsed;
+            return (leapDay ? utcNanos : utcNanos - DAY_NANOS - leap);
+        }
+
+        /**
+         * Converts a UTC instant to instant nanoseconds from the start of the same day.
+         *
+         * @param mjd  the Modified Julian Day of the UTC instant
+         * @param utcNanos  the nano-of-day of the UTC instant
+         * @return the instant nanoseconds from the start of the day, may be negative or after the end of the day
+         */
+        long utcToInstantNanos(long mjd, long utcNanos) {
+            if (mjd > lastDay || mjd < firstDay) {
+                return utcNanos;
+            }
+            // find the window and the UTC time elapsed since it started
+            int index = Arrays.binarySearch(days, mjd);
+            boolean leapDay = index >= 0;
+            if (leapDay == false) {
+                index = Arrays.binarySearch(days, mjd - 1);
+                if (index < 0) {
+                    return utcNanos;
+                }
+            }
+            long before = beforeNanos[index];
+            long leap = leapNanos[index];
+            long utcLength = before + afterNanos + leap;
+            long utcElapsed = (leapDay ? utcNanos - DAY_NANOS + before : utcNanos + leap + before);
+            if (utcElapsed < 0 || utcElapsed >= utcLength) {
+                return utcNanos;
+            }
+            long elapsed = utcElapsed - (leap >= 0 ? scale(utcElapsed, leap, utcLength, false) : -scale(utcElapsed, -leap, utcLength, false));
+            return (leapDay ? DAY_NANOS : 0) + elapsed - before;
+        }
+
+        /**
+         * Calculates {@code value * multiplier / divisor} without overflow.
+         * <p>
+         * The value and divisor are at most a few days in nanoseconds,
+         * and the multiplier is a small number of seconds in nanoseconds.
+         *
+         * @param value  the value, not negative
+         * @param multiplier  the multiplier, a whole number of seconds in nanoseconds, not negative
+         * @param divisor  the divisor, positive
+         * @param ceiling  true to round up, false to round down
+         * @return the result
+         */
+        private static long scale(long value, long multiplier, long divisor, boolean ceiling) {
+            long dividend = value * (multiplier / NANOS_PER_SECOND);
+            long result = dividend / divisor;
+            long remainder = dividend % divisor;
+            for (int i = 0; i < 3; i++) {
+                remainder *= 1000;
+                result = result * 1000 + remainder / divisor;
+                remainder %= divisor;
+            }
+            return (ceiling && remainder != 0 ? result + 1 : result);
+        }
+    }
+
+}
@@ -31,9 +31,14 @@
  */
 package org.threeten.extra.scale;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.io.StreamCorruptedException;
 import java.net.URL;
@@ -49,6 +54,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.zip.CRC32;
 
 /**
  * System default UTC rules.
@@ -62,6 +68,14 @@ final class SystemUtcRules extends UtcRules implements Serializable {
      * Leap second file format.
      */
     private static final Pattern LEAP_FILE_FORMAT = Pattern.compile("([0-9-]{10})[ ]+([0-9]+)");
+    /**
+     * IERS/NIST leap second file format, with an optional trailing comment.
+     */
+    private static final Pattern NTP_FILE_FORMAT = Pattern.compile("([0-9]+)\\s+([0-9]+)(?:\\s*#.*)?");
+    /**
+     * The Modified Julian Day of the NTP epoch, 1900-01-01.
+     */
+    private static final long OFFSET_MJD_NTP = 15020L;
     /**
      * Serialization version.
      */
@@ -72,20 +86,54 @@ final class SystemUtcRules extends UtcRules implements Serializable {
     static final SystemUtcRules INSTANCE = new SystemUtcRules();
 
     /**
-     * The table of leap second dates.
+     * Leap second text resource.
+     */
+    private static final String LEAP_FILE = "org/threeten/extra/scale/LeapSeconds.txt";
+    /**
+     * Suffix of the compiled leap second resource, generated from the text resource at build time.
+     */
+    static final String COMPILED_SUFFIX = ".dat";
+    /**
+     * Compiled leap second file header.
      */
-    private AtomicReference<Data> dataRef = new AtomicReference<Data>(loadLeapSeconds());
+    private static final int COMPILED_MAGIC = 0x4C454150;
+    /**
+     * Compiled leap second file version.
+     */
+    private static final int COMPILED_VERSION = 2;
 
-    /** Data holder. */
-    private static final class Data implements Serializable {
+    /**
+     * The table of leap second dates, loaded on first use.
+     */
+    private AtomicReference<Data> dataRef = new AtomicReference<Data>();
+
+    /**
+     * Data holder.
+     * <p>
+     * In addition to the leap second tables, a lookup layer is derived on construction.
+     * Dates after the newest leap second all share the newest offset, so are handled by
+     * a single comparison. Dates from the first entry up to the day after the newest
+     * leap second are looked up directly in a table of offsets indexed by MJD.
+     * <p>
+     * As the data is immutable, it also acts as a snapshot of the rules,
+     * used to apply the same rules to a whole batch of conversions.
+     */
+    static final class Data extends UtcRules implements Serializable {
         /** Serialization version. */
         private static final long serialVersionUID = -3655687912882817265L;
+        /** The maximum number of days in the offset table. */
+        private static final int MAX_TABLE_DAYS = 100_000;
         /** Constructor. */
         private Data(long[] dates, int[] offsets, long[] taiSeconds) {
             super();
             this.dates = dates;
             this.offsets = offsets;
             this.taiSeconds = taiSeconds;
+            this.newestDate = dates[dates.length - 1];
+            this.newestOffset = offsets[offsets.length - 1];
+            this.newestTaiSeconds = taiSeconds[taiSeconds.length - 1];
+            this.tableStart = dates[0];
+            this.offsetTable = buildOffsetTable(dates, offsets);
         }
         /** The table of leap second date when the leap second occurs. */
         private final long[] dates;
@@ -93,12 +141,122 @@ final class SystemUtcRules extends UtcRules implements Serializable {
         private final int[] offsets;
         /** The table of TAI second when the new offset starts. */
         private final long[] taiSeconds;
+        /** The newest leap second date. */
+        private final transient long newestDate;
+        /** The TAI offset after the newest leap second. */
+        private final transient int newestOffset;
+        /** The TAI second when the newest offset starts. */
+        private final transient long newestTaiSeconds;
+        /** The MJD of the first entry in the offset table. */
+        private final transient long tableStart;
+        /** The TAI offset of each day, indexed by MJD from the table start. */
+        private final transient short[] offsetTable;
+
+        /**
+         * Builds the table of TAI offsets by day, which may not cover all the dates.
+         *
+         * @param dates  the leap second dates, not null
+         * @param offsets  the offsets, not null
+         * @return the table, empty if an offset does not fit, not null
+         */
+        private static short[] buildOffsetTable(long[] dates, int[] offsets) {
+            long span = dates[dates.length - 1] + 2 - dates[0];
+            short[] table = new short[(int) Math.min(span, MAX_TABLE_DAYS)];
+            int offset = 10;
+            int pos = 0;
+            for (int i = 0; i < table.length; i++) {
+                long mjDay = dates[0] + i;
+                while (pos < dates.length && dates[pos] < mjDay) {
+                    offset = offsets[pos++];
+                }
+                if (offset != (short) offset) {
+                    return new short[0];
+                }
+                table[i] = (short) offset;
+            }
+            return table;
+        }
 
         /**
          * @return The modified Julian Date of the newest leap second
          */
         public long getNewestDate() {
-            return dates[dates.length - 1];
+            return newestDate;
+        }
+
+        /**
+         * Resolves the lookup layer after deserialization.
+         *
+         * @return the resolved instance, not null
+         */
+        private Object readResolve() {
+            return new Data(dates, offsets, taiSeconds);
+        }
+
+        //-----------------------------------------------------------------------
+        @Override
+        public String getName() {
+            return "System";
+        }
+
+        @Override
+        public int getLeapSecondAdjustment(long mjDay) {
+            long index = mjDay - tableStart;
+            if (mjDay > newestDate || index <= 0) {
+                return 0;
+            }
+            if (index + 1 < offsetTable.length) {
+                return offsetTable[(int) index + 1] - offsetTable[(int) index];
+            }
+            int pos = Arrays.binarySearch(dates, mjDay);
+            return pos > 0 ? offsets[pos] - offsets[pos - 1] : 0;
+        }
+
+        @Override
+        public int getTaiOffset(long mjDay) {
+            if (mjDay > newestDate) {
+                return newestOffset;
+            }
+            long index = mjDay - tableStart;
+            if (index < 0) {
+                return 10;
+            }
+            if (index < offsetTable.length) {
+                return offsetTable[(int) index];
+            }
+            int pos = Arrays.binarySearch(dates, mjDay);
+            pos = (pos < 0 ? ~pos : pos);
+            return pos > 0 ? offsets[pos - 1] : 10;
+        }
+
+        @Override
+        public long[] getLeapSecondDates() {
+            return dates.clone();
+        }
+
+        @Override
+        public UtcInstant convertToUtc(TaiInstant taiInstant) {
+            if (taiInstant.getTaiSeconds() >= newestTaiSeconds) {
+                // after the newest leap second, so no leap second to handle
+                long adjustedTaiSecs = taiInstant.getTaiSeconds() - newestOffset;
+                long mjd = Math.floorDiv(adjustedTaiSecs, SECS_PER_DAY) + OFFSET_MJD_TAI;
+                long nod = Math.floorMod(adjustedTaiSecs, SECS_PER_DAY) * NANOS_PER_SECOND + taiInstant.getNano();
+                return UtcInstant.ofModifiedJulianDay(mjd, nod);
+            }
+            long[] mjds = dates;
+            long[] tais = taiSeconds;
+            int pos = Arrays.binarySearch(tais, taiInstant.getTaiSeconds());
+            pos = (pos >= 0 ? pos : ~pos - 1);
+            int taiOffset = (pos >= 0 ? offsets[pos] : 10);
+            long adjustedTaiSecs = taiInstant.getTaiSeconds() - taiOffset;
+            long mjd = Math.floorDiv(adjustedTaiSecs, SECS_PER_DAY) + OFFSET_MJD_TAI;
+            long nod = Math.floorMod(adjustedTaiSecs, SECS_PER_DAY) * NANOS_PER_SECOND + taiInstant.getNano();
+            long mjdNextRegionStart = (pos + 1 < mjds.length ? mjds[pos + 1] + 1 : Long.MAX_VALUE);
+            if (mjd == mjdNextRegionStart) {  // in leap second
+                mjd--;
+                nod = SECS_PER_DAY * NANOS_PER_SECOND + (nod / NANOS_PER_SECOND) * NANOS_PER_SECOND + nod % NANOS_PER_SECOND;
+            }
+            return UtcInstant.ofModifiedJulianDay(mjd, nod);
         }
     }
 
@@ -118,6 +276,24 @@ final class SystemUtcRules extends UtcRules implements Serializable {
         return INSTANCE;
     }
 
+    /**
+     * Gets the data, loading it on first use.
+     * <p>
+     * Loading is deferred so that using the UTC classes does not read the leap second
+     * resources until a conversion requires them. If two threads load at the same time,
+     * both get the data of whichever stored it first.
+     *
+     * @return the data, not null
+     */
+    private Data data() {
+        Data data = dataRef.get();
+        if (data == null) {
+            dataRef.compareAndSet(null, loadLeapSeconds());
+            data = dataRef.get();
+        }
+        return data;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Adds a new leap second to these rules.
@@ -133,7 +309,7 @@ final class SystemUtcRules extends UtcRules implements Serializable {
         if (leapAdjustment != -1 && leapAdjustment != 1) {
             throw new IllegalArgumentException("Leap adjustment must be -1 or 1");
         }
-        Data data = dataRef.get();
+        Data data = data();
         int pos = Arrays.binarySearch(data.dates, mjDay);
         int currentAdj = pos > 0 ? data.offsets[pos] - data.offsets[pos - 1] : 0;
         if (currentAdj == leapAdjustment) {
@@ -163,60 +339,55 @@ final class SystemUtcRules extends UtcRules implements Serializable {
 
     @Override
     public int getLeapSecondAdjustment(long mjDay) {
-        Data data = dataRef.get();
-        int pos = Arrays.binarySearch(data.dates, mjDay);
-        return pos > 0 ? data.offsets[pos] - data.offsets[pos - 1] : 0;
+        return data().getLeapSecondAdjustment(mjDay);
     }
 
     @Override
     public int getTaiOffset(long mjDay) {
-        Data data = dataRef.get();
-        int pos = Arrays.binarySearch(data.dates, mjDay);
-        pos = (pos < 0 ? ~pos : pos);
-        return pos > 0 ? data.offsets[pos - 1] : 10;
+        return data().getTaiOffset(mjDay);
     }
 
     @Override
     public long[] getLeapSecondDates() {
-        Data data = dataRef.get();
-        return data.dates.clone();
+        return data().getLeapSecondDates();
     }
 
     //-----------------------------------------------------------------------
     @Override
     public UtcInstant convertToUtc(TaiInstant taiInstant) {
-        Data data = dataRef.get();
-        long[] mjds = data.dates;
-        long[] tais = data.taiSeconds;
-        int pos = Arrays.binarySearch(tais, taiInstant.getTaiSeconds());
-        pos = (pos >= 0 ? pos : ~pos - 1);
-        int taiOffset = (pos >= 0 ? data.offsets[pos] : 10);
-        long adjustedTaiSecs = taiInstant.getTaiSeconds() - taiOffset;
-        long mjd = Math.floorDiv(adjustedTaiSecs, SECS_PER_DAY) + OFFSET_MJD_TAI;
-        long nod = Math.floorMod(adjustedTaiSecs, SECS_PER_DAY) * NANOS_PER_SECOND + taiInstant.getNano();
-        long mjdNextRegionStart = (pos + 1 < mjds.length ? mjds[pos + 1] + 1 : Long.MAX_VALUE);
-        if (mjd == mjdNextRegionStart) {  // in leap second
-            mjd--;
-            nod = SECS_PER_DAY * NANOS_PER_SECOND + (nod / NANOS_PER_SECOND) * NANOS_PER_SECOND + nod % NANOS_PER_SECOND;
-        }
-        return UtcInstant.ofModifiedJulianDay(mjd, nod);
+        return data().convertToUtc(taiInstant);
+    }
+
+    /**
+     * Gets the current data, which does not change as leap seconds are registered.
+     *
+     * @return the current data, not null
+     */
+    @Override
+    UtcRules snapshot() {
+        return data();
     }
 
     //-----------------------------------------------------------------------
     /**
      * Loads the rules from files in the class loader, often jar files.
+     * <p>
+     * Each text file found is parsed, except that the text file bundled with this class
+     * is read from the compiled form generated alongside it at build time, if present
+     * and generated from the same text.
      *
      * @return the list of loaded rules, not null
      * @throws Exception if an error occurs
      */
-    private static Data loadLeapSeconds() {
+    static Data loadLeapSeconds() {
         Data bestData = null;
         URL url = null;
         try {
-            Enumeration<URL> en = Thread.currentThread().getContextClassLoader().getResources("org/threeten/extra/scale/LeapSeconds.txt");
+            URL compiled = SystemUtcRules.class.getResource("LeapSeconds" + COMPILED_SUFFIX);
+            Enumeration<URL> en = Thread.currentThread().getContextClassLoader().getResources(LEAP_FILE);
             while (en.hasMoreElements()) {
                 url = en.nextElement();
-                Data candidate = loadLeapSeconds(url);
+                Data candidate = (isCompiledForm(compiled, url) ? loadCompiledLeapSeconds(compiled, url) : loadLeapSeconds(url));
                 if (bestData == null || candidate.getNewestDate() > bestData.getNewestDate()) {
                     bestData = candidate;
                 }
@@ -232,31 +403,201 @@ final class SystemUtcRules extends UtcRules implements Serializable {
         return bestData;
     }
 
+    /**
+     * Checks if the compiled resource was generated from the text resource.
+     *
+     * @param compiled  the compiled resource, null if not found
+     * @param url  the text resource, not null
+     * @return true if the compiled resource is alongside the text resource
+     */
+    private static boolean isCompiledForm(URL compiled, URL url) {
+        if (compiled == null) {
+            return false;
+        }
+        String text = url.toExternalForm();
+        String expected = compiled.toExternalForm();
+        int stem = expected.length() - COMPILED_SUFFIX.length();
+        return text.length() == expected.length() && text.regionMatches(0, expected, 0, stem) && text.endsWith(".txt");
+    }
+
+    /**
+     * Loads the leap second rules from the compiled resource, falling back to the text resource.
+     * <p>
+     * The text resource is used if the compiled resource is invalid or was not
+     * generated from the current text, such as when it is left over from an earlier build.
+     *
+     * @param compiled  the compiled resource, not null
+     * @param url  the text resource it was generated from, not null
+     * @return the data, not null
+     * @throws StreamCorruptedException if the text resource is used and is not a valid leap second file
+     * @throws IOException if the text resource is used and cannot be read
+     */
+    static Data loadCompiledLeapSeconds(URL compiled, URL url) throws IOException {
+        try (InputStream in = compiled.openStream()) {
+            return readCompiled(in, textChecksum(url));
+        } catch (IOException ex) {
+            return loadLeapSeconds(url);
+        }
+    }
+
+    /**
+     * Calculates the checksum of a text resource, identifying the text a compiled resource was generated from.
+     * <p>
+     * The checksum is the length in bytes in the high 32 bits and the CRC-32 in the low 32 bits.
+     *
+     * @param url  the text resource, not null
+     * @return the checksum
+     * @throws IOException if the resource cannot be read
+     */
+    static long textChecksum(URL url) throws IOException {
+        CRC32 crc = new CRC32();
+        long length = 0;
+        try (InputStream in = url.openStream()) {
+            byte[] buf = new byte[4096];
+            int read;
+            while ((read = in.read(buf)) >= 0) {
+                crc.update(buf, 0, read);
+                length += read;
+            }
+        }
+        return (length << 32) | crc.getValue();
+    }
+
+    /**
+     * Reads the compiled form of the leap second rules.
+     * <p>
+     * The format is a header and version, followed by the checksum of the text it was
+     * generated from, then the number of entries, then the Modified Julian Day and
+     * TAI offset of each entry, all as {@code DataOutput}.
+     *
+     * @param in  the stream to read, not null
+     * @param textChecksum  the checksum of the current text, from {@link #textChecksum(URL)}
+     * @return the data, not null
+     * @throws IOException if the stream cannot be read, is invalid or was generated from different text
+     */
+    static Data readCompiled(InputStream in, long textChecksum) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != COMPILED_MAGIC || data.readByte() != COMPILED_VERSION) {
+            throw new StreamCorruptedException("Invalid compiled leap second file");
+        }
+        if (data.readLong() != textChecksum) {
+            throw new StreamCorruptedException("Compiled leap second file does not match the text file");
+        }
+        int count = data.readInt();
+        if (count <= 0 || count > 10_000) {
+            throw new StreamCorruptedException("Invalid compiled leap second file");
+        }
+        long[] datesData = new long[count];
+        int[] offsetsData = new int[count];
+        long[] taiData = new long[count];
+        for (int i = 0; i < count; i++) {
+            datesData[i] = data.readInt();
+            offsetsData[i] = data.readShort();
+            taiData[i] = tai(datesData[i], offsetsData[i]);
+            if (i > 0 && datesData[i] <= datesData[i - 1]) {
+                throw new StreamCorruptedException("Invalid compiled leap second file");
+            }
+        }
+        return new Data(datesData, offsetsData, taiData);
+    }
+
+    /**
+     * Writes the compiled form of the leap second rules.
+     *
+     * @param rules  the rules to write, not null
+     * @param textChecksum  the checksum of the text the rules were parsed from, from {@link #textChecksum(URL)}
+     * @param out  the stream to write to, not null
+     * @throws IOException if the stream cannot be written
+     */
+    static void writeCompiled(Data rules, long textChecksum, OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(COMPILED_MAGIC);
+        data.writeByte(COMPILED_VERSION);
+        data.writeLong(textChecksum);
+        data.writeInt(rules.dates.length);
+        for (int i = 0; i < rules.dates.length; i++) {
+            if (rules.offsets[i] != (short) rules.offsets[i]) {
+                throw new StreamCorruptedException("TAI offset too large for compiled leap second file");
+            }
+            data.writeInt(Math.toIntExact(rules.dates[i]));
+            data.writeShort(rules.offsets[i]);
+        }
+        data.flush();
+    }
+
     /**
      * Loads the leap second rules from a URL, often in a jar file.
      *
      * @param url  the jar file to load, not null
-     * @throws Exception if an error occurs
+     * @return the data, not null
+     * @throws StreamCorruptedException if the file is not a valid leap second file
+     * @throws IOException if the file cannot be read
      */
-    private static Data loadLeapSeconds(URL url) throws ClassNotFoundException, IOException {
+    static Data loadLeapSeconds(URL url) throws IOException {
         List<String> lines = new ArrayList<>();
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
             lines = reader.lines().collect(Collectors.toList());
         }
+        return parseLeapSeconds(lines);
+    }
+
+    /**
+     * Parses the lines of a leap second file.
+     * <p>
+     * Two formats are accepted, and may not be mixed within a file.
+     * The first is that of {@code LeapSeconds.txt}, the ISO date of the leap second
+     * and the TAI offset after that date, where the first line is the start of UTC.
+     * The second is that of the IERS and NIST {@code leap-seconds.list} file,
+     * the NTP second when the new offset starts and the TAI offset.
+     * Blank lines and lines starting with '#' are ignored in both formats.
+     *
+     * @param lines  the lines to parse, not null
+     * @return the data, not null
+     * @throws StreamCorruptedException if the lines are not a valid leap second file
+     */
+    static Data parseLeapSeconds(List<String> lines) throws StreamCorruptedException {
         List<Long> dates = new ArrayList<>();
         List<Integer> offsets = new ArrayList<>();
+        Boolean ntpFormat = null;
         for (String line : lines) {
             line = line.trim();
             if (line.isEmpty() || line.startsWith("#")) {
                 continue;
             }
-            Matcher matcher = LEAP_FILE_FORMAT.matcher(line);
+            Matcher matcher = NTP_FILE_FORMAT.matcher(line);
+            boolean ntpLine = true;
             if (matcher.matches() == false) {
-                throw new StreamCorruptedException("Invalid leap second file");
+                matcher = LEAP_FILE_FORMAT.matcher(line);
+                ntpLine = false;
+                if (matcher.matches() == false) {
+                    throw new StreamCorruptedException("Invalid leap second file");
+                }
             }
-            dates.add(LocalDate.parse(matcher.group(1)).getLong(JulianFields.MODIFIED_JULIAN_DAY));
+            if (ntpFormat != null && ntpFormat != ntpLine) {
+                throw new StreamCorruptedException("Invalid leap second file, formats must not be mixed");
+            }
+            ntpFormat = ntpLine;
+            long date;
+            if (ntpLine) {
+                long ntpSeconds = Long.parseLong(matcher.group(1));
+                if (ntpSeconds % SECS_PER_DAY != 0) {
+                    throw new StreamCorruptedException("Invalid leap second file, offset must change at midnight");
+                }
+                // the offset changes at the start of the day, so the leap second is at the end of the previous day
+                long startMjd = ntpSeconds / SECS_PER_DAY + OFFSET_MJD_NTP;
+                date = (dates.isEmpty() ? startMjd : startMjd - 1);
+            } else {
+                date = LocalDate.parse(matcher.group(1)).getLong(JulianFields.MODIFIED_JULIAN_DAY);
+            }
+            if (dates.isEmpty() == false && date <= dates.get(dates.size() - 1)) {
+                throw new StreamCorruptedException("Invalid leap second file, dates must be in ascending order");
+            }
+            dates.add(date);
             offsets.add(Integer.valueOf(matcher.group(2)));
         }
+        if (dates.isEmpty()) {
+            throw new StreamCorruptedException("Invalid leap second file, no leap seconds found");
+        }
         long[] datesData = new long[dates.size()];
         int[] offsetsData = new int[dates.size()];
         long[] taiData = new long[dates.size()];
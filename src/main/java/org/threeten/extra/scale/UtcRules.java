@@ -73,6 +73,18 @@ public abstract class UtcRules {
      * Constant for nanos per standard second: 1,000,000,000.
      */
     static final long NANOS_PER_SECOND = 1000000000L;
+    /**
+     * Constant for the minimum epoch-second of an {@code Instant}.
+     */
+    private static final long MIN_EPOCH_SECOND = Instant.MIN.getEpochSecond();
+    /**
+     * Constant for the maximum epoch-second of an {@code Instant}.
+     */
+    private static final long MAX_EPOCH_SECOND = Instant.MAX.getEpochSecond();
+    /**
+     * Constant for the nanoseconds in the shortest possible UTC day.
+     */
+    private static final long MIN_DAY_NANOS = (SECS_PER_DAY - 1) * NANOS_PER_SECOND;
 
     /**
      * Gets the system default leap second rules.
@@ -295,6 +307,27 @@ public abstract class UtcRules {
         return UtcInstant.ofModifiedJulianDay(mjd, utcNanos);
     }
 
+    /**
+     * Obtains rules that convert to and from {@code Instant} using the specified leap smear.
+     * <p>
+     * The standard implementation uses UTC-SLS to convert between UTC and {@code Instant}.
+     * The rules returned use the specified smear instead, for both the single and
+     * batch conversions, while the leap seconds and TAI conversions are unchanged.
+     * If these rules change, such as the system rules when a leap second is registered,
+     * the rules returned also change.
+     * <p>
+     * The smear window of each leap second is computed once. Converting a date
+     * after the newest window is then a single comparison, while dates before it
+     * need a binary search of the leap seconds. If the windows of two leap seconds
+     * overlap, the conversions of the rules returned throw {@code DateTimeException}.
+     *
+     * @param smear  the smear to use, not null
+     * @return the smeared rules, not null
+     */
+    public UtcRules withSmear(LeapSmear smear) {
+        return new SmearedUtcRules(this, smear);
+    }
+
     //-------------------------------------------------------------------------
     /**
      * Converts a {@code TaiInstant} to an {@code Instant}.
@@ -332,6 +365,257 @@ public abstract class UtcRules {
         return convertToTai(convertToUtc(instant));
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Converts arrays of instants to arrays of TAI instants.
+     * <p>
+     * This converts each element in the same way as {@link #convertToTai(Instant)},
+     * where the instant is held as epoch-seconds and nano-of-second in two arrays and
+     * the TAI instant as TAI seconds and nano-of-second in another two arrays.
+     * The whole batch is converted using the same rules, even if leap seconds
+     * are registered concurrently, and no objects are allocated per element.
+     * <p>
+     * The output arrays may be the same as the input arrays, converting in place.
+     * If an exception is thrown, the output arrays are partially updated.
+     *
+     * @param epochSeconds  the epoch-seconds of the instants, not null
+     * @param nanos  the nano-of-second of the instants, from 0 to 999,999,999, not null
+     * @param taiSeconds  the array to store the TAI seconds in, not null
+     * @param taiNanos  the array to store the TAI nano-of-second in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if an instant is invalid or the valid range is exceeded
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public void convertInstantsToTai(long[] epochSeconds, int[] nanos, long[] taiSeconds, int[] taiNanos) {
+        validateLengths(epochSeconds.length, nanos.length, taiSeconds.length, taiNanos.length);
+        UtcRules rules = snapshot();
+        for (int i = 0; i < epochSeconds.length; i++) {
+            long mjd = instantToMjd(epochSeconds[i], nanos[i]);
+            long nod = rules.instantToUtcNanos(mjd, Math.floorMod(epochSeconds[i], SECS_PER_DAY) * NANOS_PER_SECOND + nanos[i]);
+            if (nod < 0) {
+                mjd--;
+                nod += rules.utcDayNanos(mjd);
+            } else if (nod >= MIN_DAY_NANOS && nod >= rules.utcDayNanos(mjd)) {
+                nod -= rules.utcDayNanos(mjd);
+                mjd++;
+            }
+            long taiUtcDaySeconds = Math.multiplyExact(Math.subtractExact(mjd, OFFSET_MJD_TAI), SECS_PER_DAY);
+            taiSeconds[i] = Math.addExact(taiUtcDaySeconds, nod / NANOS_PER_SECOND + rules.getTaiOffset(mjd));
+            taiNanos[i] = (int) (nod % NANOS_PER_SECOND);
+        }
+    }
+
+    /**
+     * Converts arrays of TAI instants to arrays of instants.
+     * <p>
+     * This converts each element in the same way as {@link #convertToInstant(TaiInstant)},
+     * where the TAI instant is held as TAI seconds and nano-of-second in two arrays and
+     * the instant as epoch-seconds and nano-of-second in another two arrays.
+     * The whole batch is converted using the same rules, even if leap seconds
+     * are registered concurrently, and no objects are allocated per element.
+     * <p>
+     * The output arrays may be the same as the input arrays, converting in place.
+     * If an exception is thrown, the output arrays are partially updated.
+     *
+     * @param taiSeconds  the TAI seconds, not null
+     * @param taiNanos  the TAI nano-of-second, from 0 to 999,999,999, not null
+     * @param epochSeconds  the array to store the epoch-seconds in, not null
+     * @param nanos  the array to store the nano-of-second in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if a TAI instant is invalid or the valid range is exceeded
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public void convertTaiToInstants(long[] taiSeconds, int[] taiNanos, long[] epochSeconds, int[] nanos) {
+        validateLengths(taiSeconds.length, taiNanos.length, epochSeconds.length, nanos.length);
+        UtcRules rules = snapshot();
+        for (int i = 0; i < taiSeconds.length; i++) {
+            long tai = taiSeconds[i];
+            int nano = validateNano(taiNanos[i]);
+            long mjd = Math.floorDiv(tai, SECS_PER_DAY) + OFFSET_MJD_TAI;
+            long dayStart = utcDayStart(rules, mjd);
+            while (tai < dayStart) {
+                mjd--;
+                dayStart = utcDayStart(rules, mjd);
+            }
+            while (tai >= dayStart + SECS_PER_DAY + rules.getLeapSecondAdjustment(mjd)) {
+                mjd++;
+                dayStart = utcDayStart(rules, mjd);
+            }
+            long nod = (tai - dayStart) * NANOS_PER_SECOND + nano;
+            long slsNanos = rules.utcToInstantNanos(mjd, nod);
+            storeInstant(Math.subtractExact(mjd, OFFSET_MJD_EPOCH), slsNanos, epochSeconds, nanos, i);
+        }
+    }
+
+    /**
+     * Converts arrays of instants to arrays of UTC instants.
+     * <p>
+     * This converts each element in the same way as {@link #convertToUtc(Instant)},
+     * where the instant is held as epoch-seconds and nano-of-second in two arrays and
+     * the UTC instant as Modified Julian Day and nano-of-day in another two arrays.
+     * The whole batch is converted using the same rules, even if leap seconds
+     * are registered concurrently, and no objects are allocated per element.
+     * <p>
+     * The Modified Julian Day array may be the same as the epoch-seconds array, converting in place.
+     * If an exception is thrown, the output arrays are partially updated.
+     *
+     * @param epochSeconds  the epoch-seconds of the instants, not null
+     * @param nanos  the nano-of-second of the instants, from 0 to 999,999,999, not null
+     * @param mjDays  the array to store the Modified Julian Days in, not null
+     * @param nanoOfDays  the array to store the nano-of-day in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if an instant is invalid or the valid range is exceeded
+     */
+    public void convertInstantsToUtc(long[] epochSeconds, int[] nanos, long[] mjDays, long[] nanoOfDays) {
+        validateLengths(epochSeconds.length, nanos.length, mjDays.length, nanoOfDays.length);
+        UtcRules rules = snapshot();
+        for (int i = 0; i < epochSeconds.length; i++) {
+            long mjd = instantToMjd(epochSeconds[i], nanos[i]);
+            long nod = rules.instantToUtcNanos(mjd, Math.floorMod(epochSeconds[i], SECS_PER_DAY) * NANOS_PER_SECOND + nanos[i]);
+            if (nod < 0) {
+                mjd--;
+                nod += rules.utcDayNanos(mjd);
+            } else if (nod >= MIN_DAY_NANOS && nod >= rules.utcDayNanos(mjd)) {
+                nod -= rules.utcDayNanos(mjd);
+                mjd++;
+            }
+            nanoOfDays[i] = nod;
+            mjDays[i] = mjd;
+        }
+    }
+
+    /**
+     * Converts arrays of UTC instants to arrays of instants.
+     * <p>
+     * This converts each element in the same way as {@link #convertToInstant(UtcInstant)},
+     * where the UTC instant is held as Modified Julian Day and nano-of-day in two arrays and
+     * the instant as epoch-seconds and nano-of-second in another two arrays.
+     * The whole batch is converted using the same rules, even if leap seconds
+     * are registered concurrently, and no objects are allocated per element.
+     * <p>
+     * The epoch-seconds array may be the same as the Modified Julian Day array, converting in place.
+     * If an exception is thrown, the output arrays are partially updated.
+     *
+     * @param mjDays  the Modified Julian Days, not null
+     * @param nanoOfDays  the nano-of-day, validated against the rules, not null
+     * @param epochSeconds  the array to store the epoch-seconds in, not null
+     * @param nanos  the array to store the nano-of-second in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if a UTC instant is invalid or the valid range is exceeded
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public void convertUtcToInstants(long[] mjDays, long[] nanoOfDays, long[] epochSeconds, int[] nanos) {
+        validateLengths(mjDays.length, nanoOfDays.length, epochSeconds.length, nanos.length);
+        UtcRules rules = snapshot();
+        for (int i = 0; i < mjDays.length; i++) {
+            long mjd = mjDays[i];
+            long nod = nanoOfDays[i];
+            rules.validateModifiedJulianDay(mjd, nod);
+            long slsNanos = rules.utcToInstantNanos(mjd, nod);
+            storeInstant(Math.subtractExact(mjd, OFFSET_MJD_EPOCH), slsNanos, epochSeconds, nanos, i);
+        }
+    }
+
+    /**
+     * Gets rules that do not change, used to convert a whole batch consistently.
+     * <p>
+     * Rules that can change, such as the system rules, return an immutable snapshot.
+     *
+     * @return the rules to use for a batch, not null
+     */
+    UtcRules snapshot() {
+        return this;
+    }
+
+    // checks the arrays are the same length
+    private static void validateLengths(int length1, int length2, int length3, int length4) {
+        if (length1 != length2 || length1 != length3 || length1 != length4) {
+            throw new IllegalArgumentException("Arrays must have the same length");
+        }
+    }
+
+    // checks the nano-of-second is valid
+    private static int validateNano(int nano) {
+        if (nano < 0 || nano >= NANOS_PER_SECOND) {
+            throw new DateTimeException("Invalid nano-of-second: " + nano);
+        }
+        return nano;
+    }
+
+    // gets the Modified Julian Day of an instant
+    private static long instantToMjd(long epochSecond, int nano) {
+        if (epochSecond < MIN_EPOCH_SECOND || epochSecond > MAX_EPOCH_SECOND) {
+            throw new DateTimeException("Instant exceeds minimum or maximum instant");
+        }
+        validateNano(nano);
+        return Math.floorDiv(epochSecond, SECS_PER_DAY) + OFFSET_MJD_EPOCH;
+    }
+
+    /**
+     * Converts an instant to UTC nanoseconds, as used by the batch conversions.
+     * <p>
+     * The standard implementation uses the UTC-SLS algorithm of {@link #convertToUtc(Instant)},
+     * where the result is always within the same day. Rules that map instants near midnight
+     * to the adjacent UTC day return a negative result, or one beyond the length of the day.
+     *
+     * @param mjd  the Modified Julian Day of the instant
+     * @param slsNanos  the nano-of-day of the instant, from 0 to 86,399,999,999,999
+     * @return the UTC nanoseconds from the start of the same Modified Julian Day
+     */
+    long instantToUtcNanos(long mjd, long slsNanos) {
+        int leapAdj = getLeapSecondAdjustment(mjd);
+        long startSlsNanos = (SECS_PER_DAY + leapAdj - 1000) * NANOS_PER_SECOND;
+        if (leapAdj != 0 && slsNanos >= startSlsNanos) {
+            return startSlsNanos + ((slsNanos - startSlsNanos) * 1000) / (1000 - leapAdj);  // apply UTC-SLS mapping
+        }
+        return slsNanos;
+    }
+
+    /**
+     * Converts a UTC instant to instant nanoseconds, as used by the batch conversions.
+     * <p>
+     * The standard implementation uses the UTC-SLS algorithm of {@link #convertToInstant(UtcInstant)},
+     * where the result is always within the same day. Rules that map UTC instants near midnight
+     * to the adjacent day return a negative result, or one of 86,400 seconds or more.
+     *
+     * @param mjd  the Modified Julian Day of the UTC instant
+     * @param utcNanos  the validated nano-of-day of the UTC instant
+     * @return the instant nanoseconds from the start of the same Modified Julian Day
+     */
+    long utcToInstantNanos(long mjd, long utcNanos) {
+        int leapAdj = getLeapSecondAdjustment(mjd);
+        long startSlsNanos = (SECS_PER_DAY + leapAdj - 1000) * NANOS_PER_SECOND;
+        if (leapAdj != 0 && utcNanos >= startSlsNanos) {
+            return utcNanos - leapAdj * (utcNanos - startSlsNanos) / 1000;  // apply UTC-SLS mapping
+        }
+        return utcNanos;
+    }
+
+    /**
+     * Gets the length of a UTC day in nanoseconds, including any leap second.
+     *
+     * @param mjd  the Modified Julian Day
+     * @return the length of the day in nanoseconds
+     */
+    long utcDayNanos(long mjd) {
+        return (SECS_PER_DAY + getLeapSecondAdjustment(mjd)) * NANOS_PER_SECOND;
+    }
+
+    // gets the TAI second that a UTC day starts at
+    private static long utcDayStart(UtcRules rules, long mjd) {
+        return Math.addExact(Math.multiplyExact(mjd - OFFSET_MJD_TAI, SECS_PER_DAY), rules.getTaiOffset(mjd));
+    }
+
+    // stores an instant from an epoch-day and UTC-SLS nano-of-day
+    private static void storeInstant(long epochDay, long slsNanos, long[] epochSeconds, int[] nanos, int index) {
+        long epochSec = Math.addExact(Math.multiplyExact(epochDay, SECS_PER_DAY), Math.floorDiv(slsNanos, NANOS_PER_SECOND));
+        if (epochSec < MIN_EPOCH_SECOND || epochSec > MAX_EPOCH_SECOND) {
+            throw new DateTimeException("Instant exceeds minimum or maximum instant");
+        }
+        epochSeconds[index] = epochSec;
+        nanos[index] = (int) Math.floorMod(slsNanos, NANOS_PER_SECOND);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * A string representation of these rules.
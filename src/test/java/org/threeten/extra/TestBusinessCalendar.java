@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test class.
+ */
+@Test
+public class TestBusinessCalendar {
+
+    private static final LocalDate CHRISTMAS = LocalDate.of(2015, 12, 25);  // Friday
+    private static final LocalDate BOXING_DAY = LocalDate.of(2015, 12, 28);  // Monday, substitute
+    private static final LocalDate NEW_YEAR = LocalDate.of(2016, 1, 1);  // Friday
+    private static final LocalDateRange RANGE = LocalDateRange.of(LocalDate.of(2015, 1, 1), LocalDate.of(2017, 1, 1));
+    private static final BusinessCalendar CALENDAR = BusinessCalendar.of(RANGE, Arrays.asList(CHRISTMAS, BOXING_DAY, NEW_YEAR));
+
+    //-----------------------------------------------------------------------
+    public void test_of() {
+        assertEquals(CALENDAR.getRange(), RANGE);
+        assertEquals(CALENDAR.toString(), "BusinessCalendar[" + RANGE + ", workingDays=" + (261 + 261 - 3) + "]");
+    }
+
+    public void test_of_holidaysOutsideRange() {
+        BusinessCalendar test = BusinessCalendar.of(RANGE, Arrays.asList(LocalDate.of(2014, 12, 25), LocalDate.of(2017, 1, 2)));
+        assertEquals(test, BusinessCalendar.of(RANGE, Collections.emptyList()));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_of_unbounded() {
+        BusinessCalendar.of(LocalDateRange.of(LocalDate.of(2015, 1, 1), LocalDate.MAX), Collections.emptyList());
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_of_nullHoliday() {
+        BusinessCalendar.of(RANGE, Arrays.asList(CHRISTMAS, null));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_isWorkingDay() {
+        assertTrue(CALENDAR.isWorkingDay(LocalDate.of(2015, 12, 24)));
+        assertFalse(CALENDAR.isWorkingDay(CHRISTMAS));
+        assertFalse(CALENDAR.isWorkingDay(LocalDate.of(2015, 12, 26)));
+        assertFalse(CALENDAR.isWorkingDay(LocalDate.of(2015, 12, 27)));
+        assertFalse(CALENDAR.isWorkingDay(BOXING_DAY));
+        assertTrue(CALENDAR.isWorkingDay(LocalDate.of(2015, 12, 29)));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_isWorkingDay_beforeRange() {
+        CALENDAR.isWorkingDay(LocalDate.of(2014, 12, 31));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_isWorkingDay_endOfRange() {
+        CALENDAR.isWorkingDay(RANGE.getEnd());
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_workingDaysBetween() {
+        assertEquals(CALENDAR.workingDaysBetween(LocalDate.of(2015, 12, 21), LocalDate.of(2016, 1, 4)), 7);
+        assertEquals(CALENDAR.workingDaysBetween(LocalDate.of(2016, 1, 4), LocalDate.of(2015, 12, 21)), -7);
+        assertEquals(CALENDAR.workingDaysBetween(CHRISTMAS, CHRISTMAS), 0);
+        assertEquals(CALENDAR.workingDaysBetween(RANGE.getStart(), RANGE.getEnd()), 261 + 261 - 3);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_plusWorkingDays() {
+        assertEquals(CALENDAR.plusWorkingDays(LocalDate.of(2015, 12, 24), 1), LocalDate.of(2015, 12, 29));
+        assertEquals(CALENDAR.plusWorkingDays(CHRISTMAS, 1), LocalDate.of(2015, 12, 29));
+        assertEquals(CALENDAR.plusWorkingDays(CHRISTMAS, 0), CHRISTMAS);
+        assertEquals(CALENDAR.plusWorkingDays(CHRISTMAS, -1), LocalDate.of(2015, 12, 24));
+        assertEquals(CALENDAR.plusWorkingDays(LocalDate.of(2015, 12, 29), -1), LocalDate.of(2015, 12, 24));
+        assertEquals(CALENDAR.plusWorkingDays(LocalDate.of(2015, 12, 24), 5), LocalDate.of(2016, 1, 5));
+        assertEquals(CALENDAR.plusWorkingDays(LocalDate.of(2016, 1, 5), -5), LocalDate.of(2015, 12, 24));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_plusWorkingDays_resultAfterRange() {
+        CALENDAR.plusWorkingDays(LocalDate.of(2016, 12, 30), 1);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_plusWorkingDays_resultBeforeRange() {
+        CALENDAR.plusWorkingDays(LocalDate.of(2015, 1, 1), -1);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_adjusters() {
+        LocalDateTime dateTime = LocalDateTime.of(2015, 12, 24, 10, 30);
+        assertEquals(dateTime.with(CALENDAR.nextWorkingDay()), LocalDateTime.of(2015, 12, 29, 10, 30));
+        assertEquals(dateTime.with(CALENDAR.previousWorkingDay()), LocalDateTime.of(2015, 12, 23, 10, 30));
+        assertEquals(dateTime.with(CALENDAR.nextOrSameWorkingDay()), dateTime);
+        assertEquals(dateTime.with(CALENDAR.previousOrSameWorkingDay()), dateTime);
+        assertEquals(CHRISTMAS.with(CALENDAR.nextOrSameWorkingDay()), LocalDate.of(2015, 12, 29));
+        assertEquals(CHRISTMAS.with(CALENDAR.previousOrSameWorkingDay()), LocalDate.of(2015, 12, 24));
+        assertEquals(CHRISTMAS.with(CALENDAR.plusWorkingDays(3)), LocalDate.of(2015, 12, 31));
+    }
+
+    public void test_adjusters_matchTemporals() {
+        BusinessCalendar test = BusinessCalendar.of(RANGE, Collections.emptyList());
+        for (LocalDate date = LocalDate.of(2015, 2, 1); date.isBefore(LocalDate.of(2016, 12, 1)); date = date.plusDays(1)) {
+            assertEquals(date.with(test.nextWorkingDay()), date.with(Temporals.nextWorkingDay()));
+            assertEquals(date.with(test.previousWorkingDay()), date.with(Temporals.previousWorkingDay()));
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_random() {
+        Random random = new Random(1);
+        for (int n = 0; n < 50; n++) {
+            LocalDate start = LocalDate.of(2000, 1, 1).plusDays(random.nextInt(1000));
+            LocalDateRange range = LocalDateRange.of(start, start.plusDays(1 + random.nextInt(500)));
+            Set<DayOfWeek> weekend = EnumSet.noneOf(DayOfWeek.class);
+            for (DayOfWeek dow : DayOfWeek.values()) {
+                if (random.nextInt(4) == 0) {
+                    weekend.add(dow);
+                }
+            }
+            Set<LocalDate> holidays = new HashSet<>();
+            for (int i = 0; i < random.nextInt(100); i++) {
+                holidays.add(start.plusDays(random.nextInt(600) - 50));
+            }
+            BusinessCalendar test = BusinessCalendar.of(range, weekend, holidays);
+            List<LocalDate> workingDays = new ArrayList<>();
+            range.stream().forEach(date -> {
+                boolean working = !weekend.contains(date.getDayOfWeek()) && !holidays.contains(date);
+                assertEquals(test.isWorkingDay(date), working);
+                if (working) {
+                    workingDays.add(date);
+                }
+            });
+            for (int i = 0; i < 100; i++) {
+                LocalDate date1 = start.plusDays(random.nextInt(range.lengthInDays() + 1));
+                LocalDate date2 = start.plusDays(random.nextInt(range.lengthInDays() + 1));
+                long expected = workingDays.stream().filter(d -> !d.isBefore(date1) && d.isBefore(date2)).count() -
+                        workingDays.stream().filter(d -> !d.isBefore(date2) && d.isBefore(date1)).count();
+                assertEquals(test.workingDaysBetween(date1, date2), expected);
+            }
+            for (int i = 0; i < workingDays.size(); i++) {
+                LocalDate date = workingDays.get(i);
+                for (int j = 0; j < workingDays.size(); j += 1 + random.nextInt(10)) {
+                    assertEquals(test.plusWorkingDays(date, j - i), workingDays.get(j));
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test class.
+ */
+@Test
+public class TestCoarseClock {
+
+    private static final Instant START = Instant.parse("2016-01-01T00:00:00Z");
+
+    // waits for the clock to observe the instant
+    private static void awaitInstant(CoarseClock clock, Instant expected) throws InterruptedException {
+        long end = System.nanoTime() + 10_000_000_000L;
+        while (!clock.instant().equals(expected) && System.nanoTime() < end) {
+            Thread.sleep(1);
+        }
+        assertEquals(clock.instant(), expected);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_of() throws Exception {
+        MutableClock underlying = MutableClock.of(START, ZoneOffset.ofHours(1));
+        try (CoarseClock test = CoarseClock.of(underlying, Duration.ofMillis(1))) {
+            assertEquals(test.getZone(), ZoneOffset.ofHours(1));
+            assertEquals(test.getGranularity(), Duration.ofMillis(1));
+            assertFalse(test.isClosed());
+            assertEquals(test.instant(), START);
+            underlying.add(Duration.ofSeconds(5));
+            awaitInstant(test, START.plusSeconds(5));
+            assertEquals(test.millis(), START.plusSeconds(5).toEpochMilli());
+        }
+    }
+
+    public void test_cached() throws Exception {
+        MutableClock underlying = MutableClock.of(START, ZoneOffset.UTC);
+        try (CoarseClock test = CoarseClock.of(underlying, Duration.ofDays(1))) {
+            underlying.add(Duration.ofSeconds(5));
+            assertEquals(test.instant(), START);
+        }
+    }
+
+    public void test_clockThrows() throws Exception {
+        MutableClock underlying = MutableClock.of(START, ZoneOffset.UTC);
+        ThrowOnceClock throwing = new ThrowOnceClock(underlying);
+        try (CoarseClock test = CoarseClock.of(throwing, Duration.ofMillis(1))) {
+            throwing.armed.set(true);
+            long end = System.nanoTime() + 10_000_000_000L;
+            while (throwing.armed.get() && System.nanoTime() < end) {
+                Thread.sleep(1);
+            }
+            assertFalse(throwing.armed.get());
+            assertEquals(test.instant(), START);
+            underlying.add(Duration.ofSeconds(5));
+            awaitInstant(test, START.plusSeconds(5));
+        }
+    }
+
+    public void test_close() {
+        MutableClock underlying = MutableClock.of(START, ZoneOffset.UTC);
+        CoarseClock test = CoarseClock.of(underlying, Duration.ofDays(1));
+        CoarseClock other = test.withZone(ZoneOffset.ofHours(2));
+        test.close();
+        assertTrue(test.isClosed());
+        assertTrue(other.isClosed());
+        underlying.add(Duration.ofSeconds(5));
+        assertEquals(test.instant(), START.plusSeconds(5));
+        assertEquals(other.instant(), START.plusSeconds(5));
+    }
+
+    public void test_withZone() throws Exception {
+        MutableClock underlying = MutableClock.of(START, ZoneOffset.UTC);
+        try (CoarseClock test = CoarseClock.of(underlying, Duration.ofMillis(1))) {
+            CoarseClock other = test.withZone(ZoneOffset.ofHours(2));
+            assertSame(test.withZone(ZoneOffset.UTC), test);
+            assertEquals(other.getZone(), ZoneOffset.ofHours(2));
+            assertNotEquals(other, test);
+            assertEquals(other.withZone(ZoneOffset.UTC), test);
+            assertEquals(other.withZone(ZoneOffset.UTC).hashCode(), test.hashCode());
+            underlying.add(Duration.ofSeconds(5));
+            awaitInstant(other, START.plusSeconds(5));
+        }
+    }
+
+    public void test_equals() {
+        try (CoarseClock a = CoarseClock.systemUTC(Duration.ofMillis(10));
+                CoarseClock b = CoarseClock.systemUTC(Duration.ofMillis(10))) {
+            assertEquals(a, a);
+            assertNotEquals(a, b);
+            assertNotEquals(a, "");
+        }
+    }
+
+    public void test_toString() {
+        MutableClock underlying = MutableClock.of(START, ZoneOffset.UTC);
+        try (CoarseClock test = CoarseClock.of(underlying, Duration.ofMillis(1))) {
+            assertEquals(test.toString(), "CoarseClock[" + underlying + ",PT0.001S,Z]");
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A clock that throws from the next read once armed, also used by the time-source tests.
+     */
+    public static final class ThrowOnceClock extends Clock {
+        public final AtomicBoolean armed = new AtomicBoolean();
+        private final Clock clock;
+
+        public ThrowOnceClock(Clock clock) {
+            this.clock = clock;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return clock.getZone();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            if (armed.compareAndSet(true, false)) {
+                throw new IllegalStateException("Clock failure");
+            }
+            return clock.instant();
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_of_zeroGranularity() {
+        CoarseClock.systemUTC(Duration.ZERO);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_of_nullClock() {
+        CoarseClock.of(null, Duration.ofMillis(1));
+    }
+
+}
@@ -226,6 +226,49 @@ public class TestDays {
         Days.parse((CharSequence) null);
     }
 
+    @Test(dataProvider = "parseValid")
+    public void test_parse_CharSequenceIntInt_valid(String str, int expected) {
+        String text = "AB" + str + "CD";
+        assertEquals(Days.parse(text, 2, 2 + str.length()), Days.of(expected));
+    }
+
+    @Test(expectedExceptions = DateTimeParseException.class, dataProvider = "parseInvalid")
+    public void test_parse_CharSequenceIntInt_invalid(String str) {
+        String text = "P2D" + str + "P2D";
+        Days.parse(text, 3, 3 + str.length());
+    }
+
+    public void test_parse_CharSequenceIntInt_errorIndex() {
+        try {
+            Days.parse("P2D/P", 4, 5);
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 4);
+            assertEquals(ex.getParsedString(), "P2D/P");
+            return;
+        }
+        throw new AssertionError();
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequenceIntInt_startNegative() {
+        Days.parse("P2D", -1, 2);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequenceIntInt_endTooLarge() {
+        Days.parse("P2D", 0, 4);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequenceIntInt_startAfterEnd() {
+        Days.parse("P2D", 2, 1);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_parse_CharSequenceIntInt_null() {
+        Days.parse((CharSequence) null, 0, 0);
+    }
+
     //-----------------------------------------------------------------------
     public void test_plus_TemporalAmount_Days() {
         Days test5 = Days.of(5);
@@ -160,6 +160,49 @@ public class TestHours {
     public void test_parse_CharSequence_null() {
         Hours.parse((CharSequence) null);
     }
+
+    @Test(dataProvider = "parseValid")
+    public void test_parse_CharSequenceIntInt_valid(String str, int expected) {
+        String text = "AB" + str + "CD";
+        assertEquals(Hours.parse(text, 2, 2 + str.length()), Hours.of(expected));
+    }
+
+    @Test(expectedExceptions = DateTimeParseException.class, dataProvider = "parseInvalid")
+    public void test_parse_CharSequenceIntInt_invalid(String str) {
+        String text = "PT2H" + str + "PT2H";
+        Hours.parse(text, 4, 4 + str.length());
+    }
+
+    public void test_parse_CharSequenceIntInt_errorIndex() {
+        try {
+            Hours.parse("PT2/P", 4, 5);
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 4);
+            assertEquals(ex.getParsedString(), "PT2/P");
+            return;
+        }
+        throw new AssertionError();
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequenceIntInt_startNegative() {
+        Hours.parse("PT2H", -1, 2);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequenceIntInt_endTooLarge() {
+        Hours.parse("PT2H", 0, 5);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequenceIntInt_startAfterEnd() {
+        Hours.parse("PT2H", 2, 1);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_parse_CharSequenceIntInt_null() {
+        Hours.parse((CharSequence) null, 0, 0);
+    }
     
     //-----------------------------------------------------------------------
     public void test_plus_TemporalAmount_Hours() {
@@ -181,9 +181,47 @@ public class TestInterval {
             {MIN_OFFSET_DATE_TIME.toString() + "/" + MAX_OFFSET_DATE_TIME, MIN_OFFSET_DATE_TIME, MAX_OFFSET_DATE_TIME},
             {NOW1 + "/" + Instant.MAX, NOW1, Instant.MAX},
             {Instant.MIN.toString() + "/" + NOW2, Instant.MIN, NOW2},
-            {Instant.MIN.toString() + "/" + Instant.MAX, Instant.MIN, Instant.MAX}
+            {Instant.MIN.toString() + "/" + Instant.MAX, Instant.MIN, Instant.MAX},
+            {"2012-07-01T10:15Z/2012-07-02T10:15:30Z", Instant.parse("2012-07-01T10:15:00Z"), Instant.parse("2012-07-02T10:15:30Z")},
+            {"2012-07-01T10:15:30.5Z/2012-07-01T10:15:31.123456789Z", Instant.parse("2012-07-01T10:15:30.5Z"), Instant.parse("2012-07-01T10:15:31.123456789Z")},
+            {"2012-02-29T23:59:59-05:30/2012-03-01T10:15", Instant.parse("2012-03-01T05:29:59Z"), Instant.parse("2012-03-01T15:45:00Z")},
+            {"2012-07-01T10:15+18:00/2012-07-01T10:15-18:00", Instant.parse("2012-06-30T16:15:00Z"), Instant.parse("2012-07-02T04:15:00Z")},
+            {"2012-07-01T10:15z/2012-07-02t10:15Z", Instant.parse("2012-07-01T10:15:00Z"), Instant.parse("2012-07-02T10:15:00Z")},
+            {"2012-07-01T10:15+01:00:30/2012-07-02T10:15Z", Instant.parse("2012-07-01T09:14:30Z"), Instant.parse("2012-07-02T10:15:00Z")},
+            {"2012-07-01T10:15Z/2012-07-02T10:15Z[Europe/London]", Instant.parse("2012-07-01T10:15:00Z"), Instant.parse("2012-07-02T10:15:00Z")},
+            {"2012-07-01T10:15Z/P1W2D", Instant.parse("2012-07-01T10:15:00Z"), Instant.parse("2012-07-10T10:15:00Z")},
+            {"2012-01-31T10:15+01:00/P1MT2H", Instant.parse("2012-01-31T09:15:00Z"), Instant.parse("2012-02-29T11:15:00Z")},
+            {"2012-07-01T10:15Z/PT1.5S", Instant.parse("2012-07-01T10:15:00Z"), Instant.parse("2012-07-01T10:15:01.5Z")},
+            {"2012-07-01T10:15Z/pt1H-2m3,25s", Instant.parse("2012-07-01T10:15:00Z"), Instant.parse("2012-07-01T11:13:03.25Z")},
+            {"P1Y2M3DT4H5M6.7S/2012-07-01T10:15Z", Instant.parse("2011-04-28T06:09:53.3Z"), Instant.parse("2012-07-01T10:15:00Z")},
+            {"P2D/2012-03-01T00:00:00.000000001-01:00", Instant.parse("2012-02-28T01:00:00.000000001Z"), Instant.parse("2012-03-01T01:00:00.000000001Z")},
+            {"PT0.5S/2012-07-01T10:15Z", Instant.parse("2012-07-01T10:14:59.5Z"), Instant.parse("2012-07-01T10:15:00Z")},
         };
     }
+
+    @DataProvider(name = "parseInvalid")
+    Object[][] data_parseInvalid() {
+        return new Object[][] {
+            {"2012-07-01T10:15Z/"},
+            {"2012-02-30T10:15Z/2012-07-01T10:15Z"},
+            {"2011-02-29T10:15Z/2012-07-01T10:15Z"},
+            {"2012-07-01T24:00Z/2012-07-02T10:15Z"},
+            {"2012-07-01T10:15+18:01/2012-07-02T10:15Z"},
+            {"2012-07-01T10:15:30./2012-07-02T10:15Z"},
+            {"2012-07-01T10:15/2012-07-02T10:15Z"},
+            {"2012-07-01T10:15Z/PT"},
+            {"2012-07-01T10:15Z/P1DT"},
+            {"2012-07-01T10:15Z/PT1.5H"},
+            {"2012-07-01T10:15Z/PT1.1234567890S"},
+            {"2012-07-01T10:15Z/P2147483648D"},
+            {"P1D/2012-07-01T10:15"},
+        };
+    }
+
+    @Test(dataProvider = "parseInvalid", expectedExceptions = DateTimeParseException.class)
+    public void test_parse_CharSequence_invalid(String input) {
+        Interval.parse(input);
+    }
     
     @Test(dataProvider = "parseValid")
     public void test_parse_CharSequence(String input, Instant start, Instant end) {
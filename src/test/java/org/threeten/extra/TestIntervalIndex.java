@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test class.
+ */
+@Test
+public class TestIntervalIndex {
+
+    private static final Instant NOW = Instant.parse("2014-12-01T01:00:00Z");
+
+    private static Instant at(int seconds) {
+        return NOW.plusSeconds(seconds);
+    }
+
+    private static Interval interval(int start, int end) {
+        return Interval.of(at(start), at(end));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_empty() {
+        IntervalIndex<String> test = IntervalIndex.<String>builder().build();
+        assertTrue(test.isEmpty());
+        assertEquals(test.size(), 0);
+        assertEquals(test.findContaining(NOW), Collections.emptyList());
+        assertEquals(test.findOverlapping(Interval.ALL), Collections.emptyList());
+    }
+
+    public void test_builder() {
+        IntervalIndex<String> test = IntervalIndex.<String>builder()
+                .add(interval(10, 20), "B")
+                .add(interval(0, 30), "A")
+                .add(interval(10, 15), "C")
+                .build();
+        assertFalse(test.isEmpty());
+        assertEquals(test.size(), 3);
+        assertEquals(test.getInterval(0), interval(0, 30));
+        assertEquals(test.getValue(0), "A");
+        assertEquals(test.getInterval(1), interval(10, 15));
+        assertEquals(test.getValue(1), "C");
+        assertEquals(test.getInterval(2), interval(10, 20));
+        assertEquals(test.getValue(2), "B");
+        assertEquals(test.toString(), "IntervalIndex[size=3]");
+    }
+
+    public void test_toIntervalIndex() {
+        IntervalIndex<Integer> test = IntStream.range(0, 100).boxed()
+                .parallel()
+                .collect(IntervalIndex.toIntervalIndex(i -> interval(i, i + 10), i -> i));
+        assertEquals(test.size(), 100);
+        assertEquals(test.findContaining(at(50)), Arrays.asList(41, 42, 43, 44, 45, 46, 47, 48, 49, 50));
+        assertEquals(test.findOverlapping(interval(99, 120)), IntStream.range(90, 100).boxed().collect(Collectors.toList()));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_builder_add_nullInterval() {
+        IntervalIndex.<String>builder().add(null, "A");
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_builder_add_nullValue() {
+        IntervalIndex.<String>builder().add(interval(0, 10), null);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_getInterval_negative() {
+        IntervalIndex.<String>builder().add(interval(0, 10), "A").build().getInterval(-1);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_getValue_tooLarge() {
+        IntervalIndex.<String>builder().add(interval(0, 10), "A").build().getValue(1);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_findContaining() {
+        IntervalIndex<String> test = IntervalIndex.<String>builder()
+                .add(interval(0, 10), "A")
+                .add(interval(5, 15), "B")
+                .add(interval(20, 20), "C")
+                .add(Interval.of(at(20), Instant.MAX), "D")
+                .build();
+        assertEquals(test.findContaining(at(-1)), Collections.emptyList());
+        assertEquals(test.findContaining(at(0)), Arrays.asList("A"));
+        assertEquals(test.findContaining(at(5)), Arrays.asList("A", "B"));
+        assertEquals(test.findContaining(at(10)), Arrays.asList("B"));
+        assertEquals(test.findContaining(at(15)), Collections.emptyList());
+        assertEquals(test.findContaining(at(20)), Arrays.asList("D"));
+        assertEquals(test.findContaining(Instant.MAX), Arrays.asList("D"));
+    }
+
+    public void test_findOverlapping() {
+        IntervalIndex<String> test = IntervalIndex.<String>builder()
+                .add(interval(0, 10), "A")
+                .add(interval(5, 15), "B")
+                .add(interval(20, 20), "C")
+                .add(interval(30, 40), "D")
+                .build();
+        assertEquals(test.findOverlapping(interval(10, 20)), Arrays.asList("B"));
+        assertEquals(test.findOverlapping(interval(15, 30)), Arrays.asList("C"));
+        assertEquals(test.findOverlapping(interval(15, 20)), Collections.emptyList());
+        assertEquals(test.findOverlapping(interval(20, 20)), Arrays.asList("C"));
+        assertEquals(test.findOverlapping(interval(35, 35)), Arrays.asList("D"));
+        assertEquals(test.findOverlapping(Interval.ALL), Arrays.asList("A", "B", "C", "D"));
+    }
+
+    public void test_forEach() {
+        IntervalIndex<String> test = IntervalIndex.<String>builder()
+                .add(interval(0, 10), "A")
+                .add(interval(5, 15), "B")
+                .build();
+        List<String> contained = new ArrayList<>();
+        test.forEachContaining(at(7), contained::add);
+        assertEquals(contained, Arrays.asList("A", "B"));
+        List<String> overlapped = new ArrayList<>();
+        test.forEachOverlapping(interval(12, 20), overlapped::add);
+        assertEquals(overlapped, Arrays.asList("B"));
+    }
+
+    public void test_random() {
+        Random random = new Random(1);
+        for (int n = 0; n < 100; n++) {
+            List<Interval> intervals = new ArrayList<>();
+            IntervalIndex.Builder<Integer> builder = IntervalIndex.builder();
+            int count = random.nextInt(50);
+            for (int i = 0; i < count; i++) {
+                int start = random.nextInt(100);
+                Interval interval = interval(start, start + random.nextInt(20));
+                intervals.add(interval);
+                builder.add(interval, i);
+            }
+            IntervalIndex<Integer> test = builder.build();
+            for (int s = -1; s <= 120; s++) {
+                Instant instant = at(s);
+                Interval query = interval(s, s + random.nextInt(10));
+                List<Integer> expectedContaining = new ArrayList<>();
+                List<Integer> expectedOverlapping = new ArrayList<>();
+                for (int i = 0; i < count; i++) {
+                    if (intervals.get(i).contains(instant)) {
+                        expectedContaining.add(i);
+                    }
+                    if (intervals.get(i).overlaps(query)) {
+                        expectedOverlapping.add(i);
+                    }
+                }
+                List<Integer> actualContaining = test.findContaining(instant);
+                List<Integer> actualOverlapping = test.findOverlapping(query);
+                Collections.sort(actualContaining);
+                Collections.sort(actualOverlapping);
+                assertEquals(actualContaining, expectedContaining);
+                assertEquals(actualOverlapping, expectedOverlapping);
+            }
+        }
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_findContaining_null() {
+        IntervalIndex.<String>builder().build().findContaining(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_findOverlapping_null() {
+        IntervalIndex.<String>builder().build().findOverlapping(null);
+    }
+
+}
@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test class.
+ */
+@Test
+public class TestIntervalSet {
+
+    private static final Instant NOW = Instant.parse("2014-12-01T01:00:00Z");
+
+    private static Instant at(int seconds) {
+        return NOW.plusSeconds(seconds);
+    }
+
+    private static Interval interval(int start, int end) {
+        return Interval.of(at(start), at(end));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_isSerializable() {
+        assertTrue(Serializable.class.isAssignableFrom(IntervalSet.class));
+    }
+
+    @Test(dataProvider = "serialization")
+    public void test_serialization(IntervalSet original) throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(baos);
+        out.writeObject(original);
+        out.close();
+        ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
+        ObjectInputStream in = new ObjectInputStream(bais);
+        IntervalSet ser = (IntervalSet) in.readObject();
+        assertEquals(ser, original);
+    }
+
+    @DataProvider(name = "serialization")
+    Object[][] data_serialization() {
+        return new Object[][] {
+            {IntervalSet.EMPTY},
+            {IntervalSet.ALL},
+            {IntervalSet.of(interval(0, 10), interval(20, 30))},
+        };
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_EMPTY() {
+        assertTrue(IntervalSet.EMPTY.isEmpty());
+        assertEquals(IntervalSet.EMPTY.size(), 0);
+        assertEquals(IntervalSet.EMPTY.totalDuration(), Duration.ZERO);
+        assertFalse(IntervalSet.EMPTY.contains(NOW));
+        assertEquals(IntervalSet.EMPTY.toString(), "[]");
+    }
+
+    public void test_ALL() {
+        assertFalse(IntervalSet.ALL.isEmpty());
+        assertEquals(IntervalSet.ALL.size(), 1);
+        assertEquals(IntervalSet.ALL.getInterval(0), Interval.ALL);
+        assertTrue(IntervalSet.ALL.contains(Instant.MIN));
+        assertTrue(IntervalSet.ALL.contains(NOW));
+        assertTrue(IntervalSet.ALL.contains(Instant.MAX));
+        assertEquals(IntervalSet.ALL.totalDuration(), Interval.ALL.toDuration());
+    }
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name = "of")
+    Object[][] data_of() {
+        return new Object[][] {
+            {new Interval[] {}, new Interval[] {}},
+            {new Interval[] {interval(5, 5)}, new Interval[] {}},
+            {new Interval[] {interval(0, 10)}, new Interval[] {interval(0, 10)}},
+            {new Interval[] {interval(20, 30), interval(0, 10)}, new Interval[] {interval(0, 10), interval(20, 30)}},
+            {new Interval[] {interval(0, 10), interval(10, 20)}, new Interval[] {interval(0, 20)}},
+            {new Interval[] {interval(0, 10), interval(5, 20)}, new Interval[] {interval(0, 20)}},
+            {new Interval[] {interval(0, 20), interval(5, 10)}, new Interval[] {interval(0, 20)}},
+            {new Interval[] {interval(10, 20), interval(0, 10), interval(15, 15), interval(30, 40)}, new Interval[] {interval(0, 20), interval(30, 40)}},
+            {new Interval[] {interval(0, 10), interval(10, 10), interval(20, 30)}, new Interval[] {interval(0, 10), interval(20, 30)}},
+        };
+    }
+
+    @Test(dataProvider = "of")
+    public void test_of_array(Interval[] input, Interval[] expected) {
+        IntervalSet test = IntervalSet.of(input);
+        assertEquals(test.size(), expected.length);
+        assertEquals(test.stream().collect(Collectors.toList()), Arrays.asList(expected));
+        assertEquals(test.isEmpty(), expected.length == 0);
+    }
+
+    @Test(dataProvider = "of")
+    public void test_of_Collection(Interval[] input, Interval[] expected) {
+        IntervalSet test = IntervalSet.of(Arrays.asList(input));
+        assertEquals(test, IntervalSet.of(expected));
+    }
+
+    public void test_of_doesNotSortInput() {
+        Interval[] input = {interval(20, 30), interval(0, 10)};
+        IntervalSet.of(input);
+        assertEquals(input[0], interval(20, 30));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_of_array_null() {
+        IntervalSet.of((Interval[]) null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_of_array_nullElement() {
+        IntervalSet.of(interval(0, 10), null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_of_Collection_null() {
+        IntervalSet.of((List<Interval>) null);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_getInterval_negative() {
+        IntervalSet.of(interval(0, 10)).getInterval(-1);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_getInterval_tooLarge() {
+        IntervalSet.of(interval(0, 10)).getInterval(1);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_contains() {
+        IntervalSet test = IntervalSet.of(interval(0, 10), interval(20, 30));
+        assertFalse(test.contains(at(-1)));
+        assertTrue(test.contains(at(0)));
+        assertTrue(test.contains(at(9)));
+        assertTrue(test.contains(at(10).minusNanos(1)));
+        assertFalse(test.contains(at(10)));
+        assertFalse(test.contains(at(19)));
+        assertTrue(test.contains(at(20)));
+        assertFalse(test.contains(at(30)));
+        assertFalse(test.contains(Instant.MIN));
+        assertFalse(test.contains(Instant.MAX));
+    }
+
+    public void test_contains_unboundedEnd() {
+        IntervalSet test = IntervalSet.of(Interval.of(NOW, Instant.MAX));
+        assertTrue(test.contains(NOW));
+        assertTrue(test.contains(Instant.MAX));
+        assertFalse(test.contains(Instant.MIN));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_contains_null() {
+        IntervalSet.ALL.contains(null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_totalDuration() {
+        IntervalSet test = IntervalSet.of(
+                Interval.of(at(0).plusNanos(600_000_000), at(10)),
+                Interval.of(at(20), at(30).plusNanos(700_000_000)));
+        assertEquals(test.totalDuration(), Duration.ofMillis(20_100));
+    }
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name = "operations")
+    Object[][] data_operations() {
+        return new Object[][] {
+            // a, b, union, intersection, difference a - b
+            {new Interval[] {interval(0, 10)}, new Interval[] {interval(20, 30)},
+                new Interval[] {interval(0, 10), interval(20, 30)}, new Interval[] {}, new Interval[] {interval(0, 10)}},
+            {new Interval[] {interval(0, 10)}, new Interval[] {interval(10, 20)},
+                new Interval[] {interval(0, 20)}, new Interval[] {}, new Interval[] {interval(0, 10)}},
+            {new Interval[] {interval(0, 10)}, new Interval[] {interval(5, 20)},
+                new Interval[] {interval(0, 20)}, new Interval[] {interval(5, 10)}, new Interval[] {interval(0, 5)}},
+            {new Interval[] {interval(0, 30)}, new Interval[] {interval(10, 20)},
+                new Interval[] {interval(0, 30)}, new Interval[] {interval(10, 20)}, new Interval[] {interval(0, 10), interval(20, 30)}},
+            {new Interval[] {interval(0, 10)}, new Interval[] {interval(0, 10)},
+                new Interval[] {interval(0, 10)}, new Interval[] {interval(0, 10)}, new Interval[] {}},
+            {new Interval[] {interval(0, 10), interval(20, 30)}, new Interval[] {interval(5, 25)},
+                new Interval[] {interval(0, 30)}, new Interval[] {interval(5, 10), interval(20, 25)}, new Interval[] {interval(0, 5), interval(25, 30)}},
+            {new Interval[] {}, new Interval[] {interval(0, 10)},
+                new Interval[] {interval(0, 10)}, new Interval[] {}, new Interval[] {}},
+            {new Interval[] {Interval.ALL}, new Interval[] {interval(0, 10)},
+                new Interval[] {Interval.ALL}, new Interval[] {interval(0, 10)},
+                new Interval[] {Interval.of(Instant.MIN, at(0)), Interval.of(at(10), Instant.MAX)}},
+        };
+    }
+
+    @Test(dataProvider = "operations")
+    public void test_union(Interval[] a, Interval[] b, Interval[] union, Interval[] intersection, Interval[] difference) {
+        assertEquals(IntervalSet.of(a).union(IntervalSet.of(b)), IntervalSet.of(union));
+        assertEquals(IntervalSet.of(b).union(IntervalSet.of(a)), IntervalSet.of(union));
+    }
+
+    @Test(dataProvider = "operations")
+    public void test_intersection(Interval[] a, Interval[] b, Interval[] union, Interval[] intersection, Interval[] difference) {
+        assertEquals(IntervalSet.of(a).intersection(IntervalSet.of(b)), IntervalSet.of(intersection));
+        assertEquals(IntervalSet.of(b).intersection(IntervalSet.of(a)), IntervalSet.of(intersection));
+    }
+
+    @Test(dataProvider = "operations")
+    public void test_difference(Interval[] a, Interval[] b, Interval[] union, Interval[] intersection, Interval[] difference) {
+        assertEquals(IntervalSet.of(a).difference(IntervalSet.of(b)), IntervalSet.of(difference));
+    }
+
+    public void test_complement() {
+        assertEquals(IntervalSet.EMPTY.complement(), IntervalSet.ALL);
+        assertSame(IntervalSet.ALL.complement(), IntervalSet.EMPTY);
+        IntervalSet test = IntervalSet.of(interval(0, 10), interval(20, 30));
+        assertEquals(test.complement(), IntervalSet.of(
+                Interval.of(Instant.MIN, at(0)), interval(10, 20), Interval.of(at(30), Instant.MAX)));
+        assertEquals(test.complement().complement(), test);
+        assertEquals(IntervalSet.of(Interval.of(Instant.MIN, NOW)).complement(), IntervalSet.of(Interval.of(NOW, Instant.MAX)));
+    }
+
+    public void test_operations_random() {
+        Random random = new Random(1);
+        for (int i = 0; i < 200; i++) {
+            IntervalSet a = randomSet(random);
+            IntervalSet b = randomSet(random);
+            IntervalSet union = a.union(b);
+            IntervalSet intersection = a.intersection(b);
+            IntervalSet difference = a.difference(b);
+            IntervalSet complement = a.complement();
+            for (int s = -1; s <= 41; s++) {
+                Instant instant = at(s);
+                assertEquals(union.contains(instant), a.contains(instant) || b.contains(instant));
+                assertEquals(intersection.contains(instant), a.contains(instant) && b.contains(instant));
+                assertEquals(difference.contains(instant), a.contains(instant) && !b.contains(instant));
+                assertEquals(complement.contains(instant), !a.contains(instant));
+            }
+            assertEquals(union.totalDuration(), a.totalDuration().plus(b.totalDuration()).minus(intersection.totalDuration()));
+        }
+    }
+
+    private static IntervalSet randomSet(Random random) {
+        List<Interval> intervals = new ArrayList<>();
+        int count = random.nextInt(6);
+        for (int i = 0; i < count; i++) {
+            int start = random.nextInt(40);
+            intervals.add(interval(start, start + random.nextInt(10)));
+        }
+        return IntervalSet.of(intervals);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_union_null() {
+        IntervalSet.ALL.union(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_intersection_null() {
+        IntervalSet.ALL.intersection(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_difference_null() {
+        IntervalSet.ALL.difference(null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_equals() {
+        IntervalSet a = IntervalSet.of(interval(0, 10), interval(20, 30));
+        IntervalSet a2 = IntervalSet.of(interval(20, 30), interval(0, 5), interval(5, 10));
+        IntervalSet b = IntervalSet.of(interval(0, 10));
+        assertEquals(a.equals(a), true);
+        assertEquals(a.equals(a2), true);
+        assertEquals(a.equals(b), false);
+        assertEquals(a.equals(null), false);
+        assertEquals(a.equals(""), false);
+        assertEquals(a.hashCode() == a2.hashCode(), true);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_toString() {
+        IntervalSet test = IntervalSet.of(interval(0, 10), interval(20, 30));
+        assertEquals(test.toString(), "[" + interval(0, 10) + ", " + interval(20, 30) + "]");
+    }
+
+}
@@ -46,8 +46,10 @@ import java.time.Period;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
 import java.util.stream.Collectors;
 
 import org.testng.annotations.DataProvider;
@@ -716,6 +718,143 @@ public class TestLocalDateRange {
         assertEquals(result.get(2), DATE_2012_07_30);
     }
 
+    public void test_stream_count() {
+        assertEquals(LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_31).stream().count(), 3);
+        assertEquals(LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_28).stream().count(), 0);
+        assertEquals(LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_28).stream().spliterator().getExactSizeIfKnown(), 0);
+    }
+
+    public void test_stream_spliterator() {
+        Spliterator<LocalDate> spliterator = LocalDateRange.of(DATE_2012_07_01, DATE_2012_07_31).stream().spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.SORTED));
+        assertEquals(spliterator.getComparator(), null);
+        assertEquals(spliterator.getExactSizeIfKnown(), 30);
+        Spliterator<LocalDate> prefix = spliterator.trySplit();
+        assertEquals(prefix.getExactSizeIfKnown(), 15);
+        assertEquals(spliterator.getExactSizeIfKnown(), 15);
+        List<LocalDate> first = new ArrayList<>();
+        prefix.forEachRemaining(first::add);
+        assertEquals(first.get(0), DATE_2012_07_01);
+        assertEquals(first.get(14), DATE_2012_07_01.plusDays(14));
+        assertTrue(spliterator.tryAdvance(date -> assertEquals(date, DATE_2012_07_01.plusDays(15))));
+        assertEquals(spliterator.getExactSizeIfKnown(), 14);
+        assertEquals(prefix.trySplit(), null);
+    }
+
+    public void test_stream_parallel() {
+        LocalDateRange test = LocalDateRange.of(LocalDate.of(1900, 1, 1), LocalDate.of(2100, 1, 1));
+        List<LocalDate> sequential = test.stream().collect(Collectors.toList());
+        List<LocalDate> parallel = test.stream().parallel().collect(Collectors.toList());
+        assertEquals(sequential.size(), test.lengthInDays());
+        assertEquals(parallel, sequential);
+    }
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name = "streamStep")
+    Object[][] data_streamStep() {
+        return new Object[][] {
+            {"2012-07-28", "2012-07-31", "P1D", new String[] {"2012-07-28", "2012-07-29", "2012-07-30"}},
+            {"2012-07-01", "2012-07-31", "P1W", new String[] {"2012-07-01", "2012-07-08", "2012-07-15", "2012-07-22", "2012-07-29"}},
+            {"2012-07-01", "2012-07-29", "P1W", new String[] {"2012-07-01", "2012-07-08", "2012-07-15", "2012-07-22"}},
+            {"2012-01-31", "2012-05-01", "P1M", new String[] {"2012-01-31", "2012-02-29", "2012-03-31", "2012-04-30"}},
+            {"2012-01-31", "2012-04-30", "P1M", new String[] {"2012-01-31", "2012-02-29", "2012-03-31"}},
+            {"2012-01-01", "2013-01-01", "P3M", new String[] {"2012-01-01", "2012-04-01", "2012-07-01", "2012-10-01"}},
+            {"2012-02-29", "2016-03-01", "P1Y", new String[] {"2012-02-29", "2013-02-28", "2014-02-28", "2015-02-28", "2016-02-29"}},
+            {"2012-01-31", "2012-04-01", "P1M1D", new String[] {"2012-01-31", "2012-03-01"}},
+            {"2012-07-01", "2012-07-01", "P1D", new String[] {}},
+            {"2012-07-01", "2012-07-02", "P1Y", new String[] {"2012-07-01"}},
+        };
+    }
+
+    @Test(dataProvider = "streamStep")
+    public void test_stream_Period(String start, String end, String step, String[] expected) {
+        LocalDateRange test = LocalDateRange.of(LocalDate.parse(start), LocalDate.parse(end));
+        List<LocalDate> result = test.stream(Period.parse(step)).collect(Collectors.toList());
+        assertEquals(result, Arrays.stream(expected).map(LocalDate::parse).collect(Collectors.toList()));
+        assertEquals(test.stream(Period.parse(step)).spliterator().getExactSizeIfKnown(), expected.length);
+    }
+
+    @Test(dataProvider = "streamStep")
+    public void test_splitBy(String start, String end, String step, String[] expected) {
+        LocalDateRange test = LocalDateRange.of(LocalDate.parse(start), LocalDate.parse(end));
+        List<LocalDateRange> result = test.splitBy(Period.parse(step)).collect(Collectors.toList());
+        assertEquals(result.size(), expected.length);
+        for (int i = 0; i < expected.length; i++) {
+            LocalDate expectedEnd = (i + 1 < expected.length ? LocalDate.parse(expected[i + 1]) : test.getEnd());
+            assertEquals(result.get(i), LocalDateRange.of(LocalDate.parse(expected[i]), expectedEnd));
+        }
+    }
+
+    public void test_stream_Period_large() {
+        LocalDateRange test = LocalDateRange.of(LocalDate.of(-999_999_999, 1, 31), LocalDate.MAX);
+        assertEquals(test.stream(Period.ofMonths(1)).spliterator().getExactSizeIfKnown(), 1999999999L * 12 - 1);
+        assertEquals(test.stream(Period.ofMonths(1)).skip(13).findFirst().get(), LocalDate.of(-999_999_998, 2, 28));
+        assertEquals(LocalDateRange.ALL.stream(Period.ofDays(1)).spliterator().getExactSizeIfKnown(),
+                LocalDate.MAX.toEpochDay() - LocalDate.MIN.toEpochDay());
+    }
+
+    public void test_splitBy_parallel() {
+        LocalDateRange test = LocalDateRange.of(LocalDate.of(1900, 1, 31), LocalDate.of(2100, 1, 1));
+        List<LocalDateRange> result = test.splitBy(Period.ofMonths(1)).parallel().collect(Collectors.toList());
+        assertEquals(result.size(), 200 * 12);
+        assertEquals(result.stream().mapToLong(LocalDateRange::lengthInDays).sum(), test.lengthInDays());
+        for (int i = 1; i < result.size(); i++) {
+            assertTrue(result.get(i - 1).abuts(result.get(i)));
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_stream_Period_zero() {
+        LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_31).stream(Period.ZERO);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_splitBy_negative() {
+        LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_31).splitBy(Period.of(0, 1, -1));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_stream_Period_null() {
+        LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_31).stream(null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_epochDays() {
+        LocalDateRange test = LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_31);
+        long[] result = test.epochDays().toArray();
+        assertEquals(result.length, 3);
+        assertEquals(result[0], DATE_2012_07_28.toEpochDay());
+        assertEquals(result[1], DATE_2012_07_29.toEpochDay());
+        assertEquals(result[2], DATE_2012_07_30.toEpochDay());
+        assertEquals(LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_28).epochDays().count(), 0);
+    }
+
+    public void test_epochDays_parallel() {
+        LocalDateRange test = LocalDateRange.of(LocalDate.of(1900, 1, 1), LocalDate.of(2100, 1, 1));
+        assertEquals(test.epochDays().parallel().sum(), test.stream().mapToLong(LocalDate::toEpochDay).sum());
+        assertEquals(test.epochDays().spliterator().getExactSizeIfKnown(), test.lengthInDays());
+    }
+
+    public void test_forEachEpochDay() {
+        LocalDateRange test = LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_31);
+        List<Long> result = new ArrayList<>();
+        test.forEachEpochDay(result::add);
+        assertEquals(result, Arrays.asList(
+                DATE_2012_07_28.toEpochDay(), DATE_2012_07_29.toEpochDay(), DATE_2012_07_30.toEpochDay()));
+    }
+
+    public void test_forEachEpochDay_unboundedEnd() {
+        LocalDateRange test = LocalDateRange.of(LocalDate.MAX.minusDays(2), LocalDate.MAX);
+        List<Long> result = new ArrayList<>();
+        test.forEachEpochDay(result::add);
+        assertEquals(result, Arrays.asList(LocalDate.MAX.toEpochDay() - 2, LocalDate.MAX.toEpochDay() - 1));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_forEachEpochDay_null() {
+        LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_31).forEachEpochDay(null);
+    }
+
     //-----------------------------------------------------------------------
     @DataProvider(name = "isBefore")
     Object[][] data_isBefore() {
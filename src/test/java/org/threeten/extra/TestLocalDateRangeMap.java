@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test class.
+ */
+@Test
+public class TestLocalDateRangeMap {
+
+    private static final LocalDate DATE_2012_01_01 = LocalDate.of(2012, 1, 1);
+    private static final LocalDate DATE_2012_06_01 = LocalDate.of(2012, 6, 1);
+    private static final LocalDate DATE_2012_07_01 = LocalDate.of(2012, 7, 1);
+    private static final LocalDate DATE_2013_01_01 = LocalDate.of(2013, 1, 1);
+
+    private static LocalDateRange range(LocalDate start, LocalDate end) {
+        return LocalDateRange.of(start, end);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_create() {
+        LocalDateRangeMap<String> test = LocalDateRangeMap.create();
+        assertTrue(test.isEmpty());
+        assertEquals(test.size(), 0);
+        assertFalse(test.isSnapshot());
+        assertNull(test.get(DATE_2012_01_01));
+        assertNull(test.getRange(DATE_2012_01_01));
+        assertEquals(test.toString(), "{}");
+    }
+
+    public void test_put() {
+        LocalDateRangeMap<String> test = LocalDateRangeMap.create();
+        test.put(range(DATE_2012_01_01, DATE_2012_06_01), "A");
+        assertEquals(test.size(), 1);
+        assertNull(test.get(DATE_2012_01_01.minusDays(1)));
+        assertEquals(test.get(DATE_2012_01_01), "A");
+        assertEquals(test.get(DATE_2012_06_01.minusDays(1)), "A");
+        assertNull(test.get(DATE_2012_06_01));
+        assertEquals(test.getRange(DATE_2012_01_01), range(DATE_2012_01_01, DATE_2012_06_01));
+        assertEquals(test.toString(), "{2012-01-01/2012-06-01=A}");
+    }
+
+    public void test_put_split() {
+        LocalDateRangeMap<String> test = LocalDateRangeMap.create();
+        test.put(range(DATE_2012_01_01, DATE_2013_01_01), "A");
+        test.put(range(DATE_2012_06_01, DATE_2012_07_01), "B");
+        assertEquals(test.size(), 3);
+        assertEquals(test.get(DATE_2012_06_01.minusDays(1)), "A");
+        assertEquals(test.get(DATE_2012_06_01), "B");
+        assertEquals(test.get(DATE_2012_07_01), "A");
+        assertEquals(test.toString(),
+                "{2012-01-01/2012-06-01=A, 2012-06-01/2012-07-01=B, 2012-07-01/2013-01-01=A}");
+    }
+
+    public void test_put_merge() {
+        LocalDateRangeMap<String> test = LocalDateRangeMap.create();
+        test.put(range(DATE_2012_01_01, DATE_2013_01_01), "A");
+        test.put(range(DATE_2012_06_01, DATE_2012_07_01), "B");
+        test.put(range(DATE_2012_06_01, DATE_2012_07_01), "A");
+        assertEquals(test.size(), 1);
+        assertEquals(test.getRange(DATE_2012_06_01), range(DATE_2012_01_01, DATE_2013_01_01));
+    }
+
+    public void test_put_mergeAbutting() {
+        LocalDateRangeMap<String> test = LocalDateRangeMap.create();
+        test.put(range(DATE_2012_06_01, DATE_2012_07_01), "A");
+        test.put(range(DATE_2012_01_01, DATE_2012_06_01), "A");
+        test.put(range(DATE_2012_07_01, DATE_2013_01_01), "A");
+        assertEquals(test.size(), 1);
+        assertEquals(test.toString(), "{2012-01-01/2013-01-01=A}");
+    }
+
+    public void test_put_replaceSeveral() {
+        LocalDateRangeMap<String> test = LocalDateRangeMap.create();
+        test.put(range(DATE_2012_01_01, DATE_2012_06_01), "A");
+        test.put(range(DATE_2012_06_01, DATE_2012_07_01), "B");
+        test.put(range(DATE_2012_07_01, DATE_2013_01_01), "C");
+        test.put(range(DATE_2012_01_01.plusDays(1), DATE_2013_01_01.minusDays(1)), "D");
+        assertEquals(test.size(), 3);
+        assertEquals(test.toString(),
+                "{2012-01-01/2012-01-02=A, 2012-01-02/2012-12-31=D, 2012-12-31/2013-01-01=C}");
+    }
+
+    public void test_put_empty() {
+        LocalDateRangeMap<String> test = LocalDateRangeMap.create();
+        test.put(range(DATE_2012_01_01, DATE_2012_01_01), "A");
+        assertTrue(test.isEmpty());
+    }
+
+    public void test_put_unbounded() {
+        LocalDateRangeMap<String> test = LocalDateRangeMap.create();
+        test.put(LocalDateRange.ALL, "A");
+        test.put(range(DATE_2012_01_01, LocalDate.MAX), "B");
+        assertEquals(test.get(LocalDate.MIN), "A");
+        assertEquals(test.get(DATE_2012_01_01), "B");
+        assertEquals(test.get(LocalDate.MAX), "B");
+        assertEquals(test.getRange(LocalDate.MAX), range(DATE_2012_01_01, LocalDate.MAX));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_put_nullValue() {
+        LocalDateRangeMap.create().put(range(DATE_2012_01_01, DATE_2013_01_01), null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_remove() {
+        LocalDateRangeMap<String> test = LocalDateRangeMap.create();
+        test.put(range(DATE_2012_01_01, DATE_2013_01_01), "A");
+        test.remove(range(DATE_2012_06_01, DATE_2012_07_01));
+        assertEquals(test.size(), 2);
+        assertNull(test.get(DATE_2012_06_01));
+        assertEquals(test.toString(), "{2012-01-01/2012-06-01=A, 2012-07-01/2013-01-01=A}");
+        test.remove(LocalDateRange.ALL);
+        assertTrue(test.isEmpty());
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_snapshot() {
+        LocalDateRangeMap<String> test = LocalDateRangeMap.create();
+        test.put(range(DATE_2012_01_01, DATE_2013_01_01), "A");
+        LocalDateRangeMap<String> snapshot = test.snapshot();
+        assertTrue(snapshot.isSnapshot());
+        assertSame(snapshot.snapshot(), snapshot);
+        test.put(range(DATE_2012_06_01, DATE_2012_07_01), "B");
+        assertEquals(snapshot.size(), 1);
+        assertEquals(snapshot.get(DATE_2012_06_01), "A");
+        assertEquals(test.get(DATE_2012_06_01), "B");
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void test_snapshot_put() {
+        LocalDateRangeMap<String> test = LocalDateRangeMap.create();
+        test.snapshot().put(range(DATE_2012_01_01, DATE_2013_01_01), "A");
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void test_snapshot_remove() {
+        LocalDateRangeMap<String> test = LocalDateRangeMap.create();
+        test.snapshot().remove(range(DATE_2012_01_01, DATE_2013_01_01));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_random() {
+        Random random = new Random(1);
+        LocalDateRangeMap<Integer> test = LocalDateRangeMap.create();
+        Integer[] expected = new Integer[100];
+        for (int i = 0; i < 2000; i++) {
+            int start = random.nextInt(100);
+            int end = start + random.nextInt(100 - start + 1);
+            LocalDateRange range = range(DATE_2012_01_01.plusDays(start), DATE_2012_01_01.plusDays(end));
+            Integer value = (random.nextInt(5) == 0 ? null : random.nextInt(3));
+            if (value == null) {
+                test.remove(range);
+            } else {
+                test.put(range, value);
+            }
+            for (int j = start; j < end; j++) {
+                expected[j] = value;
+            }
+            int[] count = {0};
+            Object[] previous = {null, null};
+            test.forEach((r, v) -> {
+                assertFalse(r.isEmpty());
+                if (previous[0] != null) {
+                    LocalDateRange prev = (LocalDateRange) previous[0];
+                    assertFalse(prev.getEnd().isAfter(r.getStart()));
+                    assertFalse(prev.getEnd().equals(r.getStart()) && previous[1].equals(v));
+                }
+                previous[0] = r;
+                previous[1] = v;
+                count[0]++;
+            });
+            assertEquals(test.size(), count[0]);
+            for (int j = 0; j < 100; j++) {
+                assertEquals(test.get(DATE_2012_01_01.plusDays(j)), expected[j]);
+            }
+        }
+    }
+
+}
@@ -195,6 +195,49 @@ public class TestMinutes {
     public void test_parse_CharSequence_null() {
         Minutes.parse((CharSequence) null);
     }
+
+    @Test(dataProvider = "parseValid")
+    public void test_parse_CharSequenceIntInt_valid(String str, int expected) {
+        String text = "AB" + str + "CD";
+        assertEquals(Minutes.parse(text, 2, 2 + str.length()), Minutes.of(expected));
+    }
+
+    @Test(expectedExceptions = DateTimeParseException.class, dataProvider = "parseInvalid")
+    public void test_parse_CharSequenceIntInt_invalid(String str) {
+        String text = "PT2M" + str + "PT2M";
+        Minutes.parse(text, 4, 4 + str.length());
+    }
+
+    public void test_parse_CharSequenceIntInt_errorIndex() {
+        try {
+            Minutes.parse("PT2/P", 4, 5);
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 4);
+            assertEquals(ex.getParsedString(), "PT2/P");
+            return;
+        }
+        throw new AssertionError();
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequenceIntInt_startNegative() {
+        Minutes.parse("PT2M", -1, 2);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequenceIntInt_endTooLarge() {
+        Minutes.parse("PT2M", 0, 5);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequenceIntInt_startAfterEnd() {
+        Minutes.parse("PT2M", 2, 1);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_parse_CharSequenceIntInt_null() {
+        Minutes.parse((CharSequence) null, 0, 0);
+    }
     
     //-----------------------------------------------------------------------
     public void test_plus_TemporalAmount_Minutes() {
@@ -219,6 +219,49 @@ public class TestMonths {
         Months.parse((CharSequence) null);
     }
 
+    @Test(dataProvider = "parseValid")
+    public void test_parse_CharSequenceIntInt_valid(String str, int expected) {
+        String text = "AB" + str + "CD";
+        assertEquals(Months.parse(text, 2, 2 + str.length()), Months.of(expected));
+    }
+
+    @Test(expectedExceptions = DateTimeParseException.class, dataProvider = "parseInvalid")
+    public void test_parse_CharSequenceIntInt_invalid(String str) {
+        String text = "P2M" + str + "P2M";
+        Months.parse(text, 3, 3 + str.length());
+    }
+
+    public void test_parse_CharSequenceIntInt_errorIndex() {
+        try {
+            Months.parse("P2M/P", 4, 5);
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 4);
+            assertEquals(ex.getParsedString(), "P2M/P");
+            return;
+        }
+        throw new AssertionError();
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequenceIntInt_startNegative() {
+        Months.parse("P2M", -1, 2);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequenceIntInt_endTooLarge() {
+        Months.parse("P2M", 0, 4);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequenceIntInt_startAfterEnd() {
+        Months.parse("P2M", 2, 1);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_parse_CharSequenceIntInt_null() {
+        Months.parse((CharSequence) null, 0, 0);
+    }
+
     //-----------------------------------------------------------------------
     public void test_plus_TemporalAmount_Months() {
         Months test5 = Months.of(5);
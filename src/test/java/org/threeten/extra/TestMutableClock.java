@@ -40,6 +40,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.time.DateTimeException;
 import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.Instant;
@@ -53,11 +54,15 @@ import java.time.ZonedDateTime;
 import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import org.testng.annotations.Test;
@@ -104,6 +109,98 @@ public class TestMutableClock {
         assertEquals(MutableClock.epochUTC().getZone(), ZoneOffset.UTC);
     }
 
+    public void test_ticking() {
+        MutableClock clock = MutableClock.ticking(Duration.ofMillis(5));
+        assertEquals(clock.getZone(), ZoneOffset.UTC);
+        assertEquals(clock.instant(), Instant.EPOCH);
+        assertEquals(clock.instant(), Instant.EPOCH.plusMillis(5));
+        assertEquals(clock.millis(), 10);
+        assertEquals(clock.toString(), "MutableClock[1970-01-01T00:00:00.015Z,Z]");
+        clock.setInstant(Instant.EPOCH.plusSeconds(1));
+        clock.add(Duration.ofSeconds(1));
+        assertEquals(clock.instant(), Instant.EPOCH.plusSeconds(2));
+        MutableClock other = clock.withZone(ZoneOffset.ofHours(2));
+        assertEquals(other.instant(), Instant.EPOCH.plusSeconds(2).plusMillis(5));
+        assertEquals(clock.instant(), Instant.EPOCH.plusSeconds(2).plusMillis(10));
+    }
+
+    public void test_ticking_concurrentReadsDistinct() throws Exception {
+        MutableClock clock = MutableClock.ticking(Duration.ofNanos(1));
+        Callable<Instant> read = clock::instant;
+        int readCount = 10000;
+        List<Callable<Instant>> tasks = Collections.nCopies(readCount, read);
+        int threads = Runtime.getRuntime().availableProcessors() * 4;
+        ExecutorService service = Executors.newFixedThreadPool(threads);
+        Set<Instant> instants = new HashSet<>();
+        try {
+            for (Future<Instant> future : service.invokeAll(tasks)) {
+                instants.add(future.get());
+            }
+            service.shutdown();
+            service.awaitTermination(1, TimeUnit.MINUTES);
+        } finally {
+            if (!service.isTerminated()) {
+                service.shutdownNow();
+            }
+        }
+        assertEquals(instants.size(), readCount);
+        assertEquals(clock.instant(), Instant.EPOCH.plusNanos(readCount));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_ticking_negative() {
+        MutableClock.ticking(Duration.ofNanos(-1));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_ticking_null() {
+        MutableClock.ticking(null);
+    }
+
+    public void test_scaled() {
+        MutableClock base = MutableClock.of(Instant.EPOCH.plusSeconds(100), ZoneOffset.ofHours(1));
+        MutableClock clock = MutableClock.scaled(base, 1000);
+        assertEquals(clock.getZone(), ZoneOffset.ofHours(1));
+        assertEquals(clock.instant(), Instant.EPOCH.plusSeconds(100));
+        base.add(Duration.ofMillis(1500));
+        assertEquals(clock.instant(), Instant.EPOCH.plusSeconds(1600));
+        clock.setInstant(Instant.EPOCH);
+        assertEquals(clock.instant(), Instant.EPOCH);
+        base.add(Duration.ofNanos(3));
+        assertEquals(clock.instant(), Instant.EPOCH.plusNanos(3000));
+        clock.add(Duration.ofSeconds(1));
+        base.add(Duration.ofMillis(1));
+        assertEquals(clock.instant(), Instant.EPOCH.plusSeconds(2).plusNanos(3000));
+        MutableClock other = clock.withZone(ZoneOffset.UTC);
+        assertEquals(other.instant(), clock.instant());
+        other.add(Duration.ofSeconds(1));
+        assertEquals(clock.instant(), Instant.EPOCH.plusSeconds(3).plusNanos(3000));
+    }
+
+    public void test_scaled_fractional() {
+        MutableClock base = MutableClock.epochUTC();
+        MutableClock clock = MutableClock.scaled(base, 0.5);
+        base.add(Duration.ofDays(365 * 200));
+        assertEquals(clock.instant(), Instant.EPOCH.plus(Duration.ofDays(365 * 100)));
+        base.add(Duration.ofNanos(-1));
+        assertEquals(clock.instant(), Instant.EPOCH.plus(Duration.ofDays(365 * 100)));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_scaled_zero() {
+        MutableClock.scaled(MutableClock.epochUTC(), 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_scaled_nan() {
+        MutableClock.scaled(MutableClock.epochUTC(), Double.NaN);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_scaled_infinite() {
+        MutableClock.scaled(MutableClock.epochUTC(), Double.POSITIVE_INFINITY);
+    }
+
     public void test_setInstant() {
         MutableClock clock = MutableClock.epochUTC();
         assertEquals(clock.instant(), Instant.EPOCH);
@@ -161,6 +258,31 @@ public class TestMutableClock {
                         .toInstant());
     }
 
+    public void test_add_nearLimits() {
+        Instant max = LocalDateTime.MAX.toInstant(ZoneOffset.UTC);
+        MutableClock clock = MutableClock.of(max.minusSeconds(10), ZoneOffset.UTC);
+        clock.add(Duration.ofSeconds(10));
+        assertEquals(clock.instant(), max);
+        clock.add(-1, ChronoUnit.HOURS);
+        assertEquals(clock.instant(), max.minusSeconds(3600));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_add_duration_beyondLimit() {
+        Instant max = LocalDateTime.MAX.toInstant(ZoneOffset.UTC);
+        MutableClock.of(max, ZoneOffset.UTC).add(Duration.ofNanos(1));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_add_duration_outsideZonedDateTime() {
+        MutableClock.of(Instant.MAX, ZoneOffset.UTC).add(Duration.ZERO);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_add_amountAndUnit_overflow() {
+        MutableClock.epochUTC().add(Long.MAX_VALUE, ChronoUnit.HOURS);
+    }
+
     @Test(expectedExceptions = NullPointerException.class)
     public void test_add_amountAndUnit_nullUnit() {
         MutableClock.epochUTC().add(0, null);
@@ -339,4 +461,38 @@ public class TestMutableClock {
                 clock.instant(),
                 Instant.EPOCH.plus(increment.multipliedBy(updateCount)));
     }
+
+    public void test_updatesAreAtomic_sharedMixed() throws Exception {
+        MutableClock clock = MutableClock.epochUTC();
+        MutableClock other = clock.withZone(ZoneOffset.ofHours(2));
+        Callable<Void> fast = () -> {
+            clock.add(1, ChronoUnit.SECONDS);
+            return null;
+        };
+        Callable<Void> slow = () -> {
+            other.add(Period.ofDays(1));
+            return null;
+        };
+        int updateCount = 5000;
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < updateCount; i++) {
+            tasks.add(fast);
+            tasks.add(slow);
+        }
+        int threads = Runtime.getRuntime().availableProcessors() * 4;
+        ExecutorService service = Executors.newFixedThreadPool(threads);
+        try {
+            service.invokeAll(tasks);
+            service.shutdown();
+            service.awaitTermination(1, TimeUnit.MINUTES);
+        } finally {
+            if (!service.isTerminated()) {
+                service.shutdownNow();
+            }
+        }
+        assertEquals(
+                clock.instant(),
+                Instant.EPOCH.plus(Duration.ofSeconds(updateCount).plusDays(updateCount)));
+        assertEquals(other.instant(), clock.instant());
+    }
 }
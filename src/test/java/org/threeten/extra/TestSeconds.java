@@ -226,6 +226,49 @@ public class TestSeconds {
     public void test_parse_CharSequence_null() {
         Seconds.parse((CharSequence) null);
     }
+
+    @Test(dataProvider = "parseValid")
+    public void test_parse_CharSequenceIntInt_valid(String str, int expected) {
+        String text = "AB" + str + "CD";
+        assertEquals(Seconds.parse(text, 2, 2 + str.length()), Seconds.of(expected));
+    }
+
+    @Test(expectedExceptions = DateTimeParseException.class, dataProvider = "parseInvalid")
+    public void test_parse_CharSequenceIntInt_invalid(String str) {
+        String text = "PT2S" + str + "PT2S";
+        Seconds.parse(text, 4, 4 + str.length());
+    }
+
+    public void test_parse_CharSequenceIntInt_errorIndex() {
+        try {
+            Seconds.parse("PT2/P", 4, 5);
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 4);
+            assertEquals(ex.getParsedString(), "PT2/P");
+            return;
+        }
+        throw new AssertionError();
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequenceIntInt_startNegative() {
+        Seconds.parse("PT2S", -1, 2);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequenceIntInt_endTooLarge() {
+        Seconds.parse("PT2S", 0, 5);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequenceIntInt_startAfterEnd() {
+        Seconds.parse("PT2S", 2, 1);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_parse_CharSequenceIntInt_null() {
+        Seconds.parse((CharSequence) null, 0, 0);
+    }
     
     //-----------------------------------------------------------------------
     public void test_plus_TemporalAmount_Seconds() {
@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test class.
+ */
+@Test
+public class TestVirtualTimeScheduler {
+
+    private static final Instant START = Instant.parse("2016-01-01T00:00:00Z");
+
+    private static VirtualTimeScheduler scheduler() {
+        return VirtualTimeScheduler.of(MutableClock.of(START, ZoneOffset.UTC));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_of() {
+        MutableClock clock = MutableClock.epochUTC();
+        VirtualTimeScheduler test = VirtualTimeScheduler.of(clock);
+        assertEquals(test.getClock(), clock);
+        assertEquals(test.getQueuedTaskCount(), 0);
+        assertNull(test.getNextDeadline());
+        assertEquals(test.toString(), "VirtualTimeScheduler[1970-01-01T00:00:00Z, queued=0]");
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_of_null() {
+        VirtualTimeScheduler.of(null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_schedule_order() {
+        VirtualTimeScheduler test = scheduler();
+        List<String> log = new ArrayList<>();
+        test.schedule(() -> log.add("C@" + test.getClock().instant()), 3, TimeUnit.SECONDS);
+        test.schedule(() -> log.add("A@" + test.getClock().instant()), 1, TimeUnit.SECONDS);
+        test.schedule(() -> log.add("B1@" + test.getClock().instant()), 2, TimeUnit.SECONDS);
+        test.schedule(() -> log.add("B2@" + test.getClock().instant()), 2, TimeUnit.SECONDS);
+        assertEquals(test.getQueuedTaskCount(), 4);
+        assertEquals(test.getNextDeadline(), START.plusSeconds(1));
+        assertEquals(test.advance(Duration.ofMillis(2500)), 3);
+        assertEquals(log, Arrays.asList(
+                "A@2016-01-01T00:00:01Z", "B1@2016-01-01T00:00:02Z", "B2@2016-01-01T00:00:02Z"));
+        assertEquals(test.getClock().instant(), START.plusMillis(2500));
+        assertEquals(test.getQueuedTaskCount(), 1);
+    }
+
+    public void test_schedule_callable() throws Exception {
+        VirtualTimeScheduler test = scheduler();
+        ScheduledFuture<String> future = test.schedule(() -> "done", 1, TimeUnit.HOURS);
+        assertEquals(future.getDelay(TimeUnit.MINUTES), 60);
+        assertFalse(future.isDone());
+        test.advance(Duration.ofMinutes(59));
+        assertEquals(future.getDelay(TimeUnit.MINUTES), 1);
+        assertFalse(future.isDone());
+        test.advance(Duration.ofMinutes(1));
+        assertTrue(future.isDone());
+        assertEquals(future.get(), "done");
+    }
+
+    @Test(expectedExceptions = ExecutionException.class)
+    public void test_schedule_callableThrows() throws Exception {
+        VirtualTimeScheduler test = scheduler();
+        ScheduledFuture<String> future = test.schedule(() -> {
+            throw new IllegalStateException();
+        }, 1, TimeUnit.HOURS);
+        test.advanceToNextDeadline();
+        future.get();
+    }
+
+    public void test_execute_runsWhenDriven() {
+        VirtualTimeScheduler test = scheduler();
+        AtomicInteger count = new AtomicInteger();
+        test.execute(count::incrementAndGet);
+        Future<?> future = test.submit(count::incrementAndGet);
+        assertEquals(count.get(), 0);
+        assertEquals(test.runDueTasks(), 2);
+        assertEquals(count.get(), 2);
+        assertTrue(future.isDone());
+        assertEquals(test.getClock().instant(), START);
+    }
+
+    public void test_schedule_fromTask() {
+        VirtualTimeScheduler test = scheduler();
+        List<Instant> log = new ArrayList<>();
+        test.schedule(() -> {
+            log.add(test.getClock().instant());
+            test.schedule(() -> log.add(test.getClock().instant()), 1, TimeUnit.SECONDS);
+        }, 1, TimeUnit.SECONDS);
+        assertEquals(test.advance(Duration.ofSeconds(5)), 2);
+        assertEquals(log, Arrays.asList(START.plusSeconds(1), START.plusSeconds(2)));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_scheduleAtFixedRate() {
+        VirtualTimeScheduler test = scheduler();
+        List<Instant> log = new ArrayList<>();
+        ScheduledFuture<?> future = test.scheduleAtFixedRate(() -> {
+            log.add(test.getClock().instant());
+            test.getClock().add(Duration.ofMillis(100));
+        }, 1, 2, TimeUnit.SECONDS);
+        assertEquals(test.advance(Duration.ofSeconds(6)), 3);
+        assertEquals(log, Arrays.asList(START.plusSeconds(1), START.plusSeconds(3), START.plusSeconds(5)));
+        assertEquals(test.getClock().instant(), START.plusSeconds(6));
+        future.cancel(false);
+        assertEquals(test.getQueuedTaskCount(), 0);
+    }
+
+    public void test_scheduleWithFixedDelay() {
+        VirtualTimeScheduler test = scheduler();
+        List<Instant> log = new ArrayList<>();
+        test.scheduleWithFixedDelay(() -> {
+            log.add(test.getClock().instant());
+            test.getClock().add(Duration.ofMillis(500));
+        }, 1, 2, TimeUnit.SECONDS);
+        assertEquals(test.advance(Duration.ofSeconds(7)), 3);
+        assertEquals(log, Arrays.asList(START.plusSeconds(1), START.plusMillis(3500), START.plusSeconds(6)));
+    }
+
+    public void test_scheduleAtFixedRate_throwsStops() {
+        VirtualTimeScheduler test = scheduler();
+        AtomicInteger count = new AtomicInteger();
+        test.scheduleAtFixedRate(() -> {
+            if (count.incrementAndGet() == 2) {
+                throw new IllegalStateException();
+            }
+        }, 0, 1, TimeUnit.SECONDS);
+        test.advance(Duration.ofSeconds(10));
+        assertEquals(count.get(), 2);
+        assertEquals(test.getQueuedTaskCount(), 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_scheduleAtFixedRate_zeroPeriod() {
+        scheduler().scheduleAtFixedRate(() -> { }, 0, 0, TimeUnit.SECONDS);
+    }
+
+    public void test_simulatedWeek() {
+        VirtualTimeScheduler test = scheduler();
+        AtomicInteger count = new AtomicInteger();
+        test.scheduleAtFixedRate(count::incrementAndGet, 0, 1, TimeUnit.SECONDS);
+        test.advance(Duration.ofDays(7));
+        assertEquals(count.get(), 7 * 86400 + 1);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_advanceToNextDeadline() {
+        VirtualTimeScheduler test = scheduler();
+        assertEquals(test.advanceToNextDeadline(), 0);
+        assertEquals(test.getClock().instant(), START);
+        test.schedule(() -> { }, 5, TimeUnit.MINUTES);
+        test.schedule(() -> { }, 5, TimeUnit.MINUTES);
+        test.schedule(() -> { }, 6, TimeUnit.MINUTES);
+        assertEquals(test.advanceToNextDeadline(), 2);
+        assertEquals(test.getClock().instant(), START.plusSeconds(300));
+        assertEquals(test.advanceToNextDeadline(), 1);
+        assertEquals(test.getClock().instant(), START.plusSeconds(360));
+    }
+
+    public void test_advanceToNextDeadline_passed() {
+        VirtualTimeScheduler test = scheduler();
+        test.schedule(() -> { }, 5, TimeUnit.MINUTES);
+        test.getClock().add(Duration.ofHours(1));
+        assertEquals(test.advanceToNextDeadline(), 1);
+        assertEquals(test.getClock().instant(), START.plusSeconds(3600));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_advance_negative() {
+        scheduler().advance(Duration.ofSeconds(-1));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_advanceTo_backwards() {
+        scheduler().advanceTo(START.minusSeconds(1));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_cancel() {
+        VirtualTimeScheduler test = scheduler();
+        AtomicInteger count = new AtomicInteger();
+        ScheduledFuture<?> future = test.schedule(count::incrementAndGet, 1, TimeUnit.SECONDS);
+        assertTrue(future.cancel(false));
+        assertEquals(test.getQueuedTaskCount(), 0);
+        test.advance(Duration.ofSeconds(2));
+        assertEquals(count.get(), 0);
+    }
+
+    public void test_shutdown() throws Exception {
+        VirtualTimeScheduler test = scheduler();
+        AtomicInteger count = new AtomicInteger();
+        test.schedule(count::incrementAndGet, 1, TimeUnit.SECONDS);
+        ScheduledFuture<?> periodic = test.scheduleAtFixedRate(count::incrementAndGet, 1, 1, TimeUnit.SECONDS);
+        test.shutdown();
+        assertTrue(test.isShutdown());
+        assertTrue(periodic.isCancelled());
+        assertFalse(test.isTerminated());
+        assertFalse(test.awaitTermination(1, TimeUnit.MILLISECONDS));
+        test.advance(Duration.ofSeconds(5));
+        assertEquals(count.get(), 1);
+        assertTrue(test.isTerminated());
+        assertTrue(test.awaitTermination(1, TimeUnit.MILLISECONDS));
+    }
+
+    public void test_shutdown_notTerminatedWhileLastTaskRuns() throws Exception {
+        VirtualTimeScheduler test = scheduler();
+        ScheduledFuture<Boolean> terminatedInTask = test.schedule(test::isTerminated, 1, TimeUnit.SECONDS);
+        test.shutdown();
+        test.advance(Duration.ofSeconds(1));
+        assertFalse(terminatedInTask.get());
+        assertTrue(test.isTerminated());
+    }
+
+    public void test_shutdownNow() {
+        VirtualTimeScheduler test = scheduler();
+        test.schedule(() -> { }, 1, TimeUnit.SECONDS);
+        test.schedule(() -> { }, 2, TimeUnit.SECONDS);
+        assertEquals(test.shutdownNow().size(), 2);
+        assertTrue(test.isTerminated());
+    }
+
+    @Test(expectedExceptions = RejectedExecutionException.class)
+    public void test_schedule_afterShutdown() {
+        VirtualTimeScheduler test = scheduler();
+        test.shutdown();
+        test.execute(() -> { });
+    }
+
+}
@@ -166,6 +166,49 @@ public class TestWeeks {
         Weeks.parse((CharSequence) null);
     }
 
+    public void test_parse_CharSequenceIntInt() {
+        assertEquals(Weeks.parse("P2W", 0, 3), Weeks.of(2));
+        assertEquals(Weeks.parse("x-P-2Wx", 1, 6), Weeks.of(2));
+        assertEquals(Weeks.parse("P2W/P2W", 4, 7), Weeks.of(2));
+    }
+
+    @Test(expectedExceptions = DateTimeParseException.class, dataProvider = "parseInvalid")
+    public void test_parse_CharSequenceIntInt_invalid(String str) {
+        String text = "P2W" + str + "P2W";
+        Weeks.parse(text, 3, 3 + str.length());
+    }
+
+    public void test_parse_CharSequenceIntInt_errorIndex() {
+        try {
+            Weeks.parse("P2W/P", 4, 5);
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 4);
+            assertEquals(ex.getParsedString(), "P2W/P");
+            return;
+        }
+        throw new AssertionError();
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequenceIntInt_startNegative() {
+        Weeks.parse("P2W", -1, 2);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequenceIntInt_endTooLarge() {
+        Weeks.parse("P2W", 0, 4);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequenceIntInt_startAfterEnd() {
+        Weeks.parse("P2W", 2, 1);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_parse_CharSequenceIntInt_null() {
+        Weeks.parse((CharSequence) null, 0, 0);
+    }
+
     //-----------------------------------------------------------------------
     public void test_plus_TemporalAmount_Weeks() {
         Weeks test5 = Weeks.of(5);
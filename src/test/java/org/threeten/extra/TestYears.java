@@ -170,6 +170,49 @@ public class TestYears {
         Years.parse((CharSequence) null);
     }
 
+    public void test_parse_CharSequenceIntInt() {
+        assertEquals(Years.parse("P2Y", 0, 3), Years.of(2));
+        assertEquals(Years.parse("x-P-2Yx", 1, 6), Years.of(2));
+        assertEquals(Years.parse("P2Y/P2Y", 4, 7), Years.of(2));
+    }
+
+    @Test(expectedExceptions = DateTimeParseException.class, dataProvider = "parseInvalid")
+    public void test_parse_CharSequenceIntInt_invalid(String str) {
+        String text = "P2Y" + str + "P2Y";
+        Years.parse(text, 3, 3 + str.length());
+    }
+
+    public void test_parse_CharSequenceIntInt_errorIndex() {
+        try {
+            Years.parse("P2Y/P", 4, 5);
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 4);
+            assertEquals(ex.getParsedString(), "P2Y/P");
+            return;
+        }
+        throw new AssertionError();
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequenceIntInt_startNegative() {
+        Years.parse("P2Y", -1, 2);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequenceIntInt_endTooLarge() {
+        Years.parse("P2Y", 0, 4);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequenceIntInt_startAfterEnd() {
+        Years.parse("P2Y", 2, 1);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_parse_CharSequenceIntInt_null() {
+        Years.parse((CharSequence) null, 0, 0);
+    }
+
     //-----------------------------------------------------------------------
     public void test_plus_TemporalAmount_Years() {
         Years test5 = Years.of(5);
@@ -304,6 +304,36 @@ public class TestAccountingChronology {
         }
     }
 
+    @Test
+    public void test_yearStarts_matchCalculation() {
+        for (Month month : new Month[] {Month.JANUARY, Month.AUGUST, Month.DECEMBER}) {
+            for (DayOfWeek dow : DayOfWeek.values()) {
+                for (boolean inLastWeek : new boolean[] {true, false}) {
+                    AccountingChronologyBuilder builder = new AccountingChronologyBuilder().endsOn(dow)
+                            .withDivision(AccountingYearDivision.QUARTERS_OF_PATTERN_4_4_5_WEEKS).leapWeekInMonth(12);
+                    AccountingChronology chronology = (inLastWeek ? builder.inLastWeekOf(month) : builder.nearestEndOf(month)).toChronology();
+                    long previousStart = 0;
+                    for (int year = 1890; year <= 2211; year++) {
+                        long start = ((year - 1) * 52L + chronology.previousLeapYears(year)) * 7 - chronology.getDays0001ToIso1970();
+                        boolean leap = chronology.previousLeapYears(year + 1) - chronology.previousLeapYears(year) == 1;
+                        assertEquals(chronology.getYearStart(year), start);
+                        assertEquals(chronology.isLeapYear(year), leap);
+                        assertEquals(chronology.dateYearDay(year, 1).toEpochDay(), start);
+                        if (year > 1890) {
+                            for (long epochDay = previousStart; epochDay < start; epochDay++) {
+                                AccountingDate date = chronology.dateEpochDay(epochDay);
+                                assertEquals(date.getProlepticYear(), year - 1);
+                                assertEquals(date.getDayOfYear(), epochDay - previousStart + 1);
+                                assertEquals(date.toEpochDay(), epochDay);
+                            }
+                        }
+                        previousStart = start;
+                    }
+                }
+            }
+        }
+    }
+
     @Test
     public void test_isLeapYear_specific() {
         assertEquals(INSTANCE.isLeapYear(8), false);
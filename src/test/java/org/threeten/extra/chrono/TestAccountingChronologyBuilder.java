@@ -33,7 +33,13 @@ package org.threeten.extra.chrono;
 
 import static java.time.temporal.ChronoUnit.DAYS;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.time.DateTimeException;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -41,6 +47,9 @@ import java.time.Month;
 import java.time.temporal.ChronoField;
 import java.time.temporal.TemporalAdjusters;
 import java.time.temporal.ValueRange;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 import java.util.function.IntFunction;
 import java.util.function.Predicate;
 
@@ -459,4 +468,48 @@ public class TestAccountingChronologyBuilder {
                 .toChronology();
     }
 
+    //-----------------------------------------------------------------------
+    // toChronology() caching.
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_toChronology_sameInstance() {
+        Set<AccountingChronology> created = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            for (Month ending : Month.values()) {
+                for (AccountingYearDivision division : AccountingYearDivision.values()) {
+                    for (int leapWeekInMonth = 1; leapWeekInMonth <= division.lengthOfYearInMonths(); leapWeekInMonth++) {
+                        AccountingChronology inLastWeek = new AccountingChronologyBuilder().endsOn(dayOfWeek).inLastWeekOf(ending)
+                                .withDivision(division).leapWeekInMonth(leapWeekInMonth).toChronology();
+                        AccountingChronology nearest = new AccountingChronologyBuilder().endsOn(dayOfWeek).nearestEndOf(ending)
+                                .withDivision(division).leapWeekInMonth(leapWeekInMonth).toChronology();
+                        assertSame(new AccountingChronologyBuilder().endsOn(dayOfWeek).inLastWeekOf(ending)
+                                .withDivision(division).leapWeekInMonth(leapWeekInMonth).toChronology(), inLastWeek);
+                        assertSame(new AccountingChronologyBuilder().endsOn(dayOfWeek).nearestEndOf(ending)
+                                .withDivision(division).leapWeekInMonth(leapWeekInMonth).toChronology(), nearest);
+                        assertTrue(created.add(inLastWeek));
+                        assertTrue(created.add(nearest));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void test_serialization_sameInstance() throws Exception {
+        AccountingChronology chronology = new AccountingChronologyBuilder().endsOn(DayOfWeek.SATURDAY).inLastWeekOf(Month.AUGUST)
+                .withDivision(AccountingYearDivision.QUARTERS_OF_PATTERN_4_4_5_WEEKS).leapWeekInMonth(12).toChronology();
+        AccountingDate date = chronology.date(2017, 12, 35);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(baos)) {
+            out.writeObject(chronology);
+            out.writeObject(date);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            assertSame(in.readObject(), chronology);
+            AccountingDate deserialized = (AccountingDate) in.readObject();
+            assertEquals(deserialized, date);
+            assertSame(deserialized.getChronology(), chronology);
+        }
+    }
+
 }
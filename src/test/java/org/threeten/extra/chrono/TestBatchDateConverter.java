@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.chrono;
+
+import static java.time.temporal.ChronoField.DAY_OF_MONTH;
+import static java.time.temporal.ChronoField.MONTH_OF_YEAR;
+import static java.time.temporal.ChronoField.YEAR;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.Chronology;
+import java.time.chrono.IsoChronology;
+import java.time.chrono.ThaiBuddhistChronology;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test.
+ */
+@Test
+public class TestBatchDateConverter {
+
+    private static final long START = LocalDate.of(-200, 1, 1).toEpochDay();
+    private static final long START_POSITIVE = LocalDate.of(1, 1, 1).toEpochDay();
+    private static final long END = LocalDate.of(2200, 1, 1).toEpochDay();
+    private static final AccountingChronology ACCOUNTING = new AccountingChronologyBuilder().endsOn(DayOfWeek.SUNDAY)
+        .nearestEndOf(Month.AUGUST).withDivision(AccountingYearDivision.QUARTERS_OF_PATTERN_4_4_5_WEEKS).leapWeekInMonth(12).toChronology();
+
+    @DataProvider(name = "ranges")
+    Object[][] data_ranges() {
+        Object[][] chronologies = data_chronologies();
+        Object[][] ranges = new Object[chronologies.length][];
+        for (int i = 0; i < chronologies.length; i++) {
+            Object chronology = chronologies[i][0];
+            long start = (chronology == InternationalFixedChronology.INSTANCE ? START_POSITIVE : START);
+            ranges[i] = new Object[] {chronology, start};
+        }
+        return ranges;
+    }
+
+    @DataProvider(name = "chronologies")
+    Object[][] data_chronologies() {
+        return new Object[][] {
+            {ACCOUNTING},
+            {BritishCutoverChronology.INSTANCE},
+            {CopticChronology.INSTANCE},
+            {DiscordianChronology.INSTANCE},
+            {EthiopicChronology.INSTANCE},
+            {InternationalFixedChronology.INSTANCE},
+            {JulianChronology.INSTANCE},
+            {PaxChronology.INSTANCE},
+            {Symmetry010Chronology.INSTANCE},
+            {Symmetry454Chronology.INSTANCE},
+            {IsoChronology.INSTANCE},
+            {ThaiBuddhistChronology.INSTANCE},
+        };
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_of_implementedByChronology() {
+        assertSame(BatchDateConverter.of(JulianChronology.INSTANCE), JulianChronology.INSTANCE);
+        assertSame(BatchDateConverter.of(IsoChronology.INSTANCE), IsoBatchDateConverter.INSTANCE);
+        assertTrue(BatchDateConverter.of(ThaiBuddhistChronology.INSTANCE) instanceof ChronologyBatchDateConverter);
+    }
+
+    @Test(dataProvider = "ranges")
+    public void test_epochDaysToDates_matchDate(Chronology chronology, long start) {
+        BatchDateConverter test = BatchDateConverter.of(chronology);
+        int length = (int) (END - start);
+        long[] epochDays = new long[length];
+        int[] intEpochDays = new int[length];
+        for (int i = 0; i < length; i++) {
+            epochDays[i] = start + i;
+            intEpochDays[i] = (int) (start + i);
+        }
+        int[] years = new int[length];
+        int[] months = new int[length];
+        int[] days = new int[length];
+        test.epochDaysToDates(epochDays, years, months, days);
+        for (int i = 0; i < length; i++) {
+            ChronoLocalDate expected = chronology.dateEpochDay(epochDays[i]);
+            if (years[i] != expected.get(YEAR) || months[i] != expected.get(MONTH_OF_YEAR) || days[i] != expected.get(DAY_OF_MONTH)) {
+                assertEquals(years[i] + "-" + months[i] + "-" + days[i], expected.toString());
+            }
+        }
+
+        int[] intYears = new int[length];
+        int[] intMonths = new int[length];
+        int[] intDays = new int[length];
+        test.epochDaysToDates(intEpochDays, intYears, intMonths, intDays);
+        assertEquals(intYears, years);
+        assertEquals(intMonths, months);
+        assertEquals(intDays, days);
+
+        long[] roundTrip = new long[length];
+        test.datesToEpochDays(years, months, days, roundTrip);
+        assertEquals(roundTrip, epochDays);
+        int[] intRoundTrip = new int[length];
+        test.datesToEpochDays(years, months, days, intRoundTrip);
+        assertEquals(intRoundTrip, intEpochDays);
+    }
+
+    @Test(dataProvider = "chronologies")
+    public void test_datesToEpochDays_invalidDate(Chronology chronology) {
+        BatchDateConverter test = BatchDateConverter.of(chronology);
+        int[] years = {2000, 2000};
+        int[] months = {1, 1};
+        int[] days = {1, 99};
+        long[] epochDays = new long[2];
+        try {
+            test.datesToEpochDays(years, months, days, epochDays);
+            throw new AssertionError("Expected DateTimeException");
+        } catch (DateTimeException ex) {
+            assertEquals(epochDays[0], chronology.date(2000, 1, 1).toEpochDay());
+        }
+    }
+
+    @Test(dataProvider = "chronologies", expectedExceptions = DateTimeException.class)
+    public void test_epochDaysToDates_outOfRange(Chronology chronology) {
+        BatchDateConverter test = BatchDateConverter.of(chronology);
+        test.epochDaysToDates(new long[] {Long.MAX_VALUE}, new int[1], new int[1], new int[1]);
+    }
+
+    @Test(dataProvider = "chronologies", expectedExceptions = IllegalArgumentException.class)
+    public void test_epochDaysToDates_lengthMismatch(Chronology chronology) {
+        BatchDateConverter test = BatchDateConverter.of(chronology);
+        test.epochDaysToDates(new long[2], new int[2], new int[1], new int[2]);
+    }
+
+    @Test(dataProvider = "chronologies", expectedExceptions = IllegalArgumentException.class)
+    public void test_datesToEpochDays_lengthMismatch(Chronology chronology) {
+        BatchDateConverter test = BatchDateConverter.of(chronology);
+        test.datesToEpochDays(new int[2], new int[2], new int[2], new int[3]);
+    }
+
+}
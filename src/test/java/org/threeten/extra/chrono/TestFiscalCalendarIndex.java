@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.chrono;
+
+import static java.time.temporal.ChronoField.ALIGNED_WEEK_OF_YEAR;
+import static java.time.temporal.ChronoUnit.DAYS;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test.
+ */
+@Test
+public class TestFiscalCalendarIndex {
+
+    private static final LocalDate START = LocalDate.of(1995, 3, 17);
+    private static final LocalDate END = LocalDate.of(2025, 7, 4);
+    private static final AccountingChronology INSTANCE = new AccountingChronologyBuilder().endsOn(DayOfWeek.SUNDAY)
+        .nearestEndOf(Month.AUGUST).withDivision(AccountingYearDivision.QUARTERS_OF_PATTERN_4_4_5_WEEKS).leapWeekInMonth(12).toChronology();
+
+    @DataProvider(name = "chronologies")
+    Object[][] data_chronologies() {
+        return new Object[][] {
+            {new AccountingChronologyBuilder().endsOn(DayOfWeek.SATURDAY).nearestEndOf(Month.AUGUST)
+                .withDivision(AccountingYearDivision.QUARTERS_OF_PATTERN_4_4_5_WEEKS).leapWeekInMonth(12).toChronology()},
+            {new AccountingChronologyBuilder().endsOn(DayOfWeek.SUNDAY).inLastWeekOf(Month.JANUARY)
+                .withDivision(AccountingYearDivision.QUARTERS_OF_PATTERN_4_5_4_WEEKS).leapWeekInMonth(11).toChronology()},
+            {new AccountingChronologyBuilder().endsOn(DayOfWeek.FRIDAY).nearestEndOf(Month.DECEMBER)
+                .withDivision(AccountingYearDivision.QUARTERS_OF_PATTERN_5_4_4_WEEKS).leapWeekInMonth(3).toChronology()},
+            {new AccountingChronologyBuilder().endsOn(DayOfWeek.MONDAY).inLastWeekOf(Month.JUNE)
+                .withDivision(AccountingYearDivision.THIRTEEN_EVEN_MONTHS_OF_4_WEEKS).leapWeekInMonth(13).toChronology()},
+            {new AccountingChronologyBuilder().endsOn(DayOfWeek.WEDNESDAY).nearestEndOf(Month.MARCH)
+                .withDivision(AccountingYearDivision.THIRTEEN_EVEN_MONTHS_OF_4_WEEKS).leapWeekInMonth(2).toChronology()},
+        };
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(dataProvider = "chronologies")
+    public void test_lookups_matchAccountingDate(AccountingChronology chronology) {
+        FiscalCalendarIndex test = FiscalCalendarIndex.of(chronology, START, END);
+        assertEquals(test.getChronology(), chronology);
+        assertEquals(test.getStart(), START);
+        assertEquals(test.getEnd(), END);
+        int lastIndex = -1;
+        for (LocalDate date = START; date.isBefore(END); date = date.plusDays(1)) {
+            AccountingDate expected = chronology.date(date);
+            assertEquals(test.getYear(date), expected.getProlepticYear());
+            assertEquals(test.getPeriod(date), expected.getMonth());
+            int week = expected.get(ALIGNED_WEEK_OF_YEAR);
+            assertEquals(test.getWeekOfYear(date), week);
+            int quarter = (chronology.getDivision() == AccountingYearDivision.THIRTEEN_EVEN_MONTHS_OF_4_WEEKS ?
+                Math.min((week - 1) / 13 + 1, 4) : (expected.getMonth() - 1) / 3 + 1);
+            assertEquals(test.getQuarter(date), quarter);
+            int index = test.getPeriodIndex(date.toEpochDay());
+            assertTrue(index == lastIndex || index == lastIndex + 1);
+            assertEquals(test.getPeriodStart(index), expected.minus(expected.getDayOfMonth() - 1, DAYS));
+            lastIndex = index;
+        }
+        assertEquals(test.getPeriodCount(), lastIndex + 1);
+    }
+
+    @Test(dataProvider = "chronologies")
+    public void test_map_matchLookups(AccountingChronology chronology) {
+        FiscalCalendarIndex test = FiscalCalendarIndex.of(chronology, START, END);
+        long[] epochDays = new long[1000];
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = START.toEpochDay() + ((i * 7919L) % (END.toEpochDay() - START.toEpochDay()));
+        }
+        int[] indexes = new int[epochDays.length];
+        int[] years = new int[epochDays.length];
+        int[] periods = new int[epochDays.length];
+        int[] weeks = new int[epochDays.length];
+        int[] quarters = new int[epochDays.length];
+        test.mapPeriodIndexes(epochDays, indexes);
+        test.mapYears(epochDays, years);
+        test.mapPeriods(epochDays, periods);
+        test.mapWeeksOfYear(epochDays, weeks);
+        test.mapQuarters(epochDays, quarters);
+        for (int i = 0; i < epochDays.length; i++) {
+            assertEquals(indexes[i], test.getPeriodIndex(epochDays[i]));
+            assertEquals(years[i], test.getYear(epochDays[i]));
+            assertEquals(periods[i], test.getPeriod(epochDays[i]));
+            assertEquals(weeks[i], test.getWeekOfYear(epochDays[i]));
+            assertEquals(quarters[i], test.getQuarter(epochDays[i]));
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_contains() {
+        FiscalCalendarIndex test = FiscalCalendarIndex.of(INSTANCE, START, END);
+        assertTrue(test.contains(START));
+        assertTrue(test.contains(END.minusDays(1)));
+        assertFalse(test.contains(START.minusDays(1)));
+        assertFalse(test.contains(END));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_lookup_beforeStart() {
+        FiscalCalendarIndex test = FiscalCalendarIndex.of(INSTANCE, START, END);
+        test.getPeriod(START.minusDays(1));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_lookup_atEnd() {
+        FiscalCalendarIndex test = FiscalCalendarIndex.of(INSTANCE, START, END);
+        test.getPeriod(END);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_map_lengthMismatch() {
+        FiscalCalendarIndex test = FiscalCalendarIndex.of(INSTANCE, START, END);
+        test.mapPeriods(new long[2], new int[3]);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_of_endNotAfterStart() {
+        FiscalCalendarIndex.of(INSTANCE, START, START);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_of_tooLong() {
+        FiscalCalendarIndex.of(INSTANCE, LocalDate.of(-3000, 1, 1), LocalDate.of(3000, 1, 1));
+    }
+
+    public void test_toString() {
+        FiscalCalendarIndex test = FiscalCalendarIndex.of(INSTANCE, START, END);
+        assertEquals(test.toString(), "FiscalCalendarIndex[1995-03-17/2025-07-04]");
+    }
+
+}
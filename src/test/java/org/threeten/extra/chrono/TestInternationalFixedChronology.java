@@ -143,6 +143,10 @@ public class TestInternationalFixedChronology {
             {InternationalFixedDate.of(400, 7, 1), LocalDate.of(400, 6, 18)},
             {InternationalFixedDate.of(400, 7, 2), LocalDate.of(400, 6, 19)},
 
+            {InternationalFixedDate.of(876, 13, 28), LocalDate.of(876, 12, 30)},
+            {InternationalFixedDate.of(876, 13, 29), LocalDate.of(876, 12, 31)},
+            {InternationalFixedDate.of(877, 1, 1), LocalDate.of(877, 1, 1)},
+
             {InternationalFixedDate.of(1582, 9, 28), LocalDate.of(1582, 9, 9)},
             {InternationalFixedDate.of(1582, 10, 1), LocalDate.of(1582, 9, 10)},
             {InternationalFixedDate.of(1945, 10, 27), LocalDate.of(1945, 10, 6)},
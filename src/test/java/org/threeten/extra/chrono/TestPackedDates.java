@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.chrono;
+
+import static java.time.temporal.ChronoField.DAY_OF_MONTH;
+import static java.time.temporal.ChronoField.MONTH_OF_YEAR;
+import static java.time.temporal.ChronoField.YEAR;
+import static java.time.temporal.ChronoUnit.MONTHS;
+import static java.time.temporal.ChronoUnit.YEARS;
+import static org.testng.Assert.assertEquals;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.Chronology;
+import java.time.temporal.ChronoUnit;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongUnaryOperator;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test.
+ */
+@Test
+public class TestPackedDates {
+
+    private static final long START = LocalDate.of(-200, 1, 1).toEpochDay();
+    private static final long START_POSITIVE = LocalDate.of(1, 1, 1).toEpochDay();
+    private static final long END = LocalDate.of(2200, 1, 1).toEpochDay();
+    private static final long[] MONTHS_TO_ADD = {-1000, -27, -13, -12, -1, 1, 2, 11, 12, 13, 14, 25, 1000};
+    private static final long[] YEARS_TO_ADD = {-400, -4, -1, 1, 3, 4, 100};
+    private static final AccountingChronology ACCOUNTING = new AccountingChronologyBuilder().endsOn(DayOfWeek.SUNDAY)
+        .nearestEndOf(Month.AUGUST).withDivision(AccountingYearDivision.QUARTERS_OF_PATTERN_4_4_5_WEEKS).leapWeekInMonth(12).toChronology();
+
+    @DataProvider(name = "kernels")
+    Object[][] data_kernels() {
+        return new Object[][] {
+            {ACCOUNTING, START, (LongUnaryOperator) ACCOUNTING::packedDateEpochDay,
+                (LongBinaryOperator) ACCOUNTING::plusMonthsPacked, (LongBinaryOperator) ACCOUNTING::plusYearsPacked,
+                (LongBinaryOperator) ACCOUNTING::monthsUntilPacked},
+            {BritishCutoverChronology.INSTANCE, START, (LongUnaryOperator) BritishCutoverChronology::packedDateEpochDay,
+                (LongBinaryOperator) BritishCutoverChronology::plusMonthsPacked, (LongBinaryOperator) BritishCutoverChronology::plusYearsPacked,
+                (LongBinaryOperator) BritishCutoverChronology::monthsUntilPacked},
+            {CopticChronology.INSTANCE, START, (LongUnaryOperator) CopticChronology::packedDateEpochDay,
+                (LongBinaryOperator) CopticChronology::plusMonthsPacked, (LongBinaryOperator) CopticChronology::plusYearsPacked,
+                (LongBinaryOperator) CopticChronology::monthsUntilPacked},
+            {DiscordianChronology.INSTANCE, START, (LongUnaryOperator) DiscordianChronology::packedDateEpochDay,
+                (LongBinaryOperator) DiscordianChronology::plusMonthsPacked, (LongBinaryOperator) DiscordianChronology::plusYearsPacked,
+                (LongBinaryOperator) DiscordianChronology::monthsUntilPacked},
+            {EthiopicChronology.INSTANCE, START, (LongUnaryOperator) EthiopicChronology::packedDateEpochDay,
+                (LongBinaryOperator) EthiopicChronology::plusMonthsPacked, (LongBinaryOperator) EthiopicChronology::plusYearsPacked,
+                (LongBinaryOperator) EthiopicChronology::monthsUntilPacked},
+            {InternationalFixedChronology.INSTANCE, START_POSITIVE, (LongUnaryOperator) InternationalFixedChronology::packedDateEpochDay,
+                (LongBinaryOperator) InternationalFixedChronology::plusMonthsPacked, (LongBinaryOperator) InternationalFixedChronology::plusYearsPacked,
+                (LongBinaryOperator) InternationalFixedChronology::monthsUntilPacked},
+            {JulianChronology.INSTANCE, START, (LongUnaryOperator) JulianChronology::packedDateEpochDay,
+                (LongBinaryOperator) JulianChronology::plusMonthsPacked, (LongBinaryOperator) JulianChronology::plusYearsPacked,
+                (LongBinaryOperator) JulianChronology::monthsUntilPacked},
+            {PaxChronology.INSTANCE, START, (LongUnaryOperator) PaxChronology::packedDateEpochDay,
+                (LongBinaryOperator) PaxChronology::plusMonthsPacked, (LongBinaryOperator) PaxChronology::plusYearsPacked,
+                (LongBinaryOperator) PaxChronology::monthsUntilPacked},
+            {Symmetry010Chronology.INSTANCE, START, (LongUnaryOperator) Symmetry010Chronology::packedDateEpochDay,
+                (LongBinaryOperator) Symmetry010Chronology::plusMonthsPacked, (LongBinaryOperator) Symmetry010Chronology::plusYearsPacked,
+                (LongBinaryOperator) Symmetry010Chronology::monthsUntilPacked},
+            {Symmetry454Chronology.INSTANCE, START, (LongUnaryOperator) Symmetry454Chronology::packedDateEpochDay,
+                (LongBinaryOperator) Symmetry454Chronology::plusMonthsPacked, (LongBinaryOperator) Symmetry454Chronology::plusYearsPacked,
+                (LongBinaryOperator) Symmetry454Chronology::monthsUntilPacked},
+        };
+    }
+
+    private static long pack(ChronoLocalDate date) {
+        return PackedDates.pack(date.get(YEAR), date.get(MONTH_OF_YEAR), date.get(DAY_OF_MONTH));
+    }
+
+    private static void assertPlus(ChronoLocalDate date, long packed, long amount, ChronoUnit unit, LongBinaryOperator kernel) {
+        ChronoLocalDate expected;
+        try {
+            expected = date.plus(amount, unit);
+        } catch (DateTimeException ex) {
+            try {
+                kernel.applyAsLong(packed, amount);
+            } catch (DateTimeException ex2) {
+                return;
+            }
+            throw new AssertionError(date + " plus " + amount + " " + unit + " should have thrown");
+        }
+        long test = kernel.applyAsLong(packed, amount);
+        if (test != pack(expected)) {
+            assertEquals(unpack(test), expected.toString(), date + " plus " + amount + " " + unit);
+        }
+    }
+
+    private static String unpack(long packed) {
+        return PackedDates.year(packed) + "-" + PackedDates.month(packed) + "-" + PackedDates.day(packed);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_pack() {
+        long packed = PackedDates.pack(2012, 7, 30);
+        assertEquals(PackedDates.year(packed), 2012);
+        assertEquals(PackedDates.month(packed), 7);
+        assertEquals(PackedDates.day(packed), 30);
+    }
+
+    public void test_pack_negativeYear() {
+        long packed = PackedDates.pack(-999_999_999, 14, 0);
+        assertEquals(PackedDates.year(packed), -999_999_999);
+        assertEquals(PackedDates.month(packed), 14);
+        assertEquals(PackedDates.day(packed), 0);
+    }
+
+    public void test_pack_ordered() {
+        assertEquals(Long.compare(PackedDates.pack(-1, 12, 31), PackedDates.pack(0, 1, 1)), -1);
+        assertEquals(Long.compare(PackedDates.pack(2012, 6, 30), PackedDates.pack(2012, 7, 1)), -1);
+        assertEquals(Long.compare(PackedDates.pack(2012, 7, 2), PackedDates.pack(2012, 7, 1)), 1);
+    }
+
+    @DataProvider(name = "packOutOfRange")
+    Object[][] data_packOutOfRange() {
+        return new Object[][] {
+            {2000, 1, 257},
+            {2000, 1, 256},
+            {2000, 1, -1},
+            {2000, 256, 1},
+            {2000, -1, 1},
+        };
+    }
+
+    @Test(dataProvider = "packOutOfRange", expectedExceptions = DateTimeException.class)
+    public void test_pack_outOfRange(int year, int month, int dayOfMonth) {
+        // unchecked, day 257 would alias day 1 of the next month, and a negative day would overwrite the year
+        PackedDates.pack(year, month, dayOfMonth);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(dataProvider = "kernels")
+    public void test_packedDateEpochDay(Chronology chronology, long start, LongUnaryOperator packedDateEpochDay,
+            LongBinaryOperator plusMonths, LongBinaryOperator plusYears, LongBinaryOperator monthsUntil) {
+        for (long epochDay = start; epochDay < END; epochDay++) {
+            long packed = packedDateEpochDay.applyAsLong(epochDay);
+            ChronoLocalDate expected = chronology.dateEpochDay(epochDay);
+            if (packed != pack(expected)) {
+                assertEquals(unpack(packed), expected.toString());
+            }
+        }
+    }
+
+    @Test(dataProvider = "kernels")
+    public void test_plusMonthsPacked(Chronology chronology, long start, LongUnaryOperator packedDateEpochDay,
+            LongBinaryOperator plusMonths, LongBinaryOperator plusYears, LongBinaryOperator monthsUntil) {
+        for (long epochDay = start; epochDay < END; epochDay += 47) {
+            ChronoLocalDate date = chronology.dateEpochDay(epochDay);
+            long packed = packedDateEpochDay.applyAsLong(epochDay);
+            for (long months : MONTHS_TO_ADD) {
+                assertPlus(date, packed, months, MONTHS, plusMonths);
+            }
+        }
+    }
+
+    @Test(dataProvider = "kernels")
+    public void test_plusYearsPacked(Chronology chronology, long start, LongUnaryOperator packedDateEpochDay,
+            LongBinaryOperator plusMonths, LongBinaryOperator plusYears, LongBinaryOperator monthsUntil) {
+        for (long epochDay = start + 365 * 400; epochDay < END; epochDay += 47) {
+            ChronoLocalDate date = chronology.dateEpochDay(epochDay);
+            long packed = packedDateEpochDay.applyAsLong(epochDay);
+            for (long years : YEARS_TO_ADD) {
+                assertPlus(date, packed, years, YEARS, plusYears);
+            }
+        }
+    }
+
+    @Test(dataProvider = "kernels")
+    public void test_monthsUntilPacked(Chronology chronology, long start, LongUnaryOperator packedDateEpochDay,
+            LongBinaryOperator plusMonths, LongBinaryOperator plusYears, LongBinaryOperator monthsUntil) {
+        for (long epochDay = start; epochDay < END - 1000; epochDay += 61) {
+            ChronoLocalDate date = chronology.dateEpochDay(epochDay);
+            long packed = packedDateEpochDay.applyAsLong(epochDay);
+            for (long offset = -40; offset < 1000; offset += 97) {
+                ChronoLocalDate end = chronology.dateEpochDay(Math.max(start, epochDay + offset));
+                long expected = date.until(end, MONTHS);
+                long test = monthsUntil.applyAsLong(packed, pack(end));
+                if (test != expected) {
+                    assertEquals(test, expected, date + " until " + end);
+                }
+            }
+        }
+    }
+
+    @Test(dataProvider = "kernels", expectedExceptions = DateTimeException.class)
+    public void test_plusMonthsPacked_invalidDate(Chronology chronology, long start, LongUnaryOperator packedDateEpochDay,
+            LongBinaryOperator plusMonths, LongBinaryOperator plusYears, LongBinaryOperator monthsUntil) {
+        plusMonths.applyAsLong(PackedDates.pack(2000, 15, 1), 1);
+    }
+
+    @Test(dataProvider = "kernels", expectedExceptions = DateTimeException.class)
+    public void test_plusYearsPacked_invalidDate(Chronology chronology, long start, LongUnaryOperator packedDateEpochDay,
+            LongBinaryOperator plusMonths, LongBinaryOperator plusYears, LongBinaryOperator monthsUntil) {
+        plusYears.applyAsLong(PackedDates.pack(2000, 1, 100), 1);
+    }
+
+    @Test(dataProvider = "kernels", expectedExceptions = DateTimeException.class)
+    public void test_monthsUntilPacked_invalidDate(Chronology chronology, long start, LongUnaryOperator packedDateEpochDay,
+            LongBinaryOperator plusMonths, LongBinaryOperator plusYears, LongBinaryOperator monthsUntil) {
+        monthsUntil.applyAsLong(PackedDates.pack(2000, 1, 1), PackedDates.pack(2000, 15, 1));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_epochDayOf() {
+        assertEquals(JulianChronology.epochDayOf(2012, 2, 29), JulianDate.of(2012, 2, 29).toEpochDay());
+        assertEquals(CopticChronology.epochDayOf(1727, 13, 6), CopticDate.of(1727, 13, 6).toEpochDay());
+        assertEquals(BritishCutoverChronology.epochDayOf(1752, 9, 14), LocalDate.of(1752, 9, 14).toEpochDay());
+        assertEquals(ACCOUNTING.epochDayOf(2012, 12, 35), ACCOUNTING.date(2012, 12, 35).toEpochDay());
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_epochDayOf_invalid() {
+        JulianChronology.epochDayOf(2011, 2, 29);
+    }
+
+    public void test_britishCutover_gap() {
+        // a date in the cutover gap is treated as a Julian date, as per BritishCutoverDate.of
+        long packed = BritishCutoverChronology.plusMonthsPacked(PackedDates.pack(1752, 9, 5), 1);
+        assertEquals(unpack(packed), unpack(pack(BritishCutoverDate.of(1752, 9, 5).plus(1, MONTHS))));
+        assertEquals(unpack(BritishCutoverChronology.plusMonthsPacked(PackedDates.pack(1752, 8, 3), 1)), "1752-9-14");
+    }
+
+}
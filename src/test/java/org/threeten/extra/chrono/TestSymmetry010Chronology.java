@@ -275,6 +275,22 @@ public class TestSymmetry010Chronology {
         assertTrue(Symmetry010Chronology.INSTANCE.isLeapYear(9));
         assertFalse(Symmetry010Chronology.INSTANCE.isLeapYear(2000));
         assertTrue(Symmetry010Chronology.INSTANCE.isLeapYear(2004));
+        assertTrue(Symmetry010Chronology.INSTANCE.isLeapYear(-2));
+        assertFalse(Symmetry010Chronology.INSTANCE.isLeapYear(-3));
+        assertTrue(Symmetry010Chronology.INSTANCE.isLeapYear(-8));
+    }
+
+    @Test
+    public void test_negativeYears_epochDay() {
+        long start = LocalDate.of(-400, 1, 1).toEpochDay();
+        long end = LocalDate.of(1, 1, 1).toEpochDay();
+        Symmetry010Date previous = Symmetry010Chronology.INSTANCE.dateEpochDay(start - 1);
+        for (long epochDay = start; epochDay < end; epochDay++) {
+            Symmetry010Date date = Symmetry010Chronology.INSTANCE.dateEpochDay(epochDay);
+            assertEquals(date.toEpochDay(), epochDay);
+            assertEquals(previous.plusDays(1), date);
+            previous = date;
+        }
     }
 
     //-----------------------------------------------------------------------
@@ -280,6 +280,22 @@ public class TestSymmetry454Chronology {
         assertTrue(Symmetry454Chronology.INSTANCE.isLeapYear(9));
         assertFalse(Symmetry454Chronology.INSTANCE.isLeapYear(2000));
         assertTrue(Symmetry454Chronology.INSTANCE.isLeapYear(2004));
+        assertTrue(Symmetry454Chronology.INSTANCE.isLeapYear(-2));
+        assertFalse(Symmetry454Chronology.INSTANCE.isLeapYear(-3));
+        assertTrue(Symmetry454Chronology.INSTANCE.isLeapYear(-8));
+    }
+
+    @Test
+    public void test_negativeYears_epochDay() {
+        long start = LocalDate.of(-400, 1, 1).toEpochDay();
+        long end = LocalDate.of(1, 1, 1).toEpochDay();
+        Symmetry454Date previous = Symmetry454Chronology.INSTANCE.dateEpochDay(start - 1);
+        for (long epochDay = start; epochDay < end; epochDay++) {
+            Symmetry454Date date = Symmetry454Chronology.INSTANCE.dateEpochDay(epochDay);
+            assertEquals(date.toEpochDay(), epochDay);
+            assertEquals(previous.plusDays(1), date);
+            previous = date;
+        }
     }
 
     //-----------------------------------------------------------------------
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.testng.annotations.Test;
+import org.threeten.extra.MutableClock;
+import org.threeten.extra.TestCoarseClock.ThrowOnceClock;
+
+/**
+ * Test class.
+ */
+@Test
+public class TestCoarseTimeSource {
+
+    private static final Instant START = Instant.parse("2016-01-01T00:00:00Z");
+
+    //-----------------------------------------------------------------------
+    public void test_of() {
+        try (CoarseTimeSource test = CoarseTimeSource.of(Clock.fixed(START, ZoneOffset.UTC), Duration.ofMillis(1))) {
+            assertEquals(test.getGranularity(), Duration.ofMillis(1));
+            assertFalse(test.isClosed());
+            assertEquals(test.instant(), START);
+            assertEquals(test.utcInstant(), UtcInstant.of(START));
+            assertEquals(test.taiInstant(), TaiInstant.of(START));
+            assertEquals(test.toString(), "CoarseTimeSource[" + Clock.fixed(START, ZoneOffset.UTC) + ",PT0.001S]");
+        }
+    }
+
+    public void test_refresh() throws Exception {
+        try (CoarseTimeSource test = CoarseTimeSource.system(Duration.ofMillis(1))) {
+            Instant first = test.instant();
+            long end = System.nanoTime() + 10_000_000_000L;
+            while (test.instant().equals(first) && System.nanoTime() < end) {
+                Thread.sleep(1);
+            }
+            Instant second = test.instant();
+            assertTrue(second.isAfter(first));
+            assertEquals(test.utcInstant().getModifiedJulianDay(), UtcInstant.of(second).getModifiedJulianDay());
+        }
+    }
+
+    public void test_clockThrows() throws Exception {
+        MutableClock underlying = MutableClock.of(START, ZoneOffset.UTC);
+        ThrowOnceClock throwing = new ThrowOnceClock(underlying);
+        try (CoarseTimeSource test = CoarseTimeSource.of(throwing, Duration.ofMillis(1))) {
+            throwing.armed.set(true);
+            long end = System.nanoTime() + 10_000_000_000L;
+            while (throwing.armed.get() && System.nanoTime() < end) {
+                Thread.sleep(1);
+            }
+            assertFalse(throwing.armed.get());
+            underlying.add(Duration.ofSeconds(5));
+            Instant expected = START.plusSeconds(5);
+            while (!test.instant().equals(expected) && System.nanoTime() < end) {
+                Thread.sleep(1);
+            }
+            assertEquals(test.instant(), expected);
+            assertEquals(test.utcInstant(), UtcInstant.of(expected));
+            assertEquals(test.taiInstant(), TaiInstant.of(expected));
+        }
+    }
+
+    public void test_close() {
+        CoarseTimeSource test = CoarseTimeSource.of(Clock.fixed(START, ZoneOffset.UTC), Duration.ofDays(1));
+        test.close();
+        assertTrue(test.isClosed());
+        assertEquals(test.instant(), START);
+        assertEquals(test.utcInstant(), UtcInstant.of(START));
+        assertEquals(test.taiInstant(), TaiInstant.of(START));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_of_negativeGranularity() {
+        CoarseTimeSource.system(Duration.ofMillis(-1));
+    }
+
+}
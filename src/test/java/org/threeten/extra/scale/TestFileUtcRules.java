@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Test FileUtcRules.
+ */
+@Test
+public class TestFileUtcRules {
+
+    private static final long MJD_1972_01_01 = 41317L;
+    private static final long MJD_1972_06_30 = 41498L;
+    private static final long MJD_2016_12_31 = 57753L;
+    private static final long MJD_2030_06_30 = 62682L;
+
+    private Path dir;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("leapseconds");
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private Path write(String name, String... lines) throws IOException {
+        Path temp = dir.resolve(name + ".tmp");
+        Files.write(temp, Arrays.asList(lines), StandardCharsets.UTF_8);
+        return Files.move(temp, dir.resolve(name), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // the NTP second at the start of the day after the MJD
+    private static String ntp(long mjd) {
+        return Long.toString((mjd + 1 - 15020) * 86400);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_of_textFormat() throws IOException {
+        Path file = write("leap.txt", "# comment", "1972-01-01 10", "", "1972-06-30 11", "2016-12-31 37");
+        try (FileUtcRules test = FileUtcRules.of(file)) {
+            assertEquals(test.getFile(), file.toAbsolutePath());
+            assertEquals(test.getName(), "File:" + file.toAbsolutePath());
+            assertEquals(test.getLeapSecondDates(), new long[] {MJD_1972_01_01, MJD_1972_06_30, MJD_2016_12_31});
+            assertEquals(test.getTaiOffset(MJD_1972_06_30), 10);
+            assertEquals(test.getTaiOffset(MJD_1972_06_30 + 1), 11);
+            assertEquals(test.getTaiOffset(MJD_2016_12_31 + 1), 37);
+        }
+    }
+
+    public void test_of_ntpFormat() throws IOException {
+        Path file = write("leap-seconds.list",
+                "#$\t 3676924800",
+                "#@\t3960057600",
+                "2272060800\t10\t# 1 Jan 1972",
+                ntp(MJD_1972_06_30) + "\t11\t# 1 Jul 1972",
+                ntp(MJD_2016_12_31) + "     12",
+                "#h\t16edd0f0 3666784f 37db6bdd e74ced87 59af48f1");
+        try (FileUtcRules test = FileUtcRules.of(file)) {
+            assertEquals(test.getLeapSecondDates(), new long[] {MJD_1972_01_01, MJD_1972_06_30, MJD_2016_12_31});
+            assertEquals(test.getLeapSecondAdjustment(MJD_1972_06_30), 1);
+            assertEquals(test.getLeapSecondAdjustment(MJD_2016_12_31), 1);
+            assertEquals(test.getTaiOffset(MJD_2016_12_31 + 1), 12);
+        }
+    }
+
+    public void test_of_ntpFormat_matchesSystem() throws IOException {
+        UtcRules system = UtcRules.system();
+        long[] dates = system.getLeapSecondDates();
+        List<String> lines = new ArrayList<>();
+        lines.add("2272060800 10");
+        for (int i = 1; i < dates.length; i++) {
+            lines.add(ntp(dates[i]) + " " + system.getTaiOffset(dates[i] + 1));
+        }
+        Path file = write("leap-seconds.list", lines.toArray(new String[0]));
+        try (FileUtcRules test = FileUtcRules.of(file)) {
+            assertEquals(test.getLeapSecondDates(), dates);
+            for (long date : dates) {
+                assertEquals(test.getLeapSecondAdjustment(date), system.getLeapSecondAdjustment(date));
+                assertEquals(test.getTaiOffset(date + 1), system.getTaiOffset(date + 1));
+            }
+        }
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void test_of_missing() throws IOException {
+        FileUtcRules.of(dir.resolve("missing.txt"));
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void test_of_invalidLine() throws IOException {
+        FileUtcRules.of(write("leap.txt", "1972-01-01 10", "rubbish"));
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void test_of_invalidDate() throws IOException {
+        FileUtcRules.of(write("leap.txt", "1972-01-01 10", "1972-13-31 11"));
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void test_of_notAscending() throws IOException {
+        FileUtcRules.of(write("leap.txt", "1972-06-30 11", "1972-01-01 10"));
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void test_of_mixedFormats() throws IOException {
+        FileUtcRules.of(write("leap.txt", "2272060800 10", "1972-06-30 11"));
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void test_of_ntpNotMidnight() throws IOException {
+        FileUtcRules.of(write("leap.txt", "2272060801 10"));
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void test_of_empty() throws IOException {
+        FileUtcRules.of(write("leap.txt", "# no data"));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_of_null() throws IOException {
+        FileUtcRules.of(null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_reload() throws IOException {
+        Path file = write("leap.txt", "1972-01-01 10", "2016-12-31 37");
+        try (FileUtcRules test = FileUtcRules.of(file)) {
+            UtcRules snapshot = test.snapshot();
+            write("leap.txt", "1972-01-01 10", "2016-12-31 37", "2030-06-30 38");
+            test.reload();
+            assertEquals(test.getLeapSecondDates(), new long[] {MJD_1972_01_01, MJD_2016_12_31, MJD_2030_06_30});
+            assertEquals(test.getLeapSecondAdjustment(MJD_2030_06_30), 1);
+            assertEquals(test.getTaiOffset(MJD_2030_06_30 + 1), 38);
+            assertEquals(snapshot.getTaiOffset(MJD_2030_06_30 + 1), 37);
+        }
+    }
+
+    public void test_reload_invalidKeepsPrevious() throws IOException {
+        Path file = write("leap.txt", "1972-01-01 10", "2016-12-31 37");
+        try (FileUtcRules test = FileUtcRules.of(file)) {
+            write("leap.txt", "1972-01-01 10", "2016-12-31");
+            try {
+                test.reload();
+                throw new AssertionError("Expected IOException");
+            } catch (IOException ex) {
+                // expected
+            }
+            assertEquals(test.getLeapSecondDates(), new long[] {MJD_1972_01_01, MJD_2016_12_31});
+        }
+    }
+
+    public void test_watch() throws Exception {
+        Path file = write("leap.txt", "1972-01-01 10", "2016-12-31 37");
+        try (FileUtcRules test = FileUtcRules.of(file)) {
+            write("other.txt", "rubbish");
+            write("leap.txt", "1972-01-01 10", "2016-12-31 37", "2030-06-30 38");
+            long end = System.nanoTime() + 30_000_000_000L;
+            while (test.getLeapSecondDates().length != 3 && System.nanoTime() < end) {
+                Thread.sleep(10);
+            }
+            assertEquals(test.getLeapSecondDates(), new long[] {MJD_1972_01_01, MJD_2016_12_31, MJD_2030_06_30});
+            assertEquals(test.getTaiOffset(MJD_2030_06_30 + 1), 38);
+        }
+    }
+
+    public void test_close() throws IOException {
+        Path file = write("leap.txt", "1972-01-01 10", "2016-12-31 37");
+        FileUtcRules test = FileUtcRules.of(file);
+        test.close();
+        test.close();
+        assertEquals(test.getTaiOffset(MJD_2016_12_31 + 1), 37);
+        write("leap.txt", "1972-01-01 10", "2016-12-31 37", "2030-06-30 38");
+        test.reload();
+        assertEquals(test.getTaiOffset(MJD_2030_06_30 + 1), 38);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_batchConversion() throws IOException {
+        Path file = write("leap.txt", "1972-01-01 10", "2016-12-31 37");
+        try (FileUtcRules test = FileUtcRules.of(file)) {
+            long[] epochSeconds = {0, 1_483_228_800L};
+            int[] nanos = {0, 5};
+            long[] taiSeconds = new long[2];
+            int[] taiNanos = new int[2];
+            test.convertInstantsToTai(epochSeconds, nanos, taiSeconds, taiNanos);
+            for (int i = 0; i < epochSeconds.length; i++) {
+                TaiInstant expected = test.convertToTai(Instant.ofEpochSecond(epochSeconds[i], nanos[i]));
+                assertEquals(taiSeconds[i], expected.getTaiSeconds());
+                assertEquals(taiNanos[i], expected.getNano());
+            }
+            assertTrue(test.toString().startsWith("UtcRules[File:"));
+        }
+    }
+
+}
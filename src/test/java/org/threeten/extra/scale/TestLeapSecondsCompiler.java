@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+import org.threeten.extra.scale.SystemUtcRules.Data;
+
+/**
+ * Test class.
+ */
+@Test
+public class TestLeapSecondsCompiler {
+
+    private static final URL TEXT = SystemUtcRules.class.getResource("LeapSeconds.txt");
+
+    private static void assertSameRules(UtcRules test, UtcRules expected) {
+        long[] dates = expected.getLeapSecondDates();
+        assertTrue(Arrays.equals(test.getLeapSecondDates(), dates));
+        for (long date : dates) {
+            assertEquals(test.getTaiOffset(date + 1), expected.getTaiOffset(date + 1));
+            assertEquals(test.getLeapSecondAdjustment(date), expected.getLeapSecondAdjustment(date));
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_compile() throws Exception {
+        File output = File.createTempFile("LeapSeconds", ".dat");
+        try {
+            LeapSecondsCompiler.compile(new File(TEXT.toURI()), output);
+            try (InputStream in = new FileInputStream(output)) {
+                assertSameRules(SystemUtcRules.readCompiled(in, SystemUtcRules.textChecksum(TEXT)), SystemUtcRules.loadLeapSeconds(TEXT));
+            }
+        } finally {
+            output.delete();
+        }
+    }
+
+    public void test_bundledCompiledMatchesText() throws Exception {
+        URL compiled = SystemUtcRules.class.getResource("LeapSeconds" + SystemUtcRules.COMPILED_SUFFIX);
+        if (compiled != null) {
+            try (InputStream in = compiled.openStream()) {
+                assertSameRules(SystemUtcRules.readCompiled(in, SystemUtcRules.textChecksum(TEXT)), SystemUtcRules.loadLeapSeconds(TEXT));
+            }
+        }
+    }
+
+    public void test_compiledFromDifferentText() throws Exception {
+        // text without the newest leap second, as if the compiled file were left over from an earlier build
+        List<String> lines = Files.readAllLines(new File(TEXT.toURI()).toPath(), StandardCharsets.UTF_8);
+        File oldText = File.createTempFile("LeapSeconds", ".txt");
+        File output = File.createTempFile("LeapSeconds", ".dat");
+        try {
+            Files.write(oldText.toPath(), lines.subList(0, lines.size() - 1), StandardCharsets.UTF_8);
+            LeapSecondsCompiler.compile(oldText, output);
+            try (InputStream in = new FileInputStream(output)) {
+                Data stale = SystemUtcRules.readCompiled(in, SystemUtcRules.textChecksum(oldText.toURI().toURL()));
+                assertSameRules(stale, SystemUtcRules.loadLeapSeconds(oldText.toURI().toURL()));
+            }
+            try (InputStream in = new FileInputStream(output)) {
+                SystemUtcRules.readCompiled(in, SystemUtcRules.textChecksum(TEXT));
+                fail("Expected StreamCorruptedException");
+            } catch (StreamCorruptedException ex) {
+                // expected
+            }
+            Data test = SystemUtcRules.loadCompiledLeapSeconds(output.toURI().toURL(), TEXT);
+            assertSameRules(test, SystemUtcRules.loadLeapSeconds(TEXT));
+        } finally {
+            oldText.delete();
+            output.delete();
+        }
+    }
+
+    public void test_loadLeapSeconds_matchesText() throws Exception {
+        assertSameRules(SystemUtcRules.loadLeapSeconds(), SystemUtcRules.loadLeapSeconds(TEXT));
+    }
+
+    public void test_roundTrip() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SystemUtcRules.writeCompiled(SystemUtcRules.loadLeapSeconds(TEXT), 123L, out);
+        UtcRules test = SystemUtcRules.readCompiled(new ByteArrayInputStream(out.toByteArray()), 123L);
+        assertSameRules(test, SystemUtcRules.loadLeapSeconds(TEXT));
+    }
+
+    @Test(expectedExceptions = StreamCorruptedException.class)
+    public void test_readCompiled_badHeader() throws Exception {
+        SystemUtcRules.readCompiled(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 2, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1}), 0L);
+    }
+
+    @Test(expectedExceptions = StreamCorruptedException.class)
+    public void test_readCompiled_unsorted() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SystemUtcRules.writeCompiled(SystemUtcRules.loadLeapSeconds(TEXT), 0L, out);
+        byte[] bytes = out.toByteArray();
+        // swap the first two entries, each of six bytes after a seventeen byte header
+        byte[] first = Arrays.copyOfRange(bytes, 17, 23);
+        System.arraycopy(bytes, 23, bytes, 17, 6);
+        System.arraycopy(first, 0, bytes, 23, 6);
+        SystemUtcRules.readCompiled(new ByteArrayInputStream(bytes), 0L);
+    }
+
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test LeapSmear and the smeared rules.
+ */
+@Test
+public class TestLeapSmear {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long MJD_2016_12_31 = 57753L;
+    private static final long MJD_2030_06_30 = 62682L;
+    private static final Instant MIDNIGHT_2017 = Instant.parse("2017-01-01T00:00:00Z");
+    private static final LeapSmear NOON_TO_NOON = LeapSmear.linear(Duration.ofHours(12), Duration.ofHours(12));
+
+    // rules with a negative leap second at the end of 2030-06-30
+    private static UtcRules negativeLeapRules() throws IOException {
+        return SystemUtcRules.parseLeapSeconds(Arrays.asList("1972-01-01 10", "2016-12-31 37", "2030-06-30 36"));
+    }
+
+    private static Object roundTrip(Object obj) throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(baos)) {
+            out.writeObject(obj);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            return in.readObject();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_utcSls() {
+        LeapSmear test = LeapSmear.utcSls();
+        assertSame(LeapSmear.utcSls(), test);
+        assertEquals(test.getBefore(), Duration.ofSeconds(1000));
+        assertEquals(test.getAfter(), Duration.ZERO);
+        assertEquals(test.toString(), "UTC-SLS");
+    }
+
+    public void test_linear() {
+        assertEquals(NOON_TO_NOON.getBefore(), Duration.ofHours(12));
+        assertEquals(NOON_TO_NOON.getAfter(), Duration.ofHours(12));
+        assertEquals(NOON_TO_NOON.toString(), "Linear[PT12H/PT12H]");
+        assertEquals(LeapSmear.linear(Duration.ofDays(1), Duration.ZERO).getBefore(), Duration.ofDays(1));
+    }
+
+    @DataProvider(name = "invalidLinear")
+    Object[][] data_invalidLinear() {
+        return new Object[][] {
+            {Duration.ofSeconds(-1), Duration.ofHours(1)},
+            {Duration.ofHours(1), Duration.ofSeconds(-1)},
+            {Duration.ofDays(1).plusNanos(1), Duration.ZERO},
+            {Duration.ZERO, Duration.ofDays(1).plusNanos(1)},
+            {Duration.ZERO, Duration.ZERO},
+            {Duration.ofMillis(500), Duration.ofMillis(500)},
+        };
+    }
+
+    @Test(dataProvider = "invalidLinear", expectedExceptions = IllegalArgumentException.class)
+    public void test_linear_invalid(Duration before, Duration after) {
+        LeapSmear.linear(before, after);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_linear_nullBefore() {
+        LeapSmear.linear(null, Duration.ZERO);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_linear_nullAfter() {
+        LeapSmear.linear(Duration.ZERO, null);
+    }
+
+    public void test_equalsHashCode() {
+        LeapSmear other = LeapSmear.linear(Duration.ofHours(12), Duration.ofHours(12));
+        assertEquals(NOON_TO_NOON, other);
+        assertEquals(NOON_TO_NOON.hashCode(), other.hashCode());
+        assertNotEquals(NOON_TO_NOON, LeapSmear.linear(Duration.ofHours(12), Duration.ofHours(11)));
+        assertNotEquals(LeapSmear.utcSls(), LeapSmear.linear(Duration.ofSeconds(1000), Duration.ZERO));
+        assertFalse(NOON_TO_NOON.equals(null));
+        assertFalse(NOON_TO_NOON.equals(""));
+    }
+
+    public void test_serialization() throws Exception {
+        assertSame(roundTrip(LeapSmear.utcSls()), LeapSmear.utcSls());
+        assertEquals(roundTrip(NOON_TO_NOON), NOON_TO_NOON);
+        UtcRules rules = UtcRules.system().withSmear(NOON_TO_NOON);
+        UtcRules deserialized = (UtcRules) roundTrip(rules);
+        assertEquals(deserialized, rules);
+        assertEquals(deserialized.convertToUtc(MIDNIGHT_2017), rules.convertToUtc(MIDNIGHT_2017));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_withSmear() {
+        UtcRules test = UtcRules.system().withSmear(NOON_TO_NOON);
+        assertEquals(test.getName(), "System/Linear[PT12H/PT12H]");
+        assertEquals(test.getLeapSecondDates(), UtcRules.system().getLeapSecondDates());
+        assertEquals(test.getTaiOffset(MJD_2016_12_31 + 1), 37);
+        assertEquals(test.getLeapSecondAdjustment(MJD_2016_12_31), 1);
+        assertEquals(test.withSmear(LeapSmear.utcSls()), UtcRules.system().withSmear(LeapSmear.utcSls()));
+        assertEquals(test, UtcRules.system().withSmear(NOON_TO_NOON));
+        assertEquals(test.hashCode(), UtcRules.system().withSmear(NOON_TO_NOON).hashCode());
+        assertNotEquals(test, UtcRules.system().withSmear(LeapSmear.utcSls()));
+    }
+
+    public void test_noonToNoon() {
+        UtcRules test = UtcRules.system().withSmear(NOON_TO_NOON);
+        Instant noon = MIDNIGHT_2017.minus(Duration.ofHours(12));
+        // the window starts and ends where UTC and the Java time-scale agree
+        assertEquals(test.convertToUtc(noon), UtcInstant.ofModifiedJulianDay(MJD_2016_12_31, 43200 * NANOS_PER_SECOND));
+        assertEquals(test.convertToUtc(noon.minusNanos(1)), UtcRules.system().convertToUtc(noon.minusNanos(1)));
+        assertEquals(test.convertToUtc(MIDNIGHT_2017.plus(Duration.ofHours(12))),
+                UtcInstant.ofModifiedJulianDay(MJD_2016_12_31 + 1, 43200 * NANOS_PER_SECOND));
+        // midnight on the Java time-scale is the middle of the leap second
+        assertEquals(test.convertToUtc(MIDNIGHT_2017), UtcInstant.ofModifiedJulianDay(MJD_2016_12_31, 86400 * NANOS_PER_SECOND + 500_000_000));
+        assertEquals(test.convertToInstant(UtcInstant.ofModifiedJulianDay(MJD_2016_12_31, 86400 * NANOS_PER_SECOND + 500_000_000)), MIDNIGHT_2017);
+        // the leap second starts and ends a quarter of the window either side
+        assertEquals(test.convertToInstant(UtcInstant.ofModifiedJulianDay(MJD_2016_12_31, 86400 * NANOS_PER_SECOND)),
+                MIDNIGHT_2017.minusNanos(86400 * NANOS_PER_SECOND / 2 / 86401));
+        // the whole window in UTC is one second longer
+        Duration utcWindow = Duration.ofSeconds(
+                test.convertToTai(MIDNIGHT_2017.plus(Duration.ofHours(12))).getTaiSeconds() - test.convertToTai(noon).getTaiSeconds());
+        assertEquals(utcWindow, Duration.ofSeconds(86401));
+    }
+
+    public void test_noonToNoon_monotonicAndRoundTrip() {
+        UtcRules test = UtcRules.system().withSmear(NOON_TO_NOON);
+        Random random = new Random(2017);
+        Instant start = MIDNIGHT_2017.minus(Duration.ofHours(13));
+        TaiInstant previous = null;
+        for (Instant instant = start; instant.isBefore(MIDNIGHT_2017.plus(Duration.ofHours(13))); ) {
+            UtcInstant utc = test.convertToUtc(instant);
+            Instant back = test.convertToInstant(utc);
+            assertTrue(Math.abs(Duration.between(instant, back).toNanos()) <= 1, instant + " " + utc + " " + back);
+            TaiInstant tai = test.convertToTai(instant);
+            if (previous != null) {
+                assertTrue(tai.compareTo(previous) > 0, instant.toString());
+            }
+            previous = tai;
+            instant = instant.plusNanos(1 + random.nextInt(1_000_000) * 1_000_000L);
+        }
+    }
+
+    public void test_utcSls_matchesStandard() {
+        UtcRules standard = UtcRules.system();
+        UtcRules test = standard.withSmear(LeapSmear.utcSls());
+        assertStandardConversions(standard, test, MIDNIGHT_2017);
+    }
+
+    public void test_utcSls_matchesStandard_negativeLeap() throws IOException {
+        UtcRules standard = negativeLeapRules();
+        UtcRules test = standard.withSmear(LeapSmear.utcSls());
+        Instant midnight = Instant.parse("2030-07-01T00:00:00Z");
+        assertEquals(test.getLeapSecondAdjustment(MJD_2030_06_30), -1);
+        assertStandardConversions(standard, test, midnight);
+    }
+
+    private void assertStandardConversions(UtcRules standard, UtcRules test, Instant midnight) {
+        Random random = new Random(1);
+        for (Instant instant = midnight.minusSeconds(1100); instant.isBefore(midnight.plusSeconds(100)); ) {
+            UtcInstant utc = standard.convertToUtc(instant);
+            assertEquals(test.convertToUtc(instant), utc, instant.toString());
+            assertEquals(test.convertToInstant(utc), standard.convertToInstant(utc), utc.toString());
+            instant = instant.plusNanos(1 + random.nextInt(100_000_000));
+        }
+    }
+
+    public void test_negativeLeap_noonToNoon() throws IOException {
+        UtcRules test = negativeLeapRules().withSmear(NOON_TO_NOON);
+        Instant midnight = Instant.parse("2030-07-01T00:00:00Z");
+        assertEquals(test.convertToUtc(midnight), UtcInstant.ofModifiedJulianDay(MJD_2030_06_30 + 1, 500_000_000));
+        assertEquals(test.convertToInstant(UtcInstant.ofModifiedJulianDay(MJD_2030_06_30 + 1, 500_000_000)), midnight);
+        assertEquals(test.convertToUtc(midnight.minus(Duration.ofHours(12))),
+                UtcInstant.ofModifiedJulianDay(MJD_2030_06_30, 43200 * NANOS_PER_SECOND));
+        assertEquals(test.convertToUtc(midnight.plus(Duration.ofHours(12))),
+                UtcInstant.ofModifiedJulianDay(MJD_2030_06_30 + 1, 43200 * NANOS_PER_SECOND));
+    }
+
+    public void test_outsideWindows() {
+        UtcRules test = UtcRules.system().withSmear(NOON_TO_NOON);
+        Instant[] instants = {Instant.EPOCH, Instant.parse("2016-06-30T00:00:00Z"), Instant.parse("2100-01-01T00:00:00.123Z")};
+        for (Instant instant : instants) {
+            assertEquals(test.convertToUtc(instant), UtcRules.system().convertToUtc(instant));
+            assertEquals(test.convertToTai(instant), UtcRules.system().convertToTai(instant));
+            assertEquals(test.convertToInstant(UtcRules.system().convertToUtc(instant)), instant);
+        }
+    }
+
+    public void test_batch_matchesSingle() {
+        UtcRules test = UtcRules.system().withSmear(NOON_TO_NOON);
+        int size = 2000;
+        long[] epochSeconds = new long[size];
+        int[] nanos = new int[size];
+        Random random = new Random(3);
+        for (int i = 0; i < size; i++) {
+            Instant instant = MIDNIGHT_2017.plusNanos((random.nextLong() % (26 * 3600 * NANOS_PER_SECOND)));
+            epochSeconds[i] = instant.getEpochSecond();
+            nanos[i] = instant.getNano();
+        }
+        long[] mjDays = new long[size];
+        long[] nanoOfDays = new long[size];
+        test.convertInstantsToUtc(epochSeconds, nanos, mjDays, nanoOfDays);
+        long[] taiSeconds = new long[size];
+        int[] taiNanos = new int[size];
+        test.convertInstantsToTai(epochSeconds, nanos, taiSeconds, taiNanos);
+        long[] utcBackSeconds = new long[size];
+        int[] utcBackNanos = new int[size];
+        test.convertUtcToInstants(mjDays, nanoOfDays, utcBackSeconds, utcBackNanos);
+        long[] taiBackSeconds = new long[size];
+        int[] taiBackNanos = new int[size];
+        test.convertTaiToInstants(taiSeconds, taiNanos, taiBackSeconds, taiBackNanos);
+        for (int i = 0; i < size; i++) {
+            Instant instant = Instant.ofEpochSecond(epochSeconds[i], nanos[i]);
+            UtcInstant utc = test.convertToUtc(instant);
+            TaiInstant tai = test.convertToTai(instant);
+            assertEquals(mjDays[i], utc.getModifiedJulianDay());
+            assertEquals(nanoOfDays[i], utc.getNanoOfDay());
+            assertEquals(taiSeconds[i], tai.getTaiSeconds());
+            assertEquals(taiNanos[i], tai.getNano());
+            assertEquals(Instant.ofEpochSecond(utcBackSeconds[i], utcBackNanos[i]), test.convertToInstant(utc));
+            assertEquals(Instant.ofEpochSecond(taiBackSeconds[i], taiBackNanos[i]), test.convertToInstant(tai));
+        }
+    }
+
+    public void test_underlyingRulesChange() throws IOException {
+        Path dir = Files.createTempDirectory("smear");
+        Path file = dir.resolve("leap.txt");
+        try {
+            Files.write(file, Arrays.asList("1972-01-01 10", "2016-12-31 37"), StandardCharsets.UTF_8);
+            try (FileUtcRules rules = FileUtcRules.of(file)) {
+                UtcRules test = rules.withSmear(NOON_TO_NOON);
+                Instant midnight = Instant.parse("2030-07-01T00:00:00Z");
+                assertEquals(test.convertToUtc(midnight), UtcInstant.ofModifiedJulianDay(MJD_2030_06_30 + 1, 0));
+                Files.write(file, Arrays.asList("1972-01-01 10", "2016-12-31 37", "2030-06-30 36"), StandardCharsets.UTF_8);
+                rules.reload();
+                assertEquals(test.convertToUtc(midnight), UtcInstant.ofModifiedJulianDay(MJD_2030_06_30 + 1, 500_000_000));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+            Files.delete(dir);
+        }
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_overlappingWindows() throws IOException {
+        UtcRules rules = SystemUtcRules.parseLeapSeconds(Arrays.asList("1972-01-01 10", "2016-12-30 36", "2016-12-31 37"));
+        rules.withSmear(NOON_TO_NOON).convertToUtc(MIDNIGHT_2017);
+    }
+
+    public void test_touchingWindows() throws IOException {
+        UtcRules rules = SystemUtcRules.parseLeapSeconds(Arrays.asList("1972-01-01 10", "2016-12-29 36", "2016-12-31 37"));
+        UtcRules test = rules.withSmear(LeapSmear.linear(Duration.ofDays(1), Duration.ofDays(1)));
+        Instant boundary = MIDNIGHT_2017.minus(Duration.ofDays(1));
+        assertEquals(test.convertToUtc(boundary), UtcInstant.ofModifiedJulianDay(MJD_2016_12_31, 0));
+        TaiInstant previous = null;
+        for (Instant instant = boundary.minusSeconds(10); instant.isBefore(boundary.plusSeconds(10)); instant = instant.plusMillis(7)) {
+            TaiInstant tai = test.convertToTai(instant);
+            if (previous != null) {
+                assertTrue(tai.compareTo(previous) > 0, instant.toString());
+            }
+            assertTrue(Math.abs(Duration.between(instant, test.convertToInstant(test.convertToUtc(instant))).toNanos()) <= 1);
+            previous = tai;
+        }
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_withSmear_null() {
+        UtcRules.system().withSmear(null);
+    }
+
+}
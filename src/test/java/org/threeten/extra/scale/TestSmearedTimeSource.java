@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test class.
+ */
+@Test
+public class TestSmearedTimeSource {
+
+    private static final long MJD_2016_12_31 = 57753L;
+    private static final Instant MIDNIGHT_2017 = Instant.parse("2017-01-01T00:00:00Z");
+    private static final LeapSmear NOON_TO_NOON = LeapSmear.linear(Duration.ofHours(12), Duration.ofHours(12));
+
+    //-----------------------------------------------------------------------
+    public void test_of() {
+        Clock clock = Clock.fixed(MIDNIGHT_2017, ZoneOffset.UTC);
+        SmearedTimeSource test = SmearedTimeSource.of(clock, NOON_TO_NOON);
+        assertEquals(test.instant(), MIDNIGHT_2017);
+        assertEquals(test.utcInstant(), UtcInstant.ofModifiedJulianDay(MJD_2016_12_31, 86400_500_000_000L));
+        assertEquals(test.taiInstant(), UtcInstant.ofModifiedJulianDay(MJD_2016_12_31, 86400_500_000_000L).toTaiInstant());
+        assertEquals(test.getRules(), UtcRules.system().withSmear(NOON_TO_NOON));
+        assertEquals(test.toString(), "SmearedTimeSource[" + clock + ",System/Linear[PT12H/PT12H]]");
+    }
+
+    public void test_of_outsideWindow() {
+        Instant instant = Instant.parse("2020-05-01T10:15:30Z");
+        SmearedTimeSource test = SmearedTimeSource.of(Clock.fixed(instant, ZoneOffset.UTC), UtcRules.system(), NOON_TO_NOON);
+        assertEquals(test.utcInstant(), UtcInstant.of(instant));
+        assertEquals(test.taiInstant(), TaiInstant.of(instant));
+    }
+
+    public void test_equalsHashCode() {
+        Clock clock = Clock.fixed(MIDNIGHT_2017, ZoneOffset.UTC);
+        SmearedTimeSource test = SmearedTimeSource.of(clock, NOON_TO_NOON);
+        assertEquals(test, SmearedTimeSource.of(clock, NOON_TO_NOON));
+        assertEquals(test.hashCode(), SmearedTimeSource.of(clock, NOON_TO_NOON).hashCode());
+        assertNotEquals(test, SmearedTimeSource.of(clock, LeapSmear.utcSls()));
+        assertNotEquals(test, SmearedTimeSource.of(Clock.systemUTC(), NOON_TO_NOON));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_of_nullClock() {
+        SmearedTimeSource.of(null, NOON_TO_NOON);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_of_nullSmear() {
+        SmearedTimeSource.of(Clock.systemUTC(), null);
+    }
+
+}
@@ -41,6 +41,7 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.lang.reflect.Constructor;
+import java.time.DateTimeException;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -48,6 +49,8 @@ import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.time.temporal.JulianFields;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
@@ -444,6 +447,90 @@ public class TestUtcRules {
         assertEquals(rules.convertToUtc(instant), utc);
     }
 
+    //-----------------------------------------------------------------------
+    // batch conversions
+    //-----------------------------------------------------------------------
+    public void test_convertInstantsToTai_aroundLeap() {
+        Instant base = OffsetDateTime.of(1979, 12, 31, 23, 58, 0, 0, ZoneOffset.UTC).toInstant();
+        int count = 4 * 60 * 4;
+        long[] epochSeconds = new long[count];
+        int[] nanos = new int[count];
+        for (int i = 0; i < count; i++) {
+            Instant instant = base.plusMillis(i * 250L + 7);
+            epochSeconds[i] = instant.getEpochSecond();
+            nanos[i] = instant.getNano();
+        }
+        long[] taiSeconds = new long[count];
+        int[] taiNanos = new int[count];
+        rules.convertInstantsToTai(epochSeconds, nanos, taiSeconds, taiNanos);
+        long[] mjDays = new long[count];
+        long[] nanoOfDays = new long[count];
+        rules.convertInstantsToUtc(epochSeconds, nanos, mjDays, nanoOfDays);
+        for (int i = 0; i < count; i++) {
+            Instant instant = Instant.ofEpochSecond(epochSeconds[i], nanos[i]);
+            assertEquals(TaiInstant.ofTaiSeconds(taiSeconds[i], taiNanos[i]), rules.convertToTai(instant));
+            assertEquals(UtcInstant.ofModifiedJulianDay(mjDays[i], nanoOfDays[i]), rules.convertToUtc(instant));
+        }
+    }
+
+    public void test_convertTaiToInstants_aroundLeap() {
+        long base = rules.convertToTai(UtcInstant.ofModifiedJulianDay(MJD_1980 - 1, (SECS_PER_DAY - 60) * NANOS_PER_SEC)).getTaiSeconds();
+        int count = 130;
+        long[] taiSeconds = new long[count];
+        int[] taiNanos = new int[count];
+        for (int i = 0; i < count; i++) {
+            taiSeconds[i] = base + i;
+            taiNanos[i] = i * 7_000_001;
+        }
+        long[] epochSeconds = new long[count];
+        int[] nanos = new int[count];
+        rules.convertTaiToInstants(taiSeconds, taiNanos, epochSeconds, nanos);
+        long[] mjDays = new long[count];
+        long[] nanoOfDays = new long[count];
+        for (int i = 0; i < count; i++) {
+            TaiInstant tai = TaiInstant.ofTaiSeconds(taiSeconds[i], taiNanos[i]);
+            assertEquals(Instant.ofEpochSecond(epochSeconds[i], nanos[i]), rules.convertToInstant(tai));
+            UtcInstant utc = rules.convertToUtc(tai);
+            mjDays[i] = utc.getModifiedJulianDay();
+            nanoOfDays[i] = utc.getNanoOfDay();
+        }
+        long[] utcEpochSeconds = new long[count];
+        int[] utcNanos = new int[count];
+        rules.convertUtcToInstants(mjDays, nanoOfDays, utcEpochSeconds, utcNanos);
+        assertTrue(Arrays.equals(utcEpochSeconds, epochSeconds));
+        assertTrue(Arrays.equals(utcNanos, nanos));
+    }
+
+    public void test_convertInstantsToTai_inPlace() {
+        long[] seconds = {-5_000_000_000L, 0, 315532800L, 1_500_000_000L, 4_000_000_000L};
+        int[] nanos = {0, 1, 500_000_000, 999_999_999, 123};
+        long[] originalSeconds = seconds.clone();
+        int[] originalNanos = nanos.clone();
+        rules.convertInstantsToTai(seconds, nanos, seconds, nanos);
+        for (int i = 0; i < seconds.length; i++) {
+            TaiInstant expected = rules.convertToTai(Instant.ofEpochSecond(originalSeconds[i], originalNanos[i]));
+            assertEquals(TaiInstant.ofTaiSeconds(seconds[i], nanos[i]), expected);
+        }
+        rules.convertTaiToInstants(seconds, nanos, seconds, nanos);
+        assertTrue(Arrays.equals(seconds, originalSeconds));
+        assertTrue(Arrays.equals(nanos, originalNanos));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_convertInstantsToTai_lengthMismatch() {
+        rules.convertInstantsToTai(new long[2], new int[2], new long[1], new int[2]);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_convertInstantsToTai_invalidNano() {
+        rules.convertInstantsToTai(new long[1], new int[] {-1}, new long[1], new int[1]);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_convertUtcToInstants_invalidNanoOfDay() {
+        rules.convertUtcToInstants(new long[] {MJD_1980}, new long[] {SECS_PER_DAY * NANOS_PER_SEC}, new long[1], new int[1]);
+    }
+
     //-----------------------------------------------------------------------
     // registerLeapSecond()
     //-----------------------------------------------------------------------
@@ -467,6 +554,38 @@ public class TestUtcRules {
         assertEquals(rules.getLeapSecondAdjustment(mjd), -1);
     }
 
+    public void test_registerLeapSecond_rebuildsLookup() {
+        long[] dates = rules.getLeapSecondDates();
+        long last = dates[dates.length - 1];
+        int offset = rules.getTaiOffset(last + 1);
+        long mjd = last + 1000;
+        rules.register(mjd, 1);
+        assertEquals(rules.getTaiOffset(mjd), offset);
+        assertEquals(rules.getTaiOffset(mjd + 1), offset + 1);
+        assertEquals(rules.getTaiOffset(mjd + 100000), offset + 1);
+        assertEquals(rules.getLeapSecondAdjustment(mjd - 1), 0);
+        assertEquals(rules.getLeapSecondAdjustment(mjd + 1), 0);
+        UtcInstant utc = UtcInstant.ofModifiedJulianDay(mjd + 1, 0);
+        TaiInstant tai = rules.convertToTai(utc);
+        assertEquals(tai.getTaiSeconds(), (mjd + 1 - 36204) * SECS_PER_DAY + offset + 1);
+        assertEquals(rules.convertToUtc(tai), utc);
+    }
+
+    public void test_lookupConsistentWithLeapSecondDates() {
+        long[] dates = rules.getLeapSecondDates();
+        Set<Long> leapDates = new HashSet<>();
+        for (int i = 1; i < dates.length; i++) {
+            leapDates.add(dates[i]);
+        }
+        for (long mjd = dates[0] - 10; mjd < dates[dates.length - 1] + 10; mjd++) {
+            int adjustment = rules.getLeapSecondAdjustment(mjd);
+            assertEquals(adjustment != 0, leapDates.contains(mjd), "MJD " + mjd);
+            if (mjd > dates[0]) {
+                assertEquals(rules.getTaiOffset(mjd + 1) - rules.getTaiOffset(mjd), adjustment, "MJD " + mjd);
+            }
+        }
+    }
+
     public void test_registerLeapSecond_equalLastDate_sameLeap() {
         long[] dates = rules.getLeapSecondDates();
         long mjd = dates[dates.length - 1];